@@ -0,0 +1,55 @@
+package dev.danvega.dvaas.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+/**
+ * Loopback HTTP server answering fixed payloads, so the service benchmarks load their caches
+ * through the real HTTP client and parsers without network access
+ */
+public final class LocalUpstream implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private LocalUpstream(HttpServer server) {
+        this.server = server;
+    }
+
+    public static LocalUpstream start() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            server.start();
+            return new LocalUpstream(server);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Answer every request below {@code path} with {@code body}, ignoring the query
+     */
+    public LocalUpstream serve(String path, String contentType, byte[] body) {
+        server.createContext(path, exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        return this;
+    }
+
+    public String url(String path) {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + path;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
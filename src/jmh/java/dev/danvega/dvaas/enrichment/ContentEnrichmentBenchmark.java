@@ -0,0 +1,69 @@
+package dev.danvega.dvaas.enrichment;
+
+import dev.danvega.dvaas.config.EnrichmentProperties;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the single-pass {@link ContentEnricher} against the previous per-post enrichment:
+ * three regex Patterns compiled per call plus one {@code contains} scan per taxonomy term.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentEnrichmentBenchmark {
+
+    @Param({"500", "5000"})
+    int descriptionLength;
+
+    private final ContentEnricher enricher = new ContentEnricher(EnrichmentProperties.defaults());
+    private final List<String> taxonomy = EnrichmentProperties.defaults().tags();
+    private String title;
+    private String description;
+
+    @Setup
+    public void setUp() {
+        title = "Building MCP Servers with Spring AI and Java";
+        String filler = "Walk through configuration, tooling and deployment of the server. ";
+        StringBuilder text = new StringBuilder();
+        while (text.length() < descriptionLength) {
+            text.append(filler);
+        }
+        text.append(" Watch it at https://www.youtube.com/watch?v=dQw4w9WgXcQ");
+        description = text.toString();
+    }
+
+    @Benchmark
+    public ContentEnricher.Enrichment ahoCorasick() {
+        return enricher.enrich(title, description);
+    }
+
+    @Benchmark
+    public void regexAndContains(Blackhole blackhole) {
+        String youtubeUrl = null;
+        String[] patterns = {
+            "https://www.youtube.com/watch\\?v=([a-zA-Z0-9_-]+)",
+            "https://youtu.be/([a-zA-Z0-9_-]+)",
+            "youtube.com/embed/([a-zA-Z0-9_-]+)"
+        };
+        for (String pattern : patterns) {
+            Matcher m = Pattern.compile(pattern).matcher(description);
+            if (m.find()) {
+                youtubeUrl = m.group(0);
+                break;
+            }
+        }
+
+        String content = (title + " " + description).toLowerCase();
+        blackhole.consume(taxonomy.stream().filter(content::contains).toList());
+        blackhole.consume(youtubeUrl);
+    }
+}
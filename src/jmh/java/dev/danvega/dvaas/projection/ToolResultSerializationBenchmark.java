@@ -0,0 +1,65 @@
+package dev.danvega.dvaas.projection;
+
+import dev.danvega.dvaas.cache.Page;
+import dev.danvega.dvaas.config.EnrichmentProperties;
+import dev.danvega.dvaas.enrichment.ContentEnricher;
+import dev.danvega.dvaas.tools.blog.RssFeedReader;
+import dev.danvega.dvaas.tools.blog.model.BlogPost;
+import dev.danvega.dvaas.upstream.SyntheticCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.ai.util.json.JsonParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of tool results to the JSON text content of an MCP response, through the same
+ * {@link JsonParser} the tool callbacks use: one page as the paginated tools return it, and the
+ * whole corpus, each with and without a fields projection
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToolResultSerializationBenchmark {
+
+    private static final RecordProjection<BlogPost> POSTS = RecordProjection.of(BlogPost.class);
+    private static final String FIELDS = "title,link,publishedAt";
+
+    @Param({"1000", "10000", "100000"})
+    int posts;
+
+    private List<BlogPost> corpus;
+    private Page<BlogPost> page;
+
+    @Setup
+    public void setUp() throws IOException {
+        RssFeedReader reader = new RssFeedReader(new ContentEnricher(EnrichmentProperties.defaults()));
+        corpus = reader.read(new ByteArrayInputStream(SyntheticCorpus.rssFeed(posts))).posts();
+        page = new Page<>(corpus.subList(0, 50), "cursor");
+    }
+
+    @Benchmark
+    public String page() {
+        return JsonParser.toJson(page);
+    }
+
+    @Benchmark
+    public String projectedPage() {
+        return JsonParser.toJson(POSTS.apply(page, FIELDS));
+    }
+
+    @Benchmark
+    public String corpus() {
+        return JsonParser.toJson(corpus);
+    }
+
+    @Benchmark
+    public String projectedCorpus() {
+        return JsonParser.toJson(POSTS.apply(corpus, FIELDS));
+    }
+}
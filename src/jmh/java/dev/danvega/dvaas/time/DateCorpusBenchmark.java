@@ -0,0 +1,39 @@
+package dev.danvega.dvaas.time;
+
+import dev.danvega.dvaas.upstream.SyntheticCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DateTimeParser} over corpora of mixed-format dates, as a refresh parses them
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateCorpusBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int dates;
+
+    private List<String> corpus;
+    private final DateTimeParser parser = new DateTimeParser("benchmark", ZoneOffset.UTC);
+
+    @Setup
+    public void setUp() {
+        corpus = SyntheticCorpus.dates(dates);
+    }
+
+    @Benchmark
+    public void parseAll(Blackhole blackhole) {
+        for (String date : corpus) {
+            blackhole.consume(parser.parse(date));
+        }
+    }
+}
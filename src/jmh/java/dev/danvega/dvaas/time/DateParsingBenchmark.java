@@ -0,0 +1,57 @@
+package dev.danvega.dvaas.time;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link DateTimeParser} against the previous newsletter parser, which tried
+ * {@code Long.parseLong} and then a freshly built formatter array, catching exceptions until one matched.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateParsingBenchmark {
+
+    @Param({"1733047200", "2024-12-01T10:00:00.000000Z", "2024-12-01 10:00:00"})
+    String value;
+
+    private final DateTimeParser parser = new DateTimeParser("benchmark", ZoneOffset.UTC);
+
+    @Benchmark
+    public LocalDateTime sniffing() {
+        return parser.parse(value);
+    }
+
+    @Benchmark
+    public LocalDateTime formatterCascade() {
+        try {
+            return LocalDateTime.ofEpochSecond(Long.parseLong(value), 0, ZoneOffset.UTC);
+        } catch (NumberFormatException e) {
+            // Not a number, try ISO 8601 formats
+        }
+
+        DateTimeFormatter[] formatters = {
+            DateTimeFormatter.ISO_DATE_TIME,
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS'Z'"),
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'"),
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
+        };
+        for (DateTimeFormatter formatter : formatters) {
+            try {
+                return LocalDateTime.parse(value.replace("Z", ""), formatter);
+            } catch (DateTimeParseException ignored) {
+                // Try next formatter
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,91 @@
+package dev.danvega.dvaas.tools.blog;
+
+import dev.danvega.dvaas.benchmark.LocalUpstream;
+import dev.danvega.dvaas.cache.Page;
+import dev.danvega.dvaas.config.BlogProperties;
+import dev.danvega.dvaas.config.EnrichmentProperties;
+import dev.danvega.dvaas.config.HttpClientProperties;
+import dev.danvega.dvaas.enrichment.ContentEnricher;
+import dev.danvega.dvaas.http.OutboundHttpClient;
+import dev.danvega.dvaas.tools.blog.model.BlogPost;
+import dev.danvega.dvaas.tools.blog.model.BlogStats;
+import dev.danvega.dvaas.upstream.SyntheticCorpus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BlogService} queries over a warm cache of synthetic posts, plus the RSS parse of the whole
+ * feed, at growing corpus sizes. Frequent-keyword searches stop after the first page of matches,
+ * rare-keyword searches and stats scan every post.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlogServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int posts;
+
+    private byte[] feed;
+    private LocalUpstream upstream;
+    private OutboundHttpClient httpClient;
+    private BlogService blogService;
+    private RssFeedReader feedReader;
+
+    @Setup
+    public void setUp() {
+        feed = SyntheticCorpus.rssFeed(posts);
+        upstream = LocalUpstream.start().serve("/rss.xml", "application/rss+xml", feed);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ContentEnricher contentEnricher = new ContentEnricher(EnrichmentProperties.defaults());
+        httpClient = new OutboundHttpClient(HttpClientProperties.defaults(), meterRegistry, ObservationRegistry.NOOP);
+        blogService = new BlogService(new BlogProperties(upstream.url("/rss.xml"), Duration.ofDays(1), null), httpClient,
+                contentEnricher, meterRegistry, ObservationRegistry.NOOP);
+        feedReader = new RssFeedReader(contentEnricher);
+
+        if (blogService.getAllPosts().size() != posts) {
+            throw new IllegalStateException("Expected " + posts + " cached posts, got " + blogService.getAllPosts().size());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        upstream.close();
+    }
+
+    @Benchmark
+    public Page<BlogPost> searchFrequentKeyword() {
+        return blogService.searchPostsByKeyword("spring", 10, null);
+    }
+
+    @Benchmark
+    public Page<BlogPost> searchRareKeyword() {
+        return blogService.searchPostsByKeyword(SyntheticCorpus.RARE_TOPIC, 10, null);
+    }
+
+    @Benchmark
+    public Page<BlogPost> postsByYear() {
+        return blogService.getPostsByYear(2024, 10, null);
+    }
+
+    @Benchmark
+    public BlogStats stats() {
+        return blogService.getBlogStats();
+    }
+
+    @Benchmark
+    public RssFeedReader.Result parseFeed() throws IOException {
+        return feedReader.read(new ByteArrayInputStream(feed));
+    }
+}
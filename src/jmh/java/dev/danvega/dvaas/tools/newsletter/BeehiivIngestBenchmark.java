@@ -0,0 +1,109 @@
+package dev.danvega.dvaas.tools.newsletter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.danvega.dvaas.tools.newsletter.model.Post;
+import dev.danvega.dvaas.tools.newsletter.model.PostStats;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming {@link BeehiivPostReader} against the previous
+ * String -> Map tree -> Post ingest path. Run with {@code -prof gc} to see allocation per refresh.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeehiivIngestBenchmark {
+
+    @Param({"50", "500"})
+    int posts;
+
+    private byte[] body;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BeehiivPostReader reader = new BeehiivPostReader();
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{\"data\":[");
+        String html = "<p>" + "Spring Boot and Spring AI newsletter content. ".repeat(200) + "</p>";
+        for (int i = 0; i < posts; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"id\":\"post_").append(i).append('"')
+                .append(",\"title\":\"Newsletter issue ").append(i).append('"')
+                .append(",\"subtitle\":\"Weekly notes\"")
+                .append(",\"authors\":[\"Dan Vega\"]")
+                .append(",\"status\":\"confirmed\"")
+                .append(",\"publish_date\":").append(1_700_000_000L + i * 86_400L)
+                .append(",\"displayed_date\":").append(1_700_000_000L + i * 86_400L)
+                .append(",\"web_url\":\"https://www.danvega.dev/newsletter/").append(i).append('"')
+                .append(",\"thumbnail_url\":\"https://cdn.example.com/thumb/").append(i).append(".png\"")
+                .append(",\"platform\":\"both\",\"audience\":\"free\"")
+                .append(",\"content_tags\":[\"spring\",\"java\"]")
+                .append(",\"content\":{\"free_web_content\":\"").append(html).append("\",\"free_email_content\":\"").append(html).append("\"}")
+                .append(",\"stats\":{\"opens\":1000,\"clicks\":50,\"unique_opens\":800,\"unique_clicks\":40}")
+                .append('}');
+        }
+        json.append("],\"limit\":50,\"page\":1,\"total_results\":").append(posts).append(",\"total_pages\":1}");
+        body = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<Post> streaming() throws IOException {
+        return reader.read(new ByteArrayInputStream(body), "pub_123", "danvega");
+    }
+
+    @Benchmark
+    public void mapTree(Blackhole blackhole) throws IOException {
+        String text = new String(body, StandardCharsets.UTF_8);
+        Map<String, Object> response = objectMapper.readValue(text, new TypeReference<Map<String, Object>>() {});
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> data = (List<Map<String, Object>>) response.get("data");
+        List<Post> result = new ArrayList<>();
+        for (Map<String, Object> item : data) {
+            result.add(fromMap(item));
+        }
+        blackhole.consume(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Post fromMap(Map<String, Object> data) {
+        Map<String, Object> content = (Map<String, Object>) data.get("content");
+        String full = content.get("free_web_content").toString();
+        Map<String, Object> stats = (Map<String, Object>) data.get("stats");
+        return new Post(
+                data.get("id").toString(),
+                "pub_123",
+                "danvega",
+                data.get("title").toString(),
+                ((List<Object>) data.get("authors")).stream().map(Object::toString).toList(),
+                data.get("status").toString(),
+                LocalDateTime.ofEpochSecond(Long.parseLong(data.get("publish_date").toString()), 0, ZoneOffset.UTC),
+                LocalDateTime.ofEpochSecond(Long.parseLong(data.get("displayed_date").toString()), 0, ZoneOffset.UTC),
+                data.get("web_url").toString(),
+                data.get("thumbnail_url").toString(),
+                full.length() > 200 ? full.substring(0, 200) + "..." : full,
+                data.get("platform").toString(),
+                data.get("audience").toString(),
+                ((List<Object>) data.get("content_tags")).stream().map(Object::toString).toList(),
+                new PostStats(
+                        ((Number) stats.get("opens")).longValue(),
+                        ((Number) stats.get("clicks")).longValue(),
+                        ((Number) stats.get("unique_opens")).longValue(),
+                        ((Number) stats.get("unique_clicks")).longValue())
+        );
+    }
+}
@@ -0,0 +1,100 @@
+package dev.danvega.dvaas.tools.newsletter;
+
+import dev.danvega.dvaas.benchmark.LocalUpstream;
+import dev.danvega.dvaas.cache.Page;
+import dev.danvega.dvaas.config.HttpClientProperties;
+import dev.danvega.dvaas.config.NewsletterProperties;
+import dev.danvega.dvaas.http.OutboundHttpClient;
+import dev.danvega.dvaas.tools.newsletter.model.Post;
+import dev.danvega.dvaas.tools.newsletter.model.PublicationStats;
+import dev.danvega.dvaas.upstream.SyntheticCorpus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link NewsletterService} queries and publication stats over a warm cache of synthetic posts,
+ * the newest-first sort applied on each refresh and the Beehiiv parse, at growing corpus sizes
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NewsletterServiceBenchmark {
+
+    private static final String PUBLICATION_ID = "pub_danvega";
+
+    @Param({"1000", "10000", "100000"})
+    int posts;
+
+    private byte[] body;
+    private LocalUpstream upstream;
+    private OutboundHttpClient httpClient;
+    private NewsletterService newsletterService;
+    private List<Post> shuffled;
+    private final BeehiivPostReader reader = new BeehiivPostReader();
+
+    @Setup
+    public void setUp() throws IOException {
+        body = SyntheticCorpus.beehiivPosts(posts, PUBLICATION_ID);
+        upstream = LocalUpstream.start().serve("/v2/publications/" + PUBLICATION_ID + "/posts", "application/json", body);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        httpClient = new OutboundHttpClient(HttpClientProperties.defaults(), meterRegistry, ObservationRegistry.NOOP);
+        NewsletterProperties properties = new NewsletterProperties("benchmark-api-key", upstream.url("/v2"),
+                Duration.ofDays(1), Map.of("danvega", PUBLICATION_ID));
+        newsletterService = new NewsletterService(properties, httpClient, meterRegistry, ObservationRegistry.NOOP);
+
+        if (newsletterService.getPublicationStats("danvega").totalPosts() != posts) {
+            throw new IllegalStateException("Expected " + posts + " cached posts");
+        }
+
+        shuffled = new ArrayList<>(reader.read(new ByteArrayInputStream(body), PUBLICATION_ID, "danvega"));
+        Collections.shuffle(shuffled, new Random(42));
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        upstream.close();
+    }
+
+    @Benchmark
+    public Page<Post> latestPosts() {
+        return newsletterService.getLatestPosts("all", 10, null);
+    }
+
+    @Benchmark
+    public Page<Post> searchRareKeyword() {
+        return newsletterService.searchPostsByKeyword("all", SyntheticCorpus.RARE_TOPIC, 10, null);
+    }
+
+    @Benchmark
+    public PublicationStats publicationStats() {
+        return newsletterService.getPublicationStats("danvega");
+    }
+
+    @Benchmark
+    public List<Post> sortNewestFirst() {
+        List<Post> sorted = new ArrayList<>(shuffled);
+        sorted.sort(NewsletterService.NEWEST_FIRST);
+        return sorted;
+    }
+
+    @Benchmark
+    public List<Post> parsePosts() throws IOException {
+        return reader.read(new ByteArrayInputStream(body), PUBLICATION_ID, "danvega");
+    }
+}
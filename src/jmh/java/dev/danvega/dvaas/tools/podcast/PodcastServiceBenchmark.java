@@ -0,0 +1,84 @@
+package dev.danvega.dvaas.tools.podcast;
+
+import dev.danvega.dvaas.benchmark.LocalUpstream;
+import dev.danvega.dvaas.cache.Page;
+import dev.danvega.dvaas.config.HttpClientProperties;
+import dev.danvega.dvaas.config.PodcastProperties;
+import dev.danvega.dvaas.http.OutboundHttpClient;
+import dev.danvega.dvaas.tools.podcast.model.Episode;
+import dev.danvega.dvaas.tools.podcast.model.PodcastStats;
+import dev.danvega.dvaas.upstream.SyntheticCorpus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PodcastService#getPodcastStats()} and episode search over a warm cache of synthetic
+ * episodes spread across three shows, plus the Transistor parse, at growing corpus sizes
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PodcastServiceBenchmark {
+
+    private static final List<String> SHOW_IDS = List.of("41020", "69333", "70000");
+
+    @Param({"1000", "10000", "100000"})
+    int episodes;
+
+    private byte[] body;
+    private LocalUpstream upstream;
+    private OutboundHttpClient httpClient;
+    private PodcastService podcastService;
+    private final TransistorJsonApiReader reader = new TransistorJsonApiReader();
+    private final Map<String, String> showTitles = Map.of("41020", "Show 0", "69333", "Show 1", "70000", "Show 2");
+
+    @Setup
+    public void setUp() {
+        body = SyntheticCorpus.transistorEpisodes(episodes, SHOW_IDS);
+        upstream = LocalUpstream.start()
+                .serve("/v1/shows", "application/json", SyntheticCorpus.transistorShows(SHOW_IDS))
+                .serve("/v1/episodes", "application/json", body);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        httpClient = new OutboundHttpClient(HttpClientProperties.defaults(), meterRegistry, ObservationRegistry.NOOP);
+        PodcastProperties properties = new PodcastProperties("benchmark-api-key", upstream.url("/v1"), null,
+                Duration.ofDays(1), SHOW_IDS.get(0), SHOW_IDS.get(1));
+        podcastService = new PodcastService(properties, httpClient, meterRegistry, ObservationRegistry.NOOP);
+
+        if (podcastService.getPodcastStats().totalEpisodes() != episodes) {
+            throw new IllegalStateException("Expected " + episodes + " cached episodes");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        upstream.close();
+    }
+
+    @Benchmark
+    public PodcastStats stats() {
+        return podcastService.getPodcastStats();
+    }
+
+    @Benchmark
+    public Page<Episode> searchRareKeyword() {
+        return podcastService.searchEpisodes(SyntheticCorpus.RARE_TOPIC, 10, null, null);
+    }
+
+    @Benchmark
+    public TransistorJsonApiReader.Page<Episode> parseEpisodes() throws IOException {
+        return reader.readEpisodes(new ByteArrayInputStream(body), showTitles);
+    }
+}
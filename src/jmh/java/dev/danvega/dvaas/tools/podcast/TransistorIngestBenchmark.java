@@ -0,0 +1,90 @@
+package dev.danvega.dvaas.tools.podcast;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.danvega.dvaas.tools.podcast.model.Episode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single-pass {@link TransistorJsonApiReader} against decoding each
+ * episodes page into a {@link JsonNode} tree and probing attributes per field.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransistorIngestBenchmark {
+
+    @Param({"50", "500"})
+    int episodes;
+
+    private byte[] body;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TransistorJsonApiReader reader = new TransistorJsonApiReader();
+    private final Map<String, String> showTitles = Map.of("41020", "Spring Office Hours");
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{\"data\":[");
+        String summary = "Spring Office Hours episode notes. ".repeat(20);
+        String transcript = "Transcript line. ".repeat(200);
+        for (int i = 0; i < episodes; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"id\":\"").append(i).append("\",\"type\":\"episode\",\"attributes\":{")
+                .append("\"title\":\"Episode ").append(i).append('"')
+                .append(",\"summary\":\"").append(summary).append('"')
+                .append(",\"description\":\"").append(transcript).append('"')
+                .append(",\"status\":\"published\"")
+                .append(",\"media_url\":\"https://media.transistor.fm/").append(i).append(".mp3\"")
+                .append(",\"duration\":3600,\"season\":1,\"number\":").append(i)
+                .append(",\"published_at\":\"2024-12-01T10:00:00.000Z\"")
+                .append(",\"embed_html\":\"<iframe></iframe>\"")
+                .append("},\"relationships\":{\"show\":{\"data\":{\"id\":\"41020\",\"type\":\"show\"}}}}");
+        }
+        json.append("],\"meta\":{\"currentPage\":1,\"totalPages\":1,\"totalCount\":").append(episodes).append("}}");
+        body = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public TransistorJsonApiReader.Page<Episode> streaming() throws IOException {
+        return reader.readEpisodes(new ByteArrayInputStream(body), showTitles);
+    }
+
+    @Benchmark
+    public void jsonNodeTree(Blackhole blackhole) throws IOException {
+        JsonNode response = objectMapper.readTree(body);
+        List<Episode> result = new ArrayList<>();
+        for (JsonNode data : response.get("data")) {
+            JsonNode attributes = data.get("attributes");
+            String showId = data.get("relationships").get("show").get("data").get("id").asText();
+            result.add(new Episode(
+                    data.get("id").asText(),
+                    attributes.has("title") ? attributes.get("title").asText() : null,
+                    attributes.has("summary") ? attributes.get("summary").asText() : null,
+                    showId,
+                    showTitles.get(showId),
+                    LocalDateTime.ofInstant(Instant.parse(attributes.get("published_at").asText()), ZoneId.systemDefault()),
+                    attributes.has("media_url") ? attributes.get("media_url").asText() : null,
+                    attributes.has("duration") ? attributes.get("duration").asInt() + " seconds" : null,
+                    attributes.has("status") ? attributes.get("status").asText() : null,
+                    attributes.has("season") ? attributes.get("season").asInt() : null,
+                    attributes.has("number") ? attributes.get("number").asInt() : null));
+        }
+        blackhole.consume(result);
+        blackhole.consume(response.get("meta").get("totalPages").asInt());
+    }
+}
@@ -0,0 +1,106 @@
+package dev.danvega.dvaas.tools.speaking;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.danvega.dvaas.tools.speaking.model.SpeakingEngagement;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming {@link SpeakingEngagementReader} against the previous
+ * String -> Map tree -> SpeakingEngagement ingest path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpeakingIngestBenchmark {
+
+    @Param({"100", "1000"})
+    int engagements;
+
+    private byte[] body;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SpeakingEngagementReader reader = new SpeakingEngagementReader();
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < engagements; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"title\":\"Talk ").append(i).append('"')
+                .append(",\"url\":\"https://conf.example.com/").append(i).append('"')
+                .append(",\"name\":\"Example Conference\"")
+                .append(",\"startDate\":\"2024-05-").append(String.format("%02d", i % 28 + 1)).append('"')
+                .append(",\"endDate\":\"2024-05-").append(String.format("%02d", i % 28 + 1)).append('"')
+                .append(",\"location\":\"Cleveland, OH\"")
+                .append(",\"description\":\"").append("Building intelligent applications with Spring AI. ".repeat(10)).append('"')
+                .append('}');
+        }
+        json.append(']');
+        body = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<SpeakingEngagement> streaming() throws IOException {
+        return reader.read(new ByteArrayInputStream(body));
+    }
+
+    @Benchmark
+    public void mapTree(Blackhole blackhole) throws IOException {
+        String text = new String(body, StandardCharsets.UTF_8);
+        List<Map<String, Object>> data = objectMapper.readValue(text, new TypeReference<List<Map<String, Object>>>() {});
+        List<SpeakingEngagement> result = new ArrayList<>();
+        for (Map<String, Object> item : data) {
+            result.add(new SpeakingEngagement(
+                    (String) item.get("title"),
+                    (String) item.get("url"),
+                    (String) item.get("name"),
+                    parseDateTime((String) item.get("startDate")),
+                    parseDateTime((String) item.get("endDate")),
+                    (String) item.get("location"),
+                    (String) item.get("description")));
+        }
+        blackhole.consume(result);
+    }
+
+    /**
+     * Date handling used by the previous ingest path, kept so both variants do the same work
+     */
+    private LocalDateTime parseDateTime(String dateStr) {
+        DateTimeFormatter[] formatters = {
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"),
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"),
+            DateTimeFormatter.ofPattern("yyyy-MM-dd"),
+            DateTimeFormatter.ofPattern("MM/dd/yyyy"),
+            DateTimeFormatter.ofPattern("dd/MM/yyyy")
+        };
+
+        for (DateTimeFormatter formatter : formatters) {
+            try {
+                if (formatter.toString().contains("HH")) {
+                    return LocalDateTime.parse(dateStr, formatter);
+                } else {
+                    return LocalDateTime.parse(dateStr + "T00:00:00");
+                }
+            } catch (DateTimeParseException ignored) {
+                // Try next formatter
+            }
+        }
+        return null;
+    }
+}
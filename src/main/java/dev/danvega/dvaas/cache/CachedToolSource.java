@@ -0,0 +1,37 @@
+package dev.danvega.dvaas.cache;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * A source whose MCP tools answer from cached snapshots, so their results can be reused until the
+ * snapshots change. Implemented by the services behind each tool family.
+ */
+public interface CachedToolSource {
+
+    /**
+     * Name prefix shared by the tools this source answers, e.g. {@code "blog-"}
+     */
+    String toolPrefix();
+
+    /**
+     * Generation of the data behind the tools, refreshing first if it has expired. Changes whenever
+     * any snapshot of the source is replaced.
+     */
+    long generation();
+
+    /**
+     * Caches behind the tools, for maintenance that applies to all of them
+     */
+    List<SourceCache<?>> caches();
+
+    /**
+     * Like {@link #generation()}, without blocking the subscribing thread. Sources with reactive
+     * caches should override this; the default waits for {@link #generation()} on a thread that may block.
+     */
+    default Mono<Long> generationAsync() {
+        return Mono.fromCallable(this::generation).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,18 @@
+package dev.danvega.dvaas.cache;
+
+import java.util.List;
+
+/**
+ * One page of results. {@code nextCursor} is null on the last page; otherwise pass it back to get
+ * the following page from the same snapshot.
+ */
+public record Page<T>(List<T> items, String nextCursor) {
+
+    public static <T> Page<T> empty() {
+        return new Page<>(List.of(), null);
+    }
+
+    public Page<T> withItems(List<T> items) {
+        return new Page<>(items, nextCursor);
+    }
+}
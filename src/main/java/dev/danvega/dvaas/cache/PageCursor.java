@@ -0,0 +1,41 @@
+package dev.danvega.dvaas.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the next match in a snapshot, encoded as an opaque URL-safe token. The hash of the
+ * query is a consistency check that catches a cursor being replayed against a different filter by
+ * mistake; it is not an identifier, and two queries whose hashes collide accept each other's cursors.
+ * The offset is checked against the snapshot, so such a cursor yields another page of the same
+ * snapshot rather than an error.
+ */
+record PageCursor(String source, long version, int queryHash, int offset) {
+
+    static PageCursor of(String source, long version, String query, int offset) {
+        return new PageCursor(source, version, query.hashCode(), offset);
+    }
+
+    static PageCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(":", 4);
+            if (parts.length == 4) {
+                return new PageCursor(parts[3], Long.parseLong(parts[0]), Integer.parseInt(parts[2]),
+                        Integer.parseInt(parts[1]));
+            }
+        } catch (IllegalArgumentException e) {
+            // Not base64 or not numeric; reported below
+        }
+        throw new IllegalArgumentException("Invalid cursor. Use the nextCursor value from a previous response.");
+    }
+
+    String encode() {
+        String raw = version + ":" + offset + ":" + queryHash + ":" + source;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    boolean matches(String source, String query) {
+        return this.source.equals(source) && queryHash == query.hashCode() && offset >= 0;
+    }
+}
@@ -0,0 +1,26 @@
+package dev.danvega.dvaas.cache;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Immutable view of a source's items as of one refresh, already in the source's display order.
+ * The version is unique across sources and restarts, so it can be embedded in page cursors.
+ */
+public record Snapshot<T>(String source, long version, List<T> items, Instant loadedAt) {
+
+    public Snapshot {
+        items = List.copyOf(items);
+    }
+
+    /**
+     * Placeholder served while a source has never loaded successfully
+     */
+    static <T> Snapshot<T> empty(String source) {
+        return new Snapshot<>(source, 0, List.of(), Instant.EPOCH);
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+}
@@ -0,0 +1,656 @@
+package dev.danvega.dvaas.cache;
+
+import dev.danvega.dvaas.http.BulkheadFullException;
+import dev.danvega.dvaas.http.CircuitOpenException;
+import dev.danvega.dvaas.http.ClientStoppedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * Cached items of one upstream source, published as immutable versioned {@link Snapshot}s. Each
+ * refresh sorts the items once; pages are then cut from the sorted snapshot by a linear scan that
+ * resumes where the previous page stopped. The last few replaced snapshots stay reachable so cursors
+ * issued before a refresh keep paging through the data they started on.
+ * <p>
+ * Reports {@code dvaas.cache.requests} (hit, miss, coalesced when the read waited for a refresh
+ * another read started, or stale when a failed refresh falls back to the previous snapshot),
+ * {@code dvaas.cache.refresh} durations by outcome and the {@code dvaas.cache.items} gauge, all tagged
+ * by source. Each read is observed as {@code dvaas.cache.lookup}, with the {@code dvaas.cache.load}
+ * and {@code dvaas.cache.sort} stages of a refresh as its children.
+ * <p>
+ * Reads come in a blocking and a reactive flavour, which share one in-flight refresh: a read of an
+ * expired snapshot joins the refresh already running, whichever flavour started it, so the source
+ * is never loaded twice at once. A read that has an expired snapshot to fall back on only waits
+ * {@link #STALE_WAIT} for a refresh another read started, then serves that snapshot.
+ * Reactive reads never block a thread; when they start a refresh themselves, it runs with the
+ * {@link AsyncLoader}.
+ */
+public final class SourceCache<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(SourceCache.class);
+
+    /** Replaced snapshots kept for in-flight cursors */
+    static final int RETAINED_SNAPSHOTS = 3;
+
+    /** How long a read with an expired snapshot waits for another read's refresh before serving it */
+    static final Duration STALE_WAIT = Duration.ofSeconds(2);
+
+    /** Seeded from the clock so versions are not reused across restarts */
+    private static final AtomicLong VERSIONS = new AtomicLong(System.currentTimeMillis());
+
+    /**
+     * Fetches the current items of a source
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        /**
+         * @param previous items of the snapshot being replaced, empty on the first load
+         */
+        List<T> load(List<T> previous) throws Exception;
+    }
+
+    /**
+     * Fetches the current items of a source without blocking the subscribing thread
+     */
+    @FunctionalInterface
+    public interface AsyncLoader<T> {
+        /**
+         * @param previous items of the snapshot being replaced, empty on the first load
+         */
+        Mono<List<T>> load(List<T> previous);
+    }
+
+    private final String name;
+    private final Duration ttl;
+    private final Comparator<? super T> order;
+    /** Null when the source is only read through the async loader */
+    private final Loader<T> loader;
+    private final AsyncLoader<T> asyncLoader;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter staleServed;
+    private final Timer refreshSuccess;
+    private final Timer refreshFailure;
+    private final ObservationRegistry observationRegistry;
+    private volatile Duration staleWait = STALE_WAIT;
+    /** Refresh in progress, blocking or reactive, shared by every read that arrives while it runs */
+    private final AtomicReference<CompletableFuture<Snapshot<T>>> inFlight = new AtomicReference<>();
+    private volatile Snapshot<T> current;
+    /** Snapshot marked stale by {@link #expire()} before its TTL ran out */
+    private volatile Snapshot<T> expired;
+    /** Newest first; replaced wholesale on publish so readers never block */
+    private volatile List<Snapshot<T>> retained = List.of();
+
+    /**
+     * @param order display order applied once per refresh, or null to keep the loader's order
+     */
+    public SourceCache(String name, Duration ttl, Comparator<? super T> order, Loader<T> loader,
+                       MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+        this(name, ttl, order, loader, offload(loader), meterRegistry, observationRegistry);
+    }
+
+    /**
+     * A cache whose source is read with a non-blocking loader; blocking reads wait for it
+     *
+     * @param order display order applied once per refresh, or null to keep the loader's order
+     */
+    public static <T> SourceCache<T> async(String name, Duration ttl, Comparator<? super T> order, AsyncLoader<T> loader,
+                                           MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+        return new SourceCache<>(name, ttl, order, null, loader, meterRegistry, observationRegistry);
+    }
+
+    private SourceCache(String name, Duration ttl, Comparator<? super T> order, Loader<T> loader,
+                        AsyncLoader<T> asyncLoader, MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+        this.name = name;
+        this.ttl = ttl;
+        this.order = order;
+        this.loader = loader;
+        this.asyncLoader = asyncLoader;
+        this.hits = requestCounter(meterRegistry, "hit");
+        this.misses = requestCounter(meterRegistry, "miss");
+        this.coalesced = requestCounter(meterRegistry, "coalesced");
+        this.staleServed = requestCounter(meterRegistry, "stale");
+        this.refreshSuccess = refreshTimer(meterRegistry, "success");
+        this.refreshFailure = refreshTimer(meterRegistry, "failure");
+        this.observationRegistry = observationRegistry;
+        Gauge.builder("dvaas.cache.items", this, cache -> cache.current != null ? cache.current.items().size() : 0)
+                .description("Items in the current snapshot")
+                .tag("source", name)
+                .register(meterRegistry);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * How long a snapshot is served before a read refreshes it
+     */
+    public Duration ttl() {
+        return ttl;
+    }
+
+    /**
+     * Change how long a read with an expired snapshot waits for another read's refresh
+     */
+    void staleWait(Duration staleWait) {
+        this.staleWait = staleWait;
+    }
+
+    /**
+     * Whether a snapshot has been loaded from the source, however old it is
+     */
+    public boolean isLoaded() {
+        return current != null;
+    }
+
+    /**
+     * The current snapshot as it is, without refreshing it, or empty if none has been loaded
+     */
+    public Optional<Snapshot<T>> peek() {
+        return Optional.ofNullable(current);
+    }
+
+    /**
+     * Current snapshot, refreshed first when missing or older than the TTL. A failed refresh keeps
+     * serving the previous snapshot and is retried on the next call.
+     */
+    public Snapshot<T> snapshot() {
+        Observation lookup = Observation.createNotStarted("dvaas.cache.lookup", observationRegistry)
+                .lowCardinalityKeyValue("source", name)
+                .start();
+        try (Observation.Scope scope = lookup.openScope()) {
+            Snapshot<T> snapshot = current;
+            if (snapshot == null || isExpired(snapshot)) {
+                return refresh(snapshot, lookup);
+            }
+            count(lookup, hits, "hit");
+            return snapshot;
+        } finally {
+            lookup.stop();
+        }
+    }
+
+    /**
+     * Like {@link #snapshot()}, without blocking: a stale read joins the refresh another reader
+     * already started instead of loading the source again
+     */
+    public Mono<Snapshot<T>> snapshotAsync() {
+        return Mono.deferContextual(context -> {
+            Observation lookup = Observation.createNotStarted("dvaas.cache.lookup", observationRegistry)
+                    .lowCardinalityKeyValue("source", name)
+                    .parentObservation(parentObservation(context))
+                    .start();
+            Snapshot<T> snapshot = current;
+            if (snapshot != null && !isExpired(snapshot)) {
+                count(lookup, hits, "hit");
+                lookup.stop();
+                return Mono.just(snapshot);
+            }
+            return refreshAsync(snapshot, lookup).doFinally(signal -> lookup.stop());
+        });
+    }
+
+    /**
+     * Load the source now, whether or not the current snapshot has expired, joining a refresh already
+     * in flight. Counted as a read like {@link #snapshotAsync()}.
+     *
+     * @return whether a new snapshot was published; if not, the previous one is still served
+     */
+    public Mono<Boolean> refreshNow() {
+        return Mono.deferContextual(context -> {
+            Observation lookup = Observation.createNotStarted("dvaas.cache.lookup", observationRegistry)
+                    .lowCardinalityKeyValue("source", name)
+                    .parentObservation(parentObservation(context))
+                    .start();
+            Snapshot<T> seen = current;
+            return refreshAsync(seen, lookup)
+                    .map(snapshot -> snapshot != seen && snapshot == current)
+                    .doFinally(signal -> lookup.stop());
+        });
+    }
+
+    /**
+     * The current or a retained snapshot with the given version, without triggering a refresh
+     */
+    public Optional<Snapshot<T>> snapshot(long version) {
+        Snapshot<T> snapshot = current;
+        if (snapshot != null && snapshot.version() == version) {
+            return Optional.of(snapshot);
+        }
+        return retained.stream().filter(candidate -> candidate.version() == version).findFirst();
+    }
+
+    /**
+     * Items of the current snapshot, refreshing first if needed
+     */
+    public List<T> items() {
+        return snapshot().items();
+    }
+
+    /**
+     * Items of the current snapshot, refreshing first if needed, without blocking
+     */
+    public Mono<List<T>> itemsAsync() {
+        return snapshotAsync().map(Snapshot::items);
+    }
+
+    /**
+     * Page through the items matching {@code filter} in snapshot order.
+     *
+     * @param query identifies the filter; cursors are only accepted for the query they were issued for
+     * @param cursor nextCursor of the previous page, or null for the first page of the current snapshot
+     * @param limit most items on the page, at least 1
+     * @throws IllegalArgumentException if the limit is below 1, or the cursor is malformed, belongs to
+     *         another query, or its snapshot is no longer retained
+     */
+    public Page<T> page(String query, Predicate<? super T> filter, int limit, String cursor) {
+        return page(query, filter, false, limit, cursor);
+    }
+
+    /**
+     * Like {@link #page(String, Predicate, int, String)}, optionally walking the snapshot from the end
+     */
+    public Page<T> page(String query, Predicate<? super T> filter, boolean reversed, int limit, String cursor) {
+        requireLimit(limit);
+        if (cursor == null || cursor.isBlank()) {
+            return cut(snapshot(), query, filter, reversed, limit, 0);
+        }
+        PageCursor position = resume(query, cursor);
+        return cut(retainedSnapshot(position), query, filter, reversed, limit, position.offset());
+    }
+
+    /**
+     * Like {@link #page(String, Predicate, int, String)}, without blocking
+     */
+    public Mono<Page<T>> pageAsync(String query, Predicate<? super T> filter, int limit, String cursor) {
+        return pageAsync(query, filter, false, limit, cursor);
+    }
+
+    /**
+     * Like {@link #page(String, Predicate, boolean, int, String)}, without blocking. Cursor errors
+     * and a limit below 1 are signalled as {@link IllegalArgumentException}s.
+     */
+    public Mono<Page<T>> pageAsync(String query, Predicate<? super T> filter, boolean reversed, int limit, String cursor) {
+        try {
+            requireLimit(limit);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+        if (cursor == null || cursor.isBlank()) {
+            return snapshotAsync().map(snapshot -> cut(snapshot, query, filter, reversed, limit, 0));
+        }
+        return Mono.fromCallable(() -> {
+            PageCursor position = resume(query, cursor);
+            return cut(retainedSnapshot(position), query, filter, reversed, limit, position.offset());
+        });
+    }
+
+    /**
+     * A page of no items would never advance its cursor, and a negative limit would not cap the page
+     */
+    private static void requireLimit(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1, got " + limit);
+        }
+    }
+
+    private PageCursor resume(String query, String cursor) {
+        PageCursor position = PageCursor.decode(cursor);
+        if (!position.matches(name, query)) {
+            throw new IllegalArgumentException("Cursor does not belong to this query. Request the first page without a cursor.");
+        }
+        return position;
+    }
+
+    private Snapshot<T> retainedSnapshot(PageCursor position) {
+        return snapshot(position.version()).orElseThrow(() -> new IllegalArgumentException(
+                "Cursor has expired because the " + name + " data was refreshed. Request the first page again without a cursor."));
+    }
+
+    private Page<T> cut(Snapshot<T> snapshot, String query, Predicate<? super T> filter, boolean reversed, int limit,
+                        int offset) {
+        List<T> items = snapshot.items();
+        int size = items.size();
+        if (offset > size) {
+            throw new IllegalArgumentException("Invalid cursor. Use the nextCursor value from a previous response.");
+        }
+
+        List<T> page = new ArrayList<>(Math.max(0, Math.min(limit, size - offset)));
+        for (; offset < size; offset++) {
+            T item = items.get(reversed ? size - 1 - offset : offset);
+            if (filter.test(item)) {
+                if (page.size() == limit) {
+                    // offset now points at the first match of the next page
+                    break;
+                }
+                page.add(item);
+            }
+        }
+
+        String nextCursor = offset < size ? PageCursor.of(name, snapshot.version(), query, offset).encode() : null;
+        return new Page<>(page, nextCursor);
+    }
+
+    /**
+     * Drop all snapshots so the next read loads from the source again
+     */
+    public synchronized void clear() {
+        current = null;
+        retained = List.of();
+    }
+
+    /**
+     * Treat the current snapshot as expired, so the next read revalidates it against the source.
+     * Unlike {@link #clear()}, the snapshot is still served if that refresh fails.
+     */
+    public void expire() {
+        expired = current;
+    }
+
+    private boolean isExpired(Snapshot<T> snapshot) {
+        return snapshot == expired || !snapshot.loadedAt().plus(ttl).isAfter(Instant.now());
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("dvaas.cache.requests")
+                .description("Snapshot reads by whether they were served without a reload")
+                .tag("source", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Timer refreshTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("dvaas.cache.refresh")
+                .description("Time to load and sort a new snapshot")
+                .tag("source", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static void count(Observation lookup, Counter counter, String result) {
+        counter.increment();
+        lookup.lowCardinalityKeyValue("result", result);
+    }
+
+    private List<T> load(List<T> previous, Observation lookup) throws Exception {
+        Observation observation = Observation.createNotStarted("dvaas.cache.load", observationRegistry)
+                .lowCardinalityKeyValue("source", name)
+                .parentObservation(lookup)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return new ArrayList<>(loader != null ? loader.load(previous) : await(previous, observation));
+        } catch (Exception e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    private Mono<List<T>> loadAsync(List<T> previous, Observation lookup) {
+        return Mono.defer(() -> {
+            Observation observation = Observation.createNotStarted("dvaas.cache.load", observationRegistry)
+                    .lowCardinalityKeyValue("source", name)
+                    .parentObservation(lookup)
+                    .start();
+            return asyncLoader.load(previous)
+                    .defaultIfEmpty(List.of())
+                    .<List<T>>map(ArrayList::new)
+                    .doOnError(observation::error)
+                    .doFinally(signal -> observation.stop())
+                    .contextWrite(Context.of(ObservationThreadLocalAccessor.KEY, observation));
+        });
+    }
+
+    private Snapshot<T> refresh(Snapshot<T> seen, Observation lookup) {
+        CompletableFuture<Snapshot<T>> refresh = new CompletableFuture<>();
+        CompletableFuture<Snapshot<T>> other = join(refresh);
+        if (other != null) {
+            return awaitJoined(other, seen, lookup);
+        }
+        Snapshot<T> fresh = refreshedSince(seen, refresh, lookup);
+        if (fresh != null) {
+            return fresh;
+        }
+
+        Snapshot<T> latest = current;
+        long start = System.nanoTime();
+        Snapshot<T> snapshot = null;
+        try {
+            try {
+                snapshot = publish(load(latest != null ? latest.items() : List.of(), lookup), start, lookup);
+            } catch (Exception e) {
+                snapshot = fallBack(latest, e, start, lookup);
+            }
+            return snapshot;
+        } finally {
+            release(refresh, snapshot);
+        }
+    }
+
+    private Mono<Snapshot<T>> refreshAsync(Snapshot<T> seen, Observation lookup) {
+        CompletableFuture<Snapshot<T>> refresh = new CompletableFuture<>();
+        CompletableFuture<Snapshot<T>> other = join(refresh);
+        if (other != null) {
+            return awaitJoinedAsync(other, seen, lookup);
+        }
+        Snapshot<T> fresh = refreshedSince(seen, refresh, lookup);
+        if (fresh != null) {
+            return Mono.just(fresh);
+        }
+
+        Snapshot<T> latest = current;
+        long start = System.nanoTime();
+        // Run to completion even if this reader goes away, others may have joined it
+        loadAsync(latest != null ? latest.items() : List.of(), lookup)
+                .map(items -> publish(items, start, lookup))
+                .onErrorResume(e -> Mono.just(fallBack(latest, e, start, lookup)))
+                .subscribe(snapshot -> release(refresh, snapshot), e -> release(refresh, null));
+        return Mono.fromFuture(refresh, true);
+    }
+
+    /**
+     * Take the in-flight slot with {@code refresh}
+     *
+     * @return the refresh already in flight, or null if the caller took the slot and must now load
+     * the source and {@link #release} it
+     */
+    private CompletableFuture<Snapshot<T>> join(CompletableFuture<Snapshot<T>> refresh) {
+        while (!inFlight.compareAndSet(null, refresh)) {
+            CompletableFuture<Snapshot<T>> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The snapshot another read published since this one found {@code seen} expired, freeing the
+     * slot it just took, or null if the source still needs loading
+     */
+    private Snapshot<T> refreshedSince(Snapshot<T> seen, CompletableFuture<Snapshot<T>> refresh, Observation lookup) {
+        Snapshot<T> latest = current;
+        if (latest != seen && latest != null && !isExpired(latest)) {
+            inFlight.compareAndSet(refresh, null);
+            count(lookup, hits, "hit");
+            return latest;
+        }
+        return null;
+    }
+
+    /**
+     * Wait for another read's refresh; a read that has a snapshot to fall back on waits at most
+     * {@link #staleWait} and then serves it, so an upstream that hangs cannot hold every read
+     */
+    private Snapshot<T> awaitJoined(CompletableFuture<Snapshot<T>> other, Snapshot<T> seen, Observation lookup) {
+        if (seen == null) {
+            Snapshot<T> snapshot = other.join();
+            count(lookup, coalesced, "coalesced");
+            return snapshot;
+        }
+        try {
+            Snapshot<T> snapshot = other.get(staleWait.toNanos(), TimeUnit.NANOSECONDS);
+            count(lookup, coalesced, "coalesced");
+            return snapshot;
+        } catch (TimeoutException e) {
+            return serveStale(seen, lookup);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return serveStale(seen, lookup);
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    /**
+     * Like {@link #awaitJoined}, without blocking
+     */
+    private Mono<Snapshot<T>> awaitJoinedAsync(CompletableFuture<Snapshot<T>> other, Snapshot<T> seen, Observation lookup) {
+        Mono<Snapshot<T>> joined = Mono.fromFuture(other, true).doOnNext(snapshot -> count(lookup, coalesced, "coalesced"));
+        if (seen == null) {
+            return joined;
+        }
+        return joined.timeout(staleWait, Mono.fromSupplier(() -> serveStale(seen, lookup)));
+    }
+
+    private Snapshot<T> serveStale(Snapshot<T> seen, Observation lookup) {
+        logger.debug("Serving the stale {} snapshot instead of waiting longer for its refresh", name);
+        count(lookup, staleServed, "stale");
+        return seen;
+    }
+
+    /**
+     * Free the in-flight slot, then hand the snapshot to the reads that joined the refresh
+     *
+     * @param snapshot published or fallback snapshot, or null if the refresh itself broke down
+     */
+    private void release(CompletableFuture<Snapshot<T>> refresh, Snapshot<T> snapshot) {
+        inFlight.compareAndSet(refresh, null);
+        if (snapshot != null) {
+            refresh.complete(snapshot);
+        } else {
+            refresh.completeExceptionally(new IllegalStateException("Refresh of the " + name + " cache did not complete"));
+        }
+    }
+
+    /**
+     * Sort freshly loaded items and make them the current snapshot
+     */
+    private Snapshot<T> publish(List<T> items, long start, Observation lookup) {
+        if (order != null) {
+            Observation.createNotStarted("dvaas.cache.sort", observationRegistry)
+                    .lowCardinalityKeyValue("source", name)
+                    .parentObservation(lookup)
+                    .observe(() -> items.sort(order));
+        }
+        Snapshot<T> snapshot = new Snapshot<>(name, VERSIONS.incrementAndGet(), items, Instant.now());
+        synchronized (this) {
+            Snapshot<T> replaced = current;
+            if (replaced != null) {
+                List<Snapshot<T>> kept = new ArrayList<>(RETAINED_SNAPSHOTS);
+                kept.add(replaced);
+                kept.addAll(retained.subList(0, Math.min(retained.size(), RETAINED_SNAPSHOTS - 1)));
+                retained = List.copyOf(kept);
+            }
+            current = snapshot;
+        }
+        refreshSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        count(lookup, misses, "miss");
+        logger.info("{} cache refreshed with {} items (version {})", name, items.size(), snapshot.version());
+        return snapshot;
+    }
+
+    /**
+     * Keep serving the previous snapshot after a failed refresh, or an empty one if there is none
+     */
+    private Snapshot<T> fallBack(Snapshot<T> latest, Throwable failure, long start, Observation lookup) {
+        refreshFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        Throwable rejection = rejection(failure);
+        if (rejection != null) {
+            // Expected for every read while a breaker is open, so no stack trace
+            logger.warn("Skipped refresh of {} cache: {}", name, rejection.getMessage());
+        } else {
+            logger.error("Failed to refresh {} cache", name, failure);
+        }
+        if (latest == null) {
+            count(lookup, misses, "miss");
+            return Snapshot.empty(name);
+        }
+        count(lookup, staleServed, "stale");
+        return latest;
+    }
+
+    /**
+     * The exception, possibly wrapped by the loader, with which the HTTP client refused to call the
+     * upstream at all, or null if the refresh failed otherwise
+     */
+    private static Throwable rejection(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CircuitOpenException || cause instanceof BulkheadFullException
+                    || cause instanceof ClientStoppedException) {
+                return cause;
+            }
+        }
+        return null;
+    }
+
+    private Observation parentObservation(ContextView context) {
+        Observation parent = context.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+        return parent != null ? parent : observationRegistry.getCurrentObservation();
+    }
+
+    /**
+     * Run a blocking loader for reactive reads on a thread that may block, inside the observation
+     * of the load
+     */
+    private static <T> AsyncLoader<T> offload(Loader<T> loader) {
+        return previous -> Mono.deferContextual(context -> Mono.fromCallable(() -> {
+            Observation observation = context.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+            if (observation == null) {
+                return loader.load(previous);
+            }
+            try (Observation.Scope scope = observation.openScope()) {
+                return loader.load(previous);
+            }
+        })).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Wait for the non-blocking loader on behalf of a blocking read
+     */
+    private List<T> await(List<T> previous, Observation observation) {
+        List<T> items = asyncLoader.load(previous)
+                .contextWrite(Context.of(ObservationThreadLocalAccessor.KEY, observation))
+                .block();
+        return items != null ? items : List.of();
+    }
+}
@@ -0,0 +1,205 @@
+package dev.danvega.dvaas.cache;
+
+import dev.danvega.dvaas.config.ToolCacheProperties;
+import dev.danvega.dvaas.mcp.ToolSpecificationDecorator;
+import io.modelcontextprotocol.server.McpServerFeatures.AsyncToolSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Reuses the finished {@link CallToolResult} of a tool call, with the result already serialized to
+ * its JSON text content, for identical calls against the same generation of the source data. A hit
+ * skips both the service call and the JSON serialization; a source refresh changes the generation,
+ * so stale entries are never served. The first result stored under a source's new generation drops
+ * that source's stale entries, and the least recently used entry makes room once the cache is full.
+ */
+@Component
+@Order(ToolResultCache.ORDER)
+@ConditionalOnProperty(name = "dvaas.tool-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ToolResultCache implements ToolSpecificationDecorator {
+
+    /** Inside the tool metrics, so hits are still timed */
+    public static final int ORDER = 100;
+
+    private static final Logger logger = LoggerFactory.getLogger(ToolResultCache.class);
+
+    private record Key(String tool, String arguments) {
+    }
+
+    private record Entry(CachedToolSource source, long generation, CallToolResult result) {
+    }
+
+    private final ObjectProvider<CachedToolSource> sourceProvider;
+    private final int maxEntries;
+    /** Access ordered, so every read and write goes through {@link #lookup} or {@link #store} under its lock */
+    private final Map<Key, Entry> entries;
+    /** Latest generation stored per source, to notice when its older entries turn stale */
+    private final Map<CachedToolSource, Long> generations = new ConcurrentHashMap<>();
+    /** Resolved on the first call so wrapping tools does not instantiate the services early */
+    private volatile List<CachedToolSource> sources;
+
+    public ToolResultCache(ObjectProvider<CachedToolSource> sources, ToolCacheProperties properties) {
+        this.sourceProvider = sources;
+        this.maxEntries = properties.maxEntries();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        logger.info("Tool result cache enabled, max {} entries", maxEntries);
+    }
+
+    /**
+     * Wrap a tool so its results are cached while a cached source answers it
+     */
+    @Override
+    public SyncToolSpecification decorate(SyncToolSpecification specification) {
+        var handler = specification.callHandler();
+        return new SyncToolSpecification(specification.tool(), (exchange, request) -> {
+            CachedToolSource source = sourceFor(request.name());
+            if (source == null) {
+                return handler.apply(exchange, request);
+            }
+            return call(source, request, () -> handler.apply(exchange, request));
+        });
+    }
+
+    /**
+     * Wrap an async tool the same way, reading the source generation without blocking
+     */
+    @Override
+    public AsyncToolSpecification decorate(AsyncToolSpecification specification) {
+        var handler = specification.callHandler();
+        return new AsyncToolSpecification(specification.tool(), (exchange, request) -> {
+            CachedToolSource source = sourceFor(request.name());
+            if (source == null) {
+                return handler.apply(exchange, request);
+            }
+            return callAsync(source, request, Mono.defer(() -> handler.apply(exchange, request)));
+        });
+    }
+
+    /**
+     * Answer {@code request} from the cache, or invoke the tool and cache its successful result
+     */
+    CallToolResult call(CachedToolSource source, CallToolRequest request, Supplier<CallToolResult> tool) {
+        long generation = source.generation();
+        Key key = new Key(request.name(), normalize(request.arguments()));
+
+        CallToolResult cached = lookup(key, generation);
+        if (cached != null) {
+            return cached;
+        }
+        return store(source, key, generation, tool.get());
+    }
+
+    /**
+     * Like {@link #call}, for a tool that answers with a publisher
+     */
+    Mono<CallToolResult> callAsync(CachedToolSource source, CallToolRequest request, Mono<CallToolResult> tool) {
+        return source.generationAsync().flatMap(generation -> {
+            Key key = new Key(request.name(), normalize(request.arguments()));
+
+            CallToolResult cached = lookup(key, generation);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return tool.map(result -> store(source, key, generation, result));
+        });
+    }
+
+    private CallToolResult lookup(Key key, long generation) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            return entry != null && entry.generation() == generation ? entry.result() : null;
+        }
+    }
+
+    private CallToolResult store(CachedToolSource source, Key key, long generation, CallToolResult result) {
+        if (!Boolean.TRUE.equals(result.isError())) {
+            Long previous = generations.put(source, generation);
+            synchronized (entries) {
+                if (previous != null && previous != generation) {
+                    evictStale(source, generation);
+                }
+                entries.put(key, new Entry(source, generation, result));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Drop every cached result
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        generations.clear();
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private CachedToolSource sourceFor(String tool) {
+        List<CachedToolSource> resolved = sources;
+        if (resolved == null) {
+            resolved = sourceProvider.orderedStream().toList();
+            sources = resolved;
+        }
+        for (CachedToolSource source : resolved) {
+            String prefix = source.toolPrefix();
+            if (prefix != null && tool.startsWith(prefix)) {
+                return source;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Drop the results {@code source} cached under an earlier generation; other sources keep theirs
+     */
+    private void evictStale(CachedToolSource source, long generation) {
+        entries.values().removeIf(entry -> entry.source() == source && entry.generation() != generation);
+    }
+
+    /**
+     * Arguments in name order with omitted, null and blank values dropped, so calls that differ only
+     * in argument order or in spelling out an unset optional parameter share an entry
+     */
+    static String normalize(Map<String, Object> arguments) {
+        if (arguments == null || arguments.isEmpty()) {
+            return "";
+        }
+        Map<String, Object> normalized = new TreeMap<>();
+        arguments.forEach((name, value) -> {
+            if (value instanceof String text) {
+                if (!text.isBlank()) {
+                    normalized.put(name, text.trim());
+                }
+            } else if (value != null) {
+                normalized.put(name, value);
+            }
+        });
+        return normalized.toString();
+    }
+}
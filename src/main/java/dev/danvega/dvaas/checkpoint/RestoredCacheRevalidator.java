@@ -0,0 +1,54 @@
+package dev.danvega.dvaas.checkpoint;
+
+import dev.danvega.dvaas.cache.CachedToolSource;
+import dev.danvega.dvaas.cache.SourceCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Revalidates every source cache when the application starts again after being stopped, as Spring
+ * does around a CRaC checkpoint. The snapshots carried over in the checkpoint may be hours old by the
+ * time an instance is restored from it, so each is marked expired and refreshed in the background.
+ * Readers keep getting the restored snapshot if that refresh fails.
+ */
+@Component
+public class RestoredCacheRevalidator implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestoredCacheRevalidator.class);
+
+    private final ObjectProvider<CachedToolSource> sources;
+    private volatile boolean running = true;
+
+    public RestoredCacheRevalidator(ObjectProvider<CachedToolSource> sources) {
+        this.sources = sources;
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        List<SourceCache<?>> caches = sources.orderedStream().flatMap(source -> source.caches().stream()).toList();
+        for (SourceCache<?> cache : caches) {
+            cache.expire();
+            cache.snapshotAsync().subscribe();
+        }
+        logger.info("Revalidating {} caches after restart", caches.size());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,139 @@
+package dev.danvega.dvaas.checkpoint;
+
+import dev.danvega.dvaas.cache.CachedToolSource;
+import dev.danvega.dvaas.cache.SourceCache;
+import dev.danvega.dvaas.cache.ToolResultCache;
+import dev.danvega.dvaas.config.CheckpointProperties;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.modelcontextprotocol.spec.McpSchema.Implementation;
+import io.modelcontextprotocol.spec.McpSchema.Tool;
+import org.crac.CheckpointException;
+import org.crac.Core;
+import org.crac.RestoreException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Takes a CRaC checkpoint of a server that has reached steady state, so instances restored from it
+ * start with loaded caches and compiled hot paths. Once the application is ready, every source's
+ * caches are loaded and the tools are called over the server's own MCP endpoint for
+ * {@link CheckpointProperties#warmupIterations()} rounds, with the tool result cache cleared before
+ * each call so every round runs the tools themselves. Then the checkpoint is taken: Spring stops
+ * the lifecycle beans, which closes the web server and the outbound HTTP client, and starts them
+ * again on restore. A warmup that fails leaves the server running without a checkpoint.
+ * <p>
+ * {@code java -XX:CRaCCheckpointTo=/checkpoint -jar dvaas.jar --dvaas.checkpoint.after-warmup=true},
+ * then {@code java -XX:CRaCRestoreFrom=/checkpoint} for each instance.
+ */
+@Component
+@Profile("http")
+@ConditionalOnProperty(name = "dvaas.checkpoint.after-warmup", havingValue = "true")
+public class WarmCheckpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmCheckpoint.class);
+
+    private final CheckpointProperties properties;
+    private final ObjectProvider<CachedToolSource> sources;
+    private final ObjectProvider<ToolResultCache> toolResultCache;
+    private final Environment environment;
+
+    public WarmCheckpoint(CheckpointProperties properties, ObjectProvider<CachedToolSource> sources,
+                          ObjectProvider<ToolResultCache> toolResultCache, Environment environment) {
+        this.properties = properties;
+        this.sources = sources;
+        this.toolResultCache = toolResultCache;
+        this.environment = environment;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkpointWhenWarm() {
+        try {
+            warmUp();
+        } catch (RuntimeException e) {
+            logger.error("Warmup failed, carrying on without a checkpoint", e);
+            return;
+        }
+        try {
+            logger.info("Taking checkpoint");
+            Core.checkpointRestore();
+            logger.info("Restored from checkpoint");
+        } catch (CheckpointException | RestoreException e) {
+            logger.error("Checkpoint failed, carrying on without one", e);
+        } catch (UnsupportedOperationException e) {
+            logger.warn("Checkpoint skipped, this JVM does not support CRaC: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Load every cache, then call the warmup tools over MCP
+     *
+     * @return tool calls made, including failed ones
+     */
+    int warmUp() {
+        long start = System.nanoTime();
+        sources.orderedStream()
+                .flatMap(source -> source.caches().stream())
+                .forEach(SourceCache::snapshot);
+
+        String server = "http://localhost:" + environment.getRequiredProperty("local.server.port");
+        String endpoint = environment.getProperty("spring.ai.mcp.server.streamable-http.mcp-endpoint", "/mcp");
+        HttpClientStreamableHttpTransport transport = HttpClientStreamableHttpTransport.builder(server)
+                .endpoint(endpoint)
+                .build();
+        McpSyncClient client = McpClient.sync(transport)
+                .clientInfo(new Implementation("dvaas-warmup", "1.0"))
+                .requestTimeout(Duration.ofSeconds(60))
+                .build();
+        int calls = 0;
+        int failures = 0;
+        try {
+            client.initialize();
+            List<String> tools = warmupTools(client.listTools().tools());
+            for (int i = 0; i < properties.warmupIterations(); i++) {
+                for (String tool : tools) {
+                    calls++;
+                    // Identical calls would otherwise be answered from the cache after the first round
+                    toolResultCache.ifAvailable(ToolResultCache::clear);
+                    try {
+                        if (Boolean.TRUE.equals(client.callTool(new CallToolRequest(tool, Map.of())).isError())) {
+                            failures++;
+                        }
+                    } catch (RuntimeException e) {
+                        failures++;
+                    }
+                }
+            }
+        } finally {
+            // The connection must be closed before the checkpoint
+            client.closeGracefully();
+            toolResultCache.ifAvailable(ToolResultCache::clear);
+        }
+        logger.info("Warmed up with {} tool calls ({} failed) in {} ms", calls, failures, (System.nanoTime() - start) / 1_000_000);
+        return calls;
+    }
+
+    private List<String> warmupTools(List<Tool> available) {
+        if (!properties.warmupTools().isEmpty()) {
+            return properties.warmupTools();
+        }
+        return available.stream()
+                .filter(tool -> tool.inputSchema() == null || tool.inputSchema().required() == null
+                        || tool.inputSchema().required().isEmpty())
+                .map(Tool::name)
+                .toList();
+    }
+}
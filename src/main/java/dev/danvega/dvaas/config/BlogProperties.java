@@ -28,7 +28,13 @@ public record BlogProperties(
          * Must be at least 1 minute, default: 30 minutes
          */
         @NotNull(message = "Blog cache duration must not be null")
-        Duration cacheDuration
+        Duration cacheDuration,
+
+        /**
+         * Every how many refreshes the whole feed is parsed again, picking up edited and removed posts.
+         * The refreshes in between stop at the newest post already cached. Default: 12
+         */
+        Integer fullParseEvery
 
 ) {
 
@@ -39,11 +45,17 @@ public record BlogProperties(
         if (cacheDuration == null) {
             cacheDuration = Duration.ofMinutes(30);
         }
+        if (fullParseEvery == null) {
+            fullParseEvery = 12;
+        }
 
         // Custom validation: cache duration must be at least 1 minute
         if (cacheDuration.toMinutes() < 1) {
             throw new IllegalArgumentException("Blog cache duration must be at least 1 minute, got: " + cacheDuration);
         }
+        if (fullParseEvery < 1) {
+            throw new IllegalArgumentException("Blog full parse interval must be at least 1, got: " + fullParseEvery);
+        }
     }
 
     /**
@@ -0,0 +1,60 @@
+package dev.danvega.dvaas.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.List;
+
+/**
+ * Configuration properties for taking a CRaC checkpoint of a warmed-up server
+ */
+@ConfigurationProperties(prefix = "dvaas.checkpoint")
+@Validated
+public record CheckpointProperties(
+
+        /**
+         * Whether to warm up and then checkpoint once the server is ready, default: false. Needs a
+         * CRaC JVM started with -XX:CRaCCheckpointTo.
+         */
+        Boolean afterWarmup,
+
+        /**
+         * Rounds of tool calls made before the checkpoint, default: 200
+         */
+        Integer warmupIterations,
+
+        /**
+         * Tools called in every round, default: every tool without required arguments
+         */
+        List<String> warmupTools
+
+) {
+
+    /**
+     * Create default CheckpointProperties with sensible defaults and validation
+     */
+    public CheckpointProperties {
+        if (afterWarmup == null) {
+            afterWarmup = false;
+        }
+        if (warmupIterations == null) {
+            warmupIterations = 200;
+        }
+        warmupTools = warmupTools != null ? List.copyOf(warmupTools) : List.of();
+
+        if (warmupIterations < 0) {
+            throw new IllegalArgumentException("Checkpoint warmup iterations must not be negative, got: " + warmupIterations);
+        }
+    }
+
+    /**
+     * Properties with every value defaulted
+     */
+    public static CheckpointProperties defaults() {
+        return new CheckpointProperties(null, null, null);
+    }
+
+    public boolean isAfterWarmup() {
+        return afterWarmup;
+    }
+}
@@ -2,6 +2,7 @@ package dev.danvega.dvaas.config;
 
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
  * Main configuration class for dvaas application
@@ -13,7 +14,15 @@ import org.springframework.context.annotation.Configuration;
     YouTubeProperties.class,
     SpeakingProperties.class,
     NewsletterProperties.class,
-    PodcastProperties.class
+    PodcastProperties.class,
+    HttpClientProperties.class,
+    EnrichmentProperties.class,
+    ToolCacheProperties.class,
+    TracingProperties.class,
+    CheckpointProperties.class,
+    WarmupProperties.class,
+    RefreshProperties.class
 })
+@ImportRuntimeHints(DvaasRuntimeHints.class)
 public class DvaasConfiguration {
 }
\ No newline at end of file
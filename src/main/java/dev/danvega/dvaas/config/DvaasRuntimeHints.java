@@ -0,0 +1,99 @@
+package dev.danvega.dvaas.config;
+
+import dev.danvega.dvaas.cache.Page;
+import dev.danvega.dvaas.projection.ProjectedList;
+import dev.danvega.dvaas.tools.blog.model.BlogPost;
+import dev.danvega.dvaas.tools.blog.model.BlogStats;
+import dev.danvega.dvaas.tools.newsletter.model.Post;
+import dev.danvega.dvaas.tools.newsletter.model.PostSearchResult;
+import dev.danvega.dvaas.tools.newsletter.model.PostStats;
+import dev.danvega.dvaas.tools.newsletter.model.PublicationStats;
+import dev.danvega.dvaas.tools.podcast.model.Episode;
+import dev.danvega.dvaas.tools.podcast.model.PodcastStats;
+import dev.danvega.dvaas.tools.podcast.model.Show;
+import dev.danvega.dvaas.tools.report.model.ContentReport;
+import dev.danvega.dvaas.tools.report.model.ReportEntry;
+import dev.danvega.dvaas.tools.speaking.model.SpeakingEngagement;
+import dev.danvega.dvaas.tools.speaking.model.SpeakingSearchResult;
+import dev.danvega.dvaas.tools.speaking.model.SpeakingStats;
+import dev.danvega.dvaas.tools.youtube.model.ChannelStats;
+import dev.danvega.dvaas.tools.youtube.model.Video;
+import dev.danvega.dvaas.trace.Span;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * Hints for the native image ({@code ./mvnw -Pnative native:compile}) that AOT processing cannot
+ * infer from the bean definitions. The MCP tool and prompt methods themselves are registered by
+ * Spring AI's annotation scanner; what is left is the data that crosses reflection at runtime.
+ */
+public class DvaasRuntimeHints implements RuntimeHintsRegistrar {
+
+    /**
+     * Tool results and actuator payloads, written by Jackson and read by {@code RecordProjection}
+     */
+    private static final List<Class<?>> BOUND_TYPES = List.of(
+            Page.class, Span.class,
+            BlogPost.class, BlogStats.class,
+            Post.class, PostSearchResult.class, PostStats.class, PublicationStats.class,
+            Episode.class, PodcastStats.class, Show.class,
+            SpeakingEngagement.class, SpeakingSearchResult.class, SpeakingStats.class,
+            Video.class, ChannelStats.class,
+            ContentReport.class, ReportEntry.class);
+
+    /**
+     * YouTube requests and responses, which the Google client binds onto {@code @Key} fields through
+     * reflection. Referenced by name since the generated client ships no native metadata of its own.
+     */
+    private static final List<String> GOOGLE_DATA_TYPES = List.of(
+            "com.google.api.client.googleapis.json.GoogleJsonError",
+            "com.google.api.client.googleapis.json.GoogleJsonError$ErrorInfo",
+            "com.google.api.client.googleapis.json.GoogleJsonErrorContainer",
+            "com.google.api.client.googleapis.services.AbstractGoogleClientRequest",
+            "com.google.api.client.googleapis.services.json.AbstractGoogleJsonClientRequest",
+            "com.google.api.services.youtube.YouTubeRequest",
+            "com.google.api.services.youtube.YouTube$Channels$List",
+            "com.google.api.services.youtube.YouTube$PlaylistItems$List",
+            "com.google.api.services.youtube.YouTube$Search$List",
+            "com.google.api.services.youtube.YouTube$Videos$List",
+            "com.google.api.services.youtube.model.Channel",
+            "com.google.api.services.youtube.model.ChannelContentDetails",
+            "com.google.api.services.youtube.model.ChannelContentDetails$RelatedPlaylists",
+            "com.google.api.services.youtube.model.ChannelListResponse",
+            "com.google.api.services.youtube.model.ChannelSnippet",
+            "com.google.api.services.youtube.model.ChannelStatistics",
+            "com.google.api.services.youtube.model.PageInfo",
+            "com.google.api.services.youtube.model.PlaylistItem",
+            "com.google.api.services.youtube.model.PlaylistItemContentDetails",
+            "com.google.api.services.youtube.model.PlaylistItemListResponse",
+            "com.google.api.services.youtube.model.PlaylistItemSnippet",
+            "com.google.api.services.youtube.model.ResourceId",
+            "com.google.api.services.youtube.model.SearchListResponse",
+            "com.google.api.services.youtube.model.SearchResult",
+            "com.google.api.services.youtube.model.SearchResultSnippet",
+            "com.google.api.services.youtube.model.Thumbnail",
+            "com.google.api.services.youtube.model.ThumbnailDetails",
+            "com.google.api.services.youtube.model.Video",
+            "com.google.api.services.youtube.model.VideoContentDetails",
+            "com.google.api.services.youtube.model.VideoListResponse",
+            "com.google.api.services.youtube.model.VideoSnippet",
+            "com.google.api.services.youtube.model.VideoStatistics");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), BOUND_TYPES.toArray(Class<?>[]::new));
+        hints.reflection().registerType(ProjectedList.Serializer.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+        for (String type : GOOGLE_DATA_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.ACCESS_DECLARED_FIELDS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        // Read by GoogleUtils for the client version sent in the User-Agent
+        hints.resources().registerPattern("com/google/api/client/googleapis/google-api-client.properties");
+    }
+}
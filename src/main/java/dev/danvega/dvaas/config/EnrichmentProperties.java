@@ -0,0 +1,58 @@
+package dev.danvega.dvaas.config;
+
+import jakarta.validation.constraints.NotEmpty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Configuration properties for ingest enrichment (tag extraction)
+ */
+@ConfigurationProperties(prefix = "dvaas.enrichment")
+@Validated
+public record EnrichmentProperties(
+
+        /**
+         * Tag taxonomy matched against ingested content, in reporting order.
+         * Matching is case-insensitive; default: common Java and cloud terms
+         */
+        @NotEmpty(message = "Enrichment tags must not be empty")
+        List<String> tags
+
+) {
+
+    private static final List<String> DEFAULT_TAGS = List.of(
+            "spring", "java", "boot", "ai", "graphql", "react", "vue", "docker",
+            "kubernetes", "microservices", "rest", "api", "jwt", "security",
+            "testing", "junit", "maven", "gradle", "git", "devops", "cloud",
+            "aws", "azure", "gcp", "database", "sql", "nosql", "mongodb",
+            "redis", "elasticsearch", "kafka", "rabbitmq", "jpa", "hibernate"
+    );
+
+    /**
+     * Create default EnrichmentProperties with sensible defaults and validation
+     */
+    public EnrichmentProperties {
+        if (tags == null || tags.isEmpty()) {
+            tags = DEFAULT_TAGS;
+        }
+
+        tags = tags.stream()
+                .map(tag -> tag.trim().toLowerCase(Locale.ROOT))
+                .distinct()
+                .toList();
+
+        if (tags.stream().anyMatch(String::isEmpty)) {
+            throw new IllegalArgumentException("Enrichment tags must not contain blank entries");
+        }
+    }
+
+    /**
+     * Properties with the default taxonomy
+     */
+    public static EnrichmentProperties defaults() {
+        return new EnrichmentProperties(null);
+    }
+}
@@ -0,0 +1,165 @@
+package dev.danvega.dvaas.config;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration properties for the shared outbound HTTP client used by every upstream source
+ */
+@ConfigurationProperties(prefix = "dvaas.http")
+@Validated
+public record HttpClientProperties(
+
+        /**
+         * Maximum time to establish a TCP/TLS connection, default: 5 seconds
+         */
+        @NotNull(message = "HTTP connect timeout must not be null")
+        Duration connectTimeout,
+
+        /**
+         * Maximum time to wait for response headers after sending a request, and again to read the
+         * whole body once they arrived, default: 30 seconds
+         */
+        @NotNull(message = "HTTP read timeout must not be null")
+        Duration readTimeout,
+
+        /**
+         * Whether to negotiate gzip/deflate response compression, default: true
+         */
+        Boolean compression,
+
+        /**
+         * Maximum requests in flight to any one upstream source, default: 8
+         */
+        Integer maxConcurrentRequests,
+
+        /**
+         * Per-source overrides of {@code max-concurrent-requests}, keyed by source
+         * (blog, speaking, newsletter, podcast, youtube)
+         */
+        Map<String, Integer> maxConcurrentRequestsBySource,
+
+        /**
+         * How long a request waits for a free slot of its source before failing, default: 5 seconds
+         */
+        Duration bulkheadWait,
+
+        /**
+         * Requests per source whose outcomes the circuit breaker considers, default: 10
+         */
+        Integer circuitWindowSize,
+
+        /**
+         * Requests a source needs in its window before its circuit breaker may open, default: 5
+         */
+        Integer circuitMinimumCalls,
+
+        /**
+         * Share of failed or slow requests in the window that opens the circuit breaker, default: 0.5
+         */
+        Double circuitFailureRate,
+
+        /**
+         * Responses taking at least this long count as failures for the circuit breaker, default: 10 seconds
+         */
+        Duration circuitSlowCall,
+
+        /**
+         * How long an open circuit breaker fails requests before probing the source, default: 30 seconds
+         */
+        Duration circuitOpenDuration
+
+) {
+
+    /**
+     * Create default HttpClientProperties with sensible defaults and validation
+     */
+    public HttpClientProperties {
+        if (connectTimeout == null) {
+            connectTimeout = Duration.ofSeconds(5);
+        }
+        if (readTimeout == null) {
+            readTimeout = Duration.ofSeconds(30);
+        }
+        if (compression == null) {
+            compression = true;
+        }
+        if (maxConcurrentRequests == null) {
+            maxConcurrentRequests = 8;
+        }
+        maxConcurrentRequestsBySource = maxConcurrentRequestsBySource != null ? Map.copyOf(maxConcurrentRequestsBySource) : Map.of();
+        if (bulkheadWait == null) {
+            bulkheadWait = Duration.ofSeconds(5);
+        }
+        if (circuitWindowSize == null) {
+            circuitWindowSize = 10;
+        }
+        if (circuitMinimumCalls == null) {
+            circuitMinimumCalls = 5;
+        }
+        if (circuitFailureRate == null) {
+            circuitFailureRate = 0.5;
+        }
+        if (circuitSlowCall == null) {
+            circuitSlowCall = Duration.ofSeconds(10);
+        }
+        if (circuitOpenDuration == null) {
+            circuitOpenDuration = Duration.ofSeconds(30);
+        }
+
+        if (connectTimeout.isNegative() || connectTimeout.isZero()) {
+            throw new IllegalArgumentException("HTTP connect timeout must be positive, got: " + connectTimeout);
+        }
+        if (readTimeout.isNegative() || readTimeout.isZero()) {
+            throw new IllegalArgumentException("HTTP read timeout must be positive, got: " + readTimeout);
+        }
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("HTTP max concurrent requests must be at least 1, got: " + maxConcurrentRequests);
+        }
+        maxConcurrentRequestsBySource.forEach((source, max) -> {
+            if (max == null || max < 1) {
+                throw new IllegalArgumentException("HTTP max concurrent requests for " + source + " must be at least 1, got: " + max);
+            }
+        });
+        if (bulkheadWait.isNegative()) {
+            throw new IllegalArgumentException("HTTP bulkhead wait must not be negative, got: " + bulkheadWait);
+        }
+        if (circuitMinimumCalls < 1) {
+            throw new IllegalArgumentException("HTTP circuit minimum calls must be at least 1, got: " + circuitMinimumCalls);
+        }
+        if (circuitWindowSize < circuitMinimumCalls) {
+            throw new IllegalArgumentException("HTTP circuit window size must be at least the minimum calls, got: " + circuitWindowSize);
+        }
+        if (circuitFailureRate <= 0 || circuitFailureRate > 1) {
+            throw new IllegalArgumentException("HTTP circuit failure rate must be above 0 and at most 1, got: " + circuitFailureRate);
+        }
+        if (circuitSlowCall.isNegative() || circuitSlowCall.isZero()) {
+            throw new IllegalArgumentException("HTTP circuit slow call threshold must be positive, got: " + circuitSlowCall);
+        }
+        if (circuitOpenDuration.isNegative() || circuitOpenDuration.isZero()) {
+            throw new IllegalArgumentException("HTTP circuit open duration must be positive, got: " + circuitOpenDuration);
+        }
+    }
+
+    /**
+     * Properties with every value defaulted
+     */
+    public static HttpClientProperties defaults() {
+        return new HttpClientProperties(null, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    public boolean isCompressionEnabled() {
+        return compression;
+    }
+
+    /**
+     * Maximum requests in flight to the given source
+     */
+    public int maxConcurrentRequests(String source) {
+        return maxConcurrentRequestsBySource.getOrDefault(source, maxConcurrentRequests);
+    }
+}
@@ -22,6 +22,12 @@ public record PodcastProperties(
         @NotBlank(message = "Podcast API key must not be blank")
         String apiKey,
 
+        /**
+         * Base URL of the Transistor.fm API
+         * Default: "https://api.transistor.fm/v1"
+         */
+        String baseUrl,
+
         /**
          * Application name to use for Transistor API requests
          * Default: "dvaas-podcast-mcp"
@@ -51,6 +57,10 @@ public record PodcastProperties(
      * Create default PodcastProperties with sensible defaults and validation
      */
     public PodcastProperties {
+        if (baseUrl == null || baseUrl.trim().isEmpty()) {
+            baseUrl = "https://api.transistor.fm/v1";
+        }
+
         if (applicationName == null || applicationName.trim().isEmpty()) {
             applicationName = "dvaas-podcast-mcp";
         }
@@ -0,0 +1,86 @@
+package dev.danvega.dvaas.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for refreshing the source caches in the background ahead of expiry
+ */
+@ConfigurationProperties(prefix = "dvaas.refresh")
+@Validated
+public record RefreshProperties(
+
+        /**
+         * Whether source caches are refreshed in the background, default: false
+         */
+        Boolean enabled,
+
+        /**
+         * Fraction of a source's cache duration after which it is refreshed, default: 0.8
+         */
+        Double refreshAt,
+
+        /**
+         * Largest random shift of a refresh or retry, as a fraction of its delay, default: 0.1
+         */
+        Double jitter,
+
+        /**
+         * Delay before retrying a failed refresh, doubled after each further failure, default: 30 seconds
+         */
+        Duration initialBackoff,
+
+        /**
+         * Longest delay between retries of a failing refresh, default: 10 minutes
+         */
+        Duration maxBackoff
+
+) {
+
+    /**
+     * Create default RefreshProperties with sensible defaults and validation
+     */
+    public RefreshProperties {
+        if (enabled == null) {
+            enabled = false;
+        }
+        if (refreshAt == null) {
+            refreshAt = 0.8;
+        }
+        if (jitter == null) {
+            jitter = 0.1;
+        }
+        if (initialBackoff == null) {
+            initialBackoff = Duration.ofSeconds(30);
+        }
+        if (maxBackoff == null) {
+            maxBackoff = Duration.ofMinutes(10);
+        }
+
+        if (refreshAt <= 0 || refreshAt > 1) {
+            throw new IllegalArgumentException("Refresh point must be above 0 and at most 1, got: " + refreshAt);
+        }
+        if (jitter < 0 || jitter >= 1) {
+            throw new IllegalArgumentException("Refresh jitter must be at least 0 and below 1, got: " + jitter);
+        }
+        if (initialBackoff.isNegative() || initialBackoff.isZero()) {
+            throw new IllegalArgumentException("Refresh initial backoff must be positive, got: " + initialBackoff);
+        }
+        if (maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("Refresh max backoff must be at least the initial backoff, got: " + maxBackoff);
+        }
+    }
+
+    /**
+     * Properties with every value defaulted
+     */
+    public static RefreshProperties defaults() {
+        return new RefreshProperties(null, null, null, null, null);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
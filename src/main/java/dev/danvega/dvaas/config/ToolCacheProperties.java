@@ -0,0 +1,51 @@
+package dev.danvega.dvaas.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties for the cache of serialized MCP tool results
+ */
+@ConfigurationProperties(prefix = "dvaas.tool-cache")
+@Validated
+public record ToolCacheProperties(
+
+        /**
+         * Whether repeated tool calls are answered from cached results, default: true
+         */
+        Boolean enabled,
+
+        /**
+         * Maximum number of distinct tool calls kept, default: 1000
+         */
+        Integer maxEntries
+
+) {
+
+    /**
+     * Create default ToolCacheProperties with sensible defaults and validation
+     */
+    public ToolCacheProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (maxEntries == null) {
+            maxEntries = 1000;
+        }
+
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Tool cache max entries must be at least 1, got: " + maxEntries);
+        }
+    }
+
+    /**
+     * Properties with every value defaulted
+     */
+    public static ToolCacheProperties defaults() {
+        return new ToolCacheProperties(null, null);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
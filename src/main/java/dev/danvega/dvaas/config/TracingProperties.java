@@ -0,0 +1,64 @@
+package dev.danvega.dvaas.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the local trace recorder that breaks tool calls down into stages
+ */
+@ConfigurationProperties(prefix = "dvaas.tracing")
+@Validated
+public record TracingProperties(
+
+        /**
+         * Whether tool calls are recorded as traces, default: true
+         */
+        Boolean enabled,
+
+        /**
+         * Traces taking at least this long are logged with their stage breakdown, default: 1 second
+         */
+        Duration slowThreshold,
+
+        /**
+         * Number of recent traces kept in memory, default: 50
+         */
+        Integer maxTraces
+
+) {
+
+    /**
+     * Create default TracingProperties with sensible defaults and validation
+     */
+    public TracingProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (slowThreshold == null) {
+            slowThreshold = Duration.ofSeconds(1);
+        }
+        if (maxTraces == null) {
+            maxTraces = 50;
+        }
+
+        if (slowThreshold.isNegative()) {
+            throw new IllegalArgumentException("Tracing slow threshold must not be negative, got: " + slowThreshold);
+        }
+        if (maxTraces < 1) {
+            throw new IllegalArgumentException("Tracing max traces must be at least 1, got: " + maxTraces);
+        }
+    }
+
+    /**
+     * Properties with every value defaulted
+     */
+    public static TracingProperties defaults() {
+        return new TracingProperties(null, null, null);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
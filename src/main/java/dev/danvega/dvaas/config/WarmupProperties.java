@@ -0,0 +1,73 @@
+package dev.danvega.dvaas.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration properties for loading the source caches when the application is ready
+ */
+@ConfigurationProperties(prefix = "dvaas.warmup")
+@Validated
+public record WarmupProperties(
+
+        /**
+         * Whether to load every source cache concurrently once the application is ready, default: false
+         */
+        Boolean enabled,
+
+        /**
+         * Time a warmup round may take before the caches still loading are left to finish in the
+         * background, default: 30 seconds
+         */
+        Duration deadline,
+
+        /**
+         * Pause before critical caches that are still cold after a round are tried again, default: 10 seconds
+         */
+        Duration retryInterval,
+
+        /**
+         * Caches that must be loaded before the instance reports ready, by source name such as
+         * {@code blog} or {@code podcast-episodes}, default: every cache
+         */
+        List<String> criticalSources
+
+) {
+
+    /**
+     * Create default WarmupProperties with sensible defaults and validation
+     */
+    public WarmupProperties {
+        if (enabled == null) {
+            enabled = false;
+        }
+        if (deadline == null) {
+            deadline = Duration.ofSeconds(30);
+        }
+        if (retryInterval == null) {
+            retryInterval = Duration.ofSeconds(10);
+        }
+        criticalSources = criticalSources != null ? List.copyOf(criticalSources) : List.of();
+
+        if (deadline.isNegative() || deadline.isZero()) {
+            throw new IllegalArgumentException("Warmup deadline must be positive, got: " + deadline);
+        }
+        if (retryInterval.isNegative() || retryInterval.isZero()) {
+            throw new IllegalArgumentException("Warmup retry interval must be positive, got: " + retryInterval);
+        }
+    }
+
+    /**
+     * Properties with every value defaulted
+     */
+    public static WarmupProperties defaults() {
+        return new WarmupProperties(null, null, null, null);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
@@ -33,7 +33,13 @@ public record YouTubeProperties(
          * Must be non-blank, default: "dvaas-youtube-mcp"
          */
         @NotBlank(message = "YouTube application name must not be blank")
-        String applicationName
+        String applicationName,
+
+        /**
+         * Root URL of the YouTube Data API, ending with a slash
+         * Default: "https://youtube.googleapis.com/"
+         */
+        String rootUrl
 
 ) {
 
@@ -45,6 +51,12 @@ public record YouTubeProperties(
             applicationName = "dvaas-youtube-mcp";
         }
 
+        if (rootUrl == null || rootUrl.trim().isEmpty()) {
+            rootUrl = "https://youtube.googleapis.com/";
+        } else if (!rootUrl.endsWith("/")) {
+            rootUrl = rootUrl + "/";
+        }
+
         // Additional validation for API key format (should be reasonable length)
         if (apiKey != null && (apiKey.length() < 10 || apiKey.length() > 100)) {
             throw new IllegalArgumentException("YouTube API key length seems invalid. Expected 10-100 characters, got: " + apiKey.length());
@@ -0,0 +1,162 @@
+package dev.danvega.dvaas.enrichment;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Case-insensitive Aho-Corasick automaton over a fixed set of terms. The automaton is compiled once
+ * into a dense transition table, so scanning a document is a single left-to-right pass with one
+ * table lookup per character, independent of the number of terms.
+ * Matching is substring based: "ai" matches inside "maintain", like {@link String#contains}.
+ */
+public final class AhoCorasickMatcher {
+
+    /**
+     * Receives every match in text order; {@code end} is the exclusive end offset in the scanned text
+     */
+    @FunctionalInterface
+    public interface MatchListener {
+        void onMatch(int termIndex, int end);
+    }
+
+    private final List<String> terms;
+    /** Alphabet index for ASCII characters with case folded in, 0 meaning "not in any term" */
+    private final int[] asciiClass = new int[128];
+    /** Alphabet index for non-ASCII characters that occur in terms */
+    private final Map<Character, Integer> otherClass = new HashMap<>();
+    private final int alphabetSize;
+    /** transitions[state * alphabetSize + class] -> next state, with failure links already folded in */
+    private final int[] transitions;
+    /** Term indexes recognised on entering each state, including those inherited via failure links */
+    private final int[][] outputs;
+
+    public AhoCorasickMatcher(List<String> terms) {
+        this.terms = terms.stream().map(term -> term.toLowerCase(Locale.ROOT)).toList();
+
+        int nextClass = 1;
+        for (String term : this.terms) {
+            if (term.isEmpty()) {
+                throw new IllegalArgumentException("Matcher terms must not be empty");
+            }
+            for (char c : term.toCharArray()) {
+                if (c < 128) {
+                    if (asciiClass[c] == 0) {
+                        asciiClass[c] = nextClass;
+                        asciiClass[Character.toUpperCase(c)] = nextClass;
+                        nextClass++;
+                    }
+                } else if (!otherClass.containsKey(c)) {
+                    otherClass.put(c, nextClass++);
+                }
+            }
+        }
+        this.alphabetSize = nextClass;
+
+        // Build the trie
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> trieOutputs = new ArrayList<>();
+        trie.add(new int[alphabetSize]);
+        trieOutputs.add(new ArrayList<>());
+        for (int index = 0; index < this.terms.size(); index++) {
+            int state = 0;
+            for (char c : this.terms.get(index).toCharArray()) {
+                int charClass = classOf(c);
+                if (trie.get(state)[charClass] == 0) {
+                    trie.get(state)[charClass] = trie.size();
+                    trie.add(new int[alphabetSize]);
+                    trieOutputs.add(new ArrayList<>());
+                }
+                state = trie.get(state)[charClass];
+            }
+            trieOutputs.get(state).add(index);
+        }
+
+        // Breadth-first pass: compute failure links and fold them into a complete transition table
+        int states = trie.size();
+        this.transitions = new int[states * alphabetSize];
+        this.outputs = new int[states][];
+        int[] failure = new int[states];
+        Queue<Integer> queue = new ArrayDeque<>();
+
+        outputs[0] = new int[0];
+        for (int charClass = 0; charClass < alphabetSize; charClass++) {
+            int child = trie.get(0)[charClass];
+            transitions[charClass] = child;
+            if (child != 0) {
+                queue.add(child);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            List<Integer> own = trieOutputs.get(state);
+            int[] inherited = outputs[failure[state]];
+            int[] merged = Arrays.copyOf(inherited, inherited.length + own.size());
+            for (int i = 0; i < own.size(); i++) {
+                merged[inherited.length + i] = own.get(i);
+            }
+            outputs[state] = merged;
+
+            for (int charClass = 0; charClass < alphabetSize; charClass++) {
+                int child = trie.get(state)[charClass];
+                int fallback = transitions[failure[state] * alphabetSize + charClass];
+                if (child != 0) {
+                    failure[child] = fallback;
+                    transitions[state * alphabetSize + charClass] = child;
+                    queue.add(child);
+                } else {
+                    transitions[state * alphabetSize + charClass] = fallback;
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return terms.size();
+    }
+
+    public String term(int index) {
+        return terms.get(index);
+    }
+
+    /**
+     * Report every occurrence of every term in {@code text}
+     */
+    public void scan(CharSequence text, MatchListener listener) {
+        int state = 0;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            state = transitions[state * alphabetSize + classOf(text.charAt(i))];
+            for (int termIndex : outputs[state]) {
+                listener.onMatch(termIndex, i + 1);
+            }
+        }
+    }
+
+    /**
+     * Indexes of the terms that occur at least once in {@code text}
+     */
+    public BitSet matchedTerms(CharSequence text) {
+        BitSet matched = new BitSet(terms.size());
+        scan(text, (termIndex, end) -> matched.set(termIndex));
+        return matched;
+    }
+
+    private int classOf(char c) {
+        if (c < 128) {
+            return asciiClass[c];
+        }
+        char lower = Character.toLowerCase(c);
+        if (lower < 128) {
+            return asciiClass[lower];
+        }
+        Integer charClass = otherClass.get(lower);
+        return charClass != null ? charClass : 0;
+    }
+}
@@ -0,0 +1,106 @@
+package dev.danvega.dvaas.enrichment;
+
+import dev.danvega.dvaas.config.EnrichmentProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Ingest enrichment stage shared by the content sources. A single {@link AhoCorasickMatcher} holds the
+ * configured tag taxonomy plus the YouTube link prefixes, so tags and the video link of a document are
+ * extracted in one pass over its text.
+ */
+@Component
+public class ContentEnricher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentEnricher.class);
+
+    /** YouTube link prefixes in preference order; the video id follows each prefix */
+    private static final List<String> YOUTUBE_PREFIXES = List.of(
+            "https://www.youtube.com/watch?v=",
+            "https://youtu.be/",
+            "youtube.com/embed/"
+    );
+
+    private final List<String> tags;
+    private final AhoCorasickMatcher matcher;
+
+    /**
+     * Tags found in a document, in taxonomy order, and its first YouTube link (or null)
+     */
+    public record Enrichment(List<String> tags, String youtubeUrl) {
+    }
+
+    public ContentEnricher(EnrichmentProperties enrichmentProperties) {
+        this.tags = enrichmentProperties.tags();
+        List<String> terms = new ArrayList<>(tags.size() + YOUTUBE_PREFIXES.size());
+        terms.addAll(tags);
+        terms.addAll(YOUTUBE_PREFIXES);
+        this.matcher = new AhoCorasickMatcher(terms);
+        logger.info("Content enricher initialized with {} tags", tags.size());
+    }
+
+    /**
+     * Extract tags and a YouTube link from the given fields of one document. Null fields are ignored.
+     */
+    public Enrichment enrich(String... fields) {
+        BitSet matchedTags = new BitSet(tags.size());
+        String[] links = new String[YOUTUBE_PREFIXES.size()];
+
+        for (String field : fields) {
+            if (field == null) {
+                continue;
+            }
+            matcher.scan(field, (termIndex, end) -> {
+                if (termIndex < tags.size()) {
+                    matchedTags.set(termIndex);
+                    return;
+                }
+                int prefix = termIndex - tags.size();
+                if (links[prefix] == null) {
+                    links[prefix] = readLink(field, end - YOUTUBE_PREFIXES.get(prefix).length(), end);
+                }
+            });
+        }
+
+        List<String> foundTags = new ArrayList<>(matchedTags.cardinality());
+        matchedTags.stream().forEach(index -> foundTags.add(tags.get(index)));
+
+        String youtubeUrl = null;
+        for (String link : links) {
+            if (link != null) {
+                youtubeUrl = link;
+                break;
+            }
+        }
+
+        return new Enrichment(foundTags, youtubeUrl);
+    }
+
+    /**
+     * Tags only, for callers that don't need links
+     */
+    public List<String> extractTags(String... fields) {
+        return enrich(fields).tags();
+    }
+
+    /**
+     * The link from {@code start} through the video id that follows the prefix ending at {@code idStart},
+     * or null when no id follows
+     */
+    private static String readLink(String text, int start, int idStart) {
+        int end = idStart;
+        while (end < text.length() && isVideoIdChar(text.charAt(end))) {
+            end++;
+        }
+        return end > idStart ? text.substring(start, end) : null;
+    }
+
+    private static boolean isVideoIdChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '-';
+    }
+}
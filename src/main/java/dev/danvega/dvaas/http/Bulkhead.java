@@ -0,0 +1,88 @@
+package dev.danvega.dvaas.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the requests in flight to one upstream source. A slow upstream can only tie up its own
+ * permits, so callers of the other sources never queue behind it. A caller that gets no permit
+ * within the configured wait fails with {@link BulkheadFullException} instead of piling up.
+ */
+public class Bulkhead {
+
+    private final String source;
+    private final int maxConcurrent;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final Counter rejected;
+
+    Bulkhead(String source, int maxConcurrent, Duration maxWait, MeterRegistry meterRegistry) {
+        this.source = source;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(maxConcurrent, true);
+        Gauge.builder("dvaas.upstream.bulkhead.active", this, Bulkhead::active)
+                .description("Requests in flight to an upstream source")
+                .tag("source", source)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("dvaas.upstream.bulkhead.rejected")
+                .description("Requests refused because the upstream source had no free permit")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Wait for a permit, parking the calling thread for at most the configured wait
+     */
+    Permit acquire() throws BulkheadFullException, InterruptedException {
+        if (!permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+            rejected.increment();
+            throw new BulkheadFullException(source, maxConcurrent, maxWait);
+        }
+        return new Permit();
+    }
+
+    /**
+     * Like {@link #acquire()}, but when no permit is free the wait happens on {@code waitOn}
+     * rather than on the subscribing thread
+     */
+    Mono<Permit> acquireAsync(Scheduler waitOn) {
+        return Mono.defer(() -> permits.tryAcquire()
+                ? Mono.just(new Permit())
+                : Mono.fromCallable(this::acquire).subscribeOn(waitOn).doOnDiscard(Permit.class, Permit::close));
+    }
+
+    /**
+     * Permits currently held
+     */
+    public int active() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * A held permit; closing it more than once releases it only once
+     */
+    final class Permit implements AutoCloseable {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
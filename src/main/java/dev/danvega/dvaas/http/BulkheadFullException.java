@@ -0,0 +1,23 @@
+package dev.danvega.dvaas.http;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Thrown when an upstream source already has its maximum number of requests in flight. It is an
+ * {@link IOException} so callers treat it like the upstream being unavailable, e.g. by serving
+ * cached data.
+ */
+public class BulkheadFullException extends IOException {
+
+    private final String source;
+
+    public BulkheadFullException(String source, int maxConcurrent, Duration waited) {
+        super("Upstream " + source + " already has " + maxConcurrent + " requests in flight; no permit within " + waited);
+        this.source = source;
+    }
+
+    public String source() {
+        return source;
+    }
+}
@@ -0,0 +1,206 @@
+package dev.danvega.dvaas.http;
+
+import dev.danvega.dvaas.config.HttpClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+
+import java.net.http.HttpRequest;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Stops calling an upstream source that keeps failing or answering slowly. The outcomes of its last
+ * requests are kept in a sliding window; once the share of failures (I/O errors, 5xx and 429
+ * responses, and responses slower than the slow-call threshold) reaches the configured rate, the
+ * breaker opens. While open, every request fails at once with {@link CircuitOpenException}, so
+ * callers serve their cached data instead of waiting for the upstream.
+ * <p>
+ * After the open duration the breaker half-opens and probes the source in the background by
+ * replaying the last GET request it saw; callers keep failing fast meanwhile. A healthy probe closes
+ * the breaker, anything else opens it for another period. A source that has only seen other requests
+ * lets the next caller through as the probe instead; if that caller never gets an answer, because its
+ * bulkhead was full or it was cancelled, the one after it gets the trial.
+ */
+public class CircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String source;
+    private final HttpClientProperties properties;
+    /** Sends a request outside the breaker and emits whether the response was healthy */
+    private final Function<HttpRequest, Mono<Boolean>> probe;
+    private final Counter rejected;
+    /** Outcomes of the last requests, true for a failure; guarded by this */
+    private final boolean[] window;
+    private int calls;
+    private int failures;
+    private int next;
+    private volatile State state = State.CLOSED;
+    private volatile HttpRequest lastRequest;
+    /** Taken by the caller whose request probes a half-open breaker without a request to replay */
+    private final AtomicBoolean trialCall = new AtomicBoolean();
+    private Disposable pendingProbe = Disposables.disposed();
+
+    CircuitBreaker(String source, HttpClientProperties properties, Function<HttpRequest, Mono<Boolean>> probe,
+                   MeterRegistry meterRegistry) {
+        this.source = source;
+        this.properties = properties;
+        this.probe = probe;
+        this.window = new boolean[properties.circuitWindowSize()];
+        Gauge.builder("dvaas.upstream.circuit.state", this, breaker -> breaker.state.ordinal())
+                .description("Circuit breaker state of an upstream source: 0 closed, 1 open, 2 half-open")
+                .tag("source", source)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("dvaas.upstream.circuit.rejected")
+                .description("Requests refused because the circuit breaker of the upstream source was open")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Let a request through, remembering it as the one to replay when probing
+     *
+     * @return whether the request is the half-open trial, which the caller must either {@link #record}
+     *         or give back with {@link #releaseTrial}
+     * @throws CircuitOpenException unless the breaker is closed or the request is a half-open trial
+     */
+    boolean acquirePermission(HttpRequest request) throws CircuitOpenException {
+        State current = state;
+        if (current == State.CLOSED) {
+            if (request != null && request.method().equals("GET")) {
+                lastRequest = request;
+            }
+            return false;
+        }
+        if (current == State.HALF_OPEN && lastRequest == null && trialCall.compareAndSet(false, true)) {
+            return true;
+        }
+        rejected.increment();
+        throw new CircuitOpenException(source, current);
+    }
+
+    /**
+     * Record the outcome of a request that was let through
+     *
+     * @param failed whether the upstream failed to answer properly, regardless of how long it took
+     */
+    synchronized void record(boolean failed, long elapsedNanos) {
+        boolean failure = failed || isSlow(elapsedNanos);
+        switch (state) {
+            case OPEN -> {
+                // Sent before the breaker opened
+            }
+            case HALF_OPEN -> {
+                if (trialCall.compareAndSet(true, false)) {
+                    settleProbe(!failure);
+                }
+            }
+            case CLOSED -> {
+                if (calls == window.length && window[next]) {
+                    failures--;
+                }
+                window[next] = failure;
+                next = (next + 1) % window.length;
+                calls = Math.min(calls + 1, window.length);
+                if (failure) {
+                    failures++;
+                }
+                if (calls >= properties.circuitMinimumCalls() && failures >= properties.circuitFailureRate() * calls) {
+                    logger.warn("Circuit breaker for {} opened after {} of the last {} requests failed, probing again in {}",
+                            source, failures, calls, properties.circuitOpenDuration());
+                    open();
+                }
+            }
+        }
+    }
+
+    /**
+     * Give back the half-open trial of a request that ended without an outcome, e.g. refused by its
+     * bulkhead or cancelled before a response, so the next caller probes instead. Does nothing once
+     * the trial has been recorded.
+     */
+    void releaseTrial() {
+        trialCall.set(false);
+    }
+
+    public State state() {
+        return state;
+    }
+
+    /**
+     * Close the breaker and forget the recorded outcomes, cancelling a pending probe
+     */
+    synchronized void reset() {
+        pendingProbe.dispose();
+        state = State.CLOSED;
+        trialCall.set(false);
+        clearWindow();
+    }
+
+    private boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= properties.circuitSlowCall().toNanos();
+    }
+
+    private void open() {
+        state = State.OPEN;
+        clearWindow();
+        pendingProbe.dispose();
+        pendingProbe = Mono.delay(properties.circuitOpenDuration()).subscribe(tick -> halfOpen());
+    }
+
+    private void halfOpen() {
+        HttpRequest request;
+        synchronized (this) {
+            if (state != State.OPEN) {
+                return;
+            }
+            state = State.HALF_OPEN;
+            request = lastRequest;
+        }
+        if (request == null) {
+            logger.info("Circuit breaker for {} half-open, letting the next request through", source);
+            return;
+        }
+        long start = System.nanoTime();
+        probe.apply(request)
+                .map(healthy -> healthy && !isSlow(System.nanoTime() - start))
+                .onErrorReturn(false)
+                .subscribe(healthy -> {
+                    synchronized (this) {
+                        if (state == State.HALF_OPEN) {
+                            settleProbe(healthy);
+                        }
+                    }
+                });
+    }
+
+    private void settleProbe(boolean healthy) {
+        if (healthy) {
+            logger.info("Circuit breaker for {} closed, the upstream answered a probe", source);
+            state = State.CLOSED;
+            clearWindow();
+        } else {
+            logger.warn("Circuit breaker for {} stays open, the probe failed; probing again in {}",
+                    source, properties.circuitOpenDuration());
+            open();
+        }
+    }
+
+    private void clearWindow() {
+        Arrays.fill(window, false);
+        calls = 0;
+        failures = 0;
+        next = 0;
+    }
+}
@@ -0,0 +1,22 @@
+package dev.danvega.dvaas.http;
+
+import java.io.IOException;
+
+/**
+ * Thrown instead of calling an upstream source whose circuit breaker is open. It is an
+ * {@link IOException} so callers treat it like the upstream being unavailable, e.g. by serving
+ * cached data.
+ */
+public class CircuitOpenException extends IOException {
+
+    private final String source;
+
+    public CircuitOpenException(String source, CircuitBreaker.State state) {
+        super("Upstream " + source + " is failing; circuit breaker is " + state.name().toLowerCase().replace('_', '-'));
+        this.source = source;
+    }
+
+    public String source() {
+        return source;
+    }
+}
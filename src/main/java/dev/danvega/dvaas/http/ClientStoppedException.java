@@ -0,0 +1,22 @@
+package dev.danvega.dvaas.http;
+
+import java.io.IOException;
+
+/**
+ * Thrown instead of sending a request while the outbound HTTP client is stopped, e.g. around a CRaC
+ * checkpoint. It is an {@link IOException} so callers treat it like the upstream being unavailable,
+ * e.g. by serving cached data.
+ */
+public class ClientStoppedException extends IOException {
+
+    private final String source;
+
+    public ClientStoppedException(String source) {
+        super("Outbound HTTP client is stopped; not sending to upstream " + source);
+        this.source = source;
+    }
+
+    public String source() {
+        return source;
+    }
+}
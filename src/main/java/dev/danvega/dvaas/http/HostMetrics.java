@@ -0,0 +1,70 @@
+package dev.danvega.dvaas.http;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running request counters for one upstream host, published as {@code dvaas.upstream.host.*} meters
+ * tagged by host
+ */
+public class HostMetrics {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder compressedResponses = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Point-in-time view of a host's counters
+     */
+    public record Snapshot(long requests, long failures, long compressedResponses,
+                           Duration averageLatency, Duration maxLatency) {
+    }
+
+    HostMetrics(String host, MeterRegistry meterRegistry) {
+        FunctionTimer.builder("dvaas.upstream.host.requests", this,
+                        metrics -> metrics.requests.sum(), metrics -> metrics.totalLatencyNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("Outbound requests to an upstream host")
+                .tag("host", host)
+                .register(meterRegistry);
+        FunctionCounter.builder("dvaas.upstream.host.failures", this, metrics -> metrics.failures.sum())
+                .description("Outbound requests to an upstream host that failed or got a 4xx or 5xx response")
+                .tag("host", host)
+                .register(meterRegistry);
+        FunctionCounter.builder("dvaas.upstream.host.compressed", this, metrics -> metrics.compressedResponses.sum())
+                .description("Responses from an upstream host that arrived compressed")
+                .tag("host", host)
+                .register(meterRegistry);
+        TimeGauge.builder("dvaas.upstream.host.latency.max", this, TimeUnit.NANOSECONDS, metrics -> metrics.maxLatencyNanos.get())
+                .description("Slowest request to an upstream host since startup")
+                .tag("host", host)
+                .register(meterRegistry);
+    }
+
+    void record(long latencyNanos, boolean failed, boolean compressed) {
+        requests.increment();
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulate(latencyNanos);
+        if (failed) {
+            failures.increment();
+        }
+        if (compressed) {
+            compressedResponses.increment();
+        }
+    }
+
+    public Snapshot snapshot() {
+        long count = requests.sum();
+        long average = count > 0 ? totalLatencyNanos.sum() / count : 0L;
+        return new Snapshot(count, failures.sum(), compressedResponses.sum(),
+                Duration.ofNanos(average), Duration.ofNanos(maxLatencyNanos.get()));
+    }
+}
@@ -0,0 +1,172 @@
+package dev.danvega.dvaas.http;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Google API client {@link HttpTransport} that sends through {@link OutboundHttpClient}, so the
+ * YouTube Data API shares the same connection pool, timeouts, compression and metrics as the other sources.
+ * Responses are handed to the Google client already decompressed.
+ */
+public class JdkHttpTransport extends HttpTransport {
+
+    /** Headers the JDK client manages itself and rejects when set explicitly */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("content-length", "connection", "expect", "host", "upgrade");
+
+    private final OutboundHttpClient client;
+    private final String source;
+
+    JdkHttpTransport(OutboundHttpClient client, String source) {
+        this.client = client;
+        this.source = source;
+    }
+
+    @Override
+    public boolean supportsMethod(String method) {
+        return true;
+    }
+
+    @Override
+    protected LowLevelHttpRequest buildRequest(String method, String url) {
+        return new JdkLowLevelRequest(method, client.newRequest(url));
+    }
+
+    private final class JdkLowLevelRequest extends LowLevelHttpRequest {
+
+        private final String method;
+        private final HttpRequest.Builder builder;
+
+        JdkLowLevelRequest(String method, HttpRequest.Builder builder) {
+            this.method = method;
+            this.builder = builder;
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (!RESTRICTED_HEADERS.contains(name.toLowerCase())) {
+                builder.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void setTimeout(int connectTimeout, int readTimeout) {
+            // Connect timeout is fixed on the shared client; only the per-request read timeout applies
+            if (readTimeout > 0) {
+                builder.timeout(Duration.ofMillis(readTimeout));
+            }
+        }
+
+        @Override
+        public LowLevelHttpResponse execute() throws IOException {
+            HttpRequest.BodyPublisher publisher = HttpRequest.BodyPublishers.noBody();
+            if (getStreamingContent() != null) {
+                ByteArrayOutputStream content = new ByteArrayOutputStream();
+                getStreamingContent().writeTo(content);
+                publisher = HttpRequest.BodyPublishers.ofByteArray(content.toByteArray());
+                if (getContentType() != null) {
+                    builder.setHeader("Content-Type", getContentType());
+                }
+                if (getContentEncoding() != null) {
+                    builder.setHeader("Content-Encoding", getContentEncoding());
+                }
+            }
+            builder.method(method, publisher);
+
+            try {
+                return new JdkLowLevelResponse(client.send(source, builder.build()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while calling " + method + " " + builder.build().uri());
+            }
+        }
+    }
+
+    private static final class JdkLowLevelResponse extends LowLevelHttpResponse {
+
+        private final HttpResponse<InputStream> response;
+        private final List<String> headerNames = new ArrayList<>();
+        private final List<String> headerValues = new ArrayList<>();
+
+        JdkLowLevelResponse(HttpResponse<InputStream> response) {
+            this.response = response;
+            for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+                for (String value : header.getValue()) {
+                    headerNames.add(header.getKey());
+                    headerValues.add(value);
+                }
+            }
+        }
+
+        @Override
+        public InputStream getContent() {
+            return response.body();
+        }
+
+        @Override
+        public String getContentEncoding() {
+            // OutboundHttpClient has already decoded the body
+            return null;
+        }
+
+        @Override
+        public long getContentLength() {
+            if (response.headers().firstValue("Content-Encoding").isPresent()) {
+                return -1;
+            }
+            return response.headers().firstValueAsLong("Content-Length").orElse(-1);
+        }
+
+        @Override
+        public String getContentType() {
+            return response.headers().firstValue("Content-Type").orElse(null);
+        }
+
+        @Override
+        public String getStatusLine() {
+            return response.version() + " " + response.statusCode();
+        }
+
+        @Override
+        public int getStatusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public String getReasonPhrase() {
+            return null;
+        }
+
+        @Override
+        public int getHeaderCount() {
+            return headerNames.size();
+        }
+
+        @Override
+        public String getHeaderName(int index) {
+            return headerNames.get(index);
+        }
+
+        @Override
+        public String getHeaderValue(int index) {
+            return headerValues.get(index);
+        }
+
+        @Override
+        public void disconnect() throws IOException {
+            response.body().close();
+        }
+    }
+}
@@ -0,0 +1,680 @@
+package dev.danvega.dvaas.http;
+
+import dev.danvega.dvaas.config.HttpClientProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.net.ssl.SSLSession;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Shared outbound HTTP client for every upstream source. One JDK {@link HttpClient} (HTTP/2 with
+ * HTTP/1.1 fallback, pooled connections, virtual-thread executor) is configured from
+ * {@link HttpClientProperties} and exposed as raw requests and a Google API transport, so every call
+ * shares the same pool, timeouts, compression and per-host metrics ({@link HostMetrics}). Each call is
+ * also timed as {@code dvaas.upstream.requests}, tagged by source, HTTP status and whether it fetched
+ * the first or a later page, and observed as {@code dvaas.upstream} so it shows up as a stage of the
+ * tool call or cache refresh that triggered it.
+ * <p>
+ * The read timeout bounds the wait for response headers and, separately, reading the body, so an
+ * upstream that stops sending mid-body fails the read with an {@link HttpTimeoutException} and counts
+ * as a failed call for its circuit breaker.
+ * <p>
+ * Every source has its own {@link Bulkhead}, held from sending a request until its body is closed,
+ * so a slow upstream only exhausts its own slots, and its own {@link CircuitBreaker}, which fails
+ * requests at once while the upstream keeps failing or answering slowly.
+ * <p>
+ * {@link #sendAsync} sends without holding a thread while the upstream responds and streams the body
+ * like {@link #send}; its observation is parented to the one in the subscriber's Reactor context,
+ * where reactive callers put it. When its source has no free slot, the wait for one happens on a
+ * virtual thread.
+ * <p>
+ * The JDK client is opened on the first request, since building it loads the default TLS context
+ * and its trust store. Stopping the client as a {@link SmartLifecycle}, as Spring does before a CRaC
+ * checkpoint, closes it with its pooled connections, and the next request after starting again opens
+ * a new one. Requests and Google transports handed out before always use the current client. While
+ * stopped, requests fail with {@link ClientStoppedException} instead of opening a client. Stopping
+ * waits for requests that are already being sent through the client.
+ */
+@Component
+public class OutboundHttpClient implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboundHttpClient.class);
+    private static final String ACCEPT_ENCODING = "gzip, deflate";
+    /** Status recorded when no response was received */
+    private static final int STATUS_IO_ERROR = -1;
+    /** Started before and stopped after the web server, which serves the calls that use this client */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final HttpClientProperties properties;
+    private final ExecutorService executor;
+    /** Null until the first request and after {@link #stop()} */
+    private volatile HttpClient httpClient;
+    private volatile boolean running = true;
+    /** Read-locked while a request is handed to the client, write-locked to start and stop it */
+    private final ReadWriteLock lifecycle = new ReentrantReadWriteLock();
+    /** Waits for bulkhead permits of reactive callers on virtual threads */
+    private final Scheduler permitScheduler;
+    private final Map<String, HostMetrics> hostMetrics = new ConcurrentHashMap<>();
+    private final Map<RequestTimerKey, Timer> requestTimers = new ConcurrentHashMap<>();
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+
+    public OutboundHttpClient(HttpClientProperties properties, MeterRegistry meterRegistry,
+                              ObservationRegistry observationRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.observationRegistry = observationRegistry;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.permitScheduler = Schedulers.fromExecutorService(executor, "dvaas-upstream-permits");
+
+        logger.info("Outbound HTTP client configured (connect timeout: {}, read timeout: {}, compression: {}, max concurrent requests per source: {})",
+                properties.connectTimeout(), properties.readTimeout(), properties.isCompressionEnabled(),
+                properties.maxConcurrentRequests());
+    }
+
+    /**
+     * The current client, opened if needed. Returns with the lifecycle read lock held, which the
+     * caller releases once the request has been handed to the client.
+     *
+     * @throws ClientStoppedException when the client is stopped
+     */
+    private HttpClient lockClient(String source) throws ClientStoppedException {
+        lifecycle.readLock().lock();
+        if (!running) {
+            lifecycle.readLock().unlock();
+            throw new ClientStoppedException(source);
+        }
+        HttpClient client = httpClient;
+        return client != null ? client : open();
+    }
+
+    private void unlockClient() {
+        lifecycle.readLock().unlock();
+    }
+
+    /**
+     * Build the client; only called with the read lock held, so never while stopping
+     */
+    private synchronized HttpClient open() {
+        if (httpClient != null) {
+            return httpClient;
+        }
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.connectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+        this.httpClient = client;
+        logger.debug("Outbound HTTP client opened");
+        return client;
+    }
+
+    /**
+     * Let the next request open a new JDK client after {@link #stop()}
+     */
+    @Override
+    public void start() {
+        lifecycle.writeLock().lock();
+        try {
+            running = true;
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Close the JDK client and its connections, once requests in flight have completed, and close
+     * the circuit breakers
+     */
+    @Override
+    public void stop() {
+        lifecycle.writeLock().lock();
+        try {
+            running = false;
+            // An incident seen before a checkpoint says nothing about the upstreams at restore
+            circuitBreakers.values().forEach(CircuitBreaker::reset);
+            if (httpClient != null) {
+                httpClient.close();
+                httpClient = null;
+                logger.info("Outbound HTTP client closed");
+            }
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Whether the JDK client has been opened by a request since the last {@link #stop()}
+     */
+    boolean isOpen() {
+        return httpClient != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Start a GET request with the configured read timeout and compression negotiation applied
+     */
+    public HttpRequest.Builder newRequest(String url) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(properties.readTimeout())
+                .GET();
+        if (properties.isCompressionEnabled()) {
+            builder.header("Accept-Encoding", ACCEPT_ENCODING);
+        }
+        return builder;
+    }
+
+    /**
+     * Send a request and return the response with its body already decompressed.
+     * The caller owns the body stream and must close it, which also frees the source's bulkhead slot.
+     *
+     * @param source upstream source the request belongs to, used to tag its metrics
+     * @throws BulkheadFullException when the source has no free slot within the configured wait
+     * @throws CircuitOpenException when the source's circuit breaker is open
+     * @throws ClientStoppedException when the client is stopped
+     */
+    public HttpResponse<InputStream> send(String source, HttpRequest request) throws IOException, InterruptedException {
+        CircuitBreaker breaker = circuitBreaker(source);
+        boolean trial = breaker.acquirePermission(request);
+        try {
+            return sendPermitted(source, request);
+        } finally {
+            if (trial) {
+                // Hands the trial on if no outcome was recorded, e.g. when the bulkhead was full
+                breaker.releaseTrial();
+            }
+        }
+    }
+
+    private HttpResponse<InputStream> sendPermitted(String source, HttpRequest request) throws IOException, InterruptedException {
+        Bulkhead.Permit permit = bulkhead(source).acquire();
+        HttpClient client;
+        try {
+            client = lockClient(source);
+        } catch (ClientStoppedException e) {
+            permit.close();
+            throw e;
+        }
+        Observation observation = observe(source, request.uri(), null);
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException | InterruptedException e) {
+            permit.close();
+            observation.error(e);
+            record(source, request.uri(), start, STATUS_IO_ERROR, false, observation);
+            throw e;
+        } finally {
+            unlockClient();
+        }
+        return decoded(source, request, response, permit, start, observation);
+    }
+
+    /**
+     * Like {@link #send}, without blocking the subscribing thread while the upstream responds. The
+     * response is emitted once its headers have arrived, on a thread that may block, so the caller
+     * reads the body as a stream just like with {@link #send}; it owns the body and must close it,
+     * which also frees the source's bulkhead slot.
+     *
+     * @param source upstream source the request belongs to, used to tag its metrics
+     */
+    public Mono<HttpResponse<InputStream>> sendAsync(String source, HttpRequest request) {
+        return Mono.deferContextual(context -> {
+            CircuitBreaker breaker = circuitBreaker(source);
+            boolean trial;
+            try {
+                trial = breaker.acquirePermission(request);
+            } catch (CircuitOpenException e) {
+                return Mono.error(e);
+            }
+            Observation parent = context.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+            Mono<HttpResponse<InputStream>> response = bulkhead(source).acquireAsync(permitScheduler)
+                    .flatMap(permit -> exchange(source, request, parent, permit));
+            if (!trial) {
+                return response;
+            }
+            // Hands the trial on if no outcome was recorded, e.g. when the bulkhead was full or on cancel,
+            // before the error reaches the caller
+            return response.doOnError(e -> breaker.releaseTrial()).doOnCancel(breaker::releaseTrial);
+        });
+    }
+
+    /**
+     * Send a request holding {@code permit}, which is handed on to the body of the response or
+     * closed if there is none
+     */
+    private Mono<HttpResponse<InputStream>> exchange(String source, HttpRequest request, Observation parent,
+                                                     Bulkhead.Permit permit) {
+        HttpClient client;
+        try {
+            client = lockClient(source);
+        } catch (ClientStoppedException e) {
+            permit.close();
+            return Mono.error(e);
+        }
+        Observation observation = observe(source, request.uri(), parent);
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<InputStream>> sent;
+        try {
+            sent = client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+        } finally {
+            unlockClient();
+        }
+        Duration timeout = request.timeout().orElse(properties.readTimeout());
+        return Mono.fromFuture(sent)
+                // Backs up the client's own timeout, cancelling the exchange if no headers arrived
+                .timeout(timeout, Mono.error(() -> new HttpTimeoutException("No response headers within " + timeout)))
+                .doOnError(e -> {
+                    permit.close();
+                    observation.error(e);
+                    record(source, request.uri(), start, STATUS_IO_ERROR, false, observation);
+                })
+                .doOnCancel(() -> {
+                    permit.close();
+                    observation.stop();
+                })
+                // The client completes responses on the common pool, which must not block on the body
+                .publishOn(Schedulers.boundedElastic())
+                .<HttpResponse<InputStream>>handle((response, sink) -> {
+                    try {
+                        sink.next(decoded(source, request, response, permit, start, observation));
+                    } catch (IOException e) {
+                        sink.error(e);
+                    }
+                })
+                .doOnDiscard(HttpResponse.class, OutboundHttpClient::discard);
+    }
+
+    /**
+     * Record a response whose headers have arrived and wrap its body, so that closing it frees
+     * {@code permit}, reads it decompressed and fails once it has not been read within the read timeout
+     */
+    private HttpResponse<InputStream> decoded(String source, HttpRequest request, HttpResponse<InputStream> response,
+                                              Bulkhead.Permit permit, long start, Observation observation) throws IOException {
+        String encoding = response.headers().firstValue("Content-Encoding").orElse(null);
+        record(source, request.uri(), start, response.statusCode(), encoding != null, observation);
+
+        InputStream body = new PermitReleasingInputStream(new DeadlineInputStream(response.body(), properties.readTimeout(),
+                () -> expired(source, request.uri(), start)), permit);
+        try {
+            return new DecodedResponse(response, encoding == null ? body : decode(encoding, body));
+        } catch (IOException e) {
+            permit.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Count a body that stalled past its deadline as a failed call, since its headers were recorded
+     * as a success
+     */
+    private void expired(String source, URI uri, long start) {
+        logger.warn("{} {} did not send its whole response body within {}", uri.getHost(), uri.getPath(),
+                properties.readTimeout());
+        circuitBreaker(source).record(true, System.nanoTime() - start);
+    }
+
+    /**
+     * Close the body of a response that was emitted after its subscriber had gone
+     */
+    private static void discard(HttpResponse<?> response) {
+        if (response.body() instanceof InputStream body) {
+            try {
+                body.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close a discarded response body", e);
+            }
+        }
+    }
+
+    /**
+     * A Google API client transport that routes through the shared client
+     */
+    public JdkHttpTransport googleTransport(String source) {
+        return new JdkHttpTransport(this, source);
+    }
+
+    /**
+     * Bulkhead of a source, created on its first request
+     */
+    public Bulkhead bulkhead(String source) {
+        return bulkheads.computeIfAbsent(source, name -> new Bulkhead(name, properties.maxConcurrentRequests(name),
+                properties.bulkheadWait(), meterRegistry));
+    }
+
+    /**
+     * Circuit breaker of a source, created on its first request
+     */
+    public CircuitBreaker circuitBreaker(String source) {
+        return circuitBreakers.computeIfAbsent(source, name -> new CircuitBreaker(name, properties,
+                request -> probe(name, request), meterRegistry));
+    }
+
+    /**
+     * Send a circuit breaker's probe past the breaker and the bulkhead, discarding the body
+     *
+     * @return whether the upstream answered without failing
+     */
+    private Mono<Boolean> probe(String source, HttpRequest request) {
+        return Mono.defer(() -> {
+            HttpClient client;
+            try {
+                client = lockClient(source);
+            } catch (ClientStoppedException e) {
+                return Mono.error(e);
+            }
+            try {
+                return Mono.fromFuture(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+            } finally {
+                unlockClient();
+            }
+        }).map(response -> !isUpstreamFailure(response.statusCode()));
+    }
+
+    /**
+     * Whether a status means the upstream is failing rather than rejecting this particular request
+     */
+    static boolean isUpstreamFailure(int status) {
+        return status == STATUS_IO_ERROR || status >= 500 || status == 429;
+    }
+
+    /**
+     * Current per-host counters, keyed by host name
+     */
+    Map<String, HostMetrics.Snapshot> hostMetrics() {
+        Map<String, HostMetrics.Snapshot> snapshot = new TreeMap<>();
+        hostMetrics.forEach((host, metrics) -> snapshot.put(host, metrics.snapshot()));
+        return snapshot;
+    }
+
+    @PreDestroy
+    public void close() {
+        stop();
+        permitScheduler.dispose();
+        executor.close();
+    }
+
+    /**
+     * Start the observation of a request; the path is kept but not the query, which may carry API keys
+     *
+     * @param parent parent observation, or null for the current one
+     */
+    private Observation observe(String source, URI uri, Observation parent) {
+        Observation observation = Observation.createNotStarted("dvaas.upstream", observationRegistry)
+                .lowCardinalityKeyValue("source", source)
+                .lowCardinalityKeyValue("page", page(uri))
+                .highCardinalityKeyValue("host", String.valueOf(uri.getHost()))
+                .highCardinalityKeyValue("path", String.valueOf(uri.getPath()));
+        if (parent != null) {
+            observation.parentObservation(parent);
+        }
+        return observation.start();
+    }
+
+    private void record(String source, URI uri, long startNanos, int status, boolean compressed,
+                        Observation observation) {
+        long elapsed = System.nanoTime() - startNanos;
+        boolean failed = status == STATUS_IO_ERROR || status >= 400;
+        String statusTag = status == STATUS_IO_ERROR ? "IO_ERROR" : String.valueOf(status);
+        observation.lowCardinalityKeyValue("status", statusTag).stop();
+        String host = uri.getHost() != null ? uri.getHost() : "unknown";
+        hostMetrics.computeIfAbsent(host, h -> new HostMetrics(h, meterRegistry)).record(elapsed, failed, compressed);
+        circuitBreaker(source).record(isUpstreamFailure(status), elapsed);
+        requestTimers.computeIfAbsent(new RequestTimerKey(source, statusTag, page(uri)), key -> Timer.builder("dvaas.upstream.requests")
+                        .description("Outbound requests to upstream sources")
+                        .tag("source", key.source())
+                        .tag("status", key.status())
+                        .tag("page", key.page())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        logger.debug("{} {} in {} ms{}", host, uri.getPath(), elapsed / 1_000_000, failed ? " (failed)" : "");
+    }
+
+    private static String page(URI uri) {
+        return isFollowingPage(uri) ? "next" : "first";
+    }
+
+    /**
+     * Whether the request asks for a page after the first: Beehiiv {@code page}, Transistor
+     * {@code pagination[page]} or a YouTube {@code pageToken}
+     */
+    static boolean isFollowingPage(URI uri) {
+        String query = uri.getQuery();
+        if (query == null) {
+            return false;
+        }
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            if (separator < 0) {
+                continue;
+            }
+            String name = parameter.substring(0, separator);
+            String value = parameter.substring(separator + 1);
+            switch (name) {
+                case "pageToken":
+                    return !value.isEmpty();
+                case "page", "pagination[page]":
+                    return !value.isEmpty() && !value.equals("1");
+                default:
+                    break;
+            }
+        }
+        return false;
+    }
+
+    private static InputStream decode(String encoding, InputStream body) throws IOException {
+        return switch (encoding.trim().toLowerCase()) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(body, 8192);
+            case "deflate" -> new InflaterInputStream(body, new Inflater(), 8192);
+            case "identity" -> body;
+            default -> {
+                body.close();
+                throw new IOException("Unsupported Content-Encoding: " + encoding);
+            }
+        };
+    }
+
+    /**
+     * Response body that gives the bulkhead slot back once the caller is done with it
+     */
+    private static final class PermitReleasingInputStream extends FilterInputStream {
+
+        private final Bulkhead.Permit permit;
+
+        PermitReleasingInputStream(InputStream body, Bulkhead.Permit permit) {
+            super(body);
+            this.permit = permit;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                permit.close();
+            }
+        }
+    }
+
+    /**
+     * Response body that closes the connection's stream once it has not been read to the end within
+     * its timeout, waking a reader blocked on an upstream that stopped sending mid-body
+     */
+    private static final class DeadlineInputStream extends FilterInputStream {
+
+        private final Duration timeout;
+        private final Disposable deadline;
+        /** Set once the body was read to the end, closed or expired, whichever came first */
+        private final AtomicBoolean settled = new AtomicBoolean();
+        private volatile boolean expired;
+
+        DeadlineInputStream(InputStream body, Duration timeout, Runnable onExpiry) {
+            super(body);
+            this.timeout = timeout;
+            this.deadline = Schedulers.parallel().schedule(() -> expire(onExpiry), timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        private void expire(Runnable onExpiry) {
+            if (!settled.compareAndSet(false, true)) {
+                return;
+            }
+            expired = true;
+            try {
+                in.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close an expired response body", e);
+            }
+            onExpiry.run();
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return settle(super.read());
+            } catch (IOException e) {
+                throw timedOut(e);
+            }
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            try {
+                return settle(super.read(bytes, offset, length));
+            } catch (IOException e) {
+                throw timedOut(e);
+            }
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            try {
+                return super.skip(n);
+            } catch (IOException e) {
+                throw timedOut(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            settled.set(true);
+            deadline.dispose();
+            super.close();
+        }
+
+        private int settle(int read) {
+            if (read < 0 && settled.compareAndSet(false, true)) {
+                deadline.dispose();
+            }
+            return read;
+        }
+
+        private IOException timedOut(IOException failure) {
+            if (!expired) {
+                return failure;
+            }
+            HttpTimeoutException timedOut = new HttpTimeoutException("Response body not read within " + timeout);
+            timedOut.initCause(failure);
+            return timedOut;
+        }
+    }
+
+    /**
+     * Tags of a {@code dvaas.upstream.requests} timer, so each timer is registered once
+     */
+    private record RequestTimerKey(String source, String status, String page) {
+    }
+
+    /**
+     * Response view whose body is the decompressed stream
+     */
+    private record DecodedResponse(HttpResponse<?> delegate, InputStream body)
+            implements HttpResponse<InputStream> {
+
+        @Override
+        public int statusCode() {
+            return delegate.statusCode();
+        }
+
+        @Override
+        public HttpRequest request() {
+            return delegate.request();
+        }
+
+        @Override
+        public Optional<HttpResponse<InputStream>> previousResponse() {
+            // Previous responses of a redirect chain never carry a body
+            return delegate.previousResponse().<HttpResponse<InputStream>>map(previous -> new DecodedResponse(previous, InputStream.nullInputStream()));
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return delegate.headers();
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return delegate.sslSession();
+        }
+
+        @Override
+        public URI uri() {
+            return delegate.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return delegate.version();
+        }
+    }
+}
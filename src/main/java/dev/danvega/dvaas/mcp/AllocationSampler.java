@@ -0,0 +1,150 @@
+package dev.danvega.dvaas.mcp;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Estimates the heap a call allocates on a virtual thread, which the JVM does not count per thread,
+ * from JFR {@code jdk.ObjectAllocationSample} events. Each sample carries the bytes its thread
+ * allocated since the previous sample, so the samples taken on the calling thread while the call ran
+ * add up to an estimate of its allocation. Samples are streamed about once a second, so a call is
+ * recorded {@link #SETTLE} after it ends, once its samples have arrived. The stream starts with the
+ * sampler, so its startup cost is not paid by the first call.
+ */
+class AllocationSampler implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AllocationSampler.class);
+
+    /** Sampling rate across the JVM; the default JFR profile takes 300 per second */
+    private static final String THROTTLE = "1000/s";
+    /** How long after a call ends its samples are assumed to have been streamed */
+    static final Duration SETTLE = Duration.ofSeconds(2);
+
+    /**
+     * A call in progress or waiting for its last samples; {@code bytes} is only touched by the stream thread
+     */
+    static final class Call {
+
+        final long threadId;
+        final Instant start;
+        final DistributionSummary summary;
+        volatile Instant end;
+        long bytes;
+
+        Call(long threadId, Instant start, DistributionSummary summary) {
+            this.threadId = threadId;
+            this.start = start;
+            this.summary = summary;
+        }
+
+        boolean covers(Instant time) {
+            Instant ended = end;
+            return !time.isBefore(start) && (ended == null || !time.isAfter(ended));
+        }
+    }
+
+    /** Calls by thread id; a thread's list is replaced, never changed, so the stream thread reads it unlocked */
+    private final Map<Long, List<Call>> calls = new ConcurrentHashMap<>();
+    /** Ended calls in the order they ended, waiting for {@link #SETTLE} */
+    private final Queue<Call> ended = new ConcurrentLinkedQueue<>();
+    private volatile RecordingStream stream;
+
+    AllocationSampler() {
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable("jdk.ObjectAllocationSample").with("throttle", THROTTLE);
+            recording.onEvent("jdk.ObjectAllocationSample", this::sampled);
+            recording.onFlush(this::settle);
+            recording.startAsync();
+            stream = recording;
+        } catch (RuntimeException e) {
+            logger.info("Allocation of MCP tool calls on virtual threads is not recorded: {}", e.toString());
+        }
+    }
+
+    /**
+     * Start attributing allocation samples of the current thread to a call, or return null when JFR
+     * is not available
+     */
+    Call begin(DistributionSummary summary) {
+        if (stream == null) {
+            return null;
+        }
+        Call call = new Call(Thread.currentThread().threadId(), Instant.now(), summary);
+        calls.compute(call.threadId, (id, current) -> {
+            List<Call> updated = current == null ? new ArrayList<>(1) : new ArrayList<>(current);
+            updated.add(call);
+            return List.copyOf(updated);
+        });
+        return call;
+    }
+
+    /**
+     * End a call started by {@link #begin}; it is recorded once its samples have arrived
+     */
+    void end(Call call) {
+        call.end = Instant.now();
+        ended.add(call);
+    }
+
+    private void sampled(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        if (thread == null) {
+            return;
+        }
+        List<Call> candidates = calls.get(thread.getJavaThreadId());
+        if (candidates == null) {
+            return;
+        }
+        Instant time = event.getStartTime();
+        for (Call call : candidates) {
+            if (call.covers(time)) {
+                call.bytes += event.getLong("weight");
+                return;
+            }
+        }
+    }
+
+    /**
+     * Record the calls that ended long enough ago for all their samples to have been streamed
+     */
+    private void settle() {
+        Instant cutoff = Instant.now().minus(SETTLE);
+        Call call;
+        while ((call = ended.peek()) != null && call.end.isBefore(cutoff)) {
+            ended.poll();
+            record(call);
+        }
+    }
+
+    private void record(Call call) {
+        call.summary.record(call.bytes);
+        calls.computeIfPresent(call.threadId, (id, current) -> {
+            List<Call> remaining = new ArrayList<>(current);
+            remaining.remove(call);
+            return remaining.isEmpty() ? null : List.copyOf(remaining);
+        });
+    }
+
+    @Override
+    public void close() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package dev.danvega.dvaas.mcp;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.modelcontextprotocol.server.McpServerFeatures.AsyncToolSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import jakarta.annotation.PreDestroy;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every MCP tool call as {@code dvaas.tool.calls}, tagged by tool and outcome, with a
+ * percentile histogram so per-tool latency distributions can be scraped. The bytes each call
+ * allocates on its thread are recorded as {@code dvaas.tool.allocated}: counted exactly on a platform
+ * thread, and estimated from JFR allocation samples on a virtual thread, which the JVM does not count
+ * per thread. Async tools are timed from subscription to result; their work hops threads, so
+ * allocation is not recorded.
+ */
+@Component
+@Order(ToolMetrics.ORDER)
+public class ToolMetrics implements ToolSpecificationDecorator {
+
+    /** Outermost, so the timing covers every other decorator */
+    public static final int ORDER = 0;
+
+    /** Calls on virtual threads show up in {@code dvaas.tool.allocated} up to this long after they end */
+    public static final Duration ALLOCATION_DELAY = AllocationSampler.SETTLE.plusSeconds(2);
+
+    private final MeterRegistry meterRegistry;
+    private final com.sun.management.ThreadMXBean threads;
+    private final AllocationSampler sampler = new AllocationSampler();
+
+    public ToolMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.threads = allocationTracking();
+    }
+
+    @Override
+    public SyncToolSpecification decorate(SyncToolSpecification specification) {
+        String tool = specification.tool().name();
+        Timer success = timer(tool, "success");
+        Timer error = timer(tool, "error");
+        DistributionSummary allocated = allocationSummary(tool);
+        var handler = specification.callHandler();
+
+        return new SyncToolSpecification(specification.tool(), (exchange, request) -> {
+            long start = System.nanoTime();
+            boolean virtual = Thread.currentThread().isVirtual();
+            AllocationSampler.Call sampled = virtual ? sampler.begin(allocated) : null;
+            long allocatedBefore = !virtual && threads != null ? threads.getCurrentThreadAllocatedBytes() : -1;
+            Timer outcome = error;
+            try {
+                CallToolResult result = handler.apply(exchange, request);
+                if (!Boolean.TRUE.equals(result.isError())) {
+                    outcome = success;
+                }
+                return result;
+            } finally {
+                outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (sampled != null) {
+                    sampler.end(sampled);
+                } else if (allocatedBefore >= 0) {
+                    long allocatedAfter = threads.getCurrentThreadAllocatedBytes();
+                    if (allocatedAfter >= allocatedBefore) {
+                        allocated.record(allocatedAfter - allocatedBefore);
+                    }
+                }
+            }
+        });
+    }
+
+    @Override
+    public AsyncToolSpecification decorate(AsyncToolSpecification specification) {
+        String tool = specification.tool().name();
+        Timer success = timer(tool, "success");
+        Timer error = timer(tool, "error");
+        var handler = specification.callHandler();
+
+        return new AsyncToolSpecification(specification.tool(), (exchange, request) -> Mono.defer(() -> {
+            long start = System.nanoTime();
+            return handler.apply(exchange, request)
+                    .doOnNext(result -> (Boolean.TRUE.equals(result.isError()) ? error : success)
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnError(e -> error.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        }));
+    }
+
+    @PreDestroy
+    public void close() {
+        sampler.close();
+    }
+
+    private Timer timer(String tool, String outcome) {
+        return Timer.builder("dvaas.tool.calls")
+                .description("MCP tool call latency")
+                .tag("tool", tool)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary allocationSummary(String tool) {
+        return DistributionSummary.builder("dvaas.tool.allocated")
+                .description("Heap bytes allocated by the calling thread during an MCP tool call")
+                .baseUnit("bytes")
+                .tag("tool", tool)
+                .register(meterRegistry);
+    }
+
+    /**
+     * The HotSpot thread bean when per-thread allocation counting is available, otherwise null
+     */
+    private static com.sun.management.ThreadMXBean allocationTracking() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads;
+        }
+        return null;
+    }
+}
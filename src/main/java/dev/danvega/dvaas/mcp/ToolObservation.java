@@ -0,0 +1,74 @@
+package dev.danvega.dvaas.mcp;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import io.modelcontextprotocol.server.McpServerFeatures.AsyncToolSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Runs every MCP tool call inside a {@code dvaas.tool} observation, so the cache lookups, refreshes
+ * and upstream requests it triggers are recorded as its children. Async tools carry the observation
+ * in their Reactor context rather than in a thread-local scope.
+ */
+@Component
+@Order(ToolObservation.ORDER)
+public class ToolObservation implements ToolSpecificationDecorator {
+
+    /** Inside the tool metrics, outside the result cache so cache hits are traced too */
+    public static final int ORDER = 10;
+
+    private final ObservationRegistry observationRegistry;
+
+    public ToolObservation(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public SyncToolSpecification decorate(SyncToolSpecification specification) {
+        String tool = specification.tool().name();
+        var handler = specification.callHandler();
+
+        return new SyncToolSpecification(specification.tool(), (exchange, request) -> {
+            Observation observation = Observation.createNotStarted("dvaas.tool", observationRegistry)
+                    .lowCardinalityKeyValue("tool", tool)
+                    .start();
+            try (Observation.Scope scope = observation.openScope()) {
+                CallToolResult result = handler.apply(exchange, request);
+                observation.lowCardinalityKeyValue("outcome", Boolean.TRUE.equals(result.isError()) ? "error" : "success");
+                return result;
+            } catch (RuntimeException e) {
+                observation.lowCardinalityKeyValue("outcome", "error");
+                observation.error(e);
+                throw e;
+            } finally {
+                observation.stop();
+            }
+        });
+    }
+
+    @Override
+    public AsyncToolSpecification decorate(AsyncToolSpecification specification) {
+        String tool = specification.tool().name();
+        var handler = specification.callHandler();
+
+        return new AsyncToolSpecification(specification.tool(), (exchange, request) -> Mono.defer(() -> {
+            Observation observation = Observation.createNotStarted("dvaas.tool", observationRegistry)
+                    .lowCardinalityKeyValue("tool", tool)
+                    .start();
+            return handler.apply(exchange, request)
+                    .doOnNext(result -> observation.lowCardinalityKeyValue("outcome",
+                            Boolean.TRUE.equals(result.isError()) ? "error" : "success"))
+                    .doOnError(e -> {
+                        observation.lowCardinalityKeyValue("outcome", "error");
+                        observation.error(e);
+                    })
+                    .doFinally(signal -> observation.stop())
+                    .contextWrite(context -> context.put(ObservationThreadLocalAccessor.KEY, observation));
+        }));
+    }
+}
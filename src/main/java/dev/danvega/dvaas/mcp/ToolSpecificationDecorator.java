@@ -0,0 +1,22 @@
+package dev.danvega.dvaas.mcp;
+
+import io.modelcontextprotocol.server.McpServerFeatures.AsyncToolSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+
+/**
+ * Wraps the call handler of an MCP tool generated from an {@code @McpTool} method. Decorators are
+ * applied by {@link ToolSpecificationPostProcessor} in {@link org.springframework.core.annotation.Order}
+ * order, the highest precedence ending up outermost.
+ */
+@FunctionalInterface
+public interface ToolSpecificationDecorator {
+
+    SyncToolSpecification decorate(SyncToolSpecification specification);
+
+    /**
+     * Wrap a tool of a server running with {@code spring.ai.mcp.server.type=ASYNC}; left as is by default
+     */
+    default AsyncToolSpecification decorate(AsyncToolSpecification specification) {
+        return specification;
+    }
+}
@@ -0,0 +1,56 @@
+package dev.danvega.dvaas.mcp;
+
+import io.modelcontextprotocol.server.McpServerFeatures.AsyncToolSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Routes the tool specifications generated from {@code @McpTool} methods through every
+ * {@link ToolSpecificationDecorator} before the MCP server registers them, for sync and async servers alike
+ */
+@Component
+public class ToolSpecificationPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<ToolSpecificationDecorator> decorators;
+
+    public ToolSpecificationPostProcessor(ObjectProvider<ToolSpecificationDecorator> decorators) {
+        this.decorators = decorators;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof List<?> list && !list.isEmpty()
+                && (list.getFirst() instanceof SyncToolSpecification || list.getFirst() instanceof AsyncToolSpecification)) {
+            // Lowest precedence first, so it ends up innermost
+            List<ToolSpecificationDecorator> ordered = decorators.orderedStream().toList().reversed();
+            if (!ordered.isEmpty()) {
+                return list.stream()
+                        .map(specification -> specification instanceof AsyncToolSpecification async
+                                ? decorate(async, ordered)
+                                : decorate((SyncToolSpecification) specification, ordered))
+                        .toList();
+            }
+        }
+        return bean;
+    }
+
+    private static SyncToolSpecification decorate(SyncToolSpecification specification,
+                                                  List<ToolSpecificationDecorator> decorators) {
+        for (ToolSpecificationDecorator decorator : decorators) {
+            specification = decorator.decorate(specification);
+        }
+        return specification;
+    }
+
+    private static AsyncToolSpecification decorate(AsyncToolSpecification specification,
+                                                   List<ToolSpecificationDecorator> decorators) {
+        for (ToolSpecificationDecorator decorator : decorators) {
+            specification = decorator.decorate(specification);
+        }
+        return specification;
+    }
+}
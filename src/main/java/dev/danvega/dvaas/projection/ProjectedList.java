@@ -0,0 +1,63 @@
+package dev.danvega.dvaas.projection;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+/**
+ * Read-only view of tool results that serializes only the selected record components. Java callers
+ * still see the full items; the projection only applies when the list is written as JSON.
+ */
+@JsonSerialize(using = ProjectedList.Serializer.class)
+public final class ProjectedList<T extends Record> extends AbstractList<T> implements RandomAccess {
+
+    private final List<T> items;
+    private final RecordProjection<T> projection;
+    private final long selection;
+
+    ProjectedList(List<T> items, RecordProjection<T> projection, long selection) {
+        this.items = items;
+        this.projection = projection;
+        this.selection = selection;
+    }
+
+    @Override
+    public T get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    public List<String> fields() {
+        List<String> names = projection.fieldNames();
+        return IntStream.range(0, names.size())
+                .filter(index -> (selection & (1L << index)) != 0)
+                .mapToObj(names::get)
+                .toList();
+    }
+
+    public static class Serializer extends ValueSerializer<ProjectedList<?>> {
+
+        @Override
+        public void serialize(ProjectedList<?> value, JsonGenerator generator, SerializationContext context) {
+            value.writeTo(generator, context);
+        }
+    }
+
+    private void writeTo(JsonGenerator generator, SerializationContext context) {
+        generator.writeStartArray(this, items.size());
+        for (T item : items) {
+            projection.write(item, selection, generator, context);
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,177 @@
+package dev.danvega.dvaas.projection;
+
+import dev.danvega.dvaas.cache.Page;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Writes a chosen subset of a record's components straight to a JSON generator. Accessors and
+ * property names are resolved once per record type, so projecting a list of results is a single
+ * pass over the items without building an intermediate map per item.
+ */
+public final class RecordProjection<T extends Record> {
+
+    private static final ClassValue<RecordProjection<?>> PROJECTIONS = new ClassValue<>() {
+        @Override
+        protected RecordProjection<?> computeValue(Class<?> type) {
+            return new RecordProjection<>(type.asSubclass(Record.class));
+        }
+    };
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Class<T> type;
+    private final Component[] components;
+
+    private RecordProjection(Class<T> type) {
+        RecordComponent[] recordComponents = type.getRecordComponents();
+        if (recordComponents.length > Long.SIZE) {
+            throw new IllegalArgumentException("Cannot project more than " + Long.SIZE + " components of " + type.getName());
+        }
+        this.type = type;
+        this.components = new Component[recordComponents.length];
+        for (int i = 0; i < recordComponents.length; i++) {
+            components[i] = Component.of(recordComponents[i]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends Record> RecordProjection<T> of(Class<T> type) {
+        return (RecordProjection<T>) PROJECTIONS.get(type);
+    }
+
+    /**
+     * Project {@code items} onto the comma-separated {@code fields}. Blank fields leave the items
+     * untouched so they serialize exactly as before.
+     *
+     * @throws IllegalArgumentException if a field is not a component of the record
+     */
+    public List<T> apply(List<T> items, String fields) {
+        if (fields == null || fields.isBlank()) {
+            return items;
+        }
+        return new ProjectedList<>(items, this, select(fields));
+    }
+
+    /**
+     * Project the items of a page, keeping its cursor
+     */
+    public Page<T> apply(Page<T> page, String fields) {
+        return page.withItems(apply(page.items(), fields));
+    }
+
+    /**
+     * Resolve comma-separated component names to a selection mask, one bit per component
+     */
+    public long select(String fields) {
+        long selection = 0;
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            selection |= 1L << indexOf(name);
+        }
+        if (selection == 0) {
+            throw new IllegalArgumentException("No fields selected. Available fields: " + fieldNames());
+        }
+        return selection;
+    }
+
+    public List<String> fieldNames() {
+        return Arrays.stream(components).map(Component::name).toList();
+    }
+
+    /**
+     * Write {@code item} as a JSON object holding only the selected components, in declaration order
+     */
+    public void write(T item, long selection, JsonGenerator generator, SerializationContext context) {
+        if (item == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject(item);
+        for (int i = 0; i < components.length; i++) {
+            if ((selection & (1L << i)) != 0) {
+                Component component = components[i];
+                generator.writeName(component.jsonName());
+                component.write(item, generator, context);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < components.length; i++) {
+            if (components[i].name().equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field '%s' for %s. Available fields: %s"
+                .formatted(name, type.getSimpleName(), fieldNames().stream().collect(Collectors.joining(", "))));
+    }
+
+    private enum ValueKind { STRING, DATE_TIME, INT, LONG, BOOLEAN, OTHER }
+
+    private record Component(String name, SerializedString jsonName, MethodHandle accessor, ValueKind kind) {
+
+        static Component of(RecordComponent component) {
+            try {
+                MethodHandle accessor = MethodHandles.publicLookup().unreflect(component.getAccessor()).asType(ACCESSOR_TYPE);
+                return new Component(component.getName(), new SerializedString(component.getName()), accessor,
+                        kindOf(component.getType()));
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Record component " + component.getName() + " is not accessible", e);
+            }
+        }
+
+        private static ValueKind kindOf(Class<?> type) {
+            if (type == String.class) {
+                return ValueKind.STRING;
+            } else if (type == LocalDateTime.class) {
+                return ValueKind.DATE_TIME;
+            } else if (type == int.class || type == Integer.class) {
+                return ValueKind.INT;
+            } else if (type == long.class || type == Long.class) {
+                return ValueKind.LONG;
+            } else if (type == boolean.class || type == Boolean.class) {
+                return ValueKind.BOOLEAN;
+            }
+            return ValueKind.OTHER;
+        }
+
+        void write(Object item, JsonGenerator generator, SerializationContext context) {
+            Object value;
+            try {
+                value = accessor.invokeExact(item);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to read record component " + name, e);
+            }
+
+            if (value == null) {
+                generator.writeNull();
+                return;
+            }
+            switch (kind) {
+                case STRING -> generator.writeString((String) value);
+                case DATE_TIME -> generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format((LocalDateTime) value));
+                case INT -> generator.writeNumber((int) (Integer) value);
+                case LONG -> generator.writeNumber((long) (Long) value);
+                case BOOLEAN -> generator.writeBoolean((Boolean) value);
+                // Collections and nested records keep their regular serialization
+                case OTHER -> context.writeValue(generator, value);
+            }
+        }
+    }
+}
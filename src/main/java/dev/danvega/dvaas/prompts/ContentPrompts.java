@@ -7,6 +7,7 @@ import io.modelcontextprotocol.spec.McpSchema.TextContent;
 import org.springframework.ai.mcp.annotation.McpArg;
 import org.springframework.ai.mcp.annotation.McpPrompt;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -50,6 +51,9 @@ public class ContentPrompts {
 
             ## Instructions:
 
+            If the `content-report-generate` tool is available, call it once with the same year, startDate, \
+            endDate and contentTypes arguments and return its `csv` as is. Otherwise build the report as follows.
+
             ### 1. Data Collection
             Gather content from the following sources based on the content types filter ('%s'):
 
@@ -142,6 +146,22 @@ public class ContentPrompts {
         );
     }
 
+    @McpPrompt(
+        name = "content-report",
+        description = "Generate a comprehensive content report across all content types (video, live stream, blog, newsletter, podcast) for a specified time period. Outputs CSV format with metrics."
+    )
+    public Mono<GetPromptResult> contentReportAsync(
+            @McpArg(name = "year", description = "Year for the report (e.g., '2024', '2025'). Defaults to current year if not specified.", required = false)
+            String year,
+            @McpArg(name = "startDate", description = "Custom start date in YYYY-MM-DD format (e.g., '2024-01-01'). Overrides year if provided.", required = false)
+            String startDate,
+            @McpArg(name = "endDate", description = "Custom end date in YYYY-MM-DD format (e.g., '2024-12-31'). Overrides year if provided.", required = false)
+            String endDate,
+            @McpArg(name = "contentTypes", description = "Comma-separated list of content types to include: 'video', 'live stream', 'blog', 'newsletter', 'podcast', or 'all' for everything. Defaults to 'all'.", required = false)
+            String contentTypes) {
+        return Mono.fromSupplier(() -> contentReport(year, startDate, endDate, contentTypes));
+    }
+
     /**
      * Helper method to determine if a content type should be included based on the filter
      */
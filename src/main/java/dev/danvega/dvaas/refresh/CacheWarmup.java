@@ -0,0 +1,116 @@
+package dev.danvega.dvaas.refresh;
+
+import dev.danvega.dvaas.cache.CachedToolSource;
+import dev.danvega.dvaas.cache.SourceCache;
+import dev.danvega.dvaas.config.WarmupProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Loads every source cache concurrently once the application is ready, so the first call of each
+ * tool doesn't wait for its source. A round that runs past {@link WarmupProperties#deadline()} leaves
+ * the remaining loads to finish in the background. Critical caches still cold after a round are
+ * tried again every {@link WarmupProperties#retryInterval()} until they load.
+ * <p>
+ * As the {@code cacheWarmup} health indicator, part of the readiness group, it reports DOWN while a
+ * critical cache is cold, so load balancers keep traffic away from the instance until then. It is
+ * always UP when warmup is disabled.
+ */
+@Component
+public class CacheWarmup implements HealthIndicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmup.class);
+
+    private final WarmupProperties properties;
+    private final ObjectProvider<CachedToolSource> sources;
+
+    public CacheWarmup(WarmupProperties properties, ObjectProvider<CachedToolSource> sources) {
+        this.properties = properties;
+        this.sources = sources;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpWhenReady() {
+        if (properties.isEnabled()) {
+            warmUp().subscribe();
+        }
+    }
+
+    /**
+     * Load every cache, then retry the critical ones until all of them are loaded
+     */
+    Mono<Void> warmUp() {
+        List<SourceCache<?>> caches = caches();
+        Set<String> names = caches.stream().map(SourceCache::name).collect(Collectors.toSet());
+        properties.criticalSources().stream()
+                .filter(name -> !names.contains(name))
+                .forEach(name -> logger.warn("Critical source {} has no cache, ignoring it", name));
+
+        long start = System.nanoTime();
+        logger.info("Warming up {} caches", caches.size());
+        return load(caches).then(Mono.defer(() -> retryCritical(start)));
+    }
+
+    private Mono<Void> retryCritical(long start) {
+        List<SourceCache<?>> cold = critical().stream().filter(cache -> !cache.isLoaded()).toList();
+        if (cold.isEmpty()) {
+            logger.info("Critical caches warmed up in {} ms", (System.nanoTime() - start) / 1_000_000);
+            return Mono.empty();
+        }
+        logger.warn("Critical caches {} are still cold, retrying in {}",
+                cold.stream().map(SourceCache::name).toList(), properties.retryInterval());
+        return Mono.delay(properties.retryInterval())
+                .then(load(cold))
+                .then(Mono.defer(() -> retryCritical(start)));
+    }
+
+    /**
+     * Refresh the caches concurrently, waiting no longer than the deadline. A failed refresh leaves
+     * its cache cold rather than failing the round.
+     */
+    private Mono<Void> load(List<SourceCache<?>> caches) {
+        return Flux.fromIterable(caches)
+                .flatMap(cache -> cache.snapshotAsync())
+                .then()
+                .timeout(properties.deadline(), Mono.empty());
+    }
+
+    @Override
+    public Health health() {
+        if (!properties.isEnabled()) {
+            return Health.up().build();
+        }
+        Map<String, String> details = new TreeMap<>();
+        boolean warm = true;
+        for (SourceCache<?> cache : critical()) {
+            details.put(cache.name(), cache.isLoaded() ? "loaded" : "cold");
+            warm &= cache.isLoaded();
+        }
+        return (warm ? Health.up() : Health.down()).withDetails(details).build();
+    }
+
+    private List<SourceCache<?>> caches() {
+        return sources.orderedStream().flatMap(source -> source.caches().stream()).toList();
+    }
+
+    private List<SourceCache<?>> critical() {
+        List<String> critical = properties.criticalSources();
+        return caches().stream()
+                .filter(cache -> critical.isEmpty() || critical.contains(cache.name()))
+                .toList();
+    }
+}
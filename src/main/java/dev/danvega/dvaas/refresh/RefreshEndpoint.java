@@ -0,0 +1,28 @@
+package dev.danvega.dvaas.refresh;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * When each source cache was last refreshed and when it is next due, at {@code /actuator/sources}
+ */
+@Component
+@ConditionalOnProperty(name = "dvaas.refresh.enabled", havingValue = "true")
+@Endpoint(id = "sources")
+public class RefreshEndpoint {
+
+    private final RefreshScheduler refreshScheduler;
+
+    public RefreshEndpoint(RefreshScheduler refreshScheduler) {
+        this.refreshScheduler = refreshScheduler;
+    }
+
+    @ReadOperation
+    public List<RefreshScheduler.SourceStatus> sources() {
+        return refreshScheduler.status();
+    }
+}
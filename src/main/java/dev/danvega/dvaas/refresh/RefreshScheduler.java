@@ -0,0 +1,181 @@
+package dev.danvega.dvaas.refresh;
+
+import dev.danvega.dvaas.cache.CachedToolSource;
+import dev.danvega.dvaas.cache.SourceCache;
+import dev.danvega.dvaas.cache.Snapshot;
+import dev.danvega.dvaas.config.RefreshProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Refreshes every loaded source cache in the background before it expires, so reads rarely wait for
+ * an upstream. Each cache is refreshed once {@link RefreshProperties#refreshAt()} of its own cache
+ * duration has passed, shifted by a random jitter so sources with the same cadence don't hit their
+ * upstreams together. A failed refresh is retried with exponential backoff while readers keep getting
+ * the previous snapshot. Caches that have never been loaded are left to their first read or the
+ * {@link CacheWarmup}, so sources a session never uses are not fetched.
+ */
+@Component
+@ConditionalOnProperty(name = "dvaas.refresh.enabled", havingValue = "true")
+public class RefreshScheduler implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshScheduler.class);
+
+    /**
+     * @param lastRefreshed when the current snapshot was loaded, by this scheduler or a read, or null
+     * if it has never been loaded
+     * @param nextRefresh when the cache is next checked, or null while the scheduler is stopped
+     * @param consecutiveFailures background refreshes that failed since the last success
+     */
+    public record SourceStatus(String source, Duration cacheDuration, Instant lastRefreshed, Instant nextRefresh,
+                               int consecutiveFailures) {
+    }
+
+    private final RefreshProperties properties;
+    private final ObjectProvider<CachedToolSource> sources;
+    private final Map<String, SourceSchedule> schedules = new ConcurrentHashMap<>();
+    private volatile boolean running;
+
+    public RefreshScheduler(RefreshProperties properties, ObjectProvider<CachedToolSource> sources) {
+        this.properties = properties;
+        this.sources = sources;
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        sources.orderedStream()
+                .flatMap(source -> source.caches().stream())
+                .map(cache -> schedules.computeIfAbsent(cache.name(), name -> new SourceSchedule(cache)))
+                .forEach(SourceSchedule::scheduleNext);
+        logger.info("Refreshing {} caches in the background", schedules.size());
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        schedules.values().forEach(SourceSchedule::cancel);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Refresh status of every cache, ordered by source name
+     */
+    public List<SourceStatus> status() {
+        return schedules.values().stream()
+                .map(SourceSchedule::status)
+                .sorted((a, b) -> a.source().compareTo(b.source()))
+                .toList();
+    }
+
+    /**
+     * Delay before retrying after {@code failures} consecutive failed refreshes, before jitter
+     */
+    Duration backoff(int failures) {
+        Duration backoff = properties.initialBackoff().multipliedBy(1L << Math.min(failures - 1, 30));
+        return backoff.compareTo(properties.maxBackoff()) > 0 ? properties.maxBackoff() : backoff;
+    }
+
+    private Duration jittered(Duration delay) {
+        double shift = properties.jitter() > 0 ? ThreadLocalRandom.current().nextDouble(-properties.jitter(), properties.jitter()) : 0;
+        return Duration.ofMillis(Math.round(delay.toMillis() * (1 + shift)));
+    }
+
+    /**
+     * Background refreshes of one cache. Only one check is pending at a time.
+     */
+    private final class SourceSchedule {
+
+        private final SourceCache<?> cache;
+        private volatile int failures;
+        /** Version of the snapshot the pending check was planned for, 0 if none was loaded */
+        private volatile long plannedVersion;
+        private volatile Instant next;
+        private Disposable pending = Disposables.disposed();
+
+        SourceSchedule(SourceCache<?> cache) {
+            this.cache = cache;
+        }
+
+        /**
+         * Plan the next check: ahead of expiry of the current snapshot, after a backoff if refreshes are
+         * failing, or after a refresh interval if nothing is loaded yet
+         */
+        synchronized void scheduleNext() {
+            if (!running) {
+                return;
+            }
+            pending.dispose();
+            Instant now = Instant.now();
+            Duration refreshAfter = Duration.ofMillis(Math.round(cache.ttl().toMillis() * properties.refreshAt()));
+            Snapshot<?> snapshot = cache.peek().orElse(null);
+            Duration delay;
+            if (failures > 0) {
+                delay = jittered(backoff(failures));
+            } else if (snapshot == null) {
+                delay = jittered(refreshAfter);
+            } else {
+                Duration untilDue = Duration.between(now, snapshot.loadedAt().plus(jittered(refreshAfter)));
+                delay = untilDue.isNegative() ? Duration.ZERO : untilDue;
+            }
+            plannedVersion = snapshot != null ? snapshot.version() : 0;
+            next = now.plus(delay);
+            pending = Mono.delay(delay).subscribe(tick -> check());
+        }
+
+        private void check() {
+            long version = cache.peek().map(Snapshot::version).orElse(0L);
+            if (version == 0) {
+                // Not used yet; a read or the warmup loads it
+                scheduleNext();
+                return;
+            }
+            if (version != plannedVersion) {
+                // A read refreshed it in the meantime
+                failures = 0;
+                scheduleNext();
+                return;
+            }
+            cache.refreshNow()
+                    .onErrorReturn(false)
+                    .subscribe(refreshed -> {
+                        if (refreshed) {
+                            failures = 0;
+                        } else {
+                            failures++;
+                            logger.warn("Background refresh of {} cache failed {} times in a row, retrying in about {}",
+                                    cache.name(), failures, backoff(failures));
+                        }
+                        scheduleNext();
+                    });
+        }
+
+        synchronized void cancel() {
+            pending.dispose();
+            next = null;
+        }
+
+        SourceStatus status() {
+            Instant loadedAt = cache.peek().map(Snapshot::loadedAt).orElse(null);
+            return new SourceStatus(cache.name(), cache.ttl(), loadedAt, running ? next : null, failures);
+        }
+    }
+}
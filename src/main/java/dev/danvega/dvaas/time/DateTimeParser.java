@@ -0,0 +1,409 @@
+package dev.danvega.dvaas.time;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Multi-format date parser shared by the ingest readers. The input's shape is sniffed from a few
+ * characters and handed to a hand-written parser for that shape, so unparseable values cost a
+ * length check rather than a cascade of {@code DateTimeParseException}s. The last shape that
+ * succeeded is tried first on the next call, since one upstream source rarely mixes formats.
+ * <p>
+ * Supported shapes:
+ * <ul>
+ *     <li>Epoch seconds or milliseconds ({@code 1733047200}, {@code 1733047200000})</li>
+ *     <li>ISO 8601 date, local date-time and offset date-time, with {@code T} or space separator
+ *     and optional fraction, offset and {@code [region]} suffix</li>
+ *     <li>Slash dates, month first unless the first field can only be a day ({@code 11/20/2024}, {@code 20/11/2024})</li>
+ *     <li>RFC 1123 / RFC 822 ({@code Mon, 02 Dec 2024 10:00:00 GMT})</li>
+ * </ul>
+ * Instants (epoch values and inputs with an offset) are converted to the parser's zone; local
+ * values are returned as written. Anything else yields {@code null}.
+ */
+public final class DateTimeParser {
+
+    private static final Logger logger = LoggerFactory.getLogger(DateTimeParser.class);
+
+    private enum Shape { EPOCH, ISO, SLASH, RFC_1123 }
+
+    private final String source;
+    private final ZoneId zone;
+    private volatile Shape lastShape;
+
+    /**
+     * @param source name used in log messages, e.g. "newsletter"
+     * @param zone   zone that instants are converted to
+     */
+    public DateTimeParser(String source, ZoneId zone) {
+        this.source = source;
+        this.zone = zone;
+    }
+
+    /**
+     * Parse {@code text}, returning {@code null} when it is blank or not in a supported shape
+     */
+    public LocalDateTime parse(String text) {
+        if (text == null) {
+            return null;
+        }
+        String value = text.strip();
+        if (value.isEmpty()) {
+            return null;
+        }
+
+        Shape remembered = lastShape;
+        if (remembered != null) {
+            LocalDateTime result = parse(remembered, value);
+            if (result != null) {
+                return result;
+            }
+        }
+
+        Shape shape = sniff(value);
+        LocalDateTime result = shape != null && shape != remembered ? parse(shape, value) : null;
+        if (result == null) {
+            logger.warn("Could not parse {} date: {}", source, value);
+            return null;
+        }
+
+        lastShape = shape;
+        return result;
+    }
+
+    private LocalDateTime parse(Shape shape, String value) {
+        return switch (shape) {
+            case EPOCH -> parseEpoch(value);
+            case ISO -> parseIso(value);
+            case SLASH -> parseSlash(value);
+            case RFC_1123 -> parseRfc1123(value);
+        };
+    }
+
+    private static Shape sniff(String value) {
+        char first = value.charAt(0);
+        if (isLetter(first)) {
+            return Shape.RFC_1123;
+        }
+        if (!isDigit(first)) {
+            return null;
+        }
+
+        int digits = 1;
+        while (digits < value.length() && isDigit(value.charAt(digits))) {
+            digits++;
+        }
+        if (digits == value.length()) {
+            return Shape.EPOCH;
+        }
+
+        char separator = value.charAt(digits);
+        if (digits == 4 && separator == '-') {
+            return Shape.ISO;
+        }
+        if (digits <= 2 && separator == '/') {
+            return Shape.SLASH;
+        }
+        if (digits <= 2 && separator == ' ') {
+            return Shape.RFC_1123;
+        }
+        return null;
+    }
+
+    /**
+     * Up to 11 digits are epoch seconds, longer values epoch milliseconds
+     */
+    private LocalDateTime parseEpoch(String value) {
+        int length = value.length();
+        if (length > 15) {
+            return null;
+        }
+        long number = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (!isDigit(c)) {
+                return null;
+            }
+            number = number * 10 + (c - '0');
+        }
+        Instant instant = length <= 11 ? Instant.ofEpochSecond(number) : Instant.ofEpochMilli(number);
+        return LocalDateTime.ofInstant(instant, zone);
+    }
+
+    private LocalDateTime parseIso(String s) {
+        int length = s.length();
+        if (length < 10 || s.charAt(4) != '-' || s.charAt(7) != '-') {
+            return null;
+        }
+        int year = digits(s, 0, 4);
+        int month = digits(s, 5, 2);
+        int day = digits(s, 8, 2);
+        if (!isValidDate(year, month, day)) {
+            return null;
+        }
+        if (length == 10) {
+            return LocalDateTime.of(year, month, day, 0, 0);
+        }
+
+        char separator = s.charAt(10);
+        if ((separator != 'T' && separator != 't' && separator != ' ') || length < 16 || s.charAt(13) != ':') {
+            return null;
+        }
+        int hour = digits(s, 11, 2);
+        int minute = digits(s, 14, 2);
+        int second = 0;
+        int nano = 0;
+        int pos = 16;
+
+        if (pos < length && s.charAt(pos) == ':') {
+            second = digits(s, pos + 1, 2);
+            pos += 3;
+            if (pos < length && (s.charAt(pos) == '.' || s.charAt(pos) == ',')) {
+                int start = ++pos;
+                while (pos < length && isDigit(s.charAt(pos))) {
+                    if (pos - start < 9) {
+                        nano = nano * 10 + (s.charAt(pos) - '0');
+                    }
+                    pos++;
+                }
+                if (pos == start) {
+                    return null;
+                }
+                for (int scale = Math.min(pos - start, 9); scale < 9; scale++) {
+                    nano *= 10;
+                }
+            }
+        }
+        if (!isValidTime(hour, minute, second)) {
+            return null;
+        }
+
+        LocalDateTime local = LocalDateTime.of(year, month, day, hour, minute, second, nano);
+        if (pos == length) {
+            return local;
+        }
+
+        char sign = s.charAt(pos);
+        int offsetSeconds;
+        int end;
+        if (sign == 'Z' || sign == 'z') {
+            offsetSeconds = 0;
+            end = pos + 1;
+        } else if (sign == '+' || sign == '-') {
+            int offsetHours = digits(s, pos + 1, 2);
+            int offsetMinutes = 0;
+            end = pos + 3;
+            if (end < length && s.charAt(end) == ':') {
+                offsetMinutes = digits(s, end + 1, 2);
+                end += 3;
+            } else if (end + 1 < length && isDigit(s.charAt(end))) {
+                offsetMinutes = digits(s, end, 2);
+                end += 2;
+            }
+            if (offsetHours < 0 || offsetMinutes < 0 || offsetMinutes > 59) {
+                return null;
+            }
+            offsetSeconds = (offsetHours * 3600 + offsetMinutes * 60) * (sign == '-' ? -1 : 1);
+        } else {
+            return null;
+        }
+
+        // ISO_DATE_TIME allows a trailing region id such as [Europe/Oslo]; the offset already fixes the instant
+        if (end < length && (s.charAt(end) != '[' || s.charAt(length - 1) != ']')) {
+            return null;
+        }
+        return toZone(local, offsetSeconds);
+    }
+
+    private LocalDateTime parseSlash(String s) {
+        int firstEnd = s.indexOf('/');
+        int secondEnd = s.indexOf('/', firstEnd + 1);
+        if (firstEnd < 1 || firstEnd > 2 || secondEnd - firstEnd < 2 || secondEnd - firstEnd > 3
+                || s.length() - secondEnd != 5) {
+            return null;
+        }
+        int first = digits(s, 0, firstEnd);
+        int second = digits(s, firstEnd + 1, secondEnd - firstEnd - 1);
+        int year = digits(s, secondEnd + 1, 4);
+
+        int month = first;
+        int day = second;
+        if (first > 12 && second <= 12) {
+            month = second;
+            day = first;
+        }
+        return isValidDate(year, month, day) ? LocalDateTime.of(year, month, day, 0, 0) : null;
+    }
+
+    /**
+     * {@code [EEE, ]d MMM yyyy HH:mm[:ss] [zone]}
+     */
+    private LocalDateTime parseRfc1123(String s) {
+        int length = s.length();
+        int pos = 0;
+
+        if (isLetter(s.charAt(0))) {
+            while (pos < length && isLetter(s.charAt(pos))) {
+                pos++;
+            }
+            if (pos >= length || s.charAt(pos) != ',') {
+                return null;
+            }
+            pos = skipSpaces(s, pos + 1);
+        }
+
+        int dayStart = pos;
+        while (pos < length && isDigit(s.charAt(pos))) {
+            pos++;
+        }
+        if (pos - dayStart < 1 || pos - dayStart > 2) {
+            return null;
+        }
+        int day = digits(s, dayStart, pos - dayStart);
+
+        pos = skipSpaces(s, pos);
+        if (pos + 3 > length) {
+            return null;
+        }
+        int month = monthOf(s, pos);
+        pos = skipSpaces(s, pos + 3);
+
+        int yearStart = pos;
+        while (pos < length && isDigit(s.charAt(pos))) {
+            pos++;
+        }
+        int year = switch (pos - yearStart) {
+            case 4 -> digits(s, yearStart, 4);
+            case 2 -> 2000 + digits(s, yearStart, 2);
+            default -> -1;
+        };
+        if (!isValidDate(year, month, day)) {
+            return null;
+        }
+
+        pos = skipSpaces(s, pos);
+        if (pos + 5 > length || s.charAt(pos + 2) != ':') {
+            return null;
+        }
+        int hour = digits(s, pos, 2);
+        int minute = digits(s, pos + 3, 2);
+        int second = 0;
+        pos += 5;
+        if (pos < length && s.charAt(pos) == ':') {
+            second = digits(s, pos + 1, 2);
+            pos += 3;
+        }
+        if (!isValidTime(hour, minute, second)) {
+            return null;
+        }
+
+        LocalDateTime local = LocalDateTime.of(year, month, day, hour, minute, second);
+        pos = skipSpaces(s, pos);
+        if (pos >= length) {
+            return local;
+        }
+
+        int offsetSeconds = rfcZoneOffset(s, pos);
+        return offsetSeconds == Integer.MIN_VALUE ? null : toZone(local, offsetSeconds);
+    }
+
+    /**
+     * Offset in seconds for an RFC 822 zone ({@code GMT}, {@code EST}, {@code +0100}...), or MIN_VALUE if unknown
+     */
+    private static int rfcZoneOffset(String s, int pos) {
+        String zone = s.substring(pos);
+        char sign = zone.charAt(0);
+        if ((sign == '+' || sign == '-') && zone.length() == 5) {
+            int hours = digits(zone, 1, 2);
+            int minutes = digits(zone, 3, 2);
+            if (hours < 0 || minutes < 0 || minutes > 59) {
+                return Integer.MIN_VALUE;
+            }
+            return (hours * 3600 + minutes * 60) * (sign == '-' ? -1 : 1);
+        }
+        return switch (zone.toUpperCase()) {
+            case "GMT", "UT", "UTC", "Z" -> 0;
+            case "EDT" -> -4 * 3600;
+            case "EST", "CDT" -> -5 * 3600;
+            case "CST", "MDT" -> -6 * 3600;
+            case "MST", "PDT" -> -7 * 3600;
+            case "PST" -> -8 * 3600;
+            default -> Integer.MIN_VALUE;
+        };
+    }
+
+    private LocalDateTime toZone(LocalDateTime local, int offsetSeconds) {
+        if (Math.abs(offsetSeconds) > 18 * 3600) {
+            return null;
+        }
+        long epochSecond = local.toEpochSecond(ZoneOffset.UTC) - offsetSeconds;
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, local.getNano()), zone);
+    }
+
+    /**
+     * Value of {@code count} decimal digits at {@code pos}, or -1 if out of range or not all digits
+     */
+    private static int digits(String s, int pos, int count) {
+        if (pos < 0 || pos + count > s.length()) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = pos; i < pos + count; i++) {
+            char c = s.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int monthOf(String s, int pos) {
+        String name = s.substring(pos, pos + 3).toLowerCase();
+        return switch (name) {
+            case "jan" -> 1;
+            case "feb" -> 2;
+            case "mar" -> 3;
+            case "apr" -> 4;
+            case "may" -> 5;
+            case "jun" -> 6;
+            case "jul" -> 7;
+            case "aug" -> 8;
+            case "sep" -> 9;
+            case "oct" -> 10;
+            case "nov" -> 11;
+            case "dec" -> 12;
+            default -> -1;
+        };
+    }
+
+    private static boolean isValidDate(int year, int month, int day) {
+        return year >= 1 && month >= 1 && month <= 12
+                && day >= 1 && day <= Month.of(month).length(Year.isLeap(year));
+    }
+
+    private static boolean isValidTime(int hour, int minute, int second) {
+        return hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59 && second >= 0 && second <= 59;
+    }
+
+    private static int skipSpaces(String s, int pos) {
+        while (pos < s.length() && s.charAt(pos) == ' ') {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
@@ -1,97 +1,204 @@
 package dev.danvega.dvaas.tools.blog;
 
-import com.rometools.rome.feed.synd.SyndEntry;
-import com.rometools.rome.feed.synd.SyndFeed;
-import com.rometools.rome.io.SyndFeedInput;
-import com.rometools.rome.io.XmlReader;
+import dev.danvega.dvaas.cache.CachedToolSource;
+import dev.danvega.dvaas.cache.Page;
+import dev.danvega.dvaas.cache.Snapshot;
+import dev.danvega.dvaas.cache.SourceCache;
 import dev.danvega.dvaas.config.BlogProperties;
+import dev.danvega.dvaas.enrichment.ContentEnricher;
+import dev.danvega.dvaas.http.OutboundHttpClient;
 import dev.danvega.dvaas.tools.blog.model.BlogPost;
 import dev.danvega.dvaas.tools.blog.model.BlogStats;
+import dev.danvega.dvaas.tools.report.ContentReportSource;
+import dev.danvega.dvaas.tools.report.model.ReportEntry;
+import dev.danvega.dvaas.tools.report.model.ReportPeriod;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
+import org.springframework.util.function.SingletonSupplier;
+import reactor.core.publisher.Mono;
 
-import java.net.URL;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @ConditionalOnProperty(name = "dvaas.blog.rss-url")
-public class BlogService {
+public class BlogService implements CachedToolSource, ContentReportSource {
 
     private static final Logger logger = LoggerFactory.getLogger(BlogService.class);
+    private static final Comparator<BlogPost> NEWEST_FIRST =
+            Comparator.comparing(BlogPost::publishedAt, Comparator.nullsLast(Comparator.reverseOrder()));
 
     private final BlogProperties blogProperties;
-    private final Map<String, Object> cache = new ConcurrentHashMap<>();
-    private LocalDateTime lastCacheTime;
-
-    public BlogService(BlogProperties blogProperties) {
+    private final OutboundHttpClient httpClient;
+    /** Built on the first fetch, which loads the StAX implementation */
+    private final SingletonSupplier<RssFeedReader> feedReader;
+    private final SourceCache<BlogPost> postCache;
+    /** GUID of the first feed entry at the last read, where the next incremental read stops */
+    private volatile String feedHead;
+    private final AtomicLong feedReads = new AtomicLong();
+
+    public BlogService(BlogProperties blogProperties, OutboundHttpClient httpClient, ContentEnricher contentEnricher,
+                       MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
         this.blogProperties = blogProperties;
+        this.httpClient = httpClient;
+        this.feedReader = SingletonSupplier.of(() -> new RssFeedReader(contentEnricher));
+        this.postCache = SourceCache.async("blog", blogProperties.cacheDuration(), NEWEST_FIRST, this::fetchPostsFromRss,
+                meterRegistry, observationRegistry);
         logger.info("Blog service initialized with RSS URL: {}", blogProperties.rssUrl());
-        logger.info("Blog cache duration: {} minutes", blogProperties.getCacheDurationMinutes());
+        logger.debug("Blog cache duration: {} minutes", blogProperties.getCacheDurationMinutes());
+    }
+
+    @Override
+    public String toolPrefix() {
+        return "blog-";
+    }
+
+    @Override
+    public long generation() {
+        return postCache.snapshot().version();
+    }
+
+    @Override
+    public List<SourceCache<?>> caches() {
+        return List.of(postCache);
+    }
+
+    @Override
+    public Mono<Long> generationAsync() {
+        return postCache.snapshotAsync().map(Snapshot::version);
+    }
+
+    @Override
+    public Set<String> reportContentTypes() {
+        return Set.of("blog");
+    }
+
+    @Override
+    public List<ReportEntry> reportEntries(ReportPeriod period) {
+        return reportEntries(postCache.items(), period).toList();
+    }
+
+    @Override
+    public Mono<List<ReportEntry>> reportEntriesAsync(ReportPeriod period) {
+        return postCache.itemsAsync().map(posts -> reportEntries(posts, period).toList());
+    }
+
+    @Override
+    public Stream<ReportEntry> exportEntries(ReportPeriod period) {
+        return reportEntries(postCache.items(), period);
+    }
+
+    private static Stream<ReportEntry> reportEntries(List<BlogPost> posts, ReportPeriod period) {
+        return posts.stream()
+                .filter(post -> period.contains(post.publishedAt()))
+                .map(post -> ReportEntry.of(post.title(), "blog", post.publishedAt().toLocalDate(), post.link()));
     }
 
     public List<BlogPost> getAllPosts() {
-        return getCachedPosts();
+        return postCache.items();
     }
 
     public List<BlogPost> getLatestPosts(int maxResults) {
-        List<BlogPost> allPosts = getCachedPosts();
-        return allPosts.stream()
-                .sorted((p1, p2) -> p2.publishedAt().compareTo(p1.publishedAt()))
-                .limit(Math.min(maxResults, 50))
-                .toList();
+        return getLatestPosts(maxResults, null).items();
+    }
+
+    public Page<BlogPost> getLatestPosts(int pageSize, String cursor) {
+        return postCache.page("latest", post -> true, Math.min(pageSize, 50), cursor);
+    }
+
+    public Mono<Page<BlogPost>> getLatestPostsAsync(int pageSize, String cursor) {
+        return postCache.pageAsync("latest", post -> true, Math.min(pageSize, 50), cursor);
     }
 
     public List<BlogPost> searchPostsByKeyword(String keyword, int maxResults) {
+        return searchPostsByKeyword(keyword, maxResults, null).items();
+    }
+
+    public Page<BlogPost> searchPostsByKeyword(String keyword, int pageSize, String cursor) {
         if (keyword == null || keyword.trim().isEmpty()) {
-            return List.of();
+            return Page.empty();
         }
 
         String searchTerm = keyword.toLowerCase().trim();
-        List<BlogPost> allPosts = getCachedPosts();
+        return postCache.page("search:" + searchTerm, post -> matchesKeyword(post, searchTerm), Math.min(pageSize, 50), cursor);
+    }
 
-        return allPosts.stream()
-                .filter(post -> matchesKeyword(post, searchTerm))
-                .sorted((p1, p2) -> p2.publishedAt().compareTo(p1.publishedAt()))
-                .limit(Math.min(maxResults, 50))
-                .toList();
+    public Mono<Page<BlogPost>> searchPostsByKeywordAsync(String keyword, int pageSize, String cursor) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return Mono.just(Page.empty());
+        }
+
+        String searchTerm = keyword.toLowerCase().trim();
+        return postCache.pageAsync("search:" + searchTerm, post -> matchesKeyword(post, searchTerm), Math.min(pageSize, 50), cursor);
     }
 
     public List<BlogPost> getPostsByDateRange(LocalDateTime startDate, LocalDateTime endDate, int maxResults) {
-        List<BlogPost> allPosts = getCachedPosts();
+        return getPostsByDateRange(startDate, endDate, maxResults, null).items();
+    }
 
-        return allPosts.stream()
-                .filter(post -> isWithinDateRange(post.publishedAt(), startDate, endDate))
-                .sorted((p1, p2) -> p2.publishedAt().compareTo(p1.publishedAt()))
-                .limit(Math.min(maxResults, 50))
-                .toList();
+    public Page<BlogPost> getPostsByDateRange(LocalDateTime startDate, LocalDateTime endDate, int pageSize, String cursor) {
+        return postCache.page("range:" + startDate + "/" + endDate,
+                post -> isWithinDateRange(post.publishedAt(), startDate, endDate), Math.min(pageSize, 50), cursor);
+    }
+
+    public Mono<Page<BlogPost>> getPostsByDateRangeAsync(LocalDateTime startDate, LocalDateTime endDate, int pageSize,
+                                                         String cursor) {
+        return postCache.pageAsync("range:" + startDate + "/" + endDate,
+                post -> isWithinDateRange(post.publishedAt(), startDate, endDate), Math.min(pageSize, 50), cursor);
     }
 
     public List<BlogPost> getPostsByYear(int year, int maxResults) {
+        return getPostsByYear(year, maxResults, null).items();
+    }
+
+    public Page<BlogPost> getPostsByYear(int year, int pageSize, String cursor) {
+        LocalDateTime startOfYear = LocalDateTime.of(year, 1, 1, 0, 0);
+        LocalDateTime endOfYear = LocalDateTime.of(year, 12, 31, 23, 59);
+
+        return getPostsByDateRange(startOfYear, endOfYear, pageSize, cursor);
+    }
+
+    public Mono<Page<BlogPost>> getPostsByYearAsync(int year, int pageSize, String cursor) {
         LocalDateTime startOfYear = LocalDateTime.of(year, 1, 1, 0, 0);
         LocalDateTime endOfYear = LocalDateTime.of(year, 12, 31, 23, 59);
 
-        return getPostsByDateRange(startOfYear, endOfYear, maxResults);
+        return getPostsByDateRangeAsync(startOfYear, endOfYear, pageSize, cursor);
     }
 
     public BlogStats getBlogStats() {
-        List<BlogPost> allPosts = getCachedPosts();
+        return stats(postCache.items());
+    }
 
+    public Mono<BlogStats> getBlogStatsAsync() {
+        return postCache.itemsAsync().map(this::stats);
+    }
+
+    private BlogStats stats(List<BlogPost> allPosts) {
         if (allPosts.isEmpty()) {
             return new BlogStats(0, null, null, 0, 0, 0.0, 0, null);
         }
 
-        // Sort posts by date for calculations
+        // Sort posts by date for calculations; posts without a parseable date are counted but not placed
         List<BlogPost> sortedPosts = allPosts.stream()
+                .filter(post -> post.publishedAt() != null)
                 .sorted(Comparator.comparing(BlogPost::publishedAt))
                 .toList();
 
+        if (sortedPosts.isEmpty()) {
+            return new BlogStats(allPosts.size(), null, null, 0, 0, 0.0, 0, null);
+        }
+
         LocalDateTime firstPost = sortedPosts.get(0).publishedAt();
         LocalDateTime latestPost = sortedPosts.get(sortedPosts.size() - 1).publishedAt();
         LocalDateTime now = LocalDateTime.now();
@@ -100,11 +207,11 @@ public class BlogService {
         int currentYear = now.getYear();
         int currentMonth = now.getMonthValue();
 
-        int postsThisYear = (int) allPosts.stream()
+        int postsThisYear = (int) sortedPosts.stream()
                 .filter(post -> post.publishedAt().getYear() == currentYear)
                 .count();
 
-        int postsThisMonth = (int) allPosts.stream()
+        int postsThisMonth = (int) sortedPosts.stream()
                 .filter(post -> post.publishedAt().getYear() == currentYear &&
                                post.publishedAt().getMonthValue() == currentMonth)
                 .count();
@@ -133,73 +240,45 @@ public class BlogService {
         );
     }
 
-    @SuppressWarnings("unchecked")
-    private List<BlogPost> getCachedPosts() {
-        if (needsCacheRefresh()) {
-            try {
-                List<BlogPost> posts = fetchPostsFromRss();
-                cache.put("posts", posts);
-                lastCacheTime = LocalDateTime.now();
-                logger.info("RSS feed cache refreshed with {} posts", posts.size());
-                return posts;
-            } catch (Exception e) {
-                logger.error("Failed to refresh RSS feed cache", e);
-                // Return cached posts if available, otherwise empty list
-                return (List<BlogPost>) cache.getOrDefault("posts", List.of());
-            }
-        }
-
-        return (List<BlogPost>) cache.getOrDefault("posts", List.of());
+    private Mono<List<BlogPost>> fetchPostsFromRss(List<BlogPost> cachedPosts) {
+        return Mono.defer(() -> {
+            logger.info("Fetching RSS feed from: {}", blogProperties.rssUrl());
+            return httpClient.sendAsync("blog", httpClient.newRequest(blogProperties.rssUrl()).build());
+        }).flatMap(response -> Mono.fromCallable(() -> readFeed(response, cachedPosts)));
     }
 
-    private boolean needsCacheRefresh() {
-        return lastCacheTime == null ||
-               ChronoUnit.MINUTES.between(lastCacheTime, LocalDateTime.now()) >= blogProperties.getCacheDurationMinutes() ||
-               !cache.containsKey("posts");
-    }
+    private List<BlogPost> readFeed(HttpResponse<InputStream> response, List<BlogPost> cachedPosts) throws Exception {
+        Set<String> knownGuids = cachedPosts.stream()
+                .map(BlogPost::guid)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
 
-    private List<BlogPost> fetchPostsFromRss() throws Exception {
-        logger.info("Fetching RSS feed from: {}", blogProperties.rssUrl());
+        // Every so often the whole feed is read again, so edited and removed posts are picked up
+        boolean fullParse = feedReads.getAndIncrement() % blogProperties.fullParseEvery() == 0;
+        String knownHead = fullParse || cachedPosts.isEmpty() ? null : feedHead;
 
-        SyndFeedInput input = new SyndFeedInput();
-        SyndFeed feed = input.build(new XmlReader(new URL(blogProperties.rssUrl())));
-
-        List<BlogPost> posts = new ArrayList<>();
-
-        for (SyndEntry entry : feed.getEntries()) {
-            BlogPost post = convertEntryToBlogPost(entry);
-            if (post != null) {
-                posts.add(post);
+        RssFeedReader.Result result;
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new IOException("HTTP " + response.statusCode() + " fetching RSS feed");
             }
+            result = feedReader.obtain().read(body, knownHead, knownGuids);
+        }
+        if (!result.posts().isEmpty()) {
+            feedHead = result.posts().getFirst().guid();
         }
 
-        logger.info("Successfully parsed {} posts from RSS feed", posts.size());
-        return posts;
-    }
-
-    private BlogPost convertEntryToBlogPost(SyndEntry entry) {
-        try {
-            String title = entry.getTitle();
-            String link = entry.getLink();
-            String guid = entry.getUri();
-            String description = entry.getDescription() != null ? entry.getDescription().getValue() : "";
-            String author = entry.getAuthor();
-
-            LocalDateTime publishedAt = entry.getPublishedDate() != null ?
-                entry.getPublishedDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime() :
-                LocalDateTime.now();
-
-            // Extract YouTube video URL if present in description or content
-            String youtubeUrl = extractYouTubeUrl(description);
-
-            // Extract potential tags from title and description
-            List<String> tags = extractTagsFromContent(title, description);
-
-            return new BlogPost(title, link, guid, description, publishedAt, author, tags, youtubeUrl);
-        } catch (Exception e) {
-            logger.warn("Failed to convert RSS entry to BlogPost: {}", e.getMessage());
-            return null;
+        if (!result.reachedKnownEntry()) {
+            logger.info("Successfully parsed {} posts from RSS feed", result.posts().size());
+            return result.posts();
         }
+
+        // Stopped at the previous head: everything from there on is already cached
+        List<BlogPost> posts = new ArrayList<>(result.posts().size() + cachedPosts.size());
+        posts.addAll(result.posts());
+        posts.addAll(cachedPosts);
+        logger.info("Parsed {} new posts from RSS feed before reaching cached entries", result.posts().size());
+        return posts;
     }
 
     private boolean matchesKeyword(BlogPost post, String keyword) {
@@ -210,49 +289,14 @@ public class BlogService {
     }
 
     private boolean isWithinDateRange(LocalDateTime date, LocalDateTime start, LocalDateTime end) {
+        if (date == null) return false;
         return !date.isBefore(start) && !date.isAfter(end);
     }
 
-    private String extractYouTubeUrl(String content) {
-        if (content == null) return null;
-
-        // Look for YouTube URLs in the content
-        String[] patterns = {
-            "https://www.youtube.com/watch\\?v=([a-zA-Z0-9_-]+)",
-            "https://youtu.be/([a-zA-Z0-9_-]+)",
-            "youtube.com/embed/([a-zA-Z0-9_-]+)"
-        };
-
-        for (String pattern : patterns) {
-            java.util.regex.Pattern p = java.util.regex.Pattern.compile(pattern);
-            java.util.regex.Matcher m = p.matcher(content);
-            if (m.find()) {
-                return m.group(0);
-            }
-        }
-
-        return null;
-    }
-
-    private List<String> extractTagsFromContent(String title, String description) {
-        String content = (title + " " + (description != null ? description : "")).toLowerCase();
-
-        List<String> commonTechTerms = List.of(
-            "spring", "java", "boot", "ai", "graphql", "react", "vue", "docker",
-            "kubernetes", "microservices", "rest", "api", "jwt", "security",
-            "testing", "junit", "maven", "gradle", "git", "devops", "cloud",
-            "aws", "azure", "gcp", "database", "sql", "nosql", "mongodb",
-            "redis", "elasticsearch", "kafka", "rabbitmq", "jpa", "hibernate"
-        );
-
-        return commonTechTerms.stream()
-                .filter(tag -> content.contains(tag))
-                .collect(Collectors.toList());
-    }
-
     private String findMostCommonTag(List<BlogPost> posts) {
         Map<String, Long> tagCounts = posts.stream()
-                .flatMap(post -> post.extractPotentialTags().stream())
+                .filter(post -> post.tags() != null)
+                .flatMap(post -> post.tags().stream())
                 .collect(Collectors.groupingBy(tag -> tag, Collectors.counting()));
 
         return tagCounts.entrySet().stream()
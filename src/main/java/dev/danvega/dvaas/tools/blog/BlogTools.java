@@ -1,75 +1,146 @@
 package dev.danvega.dvaas.tools.blog;
 
+import dev.danvega.dvaas.cache.Page;
+import dev.danvega.dvaas.projection.RecordProjection;
 import dev.danvega.dvaas.tools.blog.model.BlogPost;
 import dev.danvega.dvaas.tools.blog.model.BlogStats;
 import org.springframework.ai.mcp.annotation.McpTool;
 import org.springframework.ai.mcp.annotation.McpToolParam;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
-import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
 
 @Component
 @ConditionalOnBean(BlogService.class)
 public class BlogTools {
 
+    private static final RecordProjection<BlogPost> POSTS = RecordProjection.of(BlogPost.class);
+
+    // Descriptions shared by the blocking tools and their Mono twins registered in ASYNC mode
+    private static final String LATEST_POSTS = "Get the most recent blog posts from Dan Vega's blog";
+    private static final String SEARCH_POSTS = "Search for blog posts by keyword in title or description (e.g., 'spring boot', 'ai', 'graphql')";
+    private static final String POSTS_BY_DATE_RANGE = "Get blog posts within a specific date range or year (e.g., '2024', '2023-01-01 to 2023-12-31')";
+    private static final String STATS = "Get overall statistics and information about Dan Vega's blog";
+    private static final String KEYWORD = "Keyword to search for in post titles and descriptions";
+    private static final String DATE_RANGE = "Date range: '2024' for year, or 'YYYY-MM-DD to YYYY-MM-DD' for custom range";
+    private static final String COUNT = "Number of posts per page (default: 10, max: 50)";
+    private static final String CURSOR = "nextCursor from a previous response, to fetch the following page (omit for the first page)";
+    private static final String FIELDS = "Comma-separated fields to return, e.g. 'title,link,publishedAt' (default: all fields)";
+
     private final BlogService blogService;
 
     public BlogTools(BlogService blogService) {
         this.blogService = blogService;
     }
 
-    @McpTool(name = "blog-get-latest-posts", description = "Get the most recent blog posts from Dan Vega's blog")
-    public List<BlogPost> getLatestPosts(@McpToolParam(description = "Number of posts to retrieve (default: 10, max: 50)", required = false) String count) {
+    @McpTool(name = "blog-get-latest-posts", description = LATEST_POSTS)
+    public Page<BlogPost> getLatestPosts(
+            @McpToolParam(description = COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
         int maxResults = parseCount(count, 10, 50);
-        return blogService.getLatestPosts(maxResults);
+        return POSTS.apply(blogService.getLatestPosts(maxResults, cursor), fields);
     }
 
-    @McpTool(name = "blog-search-posts-by-keyword", description = "Search for blog posts by keyword in title or description (e.g., 'spring boot', 'ai', 'graphql')")
-    public List<BlogPost> searchPostsByKeyword(
-            @McpToolParam(description = "Keyword to search for in post titles and descriptions",
-                         required = true) String keyword,
-            @McpToolParam(description = "Number of posts to retrieve (default: 10, max: 50)",
-                         required = false) String count) {
-
-        if (keyword == null || keyword.trim().isEmpty()) {
-            throw new IllegalArgumentException("Keyword parameter is required.");
-        }
+    @McpTool(name = "blog-get-latest-posts", description = LATEST_POSTS)
+    public Mono<Page<BlogPost>> getLatestPostsAsync(
+            @McpToolParam(description = COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
+        return Mono.defer(() -> {
+            int maxResults = parseCount(count, 10, 50);
+            return blogService.getLatestPostsAsync(maxResults, cursor).map(page -> POSTS.apply(page, fields));
+        });
+    }
 
+    @McpTool(name = "blog-search-posts-by-keyword", description = SEARCH_POSTS)
+    public Page<BlogPost> searchPostsByKeyword(
+            @McpToolParam(description = KEYWORD, required = true) String keyword,
+            @McpToolParam(description = COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
         int maxResults = parseCount(count, 10, 50);
-        return blogService.searchPostsByKeyword(keyword.trim(), maxResults);
+        return POSTS.apply(blogService.searchPostsByKeyword(requireKeyword(keyword), maxResults, cursor), fields);
     }
 
-    @McpTool(name = "blog-get-posts-by-date-range", description = "Get blog posts within a specific date range or year (e.g., '2024', '2023-01-01 to 2023-12-31')")
-    public List<BlogPost> getPostsByDateRange(
-            @McpToolParam(description = "Date range: '2024' for year, or 'YYYY-MM-DD to YYYY-MM-DD' for custom range",
-                         required = true) String dateRange,
-            @McpToolParam(description = "Number of posts to retrieve (default: 10, max: 50)",
-                         required = false) String count) {
-
-        if (dateRange == null || dateRange.trim().isEmpty()) {
-            throw new IllegalArgumentException("Date range parameter is required. Use format '2024' or '2023-01-01 to 2023-12-31'.");
-        }
+    @McpTool(name = "blog-search-posts-by-keyword", description = SEARCH_POSTS)
+    public Mono<Page<BlogPost>> searchPostsByKeywordAsync(
+            @McpToolParam(description = KEYWORD, required = true) String keyword,
+            @McpToolParam(description = COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
+        // Deferred so invalid arguments surface as an error signal, not a throw at assembly
+        return Mono.defer(() -> {
+            int maxResults = parseCount(count, 10, 50);
+            return blogService.searchPostsByKeywordAsync(requireKeyword(keyword), maxResults, cursor)
+                    .map(page -> POSTS.apply(page, fields));
+        });
+    }
 
+    @McpTool(name = "blog-get-posts-by-date-range", description = POSTS_BY_DATE_RANGE)
+    public Page<BlogPost> getPostsByDateRange(
+            @McpToolParam(description = DATE_RANGE, required = true) String dateRange,
+            @McpToolParam(description = COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
         int maxResults = parseCount(count, 10, 50);
-        return parseDateRangeAndSearch(dateRange.trim(), maxResults);
+        Page<BlogPost> posts = parseDateRangeAndSearch(dateRange,
+                year -> blogService.getPostsByYear(year, maxResults, cursor),
+                (startDate, endDate) -> blogService.getPostsByDateRange(startDate, endDate, maxResults, cursor));
+        return POSTS.apply(posts, fields);
     }
 
-    @McpTool(name = "blog-get-stats", description = "Get overall statistics and information about Dan Vega's blog")
+    @McpTool(name = "blog-get-posts-by-date-range", description = POSTS_BY_DATE_RANGE)
+    public Mono<Page<BlogPost>> getPostsByDateRangeAsync(
+            @McpToolParam(description = DATE_RANGE, required = true) String dateRange,
+            @McpToolParam(description = COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
+        return Mono.defer(() -> {
+            int maxResults = parseCount(count, 10, 50);
+            return parseDateRangeAndSearch(dateRange,
+                    year -> blogService.getPostsByYearAsync(year, maxResults, cursor),
+                    (startDate, endDate) -> blogService.getPostsByDateRangeAsync(startDate, endDate, maxResults, cursor))
+                    .map(page -> POSTS.apply(page, fields));
+        });
+    }
+
+    @McpTool(name = "blog-get-stats", description = STATS)
     public BlogStats getBlogStats() {
         return blogService.getBlogStats();
     }
 
+    @McpTool(name = "blog-get-stats", description = STATS)
+    public Mono<BlogStats> getBlogStatsAsync() {
+        return blogService.getBlogStatsAsync();
+    }
+
+    private String requireKeyword(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            throw new IllegalArgumentException("Keyword parameter is required.");
+        }
+        return keyword.trim();
+    }
+
     /**
-     * Parse date range input and perform search
+     * Parse date range input and search by year or by range
      */
-    private List<BlogPost> parseDateRangeAndSearch(String dateRange, int maxResults) {
+    private <R> R parseDateRangeAndSearch(String dateRange, IntFunction<R> byYear,
+                                          BiFunction<LocalDateTime, LocalDateTime, R> byRange) {
+        if (dateRange == null || dateRange.trim().isEmpty()) {
+            throw new IllegalArgumentException("Date range parameter is required. Use format '2024' or '2023-01-01 to 2023-12-31'.");
+        }
+        dateRange = dateRange.trim();
+
         // Handle year-only format (e.g., "2024")
         if (dateRange.matches("\\d{4}")) {
             int year = Integer.parseInt(dateRange);
-            return blogService.getPostsByYear(year, maxResults);
+            return byYear.apply(year);
         }
 
         // Handle range format (e.g., "2023-01-01 to 2023-12-31")
@@ -82,7 +153,7 @@ public class BlogTools {
             try {
                 LocalDateTime startDate = LocalDateTime.parse(parts[0].trim() + "T00:00:00");
                 LocalDateTime endDate = LocalDateTime.parse(parts[1].trim() + "T23:59:59");
-                return blogService.getPostsByDateRange(startDate, endDate, maxResults);
+                return byRange.apply(startDate, endDate);
             } catch (DateTimeParseException e) {
                 throw new IllegalArgumentException("Invalid date format. Use YYYY-MM-DD format.");
             }
@@ -93,7 +164,7 @@ public class BlogTools {
             try {
                 LocalDateTime singleDate = LocalDateTime.parse(dateRange + "T00:00:00");
                 LocalDateTime endOfDay = singleDate.plusDays(1).minusSeconds(1);
-                return blogService.getPostsByDateRange(singleDate, endOfDay, maxResults);
+                return byRange.apply(singleDate, endOfDay);
             } catch (DateTimeParseException e) {
                 throw new IllegalArgumentException("Invalid date format. Use YYYY-MM-DD format.");
             }
@@ -0,0 +1,227 @@
+package dev.danvega.dvaas.tools.blog;
+
+import dev.danvega.dvaas.enrichment.ContentEnricher;
+import dev.danvega.dvaas.time.DateTimeParser;
+import dev.danvega.dvaas.tools.blog.model.BlogPost;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Streaming StAX reader for RSS 2.0 and Atom feeds. Each {@code <item>} or {@code <entry>} is
+ * turned into a {@link BlogPost} as soon as its end tag is reached; elements the blog tools
+ * don't use (such as {@code content:encoded}) are skipped without buffering their text.
+ */
+public class RssFeedReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(RssFeedReader.class);
+    private static final String ATOM_NAMESPACE = "http://www.w3.org/2005/Atom";
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    private final DateTimeParser dateTimeParser = new DateTimeParser("blog", ZoneId.systemDefault());
+    private final ContentEnricher contentEnricher;
+
+    /**
+     * Posts read from the feed, in feed order. {@code reachedKnownEntry} is true when reading
+     * stopped at the known head, so {@code posts} holds only the entries added above it.
+     */
+    public record Result(List<BlogPost> posts, boolean reachedKnownEntry) {
+    }
+
+    /**
+     * Mutable holder for the fields of the entry currently being read
+     */
+    private static final class Entry {
+        String title;
+        String link;
+        String guid;
+        String description;
+        String author;
+        String published;
+        String updated;
+    }
+
+    public RssFeedReader(ContentEnricher contentEnricher) {
+        this.contentEnricher = contentEnricher;
+    }
+
+    public Result read(InputStream body) throws IOException {
+        return read(body, null, Set.of());
+    }
+
+    /**
+     * Read entries until the end of the feed or the entry whose GUID is {@code knownHead}, the first
+     * entry of the feed when it was last read. Stopping there is only safe when the feed just gained
+     * entries on top, so reading goes on to the end when another entry in {@code knownGuids} comes
+     * before it, which means the feed was reordered.
+     *
+     * @param knownHead GUID to stop at, or null to read the whole feed
+     */
+    public Result read(InputStream body, String knownHead, Set<String> knownGuids) throws IOException {
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(body);
+            List<BlogPost> posts = new ArrayList<>();
+            boolean reordered = false;
+
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+
+                String name = reader.getLocalName();
+                if (!"item".equals(name) && !"entry".equals(name)) {
+                    continue;
+                }
+
+                Entry entry = readEntry(reader);
+                String guid = entry.guid != null ? entry.guid : entry.link;
+                if (guid != null) {
+                    if (!reordered && guid.equals(knownHead)) {
+                        return new Result(posts, true);
+                    }
+                    reordered |= knownGuids.contains(guid);
+                }
+
+                BlogPost post = toBlogPost(entry);
+                if (post != null) {
+                    posts.add(post);
+                }
+            }
+
+            return new Result(posts, false);
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to parse feed: " + e.getMessage(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    logger.debug("Failed to close feed reader: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Entry readEntry(XMLStreamReader reader) throws XMLStreamException {
+        Entry entry = new Entry();
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            boolean atom = ATOM_NAMESPACE.equals(reader.getNamespaceURI());
+
+            switch (reader.getLocalName()) {
+                case "title" -> entry.title = readText(reader);
+                case "link" -> {
+                    String href = reader.getAttributeValue(null, "href");
+                    String rel = reader.getAttributeValue(null, "rel");
+                    if (href != null) {
+                        if (entry.link == null && (rel == null || "alternate".equals(rel))) {
+                            entry.link = href;
+                        }
+                        skipElement(reader);
+                    } else {
+                        entry.link = readText(reader);
+                    }
+                }
+                case "guid", "id" -> entry.guid = readText(reader);
+                case "description", "summary" -> entry.description = readText(reader);
+                case "author" -> entry.author = atom ? readAtomAuthor(reader) : readText(reader);
+                case "creator" -> {
+                    String creator = readText(reader);
+                    if (entry.author == null) {
+                        entry.author = creator;
+                    }
+                }
+                case "pubDate", "published" -> entry.published = readText(reader);
+                case "updated", "date" -> entry.updated = readText(reader);
+                default -> skipElement(reader);
+            }
+        }
+
+        return entry;
+    }
+
+    private BlogPost toBlogPost(Entry entry) {
+        try {
+            String guid = entry.guid != null ? entry.guid : entry.link;
+            String description = entry.description != null ? entry.description : "";
+            LocalDateTime publishedAt = dateTimeParser.parse(entry.published != null ? entry.published : entry.updated);
+
+            // Tags from title and description plus any YouTube link, in one pass
+            ContentEnricher.Enrichment enrichment = contentEnricher.enrich(entry.title, description);
+
+            return new BlogPost(entry.title, entry.link, guid, description, publishedAt, entry.author,
+                    enrichment.tags(), enrichment.youtubeUrl());
+        } catch (Exception e) {
+            logger.warn("Failed to convert feed entry to BlogPost: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Read the text content of the current element, including text nested in child elements
+     * (Atom {@code type="xhtml"}), and leave the reader on its end tag
+     */
+    private String readText(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        int depth = 1;
+
+        while (depth > 0) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> depth++;
+                case XMLStreamConstants.END_ELEMENT -> depth--;
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+                        text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                default -> {
+                }
+            }
+        }
+
+        String value = text.toString().trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private String readAtomAuthor(XMLStreamReader reader) throws XMLStreamException {
+        String name = null;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if ("name".equals(reader.getLocalName())) {
+                name = readText(reader);
+            } else {
+                skipElement(reader);
+            }
+        }
+        return name;
+    }
+
+    private void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // Feeds are untrusted input: no DTDs, no external entities
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        return factory;
+    }
+}
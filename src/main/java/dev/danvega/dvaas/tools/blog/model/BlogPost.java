@@ -35,17 +35,4 @@ public record BlogPost(
     public boolean hasYouTubeVideo() {
         return youtubeVideoUrl != null && !youtubeVideoUrl.isEmpty();
     }
-
-    public List<String> extractPotentialTags() {
-        if (tags != null && !tags.isEmpty()) {
-            return tags;
-        }
-
-        // Extract common tech terms from title and description as potential tags
-        String content = (title + " " + (description != null ? description : "")).toLowerCase();
-        return List.of("spring", "java", "boot", "ai", "graphql", "react", "vue", "docker", "kubernetes")
-                .stream()
-                .filter(tag -> content.contains(tag))
-                .toList();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,249 @@
+package dev.danvega.dvaas.tools.newsletter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import dev.danvega.dvaas.time.DateTimeParser;
+import dev.danvega.dvaas.tools.newsletter.model.Post;
+import dev.danvega.dvaas.tools.newsletter.model.PostStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming reader for the Beehiiv posts list response.
+ * Binds the {@code data} array straight into {@link Post} records from the token stream,
+ * skipping every field the MCP tools never expose.
+ */
+public class BeehiivPostReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(BeehiivPostReader.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int CONTENT_PREVIEW_LENGTH = 200;
+
+    private final DateTimeParser dateTimeParser = new DateTimeParser("newsletter", ZoneOffset.UTC);
+
+    /**
+     * One page of a posts list response with its pagination fields (0 when absent)
+     */
+    public record PostPage(List<Post> posts, int page, int totalPages) {
+
+        public boolean hasMore() {
+            return page > 0 && page < totalPages;
+        }
+    }
+
+    /**
+     * Read all posts from a Beehiiv {@code /publications/{id}/posts} response body
+     */
+    public List<Post> read(InputStream body, String publicationId, String publicationName) throws IOException {
+        return readPage(body, publicationId, publicationName).posts();
+    }
+
+    /**
+     * Read the posts and the {@code page} and {@code total_pages} fields of a Beehiiv
+     * {@code /publications/{id}/posts} response body
+     */
+    public PostPage readPage(InputStream body, String publicationId, String publicationName) throws IOException {
+        List<Post> posts = new ArrayList<>();
+        int page = 0;
+        int totalPages = 0;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected JSON object in Beehiiv response");
+            }
+
+            boolean sawData = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    sawData = true;
+                    JsonToken element;
+                    while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                        if (element == JsonToken.START_OBJECT) {
+                            posts.add(readPost(parser, publicationId, publicationName));
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else if ("page".equals(field)) {
+                    page = scalarInt(parser, value);
+                } else if ("total_pages".equals(field)) {
+                    totalPages = scalarInt(parser, value);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (!sawData) {
+                logger.warn("No 'data' field in API response for publication '{}'", publicationName);
+            }
+        }
+
+        return new PostPage(posts, page, totalPages);
+    }
+
+    private Post readPost(JsonParser parser, String publicationId, String publicationName) throws IOException {
+        String id = null;
+        String title = null;
+        List<String> authors = new ArrayList<>();
+        String status = null;
+        LocalDateTime publishDate = null;
+        LocalDateTime displayedDate = null;
+        String webUrl = null;
+        String thumbnailUrl = null;
+        String contentPreview = null;
+        String platform = null;
+        String audience = null;
+        List<String> contentTags = new ArrayList<>();
+        PostStats stats = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            switch (field) {
+                case "id" -> id = scalarText(parser, value);
+                case "title" -> title = scalarText(parser, value);
+                case "authors" -> readStringArray(parser, value, authors);
+                case "status" -> status = scalarText(parser, value);
+                case "publish_date" -> publishDate = dateTimeParser.parse(scalarText(parser, value));
+                case "displayed_date" -> displayedDate = dateTimeParser.parse(scalarText(parser, value));
+                case "web_url" -> webUrl = scalarText(parser, value);
+                case "thumbnail_url" -> thumbnailUrl = scalarText(parser, value);
+                case "platform" -> platform = scalarText(parser, value);
+                case "audience" -> audience = scalarText(parser, value);
+                case "content_tags" -> readStringArray(parser, value, contentTags);
+                case "content" -> contentPreview = readContentPreview(parser, value);
+                case "stats" -> stats = readStats(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return new Post(
+                id,
+                publicationId,
+                publicationName,
+                title,
+                authors,
+                status,
+                publishDate,
+                displayedDate,
+                webUrl,
+                thumbnailUrl,
+                contentPreview,
+                platform,
+                audience,
+                contentTags,
+                stats
+        );
+    }
+
+    private String readContentPreview(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        String preview = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            if ("free_web_content".equals(field) && token.isScalarValue() && token != JsonToken.VALUE_NULL) {
+                // Copy only the preview window out of the parser buffer instead of the whole HTML body
+                int length = parser.getTextLength();
+                if (length > CONTENT_PREVIEW_LENGTH) {
+                    preview = new String(parser.getTextCharacters(), parser.getTextOffset(), CONTENT_PREVIEW_LENGTH) + "...";
+                } else {
+                    preview = parser.getText();
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return preview;
+    }
+
+    private PostStats readStats(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        long opens = 0L;
+        long clicks = 0L;
+        long uniqueOpens = 0L;
+        long uniqueClicks = 0L;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            switch (field) {
+                case "opens" -> opens = scalarLong(parser, token);
+                case "clicks" -> clicks = scalarLong(parser, token);
+                case "unique_opens" -> uniqueOpens = scalarLong(parser, token);
+                case "unique_clicks" -> uniqueClicks = scalarLong(parser, token);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return new PostStats(opens, clicks, uniqueOpens, uniqueClicks);
+    }
+
+    private void readStringArray(JsonParser parser, JsonToken value, List<String> target) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token.isScalarValue() && token != JsonToken.VALUE_NULL) {
+                target.add(parser.getText());
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private String scalarText(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!value.isScalarValue()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getText();
+    }
+
+    private int scalarInt(JsonParser parser, JsonToken value) throws IOException {
+        if (!value.isScalarValue()) {
+            parser.skipChildren();
+            return 0;
+        }
+        return parser.getValueAsInt(0);
+    }
+
+    private long scalarLong(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT || value == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getValueAsLong();
+        }
+        if (value == JsonToken.VALUE_STRING) {
+            return parser.getValueAsLong(0L);
+        }
+        parser.skipChildren();
+        return 0L;
+    }
+}
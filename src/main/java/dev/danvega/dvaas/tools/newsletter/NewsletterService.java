@@ -1,132 +1,183 @@
 package dev.danvega.dvaas.tools.newsletter;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.danvega.dvaas.cache.CachedToolSource;
+import dev.danvega.dvaas.cache.Page;
+import dev.danvega.dvaas.cache.Snapshot;
+import dev.danvega.dvaas.cache.SourceCache;
 import dev.danvega.dvaas.config.NewsletterProperties;
+import dev.danvega.dvaas.http.OutboundHttpClient;
 import dev.danvega.dvaas.tools.newsletter.model.Post;
 import dev.danvega.dvaas.tools.newsletter.model.PostStats;
 import dev.danvega.dvaas.tools.newsletter.model.PublicationStats;
+import dev.danvega.dvaas.tools.report.ContentReportSource;
+import dev.danvega.dvaas.tools.report.model.ReportEntry;
+import dev.danvega.dvaas.tools.report.model.ReportPeriod;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
+import java.io.InputStream;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 @Service
 @ConditionalOnProperty(name = "dvaas.newsletter.api-key")
-public class NewsletterService {
+public class NewsletterService implements CachedToolSource, ContentReportSource {
 
     private static final Logger logger = LoggerFactory.getLogger(NewsletterService.class);
+    /** The most posts Beehiiv returns per page */
+    private static final int POSTS_PER_PAGE = 50;
+    /** Beehiiv paginates posts; stop after this many pages per publication to avoid looping forever */
+    private static final int MAX_POST_PAGES = 10;
+    static final Comparator<Post> NEWEST_FIRST =
+            Comparator.comparing(Post::getEffectivePublishDate, Comparator.nullsLast(Comparator.reverseOrder()));
 
     private final NewsletterProperties newsletterProperties;
-    private final HttpClient httpClient;
-    private final ObjectMapper objectMapper;
-    private final Map<String, Object> cache = new ConcurrentHashMap<>();
-    private final Map<String, LocalDateTime> cacheTimestamps = new ConcurrentHashMap<>();
+    private final OutboundHttpClient httpClient;
+    private final BeehiivPostReader postReader;
+    private final SourceCache<Post> postCache;
 
-    public NewsletterService(NewsletterProperties newsletterProperties) {
+    public NewsletterService(NewsletterProperties newsletterProperties, OutboundHttpClient httpClient,
+                             MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
         this.newsletterProperties = newsletterProperties;
-        this.httpClient = HttpClient.newHttpClient();
-        this.objectMapper = new ObjectMapper();
+        this.httpClient = httpClient;
+        this.postReader = new BeehiivPostReader();
+        this.postCache = SourceCache.async("newsletter", newsletterProperties.cacheDuration(), NEWEST_FIRST,
+                this::fetchPostsFromAllPublications, meterRegistry, observationRegistry);
         logger.info("Newsletter service initialized with base URL: {}", newsletterProperties.baseUrl());
-        logger.info("Newsletter publications: {}", newsletterProperties.getPublicationNames());
-        logger.info("Newsletter cache duration: {} minutes", newsletterProperties.getCacheDurationMinutes());
+        logger.debug("Newsletter publications: {}", newsletterProperties.getPublicationNames());
+        logger.debug("Newsletter cache duration: {} minutes", newsletterProperties.getCacheDurationMinutes());
+    }
+
+    @Override
+    public String toolPrefix() {
+        return "newsletter-";
+    }
+
+    @Override
+    public long generation() {
+        return postCache.snapshot().version();
+    }
+
+    @Override
+    public List<SourceCache<?>> caches() {
+        return List.of(postCache);
+    }
+
+    @Override
+    public Mono<Long> generationAsync() {
+        return postCache.snapshotAsync().map(Snapshot::version);
+    }
+
+    @Override
+    public Set<String> reportContentTypes() {
+        return Set.of("newsletter");
+    }
+
+    /**
+     * Published posts of every publication
+     */
+    @Override
+    public List<ReportEntry> reportEntries(ReportPeriod period) {
+        return reportEntries(postCache.items(), period).toList();
+    }
+
+    @Override
+    public Mono<List<ReportEntry>> reportEntriesAsync(ReportPeriod period) {
+        return postCache.itemsAsync().map(posts -> reportEntries(posts, period).toList());
+    }
+
+    @Override
+    public Stream<ReportEntry> exportEntries(ReportPeriod period) {
+        return reportEntries(postCache.items(), period);
+    }
+
+    private static Stream<ReportEntry> reportEntries(List<Post> posts, ReportPeriod period) {
+        return posts.stream()
+                .filter(post -> post.isPublished() && period.contains(post.publishDate()))
+                .map(post -> ReportEntry.of(post.title(), "newsletter", post.publishDate().toLocalDate(), post.webUrl()));
     }
 
     public List<Post> getLatestPosts(String publication, int maxResults) {
-        if ("all".equalsIgnoreCase(publication)) {
-            return getAllPostsFromAllPublications(maxResults);
-        }
+        return getLatestPosts(publication, maxResults, null).items();
+    }
 
-        if (!newsletterProperties.hasPublication(publication)) {
-            throw new IllegalArgumentException("Unknown publication: " + publication + ". Available: " + newsletterProperties.getPublicationNames());
-        }
+    public Page<Post> getLatestPosts(String publication, int pageSize, String cursor) {
+        Predicate<Post> inPublication = publicationFilter(publication);
+        return postCache.page("latest:" + publication.toLowerCase(), inPublication, Math.min(pageSize, 50), cursor);
+    }
 
-        List<Post> allPosts = getCachedPosts(publication);
-        return allPosts.stream()
-                .sorted((p1, p2) -> {
-                    LocalDateTime date1 = p1.getEffectivePublishDate();
-                    LocalDateTime date2 = p2.getEffectivePublishDate();
-                    if (date1 == null && date2 == null) return 0;
-                    if (date1 == null) return 1;
-                    if (date2 == null) return -1;
-                    return date2.compareTo(date1);
-                })
-                .limit(Math.min(maxResults, 50))
-                .toList();
+    public Mono<Page<Post>> getLatestPostsAsync(String publication, int pageSize, String cursor) {
+        return Mono.defer(() -> postCache.pageAsync("latest:" + publication.toLowerCase(), publicationFilter(publication),
+                Math.min(pageSize, 50), cursor));
     }
 
     public List<Post> searchPostsByKeyword(String publication, String keyword, int maxResults) {
+        return searchPostsByKeyword(publication, keyword, maxResults, null).items();
+    }
+
+    public Page<Post> searchPostsByKeyword(String publication, String keyword, int pageSize, String cursor) {
         if (keyword == null || keyword.trim().isEmpty()) {
-            return List.of();
+            return Page.empty();
         }
 
         String searchTerm = keyword.toLowerCase().trim();
-        List<Post> allPosts = getPostsForPublication(publication);
-
-        return allPosts.stream()
-                .filter(post -> matchesKeyword(post, searchTerm))
-                .sorted((p1, p2) -> {
-                    LocalDateTime date1 = p1.getEffectivePublishDate();
-                    LocalDateTime date2 = p2.getEffectivePublishDate();
-                    if (date1 == null && date2 == null) return 0;
-                    if (date1 == null) return 1;
-                    if (date2 == null) return -1;
-                    return date2.compareTo(date1);
-                })
-                .limit(Math.min(maxResults, 50))
-                .toList();
+        Predicate<Post> inPublication = publicationFilter(publication);
+        return postCache.page("search:" + publication.toLowerCase() + ":" + searchTerm,
+                inPublication.and(post -> matchesKeyword(post, searchTerm)), Math.min(pageSize, 50), cursor);
     }
 
-    public List<Post> getPostsByStatus(String publication, String status, int maxResults) {
-        List<Post> allPosts = getPostsForPublication(publication);
-
-        if ("all".equalsIgnoreCase(status)) {
-            return allPosts.stream()
-                    .sorted((p1, p2) -> {
-                        LocalDateTime date1 = p1.getEffectivePublishDate();
-                        LocalDateTime date2 = p2.getEffectivePublishDate();
-                        if (date1 == null && date2 == null) return 0;
-                        if (date1 == null) return 1;
-                        if (date2 == null) return -1;
-                        return date2.compareTo(date1);
-                    })
-                    .limit(Math.min(maxResults, 50))
-                    .toList();
+    public Mono<Page<Post>> searchPostsByKeywordAsync(String publication, String keyword, int pageSize, String cursor) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return Mono.just(Page.empty());
         }
 
-        return allPosts.stream()
-                .filter(post -> status.equalsIgnoreCase(post.status()))
-                .sorted((p1, p2) -> {
-                    LocalDateTime date1 = p1.getEffectivePublishDate();
-                    LocalDateTime date2 = p2.getEffectivePublishDate();
-                    if (date1 == null && date2 == null) return 0;
-                    if (date1 == null) return 1;
-                    if (date2 == null) return -1;
-                    return date2.compareTo(date1);
-                })
-                .limit(Math.min(maxResults, 50))
-                .toList();
+        String searchTerm = keyword.toLowerCase().trim();
+        return Mono.defer(() -> postCache.pageAsync("search:" + publication.toLowerCase() + ":" + searchTerm,
+                publicationFilter(publication).and(post -> matchesKeyword(post, searchTerm)), Math.min(pageSize, 50), cursor));
+    }
+
+    public List<Post> getPostsByStatus(String publication, String status, int maxResults) {
+        return getPostsByStatus(publication, status, maxResults, null).items();
+    }
+
+    public Page<Post> getPostsByStatus(String publication, String status, int pageSize, String cursor) {
+        return postCache.page("status:" + publication.toLowerCase() + ":" + status.toLowerCase(),
+                statusFilter(publication, status), Math.min(pageSize, 50), cursor);
+    }
+
+    public Mono<Page<Post>> getPostsByStatusAsync(String publication, String status, int pageSize, String cursor) {
+        return Mono.defer(() -> postCache.pageAsync("status:" + publication.toLowerCase() + ":" + status.toLowerCase(),
+                statusFilter(publication, status), Math.min(pageSize, 50), cursor));
     }
 
     public PublicationStats getPublicationStats(String publication) {
-        if (!"all".equalsIgnoreCase(publication) && !newsletterProperties.hasPublication(publication)) {
-            throw new IllegalArgumentException("Unknown publication: " + publication + ". Available: " + newsletterProperties.getPublicationNames());
-        }
+        return stats(publication, postCache.items());
+    }
+
+    public Mono<PublicationStats> getPublicationStatsAsync(String publication) {
+        return Mono.defer(() -> {
+            // Reject unknown publications before loading anything
+            publicationFilter(publication);
+            return postCache.itemsAsync().map(items -> stats(publication, items));
+        });
+    }
 
-        List<Post> posts = getPostsForPublication(publication);
+    private PublicationStats stats(String publication, List<Post> allPosts) {
+        List<Post> posts = allPosts.stream()
+                .filter(publicationFilter(publication))
+                .toList();
 
         int totalPosts = posts.size();
         int publishedPosts = (int) posts.stream().filter(Post::isPublished).count();
@@ -175,240 +226,109 @@ public class NewsletterService {
         );
     }
 
-    private List<Post> getPostsForPublication(String publication) {
+    private Predicate<Post> statusFilter(String publication, String status) {
+        Predicate<Post> filter = publicationFilter(publication);
+        if (!"all".equalsIgnoreCase(status)) {
+            filter = filter.and(post -> status.equalsIgnoreCase(post.status()));
+        }
+        return filter;
+    }
+
+    private Predicate<Post> publicationFilter(String publication) {
         if ("all".equalsIgnoreCase(publication)) {
-            return getAllPostsFromAllPublications(50);
+            return post -> true;
         }
 
         if (!newsletterProperties.hasPublication(publication)) {
             throw new IllegalArgumentException("Unknown publication: " + publication + ". Available: " + newsletterProperties.getPublicationNames());
         }
 
-        return getCachedPosts(publication);
-    }
-
-    private List<Post> getAllPostsFromAllPublications(int maxResults) {
-        List<Post> allPosts = new ArrayList<>();
-
-        for (String pubName : newsletterProperties.getPublicationNames()) {
-            allPosts.addAll(getCachedPosts(pubName));
-        }
-
-        return allPosts.stream()
-                .sorted((p1, p2) -> {
-                    LocalDateTime date1 = p1.getEffectivePublishDate();
-                    LocalDateTime date2 = p2.getEffectivePublishDate();
-                    if (date1 == null && date2 == null) return 0;
-                    if (date1 == null) return 1;
-                    if (date2 == null) return -1;
-                    return date2.compareTo(date1);
-                })
-                .limit(Math.min(maxResults, 50))
-                .toList();
+        return post -> publication.equalsIgnoreCase(post.publicationName());
     }
 
-    @SuppressWarnings("unchecked")
-    private List<Post> getCachedPosts(String publication) {
-        String cacheKey = "posts_" + publication;
-
-        if (needsCacheRefresh(cacheKey)) {
-            try {
-                String publicationId = newsletterProperties.getPublicationId(publication);
-                List<Post> posts = fetchPostsFromApi(publicationId, publication);
-                cache.put(cacheKey, posts);
-                cacheTimestamps.put(cacheKey, LocalDateTime.now());
-                logger.info("Newsletter cache refreshed for publication '{}' with {} posts", publication, posts.size());
-                return posts;
-            } catch (Exception e) {
-                logger.error("Failed to refresh newsletter cache for publication '{}'", publication, e);
-                return (List<Post>) cache.getOrDefault(cacheKey, List.of());
-            }
-        }
-
-        return (List<Post>) cache.getOrDefault(cacheKey, List.of());
+    /**
+     * Fetch every configured publication concurrently. A publication that fails keeps its previously
+     * cached posts; the refresh only fails when no publication could be fetched.
+     */
+    private Mono<List<Post>> fetchPostsFromAllPublications(List<Post> cachedPosts) {
+        return Flux.fromIterable(newsletterProperties.getPublicationNames())
+                .flatMapSequential(publication -> fetchPostsFromApi(newsletterProperties.getPublicationId(publication), publication)
+                        .map(posts -> new PublicationFetch(posts, null))
+                        .onErrorResume(e -> {
+                            logger.error("Failed to refresh newsletter cache for publication '{}'", publication, e);
+                            List<Post> cached = cachedPosts.stream()
+                                    .filter(post -> publication.equalsIgnoreCase(post.publicationName()))
+                                    .toList();
+                            return Mono.just(new PublicationFetch(cached, e));
+                        }))
+                .collectList()
+                .flatMap(fetches -> {
+                    List<Post> allPosts = new ArrayList<>();
+                    Throwable lastFailure = null;
+                    int fetched = 0;
+                    for (PublicationFetch fetch : fetches) {
+                        allPosts.addAll(fetch.posts());
+                        if (fetch.failure() == null) {
+                            fetched++;
+                        } else {
+                            lastFailure = fetch.failure();
+                        }
+                    }
+                    if (fetched == 0 && lastFailure != null) {
+                        return Mono.error(lastFailure);
+                    }
+                    return Mono.just(allPosts);
+                });
     }
 
-    private boolean needsCacheRefresh(String cacheKey) {
-        LocalDateTime lastCacheTime = cacheTimestamps.get(cacheKey);
-        return lastCacheTime == null ||
-               ChronoUnit.MINUTES.between(lastCacheTime, LocalDateTime.now()) >= newsletterProperties.getCacheDurationMinutes() ||
-               !cache.containsKey(cacheKey);
+    /**
+     * Posts of one publication, either fetched or, after a failure, the previously cached ones
+     */
+    private record PublicationFetch(List<Post> posts, Throwable failure) {
     }
 
-    private List<Post> fetchPostsFromApi(String publicationId, String publicationName) throws IOException, InterruptedException {
-        String url = String.format("%s/publications/%s/posts?limit=50&order_by=publish_date&direction=desc",
-                newsletterProperties.baseUrl(), publicationId);
-
-        logger.info("Fetching posts from Beehiiv API for publication '{}': {}", publicationName, url);
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("Authorization", "Bearer " + newsletterProperties.apiKey())
-                .header("Accept", "application/json")
-                .GET()
-                .build();
-
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-        if (response.statusCode() != 200) {
-            throw new IOException("HTTP " + response.statusCode() + ": " + response.body());
-        }
-
-        // Parse JSON response
-        Map<String, Object> apiResponse = objectMapper.readValue(
-            response.body(),
-            new TypeReference<Map<String, Object>>() {}
-        );
-
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> postsData = (List<Map<String, Object>>) apiResponse.get("data");
-
-        if (postsData == null) {
-            logger.warn("No 'data' field in API response for publication '{}'", publicationName);
-            return List.of();
-        }
-
-        List<Post> posts = new ArrayList<>();
-        for (Map<String, Object> postData : postsData) {
-            Post post = convertApiDataToPost(postData, publicationId, publicationName);
-            if (post != null) {
-                posts.add(post);
-            }
-        }
-
-        logger.info("Successfully parsed {} posts from Beehiiv API for publication '{}'", posts.size(), publicationName);
-        return posts;
+    private Mono<List<Post>> fetchPostsFromApi(String publicationId, String publicationName) {
+        return Flux.range(1, MAX_POST_PAGES)
+                .doOnSubscribe(subscription -> logger.info("Fetching posts from Beehiiv API for publication '{}'", publicationName))
+                // One page at a time, stopping at the last one
+                .concatMap(page -> fetchPostPage(publicationId, publicationName, page))
+                .takeUntil(page -> !page.hasMore())
+                .doOnNext(page -> {
+                    if (page.page() == MAX_POST_PAGES && page.hasMore()) {
+                        logger.warn("Publication '{}' has {} pages of posts; only the latest {} are cached",
+                                publicationName, page.totalPages(), MAX_POST_PAGES);
+                    }
+                })
+                .flatMapIterable(BeehiivPostReader.PostPage::posts)
+                .collectList()
+                .doOnNext(posts -> logger.info("Successfully parsed {} posts from Beehiiv API for publication '{}'",
+                        posts.size(), publicationName));
     }
 
-    @SuppressWarnings("unchecked")
-    private Post convertApiDataToPost(Map<String, Object> data, String publicationId, String publicationName) {
-        try {
-            String id = getStringValue(data, "id");
-            String title = getStringValue(data, "title");
-
-            List<String> authors = new ArrayList<>();
-            Object authorsObj = data.get("authors");
-            if (authorsObj instanceof List) {
-                authors = ((List<Object>) authorsObj).stream()
-                        .map(Object::toString)
-                        .collect(Collectors.toList());
-            }
-
-            String status = getStringValue(data, "status");
-            LocalDateTime publishDate = parseDateTime(getStringValue(data, "publish_date"));
-            LocalDateTime displayedDate = parseDateTime(getStringValue(data, "displayed_date"));
-            String webUrl = getStringValue(data, "web_url");
-            String thumbnailUrl = getStringValue(data, "thumbnail_url");
-            String platform = getStringValue(data, "platform");
-            String audience = getStringValue(data, "audience");
-
-            // Extract content preview
-            String contentPreview = null;
-            Object contentObj = data.get("content");
-            if (contentObj instanceof Map) {
-                Map<String, Object> content = (Map<String, Object>) contentObj;
-                Object freeWebContent = content.get("free_web_content");
-                if (freeWebContent != null) {
-                    String fullContent = freeWebContent.toString();
-                    contentPreview = fullContent.length() > 200
-                        ? fullContent.substring(0, 200) + "..."
-                        : fullContent;
-                }
-            }
+    private Mono<BeehiivPostReader.PostPage> fetchPostPage(String publicationId, String publicationName, int page) {
+        String url = String.format("%s/publications/%s/posts?limit=%d&page=%d&order_by=publish_date&direction=desc",
+                newsletterProperties.baseUrl(), publicationId, POSTS_PER_PAGE, page);
 
-            // Extract content tags
-            List<String> contentTags = new ArrayList<>();
-            Object tagsObj = data.get("content_tags");
-            if (tagsObj instanceof List) {
-                contentTags = ((List<Object>) tagsObj).stream()
-                        .map(Object::toString)
-                        .collect(Collectors.toList());
-            }
+        return Mono.defer(() -> {
+            logger.debug("Fetching page {} of posts for publication '{}': {}", page, publicationName, url);
 
-            // Extract stats if available
-            PostStats stats = null;
-            Object statsObj = data.get("stats");
-            if (statsObj instanceof Map) {
-                Map<String, Object> statsData = (Map<String, Object>) statsObj;
-                long opens = getLongValue(statsData, "opens");
-                long clicks = getLongValue(statsData, "clicks");
-                long uniqueOpens = getLongValue(statsData, "unique_opens");
-                long uniqueClicks = getLongValue(statsData, "unique_clicks");
-                stats = new PostStats(opens, clicks, uniqueOpens, uniqueClicks);
-            }
+            HttpRequest request = httpClient.newRequest(url)
+                    .header("Authorization", "Bearer " + newsletterProperties.apiKey())
+                    .header("Accept", "application/json")
+                    .build();
 
-            return new Post(
-                    id,
-                    publicationId,
-                    publicationName,
-                    title,
-                    authors,
-                    status,
-                    publishDate,
-                    displayedDate,
-                    webUrl,
-                    thumbnailUrl,
-                    contentPreview,
-                    platform,
-                    audience,
-                    contentTags,
-                    stats
-            );
-        } catch (Exception e) {
-            logger.warn("Failed to convert API data to Post: {}", e.getMessage());
-            return null;
-        }
+            return httpClient.sendAsync("newsletter", request);
+        }).flatMap(response -> Mono.fromCallable(() -> readPosts(response, publicationId, publicationName)));
     }
 
-    private LocalDateTime parseDateTime(String dateStr) {
-        if (dateStr == null || dateStr.trim().isEmpty()) {
-            return null;
-        }
-
-        try {
-            // Try to parse as Unix timestamp (epoch seconds)
-            try {
-                long epochSeconds = Long.parseLong(dateStr);
-                return LocalDateTime.ofEpochSecond(epochSeconds, 0, java.time.ZoneOffset.UTC);
-            } catch (NumberFormatException e) {
-                // Not a number, try ISO 8601 formats
-            }
-
-            // Beehiiv API may return ISO 8601 format
-            DateTimeFormatter[] formatters = {
-                DateTimeFormatter.ISO_DATE_TIME,
-                DateTimeFormatter.ISO_LOCAL_DATE_TIME,
-                DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS'Z'"),
-                DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'"),
-                DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
-            };
-
-            for (DateTimeFormatter formatter : formatters) {
-                try {
-                    return LocalDateTime.parse(dateStr.replace("Z", ""), formatter);
-                } catch (DateTimeParseException ignored) {
-                    // Try next formatter
-                }
+    private BeehiivPostReader.PostPage readPosts(HttpResponse<InputStream> response, String publicationId,
+                                                 String publicationName) throws IOException {
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new IOException("HTTP " + response.statusCode() + ": " + new String(body.readAllBytes(), StandardCharsets.UTF_8));
             }
 
-            logger.warn("Could not parse date: {}", dateStr);
-            return null;
-        } catch (Exception e) {
-            logger.warn("Error parsing date '{}': {}", dateStr, e.getMessage());
-            return null;
-        }
-    }
-
-    private long getLongValue(Map<String, Object> map, String key) {
-        Object value = map.get(key);
-        if (value == null) return 0L;
-        if (value instanceof Number) {
-            return ((Number) value).longValue();
-        }
-        try {
-            return Long.parseLong(value.toString());
-        } catch (NumberFormatException e) {
-            return 0L;
+            return postReader.readPage(body, publicationId, publicationName);
         }
     }
 
@@ -419,12 +339,4 @@ public class NewsletterService {
 
         return title.contains(keyword) || contentPreview.contains(keyword) || authors.contains(keyword);
     }
-
-    private String getStringValue(Map<String, Object> map, String key) {
-        Object value = map.get(key);
-        if (value == null) {
-            return null;
-        }
-        return value.toString();
-    }
 }
@@ -1,83 +1,142 @@
 package dev.danvega.dvaas.tools.newsletter;
 
+import dev.danvega.dvaas.cache.Page;
+import dev.danvega.dvaas.projection.RecordProjection;
 import dev.danvega.dvaas.tools.newsletter.model.Post;
 import dev.danvega.dvaas.tools.newsletter.model.PublicationStats;
 import org.springframework.ai.mcp.annotation.McpTool;
 import org.springframework.ai.mcp.annotation.McpToolParam;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.stereotype.Component;
-
-import java.util.List;
+import reactor.core.publisher.Mono;
 
 @Component
 @ConditionalOnBean(NewsletterService.class)
 public class NewsletterTools {
 
+    private static final RecordProjection<Post> POSTS = RecordProjection.of(Post.class);
+
+    // Descriptions shared by the blocking tools and their Mono twins registered in ASYNC mode
+    private static final String LATEST_POSTS = "Get the most recent newsletter posts from Dan Vega's publications (danvega, bytesizedai, or all)";
+    private static final String SEARCH_POSTS = "Search for newsletter posts by keyword in title, content, or authors (e.g., 'spring', 'ai', 'java')";
+    private static final String POSTS_BY_STATUS = "Get newsletter posts filtered by status: 'draft' (not scheduled), 'confirmed' (published/scheduled), 'archived', or 'all'";
+    private static final String PUBLICATION_STATS = "Get statistics and information about Dan Vega's newsletter publications";
+    private static final String KEYWORD = "Keyword to search for in post titles, content, and authors";
+    private static final String STATUS = "Post status: 'draft', 'confirmed', 'archived', or 'all' (default: 'confirmed')";
+    private static final String PUBLICATION = "Publication name: 'danvega', 'bytesizedai', or 'all' (default: 'all')";
+    private static final String COUNT = "Number of posts per page (default: 10, max: 50)";
+    private static final String CURSOR = "nextCursor from a previous response, to fetch the following page (omit for the first page)";
+    private static final String FIELDS = "Comma-separated fields to return, e.g. 'title,webUrl,publishDate' (default: all fields)";
+
     private final NewsletterService newsletterService;
 
     public NewsletterTools(NewsletterService newsletterService) {
         this.newsletterService = newsletterService;
     }
 
-    @McpTool(name = "newsletter-get-latest-posts",
-             description = "Get the most recent newsletter posts from Dan Vega's publications (danvega, bytesizedai, or all)")
-    public List<Post> getLatestPosts(
-            @McpToolParam(description = "Publication name: 'danvega', 'bytesizedai', or 'all' (default: 'all')",
-                         required = false) String publication,
-            @McpToolParam(description = "Number of posts to retrieve (default: 10, max: 50)",
-                         required = false) String count) {
-
-        String pubFilter = publication != null && !publication.trim().isEmpty() ? publication.trim() : "all";
+    @McpTool(name = "newsletter-get-latest-posts", description = LATEST_POSTS)
+    public Page<Post> getLatestPosts(
+            @McpToolParam(description = PUBLICATION, required = false) String publication,
+            @McpToolParam(description = COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
         int maxResults = parseCount(count, 10, 50);
-
-        return newsletterService.getLatestPosts(pubFilter, maxResults);
+        return POSTS.apply(newsletterService.getLatestPosts(publicationFilter(publication), maxResults, cursor), fields);
     }
 
-    @McpTool(name = "newsletter-search-posts-by-keyword",
-             description = "Search for newsletter posts by keyword in title, content, or authors (e.g., 'spring', 'ai', 'java')")
-    public List<Post> searchPostsByKeyword(
-            @McpToolParam(description = "Keyword to search for in post titles, content, and authors",
-                         required = true) String keyword,
-            @McpToolParam(description = "Publication name: 'danvega', 'bytesizedai', or 'all' (default: 'all')",
-                         required = false) String publication,
-            @McpToolParam(description = "Number of posts to retrieve (default: 10, max: 50)",
-                         required = false) String count) {
-
-        if (keyword == null || keyword.trim().isEmpty()) {
-            throw new IllegalArgumentException("Keyword parameter is required.");
-        }
+    @McpTool(name = "newsletter-get-latest-posts", description = LATEST_POSTS)
+    public Mono<Page<Post>> getLatestPostsAsync(
+            @McpToolParam(description = PUBLICATION, required = false) String publication,
+            @McpToolParam(description = COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
+        return Mono.defer(() -> {
+            int maxResults = parseCount(count, 10, 50);
+            return newsletterService.getLatestPostsAsync(publicationFilter(publication), maxResults, cursor)
+                    .map(page -> POSTS.apply(page, fields));
+        });
+    }
 
-        String pubFilter = publication != null && !publication.trim().isEmpty() ? publication.trim() : "all";
+    @McpTool(name = "newsletter-search-posts-by-keyword", description = SEARCH_POSTS)
+    public Page<Post> searchPostsByKeyword(
+            @McpToolParam(description = KEYWORD, required = true) String keyword,
+            @McpToolParam(description = PUBLICATION, required = false) String publication,
+            @McpToolParam(description = COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
+        String searchKeyword = requireKeyword(keyword);
         int maxResults = parseCount(count, 10, 50);
+        return POSTS.apply(newsletterService.searchPostsByKeyword(publicationFilter(publication), searchKeyword,
+                maxResults, cursor), fields);
+    }
 
-        return newsletterService.searchPostsByKeyword(pubFilter, keyword.trim(), maxResults);
+    @McpTool(name = "newsletter-search-posts-by-keyword", description = SEARCH_POSTS)
+    public Mono<Page<Post>> searchPostsByKeywordAsync(
+            @McpToolParam(description = KEYWORD, required = true) String keyword,
+            @McpToolParam(description = PUBLICATION, required = false) String publication,
+            @McpToolParam(description = COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
+        // Deferred so invalid arguments surface as an error signal, not a throw at assembly
+        return Mono.defer(() -> {
+            String searchKeyword = requireKeyword(keyword);
+            int maxResults = parseCount(count, 10, 50);
+            return newsletterService.searchPostsByKeywordAsync(publicationFilter(publication), searchKeyword,
+                    maxResults, cursor).map(page -> POSTS.apply(page, fields));
+        });
     }
 
-    @McpTool(name = "newsletter-get-posts-by-status",
-             description = "Get newsletter posts filtered by status: 'draft' (not scheduled), 'confirmed' (published/scheduled), 'archived', or 'all'")
-    public List<Post> getPostsByStatus(
-            @McpToolParam(description = "Post status: 'draft', 'confirmed', 'archived', or 'all' (default: 'confirmed')",
-                         required = false) String status,
-            @McpToolParam(description = "Publication name: 'danvega', 'bytesizedai', or 'all' (default: 'all')",
-                         required = false) String publication,
-            @McpToolParam(description = "Number of posts to retrieve (default: 10, max: 50)",
-                         required = false) String count) {
-
-        String statusFilter = status != null && !status.trim().isEmpty() ? status.trim() : "confirmed";
-        String pubFilter = publication != null && !publication.trim().isEmpty() ? publication.trim() : "all";
+    @McpTool(name = "newsletter-get-posts-by-status", description = POSTS_BY_STATUS)
+    public Page<Post> getPostsByStatus(
+            @McpToolParam(description = STATUS, required = false) String status,
+            @McpToolParam(description = PUBLICATION, required = false) String publication,
+            @McpToolParam(description = COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
         int maxResults = parseCount(count, 10, 50);
+        return POSTS.apply(newsletterService.getPostsByStatus(publicationFilter(publication), statusFilter(status),
+                maxResults, cursor), fields);
+    }
 
-        return newsletterService.getPostsByStatus(pubFilter, statusFilter, maxResults);
+    @McpTool(name = "newsletter-get-posts-by-status", description = POSTS_BY_STATUS)
+    public Mono<Page<Post>> getPostsByStatusAsync(
+            @McpToolParam(description = STATUS, required = false) String status,
+            @McpToolParam(description = PUBLICATION, required = false) String publication,
+            @McpToolParam(description = COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
+        return Mono.defer(() -> {
+            int maxResults = parseCount(count, 10, 50);
+            return newsletterService.getPostsByStatusAsync(publicationFilter(publication), statusFilter(status),
+                    maxResults, cursor).map(page -> POSTS.apply(page, fields));
+        });
     }
 
-    @McpTool(name = "newsletter-get-publication-stats",
-             description = "Get statistics and information about Dan Vega's newsletter publications")
+    @McpTool(name = "newsletter-get-publication-stats", description = PUBLICATION_STATS)
     public PublicationStats getPublicationStats(
-            @McpToolParam(description = "Publication name: 'danvega', 'bytesizedai', or 'all' (default: 'all')",
-                         required = false) String publication) {
+            @McpToolParam(description = PUBLICATION, required = false) String publication) {
+        return newsletterService.getPublicationStats(publicationFilter(publication));
+    }
+
+    @McpTool(name = "newsletter-get-publication-stats", description = PUBLICATION_STATS)
+    public Mono<PublicationStats> getPublicationStatsAsync(
+            @McpToolParam(description = PUBLICATION, required = false) String publication) {
+        return Mono.defer(() -> newsletterService.getPublicationStatsAsync(publicationFilter(publication)));
+    }
+
+    private String requireKeyword(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            throw new IllegalArgumentException("Keyword parameter is required.");
+        }
+        return keyword.trim();
+    }
+
+    private String publicationFilter(String publication) {
+        return publication != null && !publication.trim().isEmpty() ? publication.trim() : "all";
+    }
 
-        String pubFilter = publication != null && !publication.trim().isEmpty() ? publication.trim() : "all";
-        return newsletterService.getPublicationStats(pubFilter);
+    private String statusFilter(String status) {
+        return status != null && !status.trim().isEmpty() ? status.trim() : "confirmed";
     }
 
     private int parseCount(String count, int defaultValue, int maxValue) {
@@ -1,67 +1,138 @@
 package dev.danvega.dvaas.tools.podcast;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import dev.danvega.dvaas.cache.CachedToolSource;
+import dev.danvega.dvaas.cache.Page;
+import dev.danvega.dvaas.cache.Snapshot;
+import dev.danvega.dvaas.cache.SourceCache;
 import dev.danvega.dvaas.config.PodcastProperties;
+import dev.danvega.dvaas.http.OutboundHttpClient;
 import dev.danvega.dvaas.tools.podcast.model.Episode;
 import dev.danvega.dvaas.tools.podcast.model.PodcastStats;
 import dev.danvega.dvaas.tools.podcast.model.Show;
+import dev.danvega.dvaas.tools.report.ContentReportSource;
+import dev.danvega.dvaas.tools.report.model.ReportEntry;
+import dev.danvega.dvaas.tools.report.model.ReportPeriod;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
-
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.stream.Stream;
 
 @Service
 @ConditionalOnProperty(name = "dvaas.podcast.api-key")
-public class PodcastService {
+public class PodcastService implements CachedToolSource, ContentReportSource {
 
     private static final Logger logger = LoggerFactory.getLogger(PodcastService.class);
-    private static final String API_BASE_URL = "https://api.transistor.fm/v1";
+    private static final Comparator<Episode> NEWEST_FIRST =
+            Comparator.comparing(Episode::publishedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    /** Transistor paginates episodes; stop after this many pages to avoid looping forever */
+    private static final int MAX_EPISODE_PAGES = 10;
 
-    private final RestClient restClient;
+    private final OutboundHttpClient httpClient;
     private final PodcastProperties podcastProperties;
-    private final Map<String, Object> cache = new ConcurrentHashMap<>();
-    private LocalDateTime lastCacheTime;
+    private final TransistorJsonApiReader jsonApiReader = new TransistorJsonApiReader();
+    private final SourceCache<Show> showCache;
+    private final SourceCache<Episode> episodeCache;
 
-    public PodcastService(PodcastProperties podcastProperties) {
+    public PodcastService(PodcastProperties podcastProperties, OutboundHttpClient httpClient,
+                          MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
         this.podcastProperties = podcastProperties;
-        this.restClient = RestClient.builder()
-                .baseUrl(API_BASE_URL)
-                .defaultHeader("x-api-key", podcastProperties.apiKey())
-                .build();
+        this.httpClient = httpClient;
+        this.showCache = SourceCache.async("podcast-shows", podcastProperties.cacheDuration(), null,
+                previous -> fetchShowsFromApi(), meterRegistry, observationRegistry);
+        this.episodeCache = SourceCache.async("podcast-episodes", podcastProperties.cacheDuration(), NEWEST_FIRST,
+                previous -> showCache.itemsAsync().flatMap(shows -> fetchEpisodesFromApi(showTitlesById(shows))),
+                meterRegistry, observationRegistry);
 
         logger.info("Podcast service initialized with cache duration: {} minutes", podcastProperties.getCacheDurationMinutes());
     }
 
+    @Override
+    public String toolPrefix() {
+        return "podcast-";
+    }
+
+    @Override
+    public long generation() {
+        // Versions grow across all caches, so the newest one changes whenever either refreshes
+        return Math.max(showCache.snapshot().version(), episodeCache.snapshot().version());
+    }
+
+    @Override
+    public List<SourceCache<?>> caches() {
+        return List.of(showCache, episodeCache);
+    }
+
+    @Override
+    public Mono<Long> generationAsync() {
+        return Mono.zip(showCache.snapshotAsync().map(Snapshot::version), episodeCache.snapshotAsync().map(Snapshot::version),
+                Math::max);
+    }
+
+    @Override
+    public Set<String> reportContentTypes() {
+        return Set.of("podcast");
+    }
+
+    /**
+     * Published episodes of every show, linked to their audio, the only episode URL kept
+     */
+    @Override
+    public List<ReportEntry> reportEntries(ReportPeriod period) {
+        return reportEntries(episodeCache.items(), period).toList();
+    }
+
+    @Override
+    public Mono<List<ReportEntry>> reportEntriesAsync(ReportPeriod period) {
+        return episodeCache.itemsAsync().map(episodes -> reportEntries(episodes, period).toList());
+    }
+
+    @Override
+    public Stream<ReportEntry> exportEntries(ReportPeriod period) {
+        return reportEntries(episodeCache.items(), period);
+    }
+
+    private static Stream<ReportEntry> reportEntries(List<Episode> episodes, ReportPeriod period) {
+        return episodes.stream()
+                .filter(episode -> episode.isPublished() && period.contains(episode.publishedAt()))
+                .map(episode -> ReportEntry.of(episode.title(), "podcast", episode.publishedAt().toLocalDate(), episode.audioUrl()));
+    }
+
     public List<Show> getAllShows() {
-        return getCachedShows();
+        return showCache.items();
+    }
+
+    public Mono<List<Show>> getAllShowsAsync() {
+        return showCache.itemsAsync();
     }
 
     public Show getShowById(String showId) {
-        try {
-            JsonNode response = restClient.get()
-                    .uri("/shows/{id}", showId)
-                    .retrieve()
-                    .body(JsonNode.class);
-
-            if (response != null && response.has("data")) {
-                return parseShowFromJson(response.get("data"));
-            }
+        return getShowByIdAsync(showId).block();
+    }
 
-            throw new RuntimeException("Show not found: " + showId);
-        } catch (Exception e) {
-            logger.error("Error fetching show by ID: {}", showId, e);
-            throw new RuntimeException("Failed to fetch show: " + showId, e);
-        }
+    public Mono<Show> getShowByIdAsync(String showId) {
+        return get(uri("/shows/{id}", showId), body -> jsonApiReader.readShows(body).items())
+                .flatMap(shows -> shows.isEmpty()
+                        ? Mono.<Show>error(new RuntimeException("Show not found: " + showId))
+                        : Mono.just(shows.get(0)))
+                .onErrorMap(e -> {
+                    logger.error("Error fetching show by ID: {}", showId, e);
+                    return new RuntimeException("Failed to fetch show: " + showId, e);
+                });
     }
 
     public String resolveShowIdentifier(String identifier) {
@@ -70,15 +141,38 @@ public class PodcastService {
         }
 
         // First, try to resolve as a known show name from configuration
-        Optional<String> configuredShowId = podcastProperties.getShowIdByName(identifier);
+        Optional<String> configuredShowId = configuredShowId(identifier);
         if (configuredShowId.isPresent()) {
-            logger.debug("Resolved show name '{}' to ID: {}", identifier, configuredShowId.get());
             return configuredShowId.get();
         }
 
         // If not a known name, check if it's a valid show ID by looking it up in cached shows
-        List<Show> allShows = getCachedShows();
+        return resolveShowIdentifier(identifier, showCache.items());
+    }
+
+    /**
+     * Like {@link #resolveShowIdentifier(String)}, without blocking; empty when no show was asked for
+     */
+    public Mono<Optional<String>> resolveShowIdentifierAsync(String identifier) {
+        if (identifier == null || identifier.trim().isEmpty()) {
+            return Mono.just(Optional.empty());
+        }
 
+        Optional<String> configuredShowId = configuredShowId(identifier);
+        if (configuredShowId.isPresent()) {
+            return Mono.just(configuredShowId);
+        }
+
+        return showCache.itemsAsync().map(allShows -> Optional.of(resolveShowIdentifier(identifier, allShows)));
+    }
+
+    private Optional<String> configuredShowId(String identifier) {
+        Optional<String> configuredShowId = podcastProperties.getShowIdByName(identifier);
+        configuredShowId.ifPresent(showId -> logger.debug("Resolved show name '{}' to ID: {}", identifier, showId));
+        return configuredShowId;
+    }
+
+    private String resolveShowIdentifier(String identifier, List<Show> allShows) {
         // Try exact ID match
         Optional<Show> matchById = allShows.stream()
                 .filter(show -> show.id().equals(identifier))
@@ -106,78 +200,96 @@ public class PodcastService {
     }
 
     public List<Episode> getLatestEpisodes(int maxResults, String showIdentifier) {
-        List<Episode> allEpisodes = getCachedEpisodes();
-
-        // Filter by show if identifier provided
-        if (showIdentifier != null && !showIdentifier.trim().isEmpty()) {
-            String resolvedShowId = resolveShowIdentifier(showIdentifier);
-            allEpisodes = allEpisodes.stream()
-                    .filter(episode -> resolvedShowId.equals(episode.showId()))
-                    .toList();
-        }
+        return getLatestEpisodes(maxResults, showIdentifier, null).items();
+    }
 
-        return allEpisodes.stream()
-                .filter(Episode::isPublished)
-                .sorted((e1, e2) -> e2.publishedAt().compareTo(e1.publishedAt()))
-                .limit(Math.min(maxResults, 50))
-                .toList();
+    public Page<Episode> getLatestEpisodes(int pageSize, String showIdentifier, String cursor) {
+        String showId = resolveShowIdentifier(showIdentifier);
+        return episodeCache.page("latest:" + showId, episode -> episode.isPublished() && isFromShow(episode, showId),
+                Math.min(pageSize, 50), cursor);
+    }
+
+    public Mono<Page<Episode>> getLatestEpisodesAsync(int pageSize, String showIdentifier, String cursor) {
+        return resolveShowIdentifierAsync(showIdentifier).flatMap(resolved -> {
+            String showId = resolved.orElse(null);
+            return episodeCache.pageAsync("latest:" + showId, episode -> episode.isPublished() && isFromShow(episode, showId),
+                    Math.min(pageSize, 50), cursor);
+        });
     }
 
     public List<Episode> searchEpisodes(String keyword, int maxResults, String showIdentifier) {
+        return searchEpisodes(keyword, maxResults, showIdentifier, null).items();
+    }
+
+    public Page<Episode> searchEpisodes(String keyword, int pageSize, String showIdentifier, String cursor) {
         if (keyword == null || keyword.trim().isEmpty()) {
-            return List.of();
+            return Page.empty();
         }
 
         String searchTerm = keyword.toLowerCase().trim();
-        List<Episode> allEpisodes = getCachedEpisodes();
-
-        // Filter by show if identifier provided
-        if (showIdentifier != null && !showIdentifier.trim().isEmpty()) {
-            String resolvedShowId = resolveShowIdentifier(showIdentifier);
-            allEpisodes = allEpisodes.stream()
-                    .filter(episode -> resolvedShowId.equals(episode.showId()))
-                    .toList();
+        String showId = resolveShowIdentifier(showIdentifier);
+        return episodeCache.page("search:" + showId + ":" + searchTerm,
+                episode -> isFromShow(episode, showId) && matchesKeyword(episode, searchTerm),
+                Math.min(pageSize, 50), cursor);
+    }
+
+    public Mono<Page<Episode>> searchEpisodesAsync(String keyword, int pageSize, String showIdentifier, String cursor) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return Mono.just(Page.empty());
         }
 
-        return allEpisodes.stream()
-                .filter(episode -> matchesKeyword(episode, searchTerm))
-                .sorted((e1, e2) -> e2.publishedAt().compareTo(e1.publishedAt()))
-                .limit(Math.min(maxResults, 50))
-                .toList();
+        String searchTerm = keyword.toLowerCase().trim();
+        return resolveShowIdentifierAsync(showIdentifier).flatMap(resolved -> {
+            String showId = resolved.orElse(null);
+            return episodeCache.pageAsync("search:" + showId + ":" + searchTerm,
+                    episode -> isFromShow(episode, showId) && matchesKeyword(episode, searchTerm),
+                    Math.min(pageSize, 50), cursor);
+        });
     }
 
     public Episode getEpisodeById(String episodeId) {
-        try {
-            JsonNode response = restClient.get()
-                    .uri("/episodes/{id}", episodeId)
-                    .retrieve()
-                    .body(JsonNode.class);
-
-            if (response != null && response.has("data")) {
-                return parseEpisodeFromJson(response.get("data"));
-            }
+        return getEpisodeByIdAsync(episodeId).block();
+    }
 
-            throw new RuntimeException("Episode not found: " + episodeId);
-        } catch (Exception e) {
-            logger.error("Error fetching episode by ID: {}", episodeId, e);
-            throw new RuntimeException("Failed to fetch episode: " + episodeId, e);
-        }
+    public Mono<Episode> getEpisodeByIdAsync(String episodeId) {
+        return showCache.itemsAsync()
+                .flatMap(shows -> {
+                    Map<String, String> showTitles = showTitlesById(shows);
+                    return get(uri("/episodes/{id}", episodeId), body -> jsonApiReader.readEpisodes(body, showTitles).items());
+                })
+                .flatMap(episodes -> episodes.isEmpty()
+                        ? Mono.<Episode>error(new RuntimeException("Episode not found: " + episodeId))
+                        : Mono.just(episodes.get(0)))
+                .onErrorMap(e -> {
+                    logger.error("Error fetching episode by ID: {}", episodeId, e);
+                    return new RuntimeException("Failed to fetch episode: " + episodeId, e);
+                });
     }
 
     public PodcastStats getPodcastStats() {
-        List<Show> allShows = getCachedShows();
-        List<Episode> allEpisodes = getCachedEpisodes();
+        return stats(showCache.items(), episodeCache.items());
+    }
+
+    public Mono<PodcastStats> getPodcastStatsAsync() {
+        return Mono.zip(showCache.itemsAsync(), episodeCache.itemsAsync(), this::stats);
+    }
 
+    private PodcastStats stats(List<Show> allShows, List<Episode> allEpisodes) {
         if (allEpisodes.isEmpty()) {
             return new PodcastStats(allShows.size(), 0, null, null, 0, 0, 0.0, List.of());
         }
 
-        // Sort episodes by date
+        // Sort episodes by date; episodes without a parseable date can't be placed on the timeline
         List<Episode> sortedEpisodes = allEpisodes.stream()
                 .filter(Episode::isPublished)
+                .filter(episode -> episode.publishedAt() != null)
                 .sorted(Comparator.comparing(Episode::publishedAt))
                 .toList();
 
+        if (sortedEpisodes.isEmpty()) {
+            return new PodcastStats(allShows.size(), 0, null, null, 0, 0, 0.0, List.of());
+        }
+
         LocalDateTime firstEpisode = sortedEpisodes.get(0).publishedAt();
         LocalDateTime latestEpisode = sortedEpisodes.get(sortedEpisodes.size() - 1).publishedAt();
         String latestEpisodeTitle = sortedEpisodes.get(sortedEpisodes.size() - 1).title();
@@ -234,205 +346,85 @@ public class PodcastService {
         );
     }
 
-    @SuppressWarnings("unchecked")
-    private List<Show> getCachedShows() {
-        if (needsCacheRefresh()) {
-            refreshCache();
-        }
-        return (List<Show>) cache.getOrDefault("shows", List.of());
-    }
-
-    /**
-     * Get cached episodes, refreshing cache if needed
-     */
-    @SuppressWarnings("unchecked")
-    private List<Episode> getCachedEpisodes() {
-        if (needsCacheRefresh()) {
-            refreshCache();
-        }
-        return (List<Episode>) cache.getOrDefault("episodes", List.of());
-    }
-
-    private boolean needsCacheRefresh() {
-        return lastCacheTime == null ||
-               ChronoUnit.MINUTES.between(lastCacheTime, LocalDateTime.now()) >= podcastProperties.getCacheDurationMinutes() ||
-               !cache.containsKey("shows") ||
-               !cache.containsKey("episodes");
+    private Mono<List<Show>> fetchShowsFromApi() {
+        return Mono.defer(() -> {
+                    logger.info("Fetching shows from Transistor API");
+                    return get(uri("/shows"), jsonApiReader::readShows);
+                })
+                .map(page -> {
+                    logger.info("Successfully fetched {} shows", page.items().size());
+                    return page.items();
+                })
+                .onErrorMap(e -> {
+                    logger.error("Error fetching shows from API", e);
+                    return new RuntimeException("Failed to fetch shows from Transistor API", e);
+                });
     }
 
-    private void refreshCache() {
-        try {
-            List<Show> shows = fetchShowsFromApi();
-            List<Episode> episodes = fetchEpisodesFromApi();
-
-            cache.put("shows", shows);
-            cache.put("episodes", episodes);
-            lastCacheTime = LocalDateTime.now();
-
-            logger.info("Podcast cache refreshed with {} shows and {} episodes", shows.size(), episodes.size());
-        } catch (Exception e) {
-            logger.error("Failed to refresh podcast cache", e);
-            // Keep existing cache if refresh fails
-        }
+    private Mono<List<Episode>> fetchEpisodesFromApi(Map<String, String> showTitles) {
+        return Flux.range(1, MAX_EPISODE_PAGES)
+                .doOnSubscribe(subscription -> logger.info("Fetching episodes from Transistor API"))
+                // One page at a time, stopping at the last one
+                .concatMap(page -> get(UriComponentsBuilder.fromUriString(podcastProperties.baseUrl())
+                        .path("/episodes")
+                        .queryParam("pagination[page]", page)
+                        .queryParam("pagination[per]", 50)
+                        .encode()
+                        .build()
+                        .toUri(), body -> jsonApiReader.readEpisodes(body, showTitles)))
+                .takeUntil(page -> !page.hasMore())
+                .<Episode>flatMapIterable(TransistorJsonApiReader.Page::items)
+                .collectList()
+                .doOnNext(episodes -> logger.info("Successfully fetched {} episodes", episodes.size()))
+                .onErrorMap(e -> {
+                    logger.error("Error fetching episodes from API", e);
+                    return new RuntimeException("Failed to fetch episodes from Transistor API", e);
+                });
     }
 
-    private List<Show> fetchShowsFromApi() {
-        try {
-            logger.info("Fetching shows from Transistor API");
-
-            JsonNode response = restClient.get()
-                    .uri("/shows")
-                    .retrieve()
-                    .body(JsonNode.class);
-
-            if (response != null && response.has("data")) {
-                JsonNode data = response.get("data");
-                List<Show> shows = StreamSupport.stream(data.spliterator(), false)
-                        .map(this::parseShowFromJson)
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toList());
-
-                logger.info("Successfully fetched {} shows", shows.size());
-                return shows;
-            }
-
-            return List.of();
-        } catch (Exception e) {
-            logger.error("Error fetching shows from API", e);
-            throw new RuntimeException("Failed to fetch shows from Transistor API", e);
-        }
+    /**
+     * Reads a response body of the Transistor API
+     */
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
     }
 
-    private List<Episode> fetchEpisodesFromApi() {
-        try {
-            logger.info("Fetching episodes from Transistor API");
-
-            List<Episode> allEpisodes = new ArrayList<>();
-            int page = 1;
-            boolean hasMore = true;
-
-            // Transistor API uses pagination
-            while (hasMore && page <= 10) { // Limit to 10 pages to avoid infinite loops
-                final int currentPage = page; // Create final variable for lambda
-                JsonNode response = restClient.get()
-                        .uri(uriBuilder -> uriBuilder
-                                .path("/episodes")
-                                .queryParam("pagination[page]", currentPage)
-                                .queryParam("pagination[per]", 50)
-                                .build())
-                        .retrieve()
-                        .body(JsonNode.class);
-
-                if (response != null && response.has("data")) {
-                    JsonNode data = response.get("data");
-                    List<Episode> pageEpisodes = StreamSupport.stream(data.spliterator(), false)
-                            .map(this::parseEpisodeFromJson)
-                            .filter(Objects::nonNull)
-                            .collect(Collectors.toList());
-
-                    allEpisodes.addAll(pageEpisodes);
-
-                    // Check if there are more pages
-                    JsonNode meta = response.get("meta");
-                    if (meta != null && meta.has("currentPage") && meta.has("totalPages")) {
-                        int responsePage = meta.get("currentPage").asInt();
-                        int totalPages = meta.get("totalPages").asInt();
-                        hasMore = responsePage < totalPages;
-                        page++;
-                    } else {
-                        hasMore = false;
-                    }
-                } else {
-                    hasMore = false;
+    private <T> Mono<T> get(URI uri, BodyReader<T> reader) {
+        HttpRequest request = httpClient.newRequest(uri.toString())
+                .header("x-api-key", podcastProperties.apiKey())
+                .header("Accept", "application/json")
+                .build();
+        return httpClient.sendAsync("podcast", request).flatMap(response -> Mono.fromCallable(() -> {
+            try (InputStream body = response.body()) {
+                if (response.statusCode() >= 400) {
+                    throw new IOException("HTTP " + response.statusCode() + " from Transistor API");
                 }
+                return reader.read(body);
             }
-
-            logger.info("Successfully fetched {} episodes", allEpisodes.size());
-            return allEpisodes;
-        } catch (Exception e) {
-            logger.error("Error fetching episodes from API", e);
-            throw new RuntimeException("Failed to fetch episodes from Transistor API", e);
-        }
+        }));
     }
 
-    private Show parseShowFromJson(JsonNode data) {
-        try {
-            JsonNode attributes = data.get("attributes");
-            if (attributes == null) return null;
-
-            String id = data.get("id").asText();
-            String title = attributes.has("title") ? attributes.get("title").asText() : null;
-            String description = attributes.has("description") ? attributes.get("description").asText() : null;
-            String author = attributes.has("author") ? attributes.get("author").asText() : null;
-            String websiteUrl = attributes.has("website") ? attributes.get("website").asText() : null;
-            String artworkUrl = attributes.has("artwork_url") ? attributes.get("artwork_url").asText() : null;
-            String status = attributes.has("status") ? attributes.get("status").asText() : null;
+    private URI uri(String path, Object... variables) {
+        return UriComponentsBuilder.fromUriString(podcastProperties.baseUrl())
+                .path(path)
+                .buildAndExpand(variables)
+                .encode()
+                .toUri();
+    }
 
-            LocalDateTime createdAt = null;
-            if (attributes.has("created_at")) {
-                createdAt = parseDateTime(attributes.get("created_at").asText());
+    private Map<String, String> showTitlesById(List<Show> shows) {
+        Map<String, String> titles = new HashMap<>();
+        for (Show show : shows) {
+            if (show.title() != null) {
+                titles.put(show.id(), show.title());
             }
-
-            return new Show(id, title, description, author, websiteUrl, artworkUrl, status, createdAt);
-        } catch (Exception e) {
-            logger.warn("Failed to parse show from JSON: {}", e.getMessage());
-            return null;
         }
+        return titles;
     }
 
-    private Episode parseEpisodeFromJson(JsonNode data) {
-        try {
-            JsonNode attributes = data.get("attributes");
-            if (attributes == null) return null;
-
-            String id = data.get("id").asText();
-            String title = attributes.has("title") ? attributes.get("title").asText() : null;
-            String description = attributes.has("summary") ? attributes.get("summary").asText() : null;
-            String status = attributes.has("status") ? attributes.get("status").asText() : null;
-            String audioUrl = attributes.has("media_url") ? attributes.get("media_url").asText() : null;
-            String duration = attributes.has("duration") ? String.valueOf(attributes.get("duration").asInt()) + " seconds" : null;
-
-            Integer season = attributes.has("season") && !attributes.get("season").isNull() ?
-                    attributes.get("season").asInt() : null;
-            Integer number = attributes.has("number") && !attributes.get("number").isNull() ?
-                    attributes.get("number").asInt() : null;
-
-            LocalDateTime publishedAt = null;
-            if (attributes.has("published_at") && !attributes.get("published_at").isNull()) {
-                publishedAt = parseDateTime(attributes.get("published_at").asText());
-            }
-
-            // Get show information from relationships
-            String showId = null;
-            String showTitle = null;
-            if (data.has("relationships")) {
-                JsonNode relationships = data.get("relationships");
-                if (relationships.has("show") && relationships.get("show").has("data")) {
-                    JsonNode showData = relationships.get("show").get("data");
-                    showId = showData.has("id") ? showData.get("id").asText() : null;
-                }
-            }
-
-            // Try to get show title from cache
-            if (showId != null) {
-                final String finalShowId = showId; // Create final variable for lambda
-                List<Show> cachedShows = (List<Show>) cache.get("shows");
-                if (cachedShows != null) {
-                    Optional<Show> show = cachedShows.stream()
-                            .filter(s -> s.id().equals(finalShowId))
-                            .findFirst();
-                    if (show.isPresent()) {
-                        showTitle = show.get().title();
-                    }
-                }
-            }
-
-            return new Episode(id, title, description, showId, showTitle, publishedAt,
-                             audioUrl, duration, status, season, number);
-        } catch (Exception e) {
-            logger.warn("Failed to parse episode from JSON: {}", e.getMessage());
-            return null;
-        }
+    private boolean isFromShow(Episode episode, String showId) {
+        return showId == null || showId.equals(episode.showId());
     }
 
     private boolean matchesKeyword(Episode episode, String keyword) {
@@ -440,17 +432,4 @@ public class PodcastService {
         String description = episode.description() != null ? episode.description().toLowerCase() : "";
         return title.contains(keyword) || description.contains(keyword);
     }
-
-    private LocalDateTime parseDateTime(String dateTimeString) {
-        try {
-            // Try parsing as ISO instant
-            return LocalDateTime.ofInstant(
-                    java.time.Instant.parse(dateTimeString),
-                    ZoneId.systemDefault()
-            );
-        } catch (Exception e) {
-            logger.warn("Failed to parse datetime: {}", dateTimeString);
-            return LocalDateTime.now();
-        }
-    }
 }
@@ -1,5 +1,7 @@
 package dev.danvega.dvaas.tools.podcast;
 
+import dev.danvega.dvaas.cache.Page;
+import dev.danvega.dvaas.projection.RecordProjection;
 import dev.danvega.dvaas.tools.podcast.model.Episode;
 import dev.danvega.dvaas.tools.podcast.model.PodcastStats;
 import dev.danvega.dvaas.tools.podcast.model.Show;
@@ -7,6 +9,7 @@ import org.springframework.ai.mcp.annotation.McpTool;
 import org.springframework.ai.mcp.annotation.McpToolParam;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -14,70 +17,123 @@ import java.util.List;
 @ConditionalOnBean(PodcastService.class)
 public class PodcastTools {
 
+    private static final RecordProjection<Show> SHOWS = RecordProjection.of(Show.class);
+    private static final RecordProjection<Episode> EPISODES = RecordProjection.of(Episode.class);
+
+    // Descriptions shared by the blocking tools and their Mono twins registered in ASYNC mode
+    private static final String SHOWS_TOOL = "Get all podcast shows hosted by Dan Vega on Transistor.fm";
+    private static final String LATEST_EPISODES = "Get the most recent podcast episodes across all shows or filtered by show name/ID. " +
+            "Accepts show names like 'Spring Office Hours' or 'Fundamentals of Software Engineering'";
+    private static final String SEARCH_EPISODES = "Search for podcast episodes by keyword in title or description. " +
+            "Optionally filter by show name/ID (e.g., 'spring', 'java', 'testing')";
+    private static final String EPISODE_DETAILS = "Get detailed information about a specific podcast episode by its ID";
+    private static final String STATS = "Get overall statistics and information about Dan Vega's podcasts, including episode counts, " +
+            "publishing frequency, and per-show summaries";
+    private static final String KEYWORD = "Keyword to search for in episode titles and descriptions";
+    private static final String EPISODE_ID = "Episode ID to retrieve";
+    private static final String SHOW = "Filter by show name ('Spring Office Hours', 'Fundamentals of Software Engineering') or show ID";
+    private static final String COUNT = "Number of episodes per page (default: 10, max: 50)";
+    private static final String CURSOR = "nextCursor from a previous response, to fetch the following page (omit for the first page)";
+    private static final String SHOW_FIELDS = "Comma-separated fields to return, e.g. 'id,title,websiteUrl' (default: all fields)";
+    private static final String EPISODE_FIELDS = "Comma-separated fields to return, e.g. 'title,showTitle,publishedAt' (default: all fields)";
+
     private final PodcastService podcastService;
 
     public PodcastTools(PodcastService podcastService) {
         this.podcastService = podcastService;
     }
 
-    @McpTool(name = "podcast-get-shows",
-             description = "Get all podcast shows hosted by Dan Vega on Transistor.fm")
-    public List<Show> getShows() {
-        return podcastService.getAllShows();
+    @McpTool(name = "podcast-get-shows", description = SHOWS_TOOL)
+    public List<Show> getShows(
+            @McpToolParam(description = SHOW_FIELDS, required = false) String fields) {
+        return SHOWS.apply(podcastService.getAllShows(), fields);
     }
 
-    @McpTool(name = "podcast-get-latest-episodes",
-             description = "Get the most recent podcast episodes across all shows or filtered by show name/ID. " +
-                          "Accepts show names like 'Spring Office Hours' or 'Fundamentals of Software Engineering'")
-    public List<Episode> getLatestEpisodes(
-            @McpToolParam(description = "Number of episodes to retrieve (default: 10, max: 50)",
-                         required = false) String count,
-            @McpToolParam(description = "Filter by show name ('Spring Office Hours', 'Fundamentals of Software Engineering') or show ID",
-                         required = false) String show) {
+    @McpTool(name = "podcast-get-shows", description = SHOWS_TOOL)
+    public Mono<List<Show>> getShowsAsync(
+            @McpToolParam(description = SHOW_FIELDS, required = false) String fields) {
+        return podcastService.getAllShowsAsync().map(shows -> SHOWS.apply(shows, fields));
+    }
 
+    @McpTool(name = "podcast-get-latest-episodes", description = LATEST_EPISODES)
+    public Page<Episode> getLatestEpisodes(
+            @McpToolParam(description = COUNT, required = false) String count,
+            @McpToolParam(description = SHOW, required = false) String show,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = EPISODE_FIELDS, required = false) String fields) {
         int maxResults = parseCount(count, 10, 50);
-        return podcastService.getLatestEpisodes(maxResults, show);
+        return EPISODES.apply(podcastService.getLatestEpisodes(maxResults, show, cursor), fields);
     }
 
-    @McpTool(name = "podcast-search-episodes",
-             description = "Search for podcast episodes by keyword in title or description. " +
-                          "Optionally filter by show name/ID (e.g., 'spring', 'java', 'testing')")
-    public List<Episode> searchEpisodes(
-            @McpToolParam(description = "Keyword to search for in episode titles and descriptions",
-                         required = true) String keyword,
-            @McpToolParam(description = "Number of episodes to retrieve (default: 10, max: 50)",
-                         required = false) String count,
-            @McpToolParam(description = "Filter by show name ('Spring Office Hours', 'Fundamentals of Software Engineering') or show ID",
-                         required = false) String show) {
-
-        if (keyword == null || keyword.trim().isEmpty()) {
-            throw new IllegalArgumentException("Keyword parameter is required.");
-        }
+    @McpTool(name = "podcast-get-latest-episodes", description = LATEST_EPISODES)
+    public Mono<Page<Episode>> getLatestEpisodesAsync(
+            @McpToolParam(description = COUNT, required = false) String count,
+            @McpToolParam(description = SHOW, required = false) String show,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = EPISODE_FIELDS, required = false) String fields) {
+        return Mono.defer(() -> {
+            int maxResults = parseCount(count, 10, 50);
+            return podcastService.getLatestEpisodesAsync(maxResults, show, cursor).map(page -> EPISODES.apply(page, fields));
+        });
+    }
 
+    @McpTool(name = "podcast-search-episodes", description = SEARCH_EPISODES)
+    public Page<Episode> searchEpisodes(
+            @McpToolParam(description = KEYWORD, required = true) String keyword,
+            @McpToolParam(description = COUNT, required = false) String count,
+            @McpToolParam(description = SHOW, required = false) String show,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = EPISODE_FIELDS, required = false) String fields) {
+        String searchKeyword = requireText(keyword, "Keyword parameter is required.");
         int maxResults = parseCount(count, 10, 50);
-        return podcastService.searchEpisodes(keyword.trim(), maxResults, show);
+        return EPISODES.apply(podcastService.searchEpisodes(searchKeyword, maxResults, show, cursor), fields);
     }
 
-    @McpTool(name = "podcast-get-episode-details",
-             description = "Get detailed information about a specific podcast episode by its ID")
-    public Episode getEpisodeDetails(
-            @McpToolParam(description = "Episode ID to retrieve",
-                         required = true) String episodeId) {
+    @McpTool(name = "podcast-search-episodes", description = SEARCH_EPISODES)
+    public Mono<Page<Episode>> searchEpisodesAsync(
+            @McpToolParam(description = KEYWORD, required = true) String keyword,
+            @McpToolParam(description = COUNT, required = false) String count,
+            @McpToolParam(description = SHOW, required = false) String show,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = EPISODE_FIELDS, required = false) String fields) {
+        // Deferred so invalid arguments surface as an error signal, not a throw at assembly
+        return Mono.defer(() -> {
+            String searchKeyword = requireText(keyword, "Keyword parameter is required.");
+            int maxResults = parseCount(count, 10, 50);
+            return podcastService.searchEpisodesAsync(searchKeyword, maxResults, show, cursor)
+                    .map(page -> EPISODES.apply(page, fields));
+        });
+    }
 
-        if (episodeId == null || episodeId.trim().isEmpty()) {
-            throw new IllegalArgumentException("Episode ID parameter is required.");
-        }
+    @McpTool(name = "podcast-get-episode-details", description = EPISODE_DETAILS)
+    public Episode getEpisodeDetails(
+            @McpToolParam(description = EPISODE_ID, required = true) String episodeId) {
+        return podcastService.getEpisodeById(requireText(episodeId, "Episode ID parameter is required."));
+    }
 
-        return podcastService.getEpisodeById(episodeId.trim());
+    @McpTool(name = "podcast-get-episode-details", description = EPISODE_DETAILS)
+    public Mono<Episode> getEpisodeDetailsAsync(
+            @McpToolParam(description = EPISODE_ID, required = true) String episodeId) {
+        return Mono.defer(() -> podcastService.getEpisodeByIdAsync(requireText(episodeId, "Episode ID parameter is required.")));
     }
 
-    @McpTool(name = "podcast-get-stats",
-             description = "Get overall statistics and information about Dan Vega's podcasts, including episode counts, " +
-                          "publishing frequency, and per-show summaries")
+    @McpTool(name = "podcast-get-stats", description = STATS)
     public PodcastStats getPodcastStats() {
         return podcastService.getPodcastStats();
     }
 
+    @McpTool(name = "podcast-get-stats", description = STATS)
+    public Mono<PodcastStats> getPodcastStatsAsync() {
+        return podcastService.getPodcastStatsAsync();
+    }
+
+    private String requireText(String value, String message) {
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException(message);
+        }
+        return value.trim();
+    }
+
     private int parseCount(String count, int defaultValue, int maxValue) {
         if (count == null || count.trim().isEmpty()) {
             return defaultValue;
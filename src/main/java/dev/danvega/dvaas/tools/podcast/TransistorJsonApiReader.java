@@ -0,0 +1,271 @@
+package dev.danvega.dvaas.tools.podcast;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import dev.danvega.dvaas.time.DateTimeParser;
+import dev.danvega.dvaas.tools.podcast.model.Episode;
+import dev.danvega.dvaas.tools.podcast.model.Show;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single-pass JSON:API decoder for Transistor.fm {@code /shows} and {@code /episodes} documents.
+ * Binds only the attributes the podcast tools expose, plus {@code relationships.show.data.id}
+ * and the pagination {@code meta}, directly from the token stream without building a tree.
+ */
+public class TransistorJsonApiReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransistorJsonApiReader.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final DateTimeParser dateTimeParser = new DateTimeParser("podcast", ZoneId.systemDefault());
+
+    /**
+     * One decoded JSON:API document: the primary resources plus pagination meta (0 when absent)
+     */
+    public record Page<T>(List<T> items, int currentPage, int totalPages) {
+
+        public boolean hasMore() {
+            return currentPage > 0 && currentPage < totalPages;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResourceBinder<T> {
+        T bind(JsonParser parser) throws IOException;
+    }
+
+    public Page<Show> readShows(InputStream body) throws IOException {
+        return readDocument(body, this::readShow);
+    }
+
+    /**
+     * Decode an episodes document, resolving show titles from the given show id to title map
+     */
+    public Page<Episode> readEpisodes(InputStream body, Map<String, String> showTitles) throws IOException {
+        return readDocument(body, parser -> readEpisode(parser, showTitles));
+    }
+
+    private <T> Page<T> readDocument(InputStream body, ResourceBinder<T> binder) throws IOException {
+        List<T> items = new ArrayList<>();
+        int currentPage = 0;
+        int totalPages = 0;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected JSON:API document object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    JsonToken element;
+                    while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                        if (element == JsonToken.START_OBJECT) {
+                            addIfPresent(items, binder.bind(parser));
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else if ("data".equals(field) && value == JsonToken.START_OBJECT) {
+                    addIfPresent(items, binder.bind(parser));
+                } else if ("meta".equals(field) && value == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String metaField = parser.currentName();
+                        JsonToken metaValue = parser.nextToken();
+                        switch (metaField) {
+                            case "currentPage" -> currentPage = scalarInt(parser, metaValue, 0);
+                            case "totalPages" -> totalPages = scalarInt(parser, metaValue, 0);
+                            default -> parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return new Page<>(items, currentPage, totalPages);
+    }
+
+    private Show readShow(JsonParser parser) throws IOException {
+        String id = null;
+        String title = null;
+        String description = null;
+        String author = null;
+        String websiteUrl = null;
+        String artworkUrl = null;
+        String status = null;
+        LocalDateTime createdAt = null;
+        boolean hasAttributes = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("id".equals(field)) {
+                id = scalarText(parser, value);
+            } else if ("attributes".equals(field) && value == JsonToken.START_OBJECT) {
+                hasAttributes = true;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String attribute = parser.currentName();
+                    JsonToken attributeValue = parser.nextToken();
+                    switch (attribute) {
+                        case "title" -> title = scalarText(parser, attributeValue);
+                        case "description" -> description = scalarText(parser, attributeValue);
+                        case "author" -> author = scalarText(parser, attributeValue);
+                        case "website" -> websiteUrl = scalarText(parser, attributeValue);
+                        case "artwork_url" -> artworkUrl = scalarText(parser, attributeValue);
+                        case "status" -> status = scalarText(parser, attributeValue);
+                        case "created_at" -> createdAt = dateTimeParser.parse(scalarText(parser, attributeValue));
+                        default -> parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (!hasAttributes || id == null) {
+            logger.warn("Skipping show resource without id or attributes");
+            return null;
+        }
+
+        return new Show(id, title, description, author, websiteUrl, artworkUrl, status, createdAt);
+    }
+
+    private Episode readEpisode(JsonParser parser, Map<String, String> showTitles) throws IOException {
+        String id = null;
+        String title = null;
+        String description = null;
+        String status = null;
+        String audioUrl = null;
+        String duration = null;
+        Integer season = null;
+        Integer number = null;
+        LocalDateTime publishedAt = null;
+        String showId = null;
+        boolean hasAttributes = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("id".equals(field)) {
+                id = scalarText(parser, value);
+            } else if ("attributes".equals(field) && value == JsonToken.START_OBJECT) {
+                hasAttributes = true;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String attribute = parser.currentName();
+                    JsonToken attributeValue = parser.nextToken();
+                    switch (attribute) {
+                        case "title" -> title = scalarText(parser, attributeValue);
+                        case "summary" -> description = scalarText(parser, attributeValue);
+                        case "status" -> status = scalarText(parser, attributeValue);
+                        case "media_url" -> audioUrl = scalarText(parser, attributeValue);
+                        case "duration" -> duration = attributeValue == JsonToken.VALUE_NULL ? null
+                                : scalarInt(parser, attributeValue, 0) + " seconds";
+                        case "season" -> season = scalarInteger(parser, attributeValue);
+                        case "number" -> number = scalarInteger(parser, attributeValue);
+                        case "published_at" -> publishedAt = dateTimeParser.parse(scalarText(parser, attributeValue));
+                        default -> parser.skipChildren();
+                    }
+                }
+            } else if ("relationships".equals(field) && value == JsonToken.START_OBJECT) {
+                showId = readShowRelationship(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (!hasAttributes || id == null) {
+            logger.warn("Skipping episode resource without id or attributes");
+            return null;
+        }
+
+        String showTitle = showId != null ? showTitles.get(showId) : null;
+        return new Episode(id, title, description, showId, showTitle, publishedAt,
+                audioUrl, duration, status, season, number);
+    }
+
+    /**
+     * Read {@code relationships} and return {@code show.data.id}, skipping every other relationship
+     */
+    private String readShowRelationship(JsonParser parser) throws IOException {
+        String showId = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String relationship = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if (!"show".equals(relationship) || value != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken fieldValue = parser.nextToken();
+
+                if ("data".equals(field) && fieldValue == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String dataField = parser.currentName();
+                        JsonToken dataValue = parser.nextToken();
+                        if ("id".equals(dataField)) {
+                            showId = scalarText(parser, dataValue);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return showId;
+    }
+
+    private static <T> void addIfPresent(List<T> items, T item) {
+        if (item != null) {
+            items.add(item);
+        }
+    }
+
+    private String scalarText(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!value.isScalarValue()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getText();
+    }
+
+    private int scalarInt(JsonParser parser, JsonToken value, int defaultValue) throws IOException {
+        if (!value.isScalarValue()) {
+            parser.skipChildren();
+            return defaultValue;
+        }
+        return parser.getValueAsInt(defaultValue);
+    }
+
+    private Integer scalarInteger(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return scalarInt(parser, value, 0);
+    }
+}
@@ -0,0 +1,66 @@
+package dev.danvega.dvaas.tools.report;
+
+import dev.danvega.dvaas.tools.report.model.ReportPeriod;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Content catalog export at {@code GET /export/content}, for reports too large to page through MCP
+ * tool calls. The response has no content length and is sent in chunks as rows are written.
+ * <p>
+ * {@code curl "localhost:8080/export/content?format=jsonl&startDate=2024-01-01&contentTypes=blog,podcast"}
+ */
+@RestController
+@Profile("http")
+public class ContentExportController {
+
+    private static final MediaType CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private final ContentExporter exporter;
+
+    public ContentExportController(ContentExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    /**
+     * @param format {@code csv} (the default) or {@code jsonl}
+     * @param year a single year, used when no dates are given
+     * @param startDate first day, YYYY-MM-DD; open when missing
+     * @param endDate last day, YYYY-MM-DD; open when missing
+     * @param contentTypes comma-separated content types, or {@code all} (the default)
+     */
+    @GetMapping("/export/content")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(required = false) String format,
+                                                        @RequestParam(required = false) String year,
+                                                        @RequestParam(required = false) String startDate,
+                                                        @RequestParam(required = false) String endDate,
+                                                        @RequestParam(required = false) String contentTypes) {
+        ContentExporter.Format exportFormat;
+        ReportPeriod period;
+        try {
+            exportFormat = ContentExporter.Format.parse(format);
+            period = ReportPeriod.parseOpenEnded(year, startDate, endDate, contentTypes);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat == ContentExporter.Format.CSV ? CSV : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("content-export." + exportFormat.extension())
+                        .build()
+                        .toString())
+                .body(out -> exporter.export(period, exportFormat, out));
+    }
+}
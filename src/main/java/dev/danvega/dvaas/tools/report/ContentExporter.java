@@ -0,0 +1,127 @@
+package dev.danvega.dvaas.tools.report;
+
+import dev.danvega.dvaas.tools.report.model.ReportEntry;
+import dev.danvega.dvaas.tools.report.model.ReportPeriod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Writes every matching item of the report sources as CSV or JSON Lines, one row at a time, straight
+ * from the sources' cached snapshots. Nothing is collected, sorted or deduplicated across sources, so
+ * memory stays flat however large the catalog is: rows come grouped by source, each source in its own
+ * order. Warnings are lines of their own, {@code # ...} in CSV and {@code {"warning": ...}} in JSON
+ * Lines. Content types without a source are reported before the CSV header; a source that fails is
+ * reported where its rows would have been, and the export carries on with the next one.
+ */
+@Service
+public class ContentExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentExporter.class);
+
+    private final ObjectProvider<ContentReportSource> sources;
+    private final JsonMapper jsonMapper;
+
+    public ContentExporter(ObjectProvider<ContentReportSource> sources, JsonMapper jsonMapper) {
+        this.sources = sources;
+        this.jsonMapper = jsonMapper;
+    }
+
+    public enum Format {
+
+        CSV("csv"),
+        JSONL("jsonl");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        /**
+         * @param format {@code csv} (the default) or {@code jsonl}
+         */
+        public static Format parse(String format) {
+            if (format == null || format.isBlank()) {
+                return CSV;
+            }
+            for (Format candidate : values()) {
+                if (candidate.extension.equalsIgnoreCase(format.trim())) {
+                    return candidate;
+                }
+            }
+            throw new IllegalArgumentException("Unknown export format '" + format + "'. Use 'csv' or 'jsonl'.");
+        }
+    }
+
+    /**
+     * Write the export to the stream, which is flushed but left open
+     *
+     * @return rows written, not counting the CSV header and warnings
+     */
+    public long export(ReportPeriod period, Format format, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        List<ContentReportSource> all = sources.orderedStream().toList();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        // Warnings known up front go above the header, as in the content report's CSV
+        for (String warning : ContentReportService.unconfigured(all, period)) {
+            writeWarning(writer, format, warning);
+        }
+        if (format == Format.CSV) {
+            writer.write(ContentReportService.HEADER);
+            writer.write('\n');
+        }
+
+        long rows = 0;
+        for (ContentReportSource source : all) {
+            if (source.reportContentTypes().stream().noneMatch(period::includes)) {
+                continue;
+            }
+            try (Stream<ReportEntry> entries = source.exportEntries(period)) {
+                Iterator<ReportEntry> matching = entries
+                        .filter(entry -> period.includes(entry.contentType()) && entry.date() != null)
+                        .iterator();
+                while (matching.hasNext()) {
+                    writeRow(writer, format, matching.next());
+                    rows++;
+                }
+            } catch (RuntimeException e) {
+                String label = ContentReportService.label(source);
+                logger.warn("Content export skipped {}: {}", label, e.getMessage());
+                writeWarning(writer, format, label + " skipped: " + e.getMessage());
+            }
+        }
+        writer.flush();
+
+        logger.debug("Exported {} content rows for {} as {} in {} ms", rows, period.label(), format,
+                (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    private void writeRow(Writer writer, Format format, ReportEntry entry) throws IOException {
+        writer.write(format == Format.CSV ? ContentReportService.csvRow(entry) : jsonMapper.writeValueAsString(entry));
+        writer.write('\n');
+    }
+
+    private void writeWarning(Writer writer, Format format, String warning) throws IOException {
+        writer.write(format == Format.CSV ? "# " + warning : jsonMapper.writeValueAsString(Map.of("warning", warning)));
+        writer.write('\n');
+    }
+}
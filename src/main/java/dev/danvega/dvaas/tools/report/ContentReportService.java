@@ -0,0 +1,190 @@
+package dev.danvega.dvaas.tools.report;
+
+import dev.danvega.dvaas.tools.report.model.ContentReport;
+import dev.danvega.dvaas.tools.report.model.ReportEntry;
+import dev.danvega.dvaas.tools.report.model.ReportPeriod;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the content report the {@code content-report} prompt asks an agent to assemble, in one
+ * call and from the sources' cached data. The sources are read concurrently, each on its own
+ * virtual thread, in a scope that closes only once every one of them has answered. A source that
+ * fails is listed as a warning above the CSV instead of failing the whole report.
+ */
+@Service
+public class ContentReportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentReportService.class);
+
+    static final String HEADER = "NAME,CONTENT TYPE,EXPORT INDICATOR,DATE,CONTENT LINK,EYEBALLS LIVE,EYEBALLS POST";
+    private static final String EXPORT_INDICATOR = "export for reporting";
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("M/d/yyyy");
+    private static final Comparator<ReportEntry> CHRONOLOGICAL = Comparator.comparing(ReportEntry::date)
+            .thenComparing(ReportEntry::contentType)
+            .thenComparing(ReportEntry::name, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final ObjectProvider<ContentReportSource> sources;
+    private final ObservationRegistry observationRegistry;
+
+    public ContentReportService(ObjectProvider<ContentReportSource> sources, ObservationRegistry observationRegistry) {
+        this.sources = sources;
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * Entries of one source, or why there are none
+     */
+    private record SourceResult(List<ReportEntry> entries, String warning) {
+
+        static SourceResult failed(ContentReportSource source, Throwable failure) {
+            logger.warn("Content report skipped {}: {}", label(source), failure.getMessage());
+            return new SourceResult(List.of(), label(source) + " skipped: " + failure.getMessage());
+        }
+    }
+
+    public ContentReport generate(ReportPeriod period) {
+        long start = System.nanoTime();
+        Observation parent = observationRegistry.getCurrentObservation();
+        Map<ContentReportSource, Future<List<ReportEntry>>> tasks = new LinkedHashMap<>();
+        List<SourceResult> results = new ArrayList<>();
+        try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (ContentReportSource source : sources(period)) {
+                tasks.put(source, scope.submit(() -> within(parent, () -> source.reportEntries(period))));
+            }
+            for (Map.Entry<ContentReportSource, Future<List<ReportEntry>>> task : tasks.entrySet()) {
+                try {
+                    results.add(new SourceResult(task.getValue().get(), null));
+                } catch (ExecutionException e) {
+                    results.add(SourceResult.failed(task.getKey(), e.getCause()));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating the content report", e);
+        }
+
+        ContentReport report = report(period, results);
+        logger.debug("Generated content report for {} with {} items in {} ms", period.label(), report.totalItems(),
+                (System.nanoTime() - start) / 1_000_000);
+        return report;
+    }
+
+    public Mono<ContentReport> generateAsync(ReportPeriod period) {
+        return Flux.defer(() -> Flux.fromIterable(sources(period)))
+                .flatMapSequential(source -> source.reportEntriesAsync(period)
+                        .map(entries -> new SourceResult(entries, null))
+                        .onErrorResume(e -> Mono.just(SourceResult.failed(source, e))))
+                .collectList()
+                .map(results -> report(period, results));
+    }
+
+    private List<ContentReportSource> sources(ReportPeriod period) {
+        return sources.orderedStream()
+                .filter(source -> source.reportContentTypes().stream().anyMatch(period::includes))
+                .toList();
+    }
+
+    private ContentReport report(ReportPeriod period, List<SourceResult> results) {
+        List<String> warnings = new ArrayList<>(unconfigured(sources.orderedStream().toList(), period));
+        List<ReportEntry> entries = new ArrayList<>();
+        for (SourceResult result : results) {
+            if (result.warning() != null) {
+                warnings.add(result.warning());
+            }
+            entries.addAll(result.entries());
+        }
+
+        List<ReportEntry> rows = entries.stream()
+                .filter(entry -> period.includes(entry.contentType()) && entry.date() != null)
+                .distinct()
+                .sorted(CHRONOLOGICAL)
+                .toList();
+        Map<String, Integer> itemsByType = new TreeMap<>();
+        rows.forEach(row -> itemsByType.merge(row.contentType(), 1, Integer::sum));
+
+        StringBuilder csv = new StringBuilder();
+        warnings.forEach(warning -> csv.append("# ").append(warning).append('\n'));
+        csv.append(HEADER).append('\n');
+        for (ReportEntry row : rows) {
+            csv.append(csvRow(row)).append('\n');
+        }
+        return new ContentReport(period.label(), rows.size(), itemsByType, List.copyOf(warnings), csv.toString());
+    }
+
+    /**
+     * Warnings for the period's content types that none of the sources reports
+     */
+    static List<String> unconfigured(List<ContentReportSource> sources, ReportPeriod period) {
+        List<String> covered = sources.stream().flatMap(source -> source.reportContentTypes().stream()).toList();
+        return ReportPeriod.CONTENT_TYPES.stream()
+                .filter(type -> period.includes(type) && !covered.contains(type))
+                .map(type -> type + " skipped: no source configured")
+                .toList();
+    }
+
+    /**
+     * One report row, without the line break
+     */
+    static String csvRow(ReportEntry row) {
+        return escape(row.name()) + ','
+                + row.contentType() + ','
+                + EXPORT_INDICATOR + ','
+                + DATE.format(row.date()) + ','
+                + escape(row.link()) + ','
+                + row.eyeballsLive() + ','
+                + row.eyeballsPost();
+    }
+
+    /**
+     * Quote a CSV field when it contains a separator, quote or line break
+     */
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    static String label(ContentReportSource source) {
+        return ReportPeriod.CONTENT_TYPES.stream()
+                .filter(source.reportContentTypes()::contains)
+                .collect(Collectors.joining("/"));
+    }
+
+    /**
+     * Run a source read as part of the caller's observation, so its cache lookups and upstream
+     * requests still show up in the tool call's trace
+     */
+    private static <T> T within(Observation parent, Callable<T> call) throws Exception {
+        if (parent == null) {
+            return call.call();
+        }
+        try (Observation.Scope scope = parent.openScope()) {
+            return call.call();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package dev.danvega.dvaas.tools.report;
+
+import dev.danvega.dvaas.tools.report.model.ReportEntry;
+import dev.danvega.dvaas.tools.report.model.ReportPeriod;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * A source whose content can be listed in a content report. Implemented by the services behind each
+ * tool family, which answer from the data they already cache.
+ */
+public interface ContentReportSource {
+
+    /**
+     * Content types this source reports, e.g. {@code "blog"}
+     */
+    Set<String> reportContentTypes();
+
+    /**
+     * Content published within the period, of the period's content types
+     */
+    List<ReportEntry> reportEntries(ReportPeriod period);
+
+    /**
+     * Like {@link #reportEntries}, without blocking the subscribing thread. Sources with reactive
+     * caches should override this; the default runs {@link #reportEntries} on a thread that may block.
+     */
+    default Mono<List<ReportEntry>> reportEntriesAsync(ReportPeriod period) {
+        return Mono.fromCallable(() -> reportEntries(period)).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Like {@link #reportEntries}, for exports of a whole catalog. Sources backed by a cache should
+     * override this to stream straight over their snapshot instead of copying the matching entries.
+     */
+    default Stream<ReportEntry> exportEntries(ReportPeriod period) {
+        return reportEntries(period).stream();
+    }
+}
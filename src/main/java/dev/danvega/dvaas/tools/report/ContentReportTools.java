@@ -0,0 +1,44 @@
+package dev.danvega.dvaas.tools.report;
+
+import dev.danvega.dvaas.tools.report.model.ContentReport;
+import dev.danvega.dvaas.tools.report.model.ReportPeriod;
+import org.springframework.ai.mcp.annotation.McpTool;
+import org.springframework.ai.mcp.annotation.McpToolParam;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component
+public class ContentReportTools {
+
+    // Descriptions shared by the blocking tool and its Mono twin registered in ASYNC mode
+    private static final String GENERATE = "Generate a content report across videos, live streams, blog posts, newsletters, podcast episodes and speaking engagements for a year or date range, as a ready CSV (NAME,CONTENT TYPE,EXPORT INDICATOR,DATE,CONTENT LINK,EYEBALLS LIVE,EYEBALLS POST) sorted oldest first";
+    private static final String YEAR = "Year for the report (e.g., '2024'). Defaults to the current year.";
+    private static final String START_DATE = "Custom start date in YYYY-MM-DD format. Used with endDate instead of year.";
+    private static final String END_DATE = "Custom end date in YYYY-MM-DD format. Used with startDate instead of year.";
+    private static final String CONTENT_TYPES = "Comma-separated content types: 'video', 'live stream', 'blog', 'newsletter', 'podcast', 'speaking', or 'all' (default)";
+
+    private final ContentReportService contentReportService;
+
+    public ContentReportTools(ContentReportService contentReportService) {
+        this.contentReportService = contentReportService;
+    }
+
+    @McpTool(name = "content-report-generate", description = GENERATE)
+    public ContentReport generateReport(
+            @McpToolParam(description = YEAR, required = false) String year,
+            @McpToolParam(description = START_DATE, required = false) String startDate,
+            @McpToolParam(description = END_DATE, required = false) String endDate,
+            @McpToolParam(description = CONTENT_TYPES, required = false) String contentTypes) {
+        return contentReportService.generate(ReportPeriod.parse(year, startDate, endDate, contentTypes));
+    }
+
+    @McpTool(name = "content-report-generate", description = GENERATE)
+    public Mono<ContentReport> generateReportAsync(
+            @McpToolParam(description = YEAR, required = false) String year,
+            @McpToolParam(description = START_DATE, required = false) String startDate,
+            @McpToolParam(description = END_DATE, required = false) String endDate,
+            @McpToolParam(description = CONTENT_TYPES, required = false) String contentTypes) {
+        // Deferred so invalid arguments surface as an error signal, not a throw at assembly
+        return Mono.defer(() -> contentReportService.generateAsync(ReportPeriod.parse(year, startDate, endDate, contentTypes)));
+    }
+}
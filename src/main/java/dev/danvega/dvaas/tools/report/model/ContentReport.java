@@ -0,0 +1,23 @@
+package dev.danvega.dvaas.tools.report.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A generated content report
+ *
+ * @param period the requested period, e.g. {@code 2024}
+ * @param totalItems rows in the CSV
+ * @param itemsByType rows per content type
+ * @param warnings sources that could not be read or were only partly covered; also written as
+ *        comment lines above the CSV
+ * @param csv the report with a header row, oldest content first
+ */
+public record ContentReport(
+        String period,
+        int totalItems,
+        Map<String, Integer> itemsByType,
+        List<String> warnings,
+        String csv
+) {
+}
@@ -0,0 +1,27 @@
+package dev.danvega.dvaas.tools.report.model;
+
+import java.time.LocalDate;
+
+/**
+ * One row of a content report
+ *
+ * @param name title of the content
+ * @param contentType one of {@link ReportPeriod#CONTENT_TYPES}
+ * @param date publication date
+ * @param link URL of the content, or null when the source has none
+ * @param eyeballsLive live viewers, not tracked by any source yet
+ * @param eyeballsPost views after publication where the source reports them, otherwise 0
+ */
+public record ReportEntry(
+        String name,
+        String contentType,
+        LocalDate date,
+        String link,
+        long eyeballsLive,
+        long eyeballsPost
+) {
+
+    public static ReportEntry of(String name, String contentType, LocalDate date, String link) {
+        return new ReportEntry(name, contentType, date, link, 0, 0);
+    }
+}
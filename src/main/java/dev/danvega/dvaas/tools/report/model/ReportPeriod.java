@@ -0,0 +1,119 @@
+package dev.danvega.dvaas.tools.report.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Dates and content types a content report covers, parsed from the same arguments as the
+ * {@code content-report} prompt
+ *
+ * @param from first day, inclusive
+ * @param to last day, inclusive
+ * @param label how the period was asked for, e.g. {@code 2024} or {@code 2024-01-01 to 2024-03-31}
+ * @param contentTypes content types to include
+ */
+public record ReportPeriod(LocalDate from, LocalDate to, String label, Set<String> contentTypes) {
+
+    public static final List<String> CONTENT_TYPES = List.of("video", "live stream", "blog", "newsletter", "podcast", "speaking");
+
+    public ReportPeriod {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Report end date " + to + " is before its start date " + from);
+        }
+        contentTypes = Set.copyOf(contentTypes);
+    }
+
+    /**
+     * A custom date range wins over a year; without either the report covers the current year
+     *
+     * @param contentTypes comma-separated content types, or {@code all} (the default)
+     */
+    public static ReportPeriod parse(String year, String startDate, String endDate, String contentTypes) {
+        Set<String> types = parseContentTypes(contentTypes);
+        if (isSet(startDate) && isSet(endDate)) {
+            LocalDate from = parseDate(startDate);
+            LocalDate to = parseDate(endDate);
+            return new ReportPeriod(from, to, from + " to " + to, types);
+        }
+        int reportYear;
+        if (isSet(year)) {
+            try {
+                reportYear = Integer.parseInt(year.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid year '" + year + "'. Use a four-digit year like '2024'.");
+            }
+        } else {
+            reportYear = LocalDate.now().getYear();
+        }
+        return new ReportPeriod(LocalDate.of(reportYear, 1, 1), LocalDate.of(reportYear, 12, 31),
+                String.valueOf(reportYear), types);
+    }
+
+    /**
+     * Like {@link #parse}, except that the period is unbounded when neither a year nor dates are
+     * given, and a date range may leave either end open
+     */
+    public static ReportPeriod parseOpenEnded(String year, String startDate, String endDate, String contentTypes) {
+        if (isSet(year) && !isSet(startDate) && !isSet(endDate)) {
+            return parse(year, null, null, contentTypes);
+        }
+        Set<String> types = parseContentTypes(contentTypes);
+        LocalDate from = isSet(startDate) ? parseDate(startDate) : LocalDate.MIN;
+        LocalDate to = isSet(endDate) ? parseDate(endDate) : LocalDate.MAX;
+        String label = isSet(startDate) && isSet(endDate) ? from + " to " + to
+                : isSet(startDate) ? "since " + from
+                : isSet(endDate) ? "until " + to
+                : "all time";
+        return new ReportPeriod(from, to, label, types);
+    }
+
+    public boolean contains(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return false;
+        }
+        LocalDate date = dateTime.toLocalDate();
+        return !date.isBefore(from) && !date.isAfter(to);
+    }
+
+    public boolean includes(String contentType) {
+        return contentTypes.contains(contentType);
+    }
+
+    private static Set<String> parseContentTypes(String contentTypes) {
+        if (!isSet(contentTypes) || "all".equalsIgnoreCase(contentTypes.trim())) {
+            return Set.copyOf(CONTENT_TYPES);
+        }
+        Set<String> types = new LinkedHashSet<>();
+        for (String type : contentTypes.split(",")) {
+            String normalized = type.trim().toLowerCase();
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            if ("all".equals(normalized)) {
+                return Set.copyOf(CONTENT_TYPES);
+            }
+            if (!CONTENT_TYPES.contains(normalized)) {
+                throw new IllegalArgumentException("Unknown content type '" + type.trim() + "'. Use any of "
+                        + String.join(", ", CONTENT_TYPES) + " or 'all'.");
+            }
+            types.add(normalized);
+        }
+        return types.isEmpty() ? Set.copyOf(CONTENT_TYPES) : types;
+    }
+
+    private static LocalDate parseDate(String date) {
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date '" + date + "'. Use YYYY-MM-DD, e.g. '2024-01-31'.");
+        }
+    }
+
+    private static boolean isSet(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,88 @@
+package dev.danvega.dvaas.tools.speaking;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import dev.danvega.dvaas.time.DateTimeParser;
+import dev.danvega.dvaas.tools.speaking.model.SpeakingEngagement;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming reader for the speaking API response.
+ * Binds the top-level array straight into {@link SpeakingEngagement} records from the token stream.
+ */
+public class SpeakingEngagementReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final DateTimeParser dateTimeParser = new DateTimeParser("speaking", ZoneId.systemDefault());
+
+    /**
+     * Read all engagements from a speaking API response body
+     */
+    public List<SpeakingEngagement> read(InputStream body) throws IOException {
+        List<SpeakingEngagement> engagements = new ArrayList<>();
+
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected JSON array in speaking API response");
+            }
+
+            JsonToken element;
+            while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (element == JsonToken.START_OBJECT) {
+                    engagements.add(readEngagement(parser));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return engagements;
+    }
+
+    private SpeakingEngagement readEngagement(JsonParser parser) throws IOException {
+        String title = null;
+        String url = null;
+        String name = null;
+        String location = null;
+        String description = null;
+        LocalDateTime startDate = null;
+        LocalDateTime endDate = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            switch (field) {
+                case "title" -> title = scalarText(parser, value);
+                case "url" -> url = scalarText(parser, value);
+                case "name" -> name = scalarText(parser, value);
+                case "location" -> location = scalarText(parser, value);
+                case "description" -> description = scalarText(parser, value);
+                case "startDate" -> startDate = dateTimeParser.parse(scalarText(parser, value));
+                case "endDate" -> endDate = dateTimeParser.parse(scalarText(parser, value));
+                default -> parser.skipChildren();
+            }
+        }
+
+        return new SpeakingEngagement(title, url, name, startDate, endDate, location, description);
+    }
+
+    private String scalarText(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!value.isScalarValue()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getText();
+    }
+}
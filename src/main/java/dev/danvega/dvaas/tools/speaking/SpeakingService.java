@@ -1,110 +1,174 @@
 package dev.danvega.dvaas.tools.speaking;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.danvega.dvaas.cache.CachedToolSource;
+import dev.danvega.dvaas.cache.Page;
+import dev.danvega.dvaas.cache.Snapshot;
+import dev.danvega.dvaas.cache.SourceCache;
 import dev.danvega.dvaas.config.SpeakingProperties;
+import dev.danvega.dvaas.http.OutboundHttpClient;
 import dev.danvega.dvaas.tools.speaking.model.SpeakingEngagement;
 import dev.danvega.dvaas.tools.speaking.model.SpeakingSearchResult;
 import dev.danvega.dvaas.tools.speaking.model.SpeakingStats;
+import dev.danvega.dvaas.tools.report.ContentReportSource;
+import dev.danvega.dvaas.tools.report.model.ReportEntry;
+import dev.danvega.dvaas.tools.report.model.ReportPeriod;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
+import java.io.InputStream;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @ConditionalOnProperty(name = "dvaas.speaking.api-url")
-public class SpeakingService {
+public class SpeakingService implements CachedToolSource, ContentReportSource {
 
     private static final Logger logger = LoggerFactory.getLogger(SpeakingService.class);
 
+    private static final Comparator<SpeakingEngagement> NEWEST_FIRST =
+            Comparator.comparing(SpeakingEngagement::startDate, Comparator.nullsLast(Comparator.reverseOrder()));
+
     private final SpeakingProperties speakingProperties;
-    private final HttpClient httpClient;
-    private final ObjectMapper objectMapper;
-    private final Map<String, Object> cache = new ConcurrentHashMap<>();
-    private LocalDateTime lastCacheTime;
+    private final OutboundHttpClient httpClient;
+    private final SpeakingEngagementReader engagementReader;
+    private final SourceCache<SpeakingEngagement> engagementCache;
 
-    public SpeakingService(SpeakingProperties speakingProperties) {
+    public SpeakingService(SpeakingProperties speakingProperties, OutboundHttpClient httpClient,
+                           MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
         this.speakingProperties = speakingProperties;
-        this.httpClient = HttpClient.newHttpClient();
-        this.objectMapper = new ObjectMapper();
+        this.httpClient = httpClient;
+        this.engagementReader = new SpeakingEngagementReader();
+        this.engagementCache = SourceCache.async("speaking", speakingProperties.cacheDuration(), NEWEST_FIRST,
+                previous -> fetchEngagementsFromApi(), meterRegistry, observationRegistry);
         logger.info("Speaking service initialized with API URL: {}", speakingProperties.apiUrl());
-        logger.info("Speaking cache duration: {} minutes", speakingProperties.getCacheDurationMinutes());
+        logger.debug("Speaking cache duration: {} minutes", speakingProperties.getCacheDurationMinutes());
+    }
+
+    @Override
+    public String toolPrefix() {
+        return "speaking-";
+    }
+
+    @Override
+    public long generation() {
+        return engagementCache.snapshot().version();
+    }
+
+    @Override
+    public List<SourceCache<?>> caches() {
+        return List.of(engagementCache);
+    }
+
+    @Override
+    public Mono<Long> generationAsync() {
+        return engagementCache.snapshotAsync().map(Snapshot::version);
+    }
+
+    @Override
+    public Set<String> reportContentTypes() {
+        return Set.of("speaking");
+    }
+
+    @Override
+    public List<ReportEntry> reportEntries(ReportPeriod period) {
+        return reportEntries(engagementCache.items(), period).toList();
+    }
+
+    @Override
+    public Mono<List<ReportEntry>> reportEntriesAsync(ReportPeriod period) {
+        return engagementCache.itemsAsync().map(engagements -> reportEntries(engagements, period).toList());
+    }
+
+    @Override
+    public Stream<ReportEntry> exportEntries(ReportPeriod period) {
+        return reportEntries(engagementCache.items(), period);
+    }
+
+    private static Stream<ReportEntry> reportEntries(List<SpeakingEngagement> engagements, ReportPeriod period) {
+        return engagements.stream()
+                .filter(engagement -> period.contains(engagement.startDate()))
+                .map(engagement -> ReportEntry.of(engagement.title() != null ? engagement.title() : engagement.name(),
+                        "speaking", engagement.startDate().toLocalDate(), engagement.getFullUrl()));
     }
 
     public List<SpeakingEngagement> getAllEngagements() {
-        return getCachedEngagements();
+        return engagementCache.items();
     }
 
     public List<SpeakingEngagement> getLatestEngagements(int maxResults) {
-        List<SpeakingEngagement> allEngagements = getCachedEngagements();
-        return allEngagements.stream()
-                .sorted((e1, e2) -> {
-                    LocalDateTime date1 = e1.startDate() != null ? e1.startDate() : LocalDateTime.MIN;
-                    LocalDateTime date2 = e2.startDate() != null ? e2.startDate() : LocalDateTime.MIN;
-                    return date2.compareTo(date1);
-                })
-                .limit(Math.min(maxResults, 50))
-                .toList();
+        return getLatestEngagements(maxResults, null).items();
+    }
+
+    public Page<SpeakingEngagement> getLatestEngagements(int pageSize, String cursor) {
+        return engagementCache.page("latest", engagement -> true, Math.min(pageSize, 50), cursor);
+    }
+
+    public Mono<Page<SpeakingEngagement>> getLatestEngagementsAsync(int pageSize, String cursor) {
+        return engagementCache.pageAsync("latest", engagement -> true, Math.min(pageSize, 50), cursor);
     }
 
     public List<SpeakingEngagement> getUpcomingEngagements(int maxResults) {
-        List<SpeakingEngagement> allEngagements = getCachedEngagements();
+        return getUpcomingEngagements(maxResults, null).items();
+    }
+
+    public Page<SpeakingEngagement> getUpcomingEngagements(int pageSize, String cursor) {
         LocalDateTime now = LocalDateTime.now();
+        // Walk the newest-first snapshot backwards to list the soonest events first
+        return engagementCache.page("upcoming", engagement -> isUpcoming(engagement, now), true, Math.min(pageSize, 50), cursor);
+    }
 
-        return allEngagements.stream()
-                .filter(engagement -> engagement.startDate() != null && (engagement.startDate().isAfter(now) || engagement.isOngoing()))
-                .sorted(Comparator.comparing(SpeakingEngagement::startDate))
-                .limit(Math.min(maxResults, 50))
-                .toList();
+    public Mono<Page<SpeakingEngagement>> getUpcomingEngagementsAsync(int pageSize, String cursor) {
+        return Mono.defer(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            return engagementCache.pageAsync("upcoming", engagement -> isUpcoming(engagement, now), true,
+                    Math.min(pageSize, 50), cursor);
+        });
     }
 
     public SpeakingSearchResult searchEngagementsByKeyword(String keyword, int maxResults) {
+        return SpeakingSearchResult.forKeyword(searchEngagements(keyword, maxResults, null).items(), keyword);
+    }
+
+    public Page<SpeakingEngagement> searchEngagements(String keyword, int pageSize, String cursor) {
         if (keyword == null || keyword.trim().isEmpty()) {
-            return SpeakingSearchResult.forKeyword(List.of(), keyword);
+            return Page.empty();
         }
 
         String searchTerm = keyword.toLowerCase().trim();
-        List<SpeakingEngagement> allEngagements = getCachedEngagements();
+        return engagementCache.page("search:" + searchTerm, engagement -> matchesKeyword(engagement, searchTerm),
+                Math.min(pageSize, 50), cursor);
+    }
 
-        List<SpeakingEngagement> matchingEngagements = allEngagements.stream()
-                .filter(engagement -> matchesKeyword(engagement, searchTerm))
-                .sorted((e1, e2) -> {
-                    LocalDateTime date1 = e1.startDate() != null ? e1.startDate() : LocalDateTime.MIN;
-                    LocalDateTime date2 = e2.startDate() != null ? e2.startDate() : LocalDateTime.MIN;
-                    return date2.compareTo(date1);
-                })
-                .limit(Math.min(maxResults, 50))
-                .toList();
+    public Mono<Page<SpeakingEngagement>> searchEngagementsAsync(String keyword, int pageSize, String cursor) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return Mono.just(Page.empty());
+        }
 
-        return SpeakingSearchResult.forKeyword(matchingEngagements, keyword);
+        String searchTerm = keyword.toLowerCase().trim();
+        return engagementCache.pageAsync("search:" + searchTerm, engagement -> matchesKeyword(engagement, searchTerm),
+                Math.min(pageSize, 50), cursor);
     }
 
     public SpeakingSearchResult getEngagementsByDateRange(LocalDateTime startDate, LocalDateTime endDate, int maxResults) {
-        List<SpeakingEngagement> allEngagements = getCachedEngagements();
+        List<SpeakingEngagement> allEngagements = engagementCache.items();
 
         String dateRangeDesc = String.format("%s to %s",
             startDate.toLocalDate(), endDate.toLocalDate());
 
         List<SpeakingEngagement> matchingEngagements = allEngagements.stream()
                 .filter(engagement -> isWithinDateRange(engagement.startDate(), startDate, endDate))
-                .sorted((e1, e2) -> {
-                    LocalDateTime date1 = e1.startDate() != null ? e1.startDate() : LocalDateTime.MIN;
-                    LocalDateTime date2 = e2.startDate() != null ? e2.startDate() : LocalDateTime.MIN;
-                    return date2.compareTo(date1);
-                })
                 .limit(Math.min(maxResults, 50))
                 .toList();
 
@@ -120,8 +184,14 @@ public class SpeakingService {
     }
 
     public SpeakingStats getSpeakingStats() {
-        List<SpeakingEngagement> allEngagements = getCachedEngagements();
+        return stats(engagementCache.items());
+    }
+
+    public Mono<SpeakingStats> getSpeakingStatsAsync() {
+        return engagementCache.itemsAsync().map(this::stats);
+    }
 
+    private SpeakingStats stats(List<SpeakingEngagement> allEngagements) {
         if (allEngagements.isEmpty()) {
             return new SpeakingStats(0, 0, 0, null, null, null, null, Map.of(), Map.of(), 0.0);
         }
@@ -130,7 +200,7 @@ public class SpeakingService {
 
         // Count upcoming and past events
         long upcomingCount = allEngagements.stream()
-                .filter(e -> e.startDate() != null && (e.startDate().isAfter(now) || e.isOngoing()))
+                .filter(e -> isUpcoming(e, now))
                 .count();
 
         long pastCount = allEngagements.stream()
@@ -198,117 +268,32 @@ public class SpeakingService {
         );
     }
 
-    @SuppressWarnings("unchecked")
-    private List<SpeakingEngagement> getCachedEngagements() {
-        if (needsCacheRefresh()) {
-            try {
-                List<SpeakingEngagement> engagements = fetchEngagementsFromApi();
-                cache.put("engagements", engagements);
-                lastCacheTime = LocalDateTime.now();
-                logger.info("Speaking API cache refreshed with {} engagements", engagements.size());
-                return engagements;
-            } catch (Exception e) {
-                logger.error("Failed to refresh speaking API cache", e);
-                // Return cached engagements if available, otherwise empty list
-                return (List<SpeakingEngagement>) cache.getOrDefault("engagements", List.of());
-            }
-        }
+    private Mono<List<SpeakingEngagement>> fetchEngagementsFromApi() {
+        return Mono.defer(() -> {
+            logger.info("Fetching speaking data from: {}", speakingProperties.apiUrl());
 
-        return (List<SpeakingEngagement>) cache.getOrDefault("engagements", List.of());
-    }
+            HttpRequest request = httpClient.newRequest(speakingProperties.apiUrl())
+                    .header("Accept", "application/json")
+                    .build();
 
-    private boolean needsCacheRefresh() {
-        return lastCacheTime == null ||
-               ChronoUnit.MINUTES.between(lastCacheTime, LocalDateTime.now()) >= speakingProperties.getCacheDurationMinutes() ||
-               !cache.containsKey("engagements");
+            return httpClient.sendAsync("speaking", request);
+        }).flatMap(response -> Mono.fromCallable(() -> readEngagements(response)));
     }
 
-    private List<SpeakingEngagement> fetchEngagementsFromApi() throws IOException, InterruptedException {
-        logger.info("Fetching speaking data from: {}", speakingProperties.apiUrl());
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(speakingProperties.apiUrl()))
-                .header("Accept", "application/json")
-                .GET()
-                .build();
-
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-        if (response.statusCode() != 200) {
-            throw new IOException("HTTP " + response.statusCode() + ": " + response.body());
-        }
-
-        // Parse JSON response
-        List<Map<String, Object>> apiData = objectMapper.readValue(
-            response.body(),
-            new TypeReference<List<Map<String, Object>>>() {}
-        );
-
-        List<SpeakingEngagement> engagements = new ArrayList<>();
-
-        for (Map<String, Object> item : apiData) {
-            SpeakingEngagement engagement = convertApiDataToEngagement(item);
-            if (engagement != null) {
-                engagements.add(engagement);
+    private List<SpeakingEngagement> readEngagements(HttpResponse<InputStream> response) throws IOException {
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new IOException("HTTP " + response.statusCode() + ": " + new String(body.readAllBytes(), StandardCharsets.UTF_8));
             }
-        }
-
-        logger.info("Successfully parsed {} speaking engagements from API", engagements.size());
-        return engagements;
-    }
 
-    private SpeakingEngagement convertApiDataToEngagement(Map<String, Object> data) {
-        try {
-            String title = (String) data.get("title");
-            String url = (String) data.get("url");
-            String name = (String) data.get("name");
-            String location = (String) data.get("location");
-            String description = (String) data.get("description");
-
-            LocalDateTime startDate = parseDateTime((String) data.get("startDate"));
-            LocalDateTime endDate = parseDateTime((String) data.get("endDate"));
-
-            return new SpeakingEngagement(title, url, name, startDate, endDate, location, description);
-        } catch (Exception e) {
-            logger.warn("Failed to convert API data to SpeakingEngagement: {}", e.getMessage());
-            return null;
+            List<SpeakingEngagement> engagements = engagementReader.read(body);
+            logger.info("Successfully parsed {} speaking engagements from API", engagements.size());
+            return engagements;
         }
     }
 
-    private LocalDateTime parseDateTime(String dateStr) {
-        if (dateStr == null || dateStr.trim().isEmpty()) {
-            return null;
-        }
-
-        try {
-            // Try various date formats
-            DateTimeFormatter[] formatters = {
-                DateTimeFormatter.ISO_LOCAL_DATE_TIME,
-                DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"),
-                DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"),
-                DateTimeFormatter.ofPattern("yyyy-MM-dd"),
-                DateTimeFormatter.ofPattern("MM/dd/yyyy"),
-                DateTimeFormatter.ofPattern("dd/MM/yyyy")
-            };
-
-            for (DateTimeFormatter formatter : formatters) {
-                try {
-                    if (formatter.toString().contains("HH")) {
-                        return LocalDateTime.parse(dateStr, formatter);
-                    } else {
-                        return LocalDateTime.parse(dateStr + "T00:00:00");
-                    }
-                } catch (DateTimeParseException ignored) {
-                    // Try next formatter
-                }
-            }
-
-            logger.warn("Could not parse date: {}", dateStr);
-            return null;
-        } catch (Exception e) {
-            logger.warn("Error parsing date '{}': {}", dateStr, e.getMessage());
-            return null;
-        }
+    private boolean isUpcoming(SpeakingEngagement engagement, LocalDateTime now) {
+        return engagement.startDate() != null && (engagement.startDate().isAfter(now) || engagement.isOngoing());
     }
 
     private boolean matchesKeyword(SpeakingEngagement engagement, String keyword) {
@@ -1,68 +1,121 @@
 package dev.danvega.dvaas.tools.speaking;
 
+import dev.danvega.dvaas.cache.Page;
+import dev.danvega.dvaas.projection.RecordProjection;
 import dev.danvega.dvaas.tools.speaking.model.SpeakingEngagement;
-import dev.danvega.dvaas.tools.speaking.model.SpeakingSearchResult;
 import dev.danvega.dvaas.tools.speaking.model.SpeakingStats;
 import org.springframework.ai.mcp.annotation.McpTool;
 import org.springframework.ai.mcp.annotation.McpToolParam;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.stereotype.Component;
-
-import java.util.List;
+import reactor.core.publisher.Mono;
 
 @Component
 @ConditionalOnBean(SpeakingService.class)
 public class SpeakingTools {
 
+    private static final RecordProjection<SpeakingEngagement> ENGAGEMENTS = RecordProjection.of(SpeakingEngagement.class);
+
+    // Descriptions shared by the blocking tools and their Mono twins registered in ASYNC mode
+    private static final String LATEST_ENGAGEMENTS = "Get the most recent speaking engagements from Dan Vega's speaking schedule";
+    private static final String UPCOMING_EVENTS = "Get current and upcoming speaking events from Dan Vega's speaking schedule";
+    private static final String SEARCH_BY_TOPIC = "Search for speaking engagements by topic or keyword (e.g., 'spring', 'ai', 'java', 'microservices')";
+    private static final String STATS = "Get overall statistics and information about Dan Vega's speaking engagements";
+    private static final String TOPIC = "Topic or keyword to search for in titles, descriptions, or event names";
+    private static final String ENGAGEMENT_COUNT = "Number of engagements per page (default: 10, max: 50)";
+    private static final String EVENT_COUNT = "Number of events per page (default: 10, max: 50)";
+    private static final String CURSOR = "nextCursor from a previous response, to fetch the following page (omit for the first page)";
+    private static final String FIELDS = "Comma-separated fields to return, e.g. 'title,name,startDate,location' (default: all fields)";
+
     private final SpeakingService speakingService;
 
     public SpeakingTools(SpeakingService speakingService) {
         this.speakingService = speakingService;
     }
 
-    @McpTool(name = "speaking-get-latest-engagements",
-             description = "Get the most recent speaking engagements from Dan Vega's speaking schedule")
-    public List<SpeakingEngagement> getLatestEngagements(
-            @McpToolParam(description = "Number of engagements to retrieve (default: 10, max: 50)",
-                         required = false) String count) {
-
+    @McpTool(name = "speaking-get-latest-engagements", description = LATEST_ENGAGEMENTS)
+    public Page<SpeakingEngagement> getLatestEngagements(
+            @McpToolParam(description = ENGAGEMENT_COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
         int maxResults = parseCount(count, 10, 50);
-        return speakingService.getLatestEngagements(maxResults);
+        return ENGAGEMENTS.apply(speakingService.getLatestEngagements(maxResults, cursor), fields);
     }
 
-    @McpTool(name = "speaking-get-upcoming-events",
-             description = "Get current and upcoming speaking events from Dan Vega's speaking schedule")
-    public List<SpeakingEngagement> getUpcomingEvents(
-            @McpToolParam(description = "Number of events to retrieve (default: 10, max: 50)",
-                         required = false) String count) {
+    @McpTool(name = "speaking-get-latest-engagements", description = LATEST_ENGAGEMENTS)
+    public Mono<Page<SpeakingEngagement>> getLatestEngagementsAsync(
+            @McpToolParam(description = ENGAGEMENT_COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
+        return Mono.defer(() -> {
+            int maxResults = parseCount(count, 10, 50);
+            return speakingService.getLatestEngagementsAsync(maxResults, cursor).map(page -> ENGAGEMENTS.apply(page, fields));
+        });
+    }
 
+    @McpTool(name = "speaking-get-upcoming-events", description = UPCOMING_EVENTS)
+    public Page<SpeakingEngagement> getUpcomingEvents(
+            @McpToolParam(description = EVENT_COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
         int maxResults = parseCount(count, 10, 50);
-        return speakingService.getUpcomingEngagements(maxResults);
+        return ENGAGEMENTS.apply(speakingService.getUpcomingEngagements(maxResults, cursor), fields);
     }
 
-    @McpTool(name = "speaking-search-by-topic",
-             description = "Search for speaking engagements by topic or keyword (e.g., 'spring', 'ai', 'java', 'microservices')")
-    public List<SpeakingEngagement> searchByTopic(
-            @McpToolParam(description = "Topic or keyword to search for in titles, descriptions, or event names",
-                         required = true) String topic,
-            @McpToolParam(description = "Number of engagements to retrieve (default: 10, max: 50)",
-                         required = false) String count) {
-
-        if (topic == null || topic.trim().isEmpty()) {
-            throw new IllegalArgumentException("Topic parameter is required.");
-        }
+    @McpTool(name = "speaking-get-upcoming-events", description = UPCOMING_EVENTS)
+    public Mono<Page<SpeakingEngagement>> getUpcomingEventsAsync(
+            @McpToolParam(description = EVENT_COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
+        return Mono.defer(() -> {
+            int maxResults = parseCount(count, 10, 50);
+            return speakingService.getUpcomingEngagementsAsync(maxResults, cursor).map(page -> ENGAGEMENTS.apply(page, fields));
+        });
+    }
 
+    @McpTool(name = "speaking-search-by-topic", description = SEARCH_BY_TOPIC)
+    public Page<SpeakingEngagement> searchByTopic(
+            @McpToolParam(description = TOPIC, required = true) String topic,
+            @McpToolParam(description = ENGAGEMENT_COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
+        String searchTopic = requireTopic(topic);
         int maxResults = parseCount(count, 10, 50);
-        SpeakingSearchResult searchResult = speakingService.searchEngagementsByKeyword(topic.trim(), maxResults);
-        return searchResult.engagements();
+        return ENGAGEMENTS.apply(speakingService.searchEngagements(searchTopic, maxResults, cursor), fields);
     }
 
-    @McpTool(name = "speaking-get-stats",
-             description = "Get overall statistics and information about Dan Vega's speaking engagements")
+    @McpTool(name = "speaking-search-by-topic", description = SEARCH_BY_TOPIC)
+    public Mono<Page<SpeakingEngagement>> searchByTopicAsync(
+            @McpToolParam(description = TOPIC, required = true) String topic,
+            @McpToolParam(description = ENGAGEMENT_COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
+        // Deferred so invalid arguments surface as an error signal, not a throw at assembly
+        return Mono.defer(() -> {
+            String searchTopic = requireTopic(topic);
+            int maxResults = parseCount(count, 10, 50);
+            return speakingService.searchEngagementsAsync(searchTopic, maxResults, cursor)
+                    .map(page -> ENGAGEMENTS.apply(page, fields));
+        });
+    }
+
+    @McpTool(name = "speaking-get-stats", description = STATS)
     public SpeakingStats getSpeakingStats() {
         return speakingService.getSpeakingStats();
     }
 
+    @McpTool(name = "speaking-get-stats", description = STATS)
+    public Mono<SpeakingStats> getSpeakingStatsAsync() {
+        return speakingService.getSpeakingStatsAsync();
+    }
+
+    private String requireTopic(String topic) {
+        if (topic == null || topic.trim().isEmpty()) {
+            throw new IllegalArgumentException("Topic parameter is required.");
+        }
+        return topic.trim();
+    }
+
     private int parseCount(String count, int defaultValue, int maxValue) {
         if (count == null || count.trim().isEmpty()) {
             return defaultValue;
@@ -1,50 +1,75 @@
 package dev.danvega.dvaas.tools.youtube;
 
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.JsonFactory;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
 import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.util.DateTime;
 import com.google.api.services.youtube.YouTube;
 import com.google.api.services.youtube.model.*;
+import dev.danvega.dvaas.cache.Page;
 import dev.danvega.dvaas.config.YouTubeProperties;
+import dev.danvega.dvaas.http.OutboundHttpClient;
+import dev.danvega.dvaas.time.DateTimeParser;
+import dev.danvega.dvaas.tools.report.ContentReportSource;
+import dev.danvega.dvaas.tools.report.model.ReportEntry;
+import dev.danvega.dvaas.tools.report.model.ReportPeriod;
 import dev.danvega.dvaas.tools.youtube.model.ChannelStats;
 import dev.danvega.dvaas.tools.youtube.model.Video;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
+import org.springframework.util.function.SingletonSupplier;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
-import java.security.GeneralSecurityException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
-
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
+
+/**
+ * Channel statistics and videos from the YouTube Data API. The Google client only offers blocking
+ * calls, so the reactive variants run them on Reactor's bounded elastic scheduler. The client is
+ * built on the first call, so sessions that never ask about videos don't pay for the Google client's
+ * initialization.
+ */
 @Service
 @ConditionalOnProperty(name = {"dvaas.youtube.api-key", "dvaas.youtube.channel-id"})
-public class YouTubeService {
+public class YouTubeService implements ContentReportSource {
 
     private static final Logger logger = LoggerFactory.getLogger(YouTubeService.class);
-    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+    /** Uploads per playlist page read for a content report, the most one request returns */
+    private static final int REPORT_PAGE_SIZE = 50;
+    /** Stop paging back through the uploads after this many pages per report */
+    private static final int MAX_REPORT_PAGES = 20;
+    private static final Pattern LIVE_TITLE = Pattern.compile("\\blive\\b|livestream", Pattern.CASE_INSENSITIVE);
 
-    private final YouTube youtube;
+    private final SingletonSupplier<YouTube> youtube;
     private final YouTubeProperties youTubeProperties;
+    private final DateTimeParser dateTimeParser = new DateTimeParser("youtube", ZoneOffset.UTC);
 
-    public YouTubeService(YouTubeProperties youTubeProperties) throws GeneralSecurityException, IOException {
+    public YouTubeService(YouTubeProperties youTubeProperties, OutboundHttpClient httpClient) {
         this.youTubeProperties = youTubeProperties;
 
-        final NetHttpTransport httpTransport = GoogleNetHttpTransport.newTrustedTransport();
-        this.youtube = new YouTube.Builder(httpTransport, JSON_FACTORY, null)
-                .setApplicationName(youTubeProperties.applicationName())
-                .build();
-
-        logger.info("YouTube service initialized for channel: {}", youTubeProperties.channelId());
+        this.youtube = SingletonSupplier.of(() -> {
+            YouTube client = new YouTube.Builder(httpClient.googleTransport("youtube"), GsonFactory.getDefaultInstance(), null)
+                    .setApplicationName(youTubeProperties.applicationName())
+                    .setRootUrl(youTubeProperties.rootUrl())
+                    .build();
+            logger.info("YouTube client initialized for channel: {}", youTubeProperties.channelId());
+            return client;
+        });
     }
 
     public ChannelStats getChannelStats() {
         try {
-            YouTube.Channels.List request = youtube.channels()
+            YouTube.Channels.List request = youtube.obtain().channels()
                     .list(List.of("statistics", "snippet"))
                     .setId(List.of(youTubeProperties.channelId()))
                     .setKey(youTubeProperties.apiKey());
@@ -66,7 +91,7 @@ public class YouTubeService {
                     stats.getSubscriberCount() != null ? stats.getSubscriberCount().longValue() : 0,
                     stats.getViewCount() != null ? stats.getViewCount().longValue() : 0,
                     stats.getVideoCount() != null ? stats.getVideoCount().longValue() : 0,
-                    parseDateTime(snippet.getPublishedAt().toString()),
+                    parseDateTime(snippet.getPublishedAt()),
                     stats.getHiddenSubscriberCount() != null && stats.getHiddenSubscriberCount()
             );
         } catch (IOException e) {
@@ -75,27 +100,35 @@ public class YouTubeService {
         }
     }
 
-    public List<Video> getLatestVideos(int maxResults) {
-        try {
-            String uploadsPlaylistId = getUploadsPlaylistId();
-            YouTube.PlaylistItems.List request = youtube.playlistItems()
-                    .list(List.of("snippet", "contentDetails"))
-                    .setPlaylistId(uploadsPlaylistId)
-                    .setMaxResults((long) Math.min(maxResults, 50))
-                    .setKey(youTubeProperties.apiKey());
-
-            PlaylistItemListResponse response = request.execute();
+    public Mono<ChannelStats> getChannelStatsAsync() {
+        return offload(this::getChannelStats);
+    }
 
-            return convertPlaylistItemsToVideoInfo(response.getItems());
+    /**
+     * A page of the channel's uploads, newest first
+     *
+     * @param cursor nextCursor of the previous page, the Data API's page token, or null for the first page
+     * @throws IllegalArgumentException if the API rejects the cursor
+     */
+    public Page<Video> getLatestVideos(int maxResults, String cursor) {
+        try {
+            PlaylistItemListResponse response = uploads(Math.min(maxResults, 50), cursor);
+            return new Page<>(convertPlaylistItemsToVideoInfo(response.getItems()), response.getNextPageToken());
+        } catch (GoogleJsonResponseException e) {
+            throw rejectedCursor(e, cursor, "Failed to fetch latest videos");
         } catch (IOException e) {
             logger.error("Error fetching latest videos", e);
             throw new RuntimeException("Failed to fetch latest videos", e);
         }
     }
 
+    public Mono<Page<Video>> getLatestVideosAsync(int maxResults, String cursor) {
+        return offload(() -> getLatestVideos(maxResults, cursor));
+    }
+
     public List<Video> getTopVideos(int maxResults, String timeRange) {
         try {
-            List<Video> recentVideos = getLatestVideos(50); // Get more to have a good pool
+            List<Video> recentVideos = getLatestVideos(50, null).items(); // Get more to have a good pool
             List<Video> videosWithStats = getVideoStatistics(recentVideos);
 
             return videosWithStats.stream()
@@ -108,28 +141,144 @@ public class YouTubeService {
         }
     }
 
-    public List<Video> searchVideosByTopic(String topic, int maxResults) {
+    public Mono<List<Video>> getTopVideosAsync(int maxResults, String timeRange) {
+        return offload(() -> getTopVideos(maxResults, timeRange));
+    }
+
+    /**
+     * A page of the channel's videos matching a topic, most relevant first
+     *
+     * @param cursor nextCursor of the previous page, the Data API's page token, or null for the first page
+     * @throws IllegalArgumentException if the API rejects the cursor
+     */
+    public Page<Video> searchVideosByTopic(String topic, int maxResults, String cursor) {
         try {
-            YouTube.Search.List search = youtube.search()
+            YouTube.Search.List search = youtube.obtain().search()
                     .list(List.of("snippet"))
                     .setQ(topic)
                     .setChannelId(youTubeProperties.channelId())
                     .setType(List.of("video"))
                     .setOrder("relevance")
                     .setMaxResults((long) Math.min(maxResults, 50))
+                    .setPageToken(blankToNull(cursor))
                     .setKey(youTubeProperties.apiKey());
 
             SearchListResponse searchResponse = search.execute();
 
-            return convertSearchResultsToVideoInfo(searchResponse.getItems());
+            return new Page<>(convertSearchResultsToVideoInfo(searchResponse.getItems()), searchResponse.getNextPageToken());
+        } catch (GoogleJsonResponseException e) {
+            throw rejectedCursor(e, cursor, "Failed to search videos for topic: " + topic);
         } catch (IOException e) {
             logger.error("Error searching videos for topic: {}", topic, e);
             throw new RuntimeException("Failed to search videos for topic: " + topic, e);
         }
     }
 
+    public Mono<Page<Video>> searchVideosByTopicAsync(String topic, int maxResults, String cursor) {
+        return offload(() -> searchVideosByTopic(topic, maxResults, cursor));
+    }
+
+    @Override
+    public Set<String> reportContentTypes() {
+        return Set.of("video", "live stream");
+    }
+
+    /**
+     * Uploads published within the period with their view counts. The uploads playlist is paged back
+     * from the newest upload until it reaches before the period, at most {@value #MAX_REPORT_PAGES}
+     * pages. A video counts as a live stream when its title or zero duration says so.
+     */
+    @Override
+    public List<ReportEntry> reportEntries(ReportPeriod period) {
+        try {
+            String playlistId = getUploadsPlaylistId();
+            List<ReportEntry> entries = new ArrayList<>();
+            String pageToken = null;
+            for (int page = 1; page <= MAX_REPORT_PAGES; page++) {
+                PlaylistItemListResponse response = uploads(playlistId, REPORT_PAGE_SIZE, pageToken);
+                List<Video> uploads = convertPlaylistItemsToVideoInfo(response.getItems());
+                getVideoStatistics(uploads.stream().filter(video -> period.contains(video.publishedAt())).toList())
+                        .forEach(video -> entries.add(new ReportEntry(video.title(), isLiveStream(video) ? "live stream" : "video",
+                                video.publishedAt().toLocalDate(), video.url(), 0, video.viewCount())));
+
+                pageToken = response.getNextPageToken();
+                // Uploads come newest first, so once a page reaches before the period the rest are older
+                if (pageToken == null || uploads.stream().anyMatch(video -> publishedBefore(video, period))) {
+                    return entries;
+                }
+            }
+            logger.warn("Content report for {} checked the latest {} uploads only; older videos in the period may be missing",
+                    period.label(), MAX_REPORT_PAGES * REPORT_PAGE_SIZE);
+            return entries;
+        } catch (IOException e) {
+            logger.error("Error fetching videos for content report", e);
+            throw new RuntimeException("Failed to fetch videos for content report", e);
+        }
+    }
+
+    @Override
+    public Mono<List<ReportEntry>> reportEntriesAsync(ReportPeriod period) {
+        return offload(() -> reportEntries(period));
+    }
+
+    private static boolean publishedBefore(Video video, ReportPeriod period) {
+        return video.publishedAt() != null && video.publishedAt().toLocalDate().isBefore(period.from());
+    }
+
+    private static boolean isLiveStream(Video video) {
+        return "P0D".equals(video.duration()) || (video.title() != null && LIVE_TITLE.matcher(video.title()).find());
+    }
+
+    /**
+     * Run a blocking client call on a thread that may block, inside the subscriber's observation so
+     * its requests are still traced as part of the tool call
+     */
+    private static <T> Mono<T> offload(Callable<T> call) {
+        return Mono.deferContextual(context -> Mono.fromCallable(() -> {
+            Observation observation = context.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+            if (observation == null) {
+                return call.call();
+            }
+            try (Observation.Scope scope = observation.openScope()) {
+                return call.call();
+            }
+        })).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * One page of the uploads playlist
+     */
+    private PlaylistItemListResponse uploads(int maxResults, String pageToken) throws IOException {
+        return uploads(getUploadsPlaylistId(), maxResults, pageToken);
+    }
+
+    private PlaylistItemListResponse uploads(String playlistId, int maxResults, String pageToken) throws IOException {
+        return youtube.obtain().playlistItems()
+                .list(List.of("snippet", "contentDetails"))
+                .setPlaylistId(playlistId)
+                .setMaxResults((long) maxResults)
+                .setPageToken(blankToNull(pageToken))
+                .setKey(youTubeProperties.apiKey())
+                .execute();
+    }
+
+    private static String blankToNull(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : cursor;
+    }
+
+    /**
+     * A request the API refused with 400 because of its page token is a bad cursor, not an upstream failure
+     */
+    private RuntimeException rejectedCursor(GoogleJsonResponseException e, String cursor, String message) {
+        if (e.getStatusCode() == 400 && blankToNull(cursor) != null) {
+            return new IllegalArgumentException("Invalid cursor. Use the nextCursor value from a previous response.");
+        }
+        logger.error(message, e);
+        return new RuntimeException(message, e);
+    }
+
     private String getUploadsPlaylistId() throws IOException {
-        YouTube.Channels.List request = youtube.channels()
+        YouTube.Channels.List request = youtube.obtain().channels()
                 .list(List.of("contentDetails"))
                 .setId(List.of(youTubeProperties.channelId()))
                 .setKey(youTubeProperties.apiKey());
@@ -159,7 +308,7 @@ public class YouTubeService {
                 videoId,
                 snippet.getTitle(),
                 "https://www.youtube.com/watch?v=" + videoId,
-                parseDateTime(snippet.getPublishedAt().toString()),
+                parseDateTime(snippet.getPublishedAt()),
                 0 // View count will be populated separately if needed
         );
     }
@@ -180,7 +329,7 @@ public class YouTubeService {
                 videoId,
                 snippet.getTitle(),
                 "https://www.youtube.com/watch?v=" + videoId,
-                parseDateTime(snippet.getPublishedAt().toString()),
+                parseDateTime(snippet.getPublishedAt()),
                 0 // View count will be populated separately if needed
         );
     }
@@ -190,7 +339,7 @@ public class YouTubeService {
 
         List<String> videoIds = videos.stream().map(Video::id).toList();
 
-        YouTube.Videos.List request = youtube.videos()
+        YouTube.Videos.List request = youtube.obtain().videos()
                 .list(List.of("statistics", "contentDetails"))
                 .setId(videoIds)
                 .setKey(youTubeProperties.apiKey());
@@ -225,13 +374,8 @@ public class YouTubeService {
                 .toList();
     }
 
-    private LocalDateTime parseDateTime(String dateTimeString) {
-        try {
-            // YouTube API returns ISO 8601 format
-            return LocalDateTime.parse(dateTimeString.replace("Z", ""), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        } catch (Exception e) {
-            logger.warn("Failed to parse datetime: {}", dateTimeString);
-            return LocalDateTime.now();
-        }
+    private LocalDateTime parseDateTime(DateTime dateTime) {
+        // YouTube API returns RFC 3339 timestamps in UTC
+        return dateTime != null ? dateTimeParser.parse(dateTime.toStringRfc3339()) : null;
     }
 }
\ No newline at end of file
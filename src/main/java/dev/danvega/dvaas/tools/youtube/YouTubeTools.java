@@ -1,11 +1,14 @@
 package dev.danvega.dvaas.tools.youtube;
 
+import dev.danvega.dvaas.cache.Page;
+import dev.danvega.dvaas.projection.RecordProjection;
 import dev.danvega.dvaas.tools.youtube.model.ChannelStats;
 import dev.danvega.dvaas.tools.youtube.model.Video;
 import org.springframework.ai.mcp.annotation.McpTool;
 import org.springframework.ai.mcp.annotation.McpToolParam;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -13,55 +16,110 @@ import java.util.List;
 @ConditionalOnBean(YouTubeService.class)
 public class YouTubeTools {
 
+    private static final RecordProjection<Video> VIDEOS = RecordProjection.of(Video.class);
+
+    // Descriptions shared by the blocking tools and their Mono twins registered in ASYNC mode
+    private static final String LATEST_VIDEOS = "Get the most recent videos from Dan Vega's YouTube channel";
+    private static final String TOP_VIDEOS = "Get the top-performing videos from Dan Vega's YouTube channel by view count";
+    private static final String SEARCH_BY_TOPIC = "Search for videos on Dan Vega's YouTube channel by topic or keyword (e.g., 'java', 'spring', 'spring-ai')";
+    private static final String CHANNEL_STATS = "Get overall statistics and information about Dan Vega's YouTube channel";
+    private static final String TOPIC = "Topic or keyword to search for (e.g., 'java', 'spring', 'spring-ai')";
+    private static final String TIME_RANGE = "Time range: 'recent', 'month', 'year', 'all' (default: 'recent')";
+    private static final String COUNT = "Number of videos to retrieve (default: 10, max: 50)";
+    private static final String PAGE_COUNT = "Number of videos per page (default: 10, max: 50)";
+    private static final String CURSOR = "nextCursor from a previous response, to fetch the following page (omit for the first page)";
+    private static final String FIELDS = "Comma-separated fields to return, e.g. 'title,url,publishedAt,viewCount' (default: all fields)";
+
     private final YouTubeService youTubeService;
 
     public YouTubeTools(YouTubeService youTubeService) {
         this.youTubeService = youTubeService;
     }
 
-    @McpTool(name = "youtube-get-latest-videos",
-             description = "Get the most recent videos from Dan Vega's YouTube channel")
-    public List<Video> getLatestVideos(
-            @McpToolParam(description = "Number of videos to retrieve (default: 10, max: 50)",
-                         required = false) String count) {
-
+    @McpTool(name = "youtube-get-latest-videos", description = LATEST_VIDEOS)
+    public Page<Video> getLatestVideos(
+            @McpToolParam(description = PAGE_COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
         int maxResults = parseCount(count, 10, 50);
-        return youTubeService.getLatestVideos(maxResults);
+        return VIDEOS.apply(youTubeService.getLatestVideos(maxResults, cursor), fields);
+    }
+
+    @McpTool(name = "youtube-get-latest-videos", description = LATEST_VIDEOS)
+    public Mono<Page<Video>> getLatestVideosAsync(
+            @McpToolParam(description = PAGE_COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
+        return Mono.defer(() -> {
+            int maxResults = parseCount(count, 10, 50);
+            return youTubeService.getLatestVideosAsync(maxResults, cursor).map(page -> VIDEOS.apply(page, fields));
+        });
     }
 
-    @McpTool(name = "youtube-get-top-videos",
-             description = "Get the top-performing videos from Dan Vega's YouTube channel by view count")
+    @McpTool(name = "youtube-get-top-videos", description = TOP_VIDEOS)
     public List<Video> getTopVideos(
-            @McpToolParam(description = "Number of videos to retrieve (default: 10, max: 50)",
-                         required = false) String count,
-            @McpToolParam(description = "Time range: 'recent', 'month', 'year', 'all' (default: 'recent')",
-                         required = false) String timeRange) {
+            @McpToolParam(description = COUNT, required = false) String count,
+            @McpToolParam(description = TIME_RANGE, required = false) String timeRange,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
+        int maxResults = parseCount(count, 10, 50);
+        return VIDEOS.apply(youTubeService.getTopVideos(maxResults, timeRange(timeRange)), fields);
+    }
 
+    @McpTool(name = "youtube-get-top-videos", description = TOP_VIDEOS)
+    public Mono<List<Video>> getTopVideosAsync(
+            @McpToolParam(description = COUNT, required = false) String count,
+            @McpToolParam(description = TIME_RANGE, required = false) String timeRange,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
+        return Mono.defer(() -> {
+            int maxResults = parseCount(count, 10, 50);
+            return youTubeService.getTopVideosAsync(maxResults, timeRange(timeRange)).map(videos -> VIDEOS.apply(videos, fields));
+        });
+    }
+
+    @McpTool(name = "youtube-search-videos-by-topic", description = SEARCH_BY_TOPIC)
+    public Page<Video> searchVideosByTopic(
+            @McpToolParam(description = TOPIC, required = true) String topic,
+            @McpToolParam(description = PAGE_COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
+        String searchTopic = requireTopic(topic);
         int maxResults = parseCount(count, 10, 50);
-        String range = timeRange != null ? timeRange.toLowerCase() : "recent";
-        return youTubeService.getTopVideos(maxResults, range);
+        return VIDEOS.apply(youTubeService.searchVideosByTopic(searchTopic, maxResults, cursor), fields);
+    }
+
+    @McpTool(name = "youtube-search-videos-by-topic", description = SEARCH_BY_TOPIC)
+    public Mono<Page<Video>> searchVideosByTopicAsync(
+            @McpToolParam(description = TOPIC, required = true) String topic,
+            @McpToolParam(description = PAGE_COUNT, required = false) String count,
+            @McpToolParam(description = CURSOR, required = false) String cursor,
+            @McpToolParam(description = FIELDS, required = false) String fields) {
+        // Deferred so invalid arguments surface as an error signal, not a throw at assembly
+        return Mono.defer(() -> {
+            String searchTopic = requireTopic(topic);
+            int maxResults = parseCount(count, 10, 50);
+            return youTubeService.searchVideosByTopicAsync(searchTopic, maxResults, cursor).map(page -> VIDEOS.apply(page, fields));
+        });
+    }
+
+    @McpTool(name = "youtube-get-channel-stats", description = CHANNEL_STATS)
+    public ChannelStats getChannelStats() {
+        return youTubeService.getChannelStats();
     }
 
-    @McpTool(name = "youtube-search-videos-by-topic",
-             description = "Search for videos on Dan Vega's YouTube channel by topic or keyword (e.g., 'java', 'spring', 'spring-ai')")
-    public List<Video> searchVideosByTopic(
-            @McpToolParam(description = "Topic or keyword to search for (e.g., 'java', 'spring', 'spring-ai')",
-                         required = true) String topic,
-            @McpToolParam(description = "Number of videos to retrieve (default: 10, max: 50)",
-                         required = false) String count) {
+    @McpTool(name = "youtube-get-channel-stats", description = CHANNEL_STATS)
+    public Mono<ChannelStats> getChannelStatsAsync() {
+        return youTubeService.getChannelStatsAsync();
+    }
 
+    private String requireTopic(String topic) {
         if (topic == null || topic.trim().isEmpty()) {
             throw new IllegalArgumentException("Topic parameter is required.");
         }
-
-        int maxResults = parseCount(count, 10, 50);
-        return youTubeService.searchVideosByTopic(topic.trim(), maxResults);
+        return topic.trim();
     }
 
-    @McpTool(name = "youtube-get-channel-stats",
-             description = "Get overall statistics and information about Dan Vega's YouTube channel")
-    public ChannelStats getChannelStats() {
-        return youTubeService.getChannelStats();
+    private String timeRange(String timeRange) {
+        return timeRange != null ? timeRange.toLowerCase() : "recent";
     }
 
     private int parseCount(String count, int defaultValue, int maxValue) {
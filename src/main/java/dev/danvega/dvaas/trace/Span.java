@@ -0,0 +1,58 @@
+package dev.danvega.dvaas.trace;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One finished stage of a traced call with the stages it spent its time in
+ *
+ * @param tags low and high cardinality key values of the observation
+ * @param error message of the exception the stage failed with, or null
+ */
+public record Span(String name, Map<String, String> tags, Instant start, Duration duration, String error,
+                   List<Span> children) {
+
+    /**
+     * Time not accounted for by any child stage, e.g. parsing a body after its headers arrived
+     */
+    public Duration selfTime() {
+        Duration self = duration;
+        for (Span child : children) {
+            self = self.minus(child.duration());
+        }
+        return self.isNegative() ? Duration.ZERO : self;
+    }
+
+    /**
+     * Indented tree of this stage and its children with total and self times in milliseconds
+     */
+    public String render() {
+        StringBuilder text = new StringBuilder();
+        render(text, 0);
+        return text.toString();
+    }
+
+    private void render(StringBuilder text, int depth) {
+        text.append("  ".repeat(depth)).append(name);
+        if (!tags.isEmpty()) {
+            text.append(' ').append(tags);
+        }
+        text.append(' ').append(millis(duration)).append(" ms");
+        if (!children.isEmpty()) {
+            text.append(" (self ").append(millis(selfTime())).append(" ms)");
+        }
+        if (error != null) {
+            text.append(" failed: ").append(error);
+        }
+        for (Span child : children) {
+            text.append('\n');
+            child.render(text, depth + 1);
+        }
+    }
+
+    private static String millis(Duration duration) {
+        return String.format("%.1f", duration.toNanos() / 1_000_000.0);
+    }
+}
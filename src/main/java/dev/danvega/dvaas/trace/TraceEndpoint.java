@@ -0,0 +1,28 @@
+package dev.danvega.dvaas.trace;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Recent tool call traces at {@code /actuator/traces}, newest first
+ */
+@Component
+@ConditionalOnProperty(name = "dvaas.tracing.enabled", havingValue = "true", matchIfMissing = true)
+@Endpoint(id = "traces")
+public class TraceEndpoint {
+
+    private final TraceRecorder traceRecorder;
+
+    public TraceEndpoint(TraceRecorder traceRecorder) {
+        this.traceRecorder = traceRecorder;
+    }
+
+    @ReadOperation
+    public List<Span> traces() {
+        return traceRecorder.traces();
+    }
+}
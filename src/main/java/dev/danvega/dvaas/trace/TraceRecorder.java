@@ -0,0 +1,134 @@
+package dev.danvega.dvaas.trace;
+
+import dev.danvega.dvaas.config.TracingProperties;
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Offline trace exporter for the {@code dvaas.*} observations. Each finished observation becomes a
+ * {@link Span} attached to its nearest {@code dvaas.*} parent; finished root spans (usually a tool
+ * call) are kept in memory for the {@code traces} actuator endpoint and logged with their stage
+ * breakdown when they took longer than the slow threshold.
+ */
+@Component
+@ConditionalOnProperty(name = "dvaas.tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class TraceRecorder implements ObservationHandler<Observation.Context> {
+
+    private static final Logger logger = LoggerFactory.getLogger(TraceRecorder.class);
+    private static final String PREFIX = "dvaas.";
+
+    /**
+     * Timing and finished children of an observation in progress, kept in its context
+     */
+    private static final class Stage {
+        private final Instant start = Instant.now();
+        private final long startNanos = System.nanoTime();
+        private final List<Span> children = new ArrayList<>();
+
+        synchronized void add(Span child) {
+            children.add(child);
+        }
+
+        synchronized List<Span> children() {
+            List<Span> ordered = new ArrayList<>(children);
+            ordered.sort(Comparator.comparing(Span::start));
+            return List.copyOf(ordered);
+        }
+    }
+
+    private final Duration slowThreshold;
+    private final int maxTraces;
+    private final Deque<Span> traces = new ArrayDeque<>();
+
+    public TraceRecorder(TracingProperties properties) {
+        this.slowThreshold = properties.slowThreshold();
+        this.maxTraces = properties.maxTraces();
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context.getName() != null && context.getName().startsWith(PREFIX);
+    }
+
+    @Override
+    public void onStart(Observation.Context context) {
+        context.put(Stage.class, new Stage());
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        Stage stage = context.get(Stage.class);
+        if (stage == null) {
+            return;
+        }
+        Span span = new Span(context.getName(), tags(context), stage.start,
+                Duration.ofNanos(System.nanoTime() - stage.startNanos),
+                context.getError() != null ? String.valueOf(context.getError().getMessage()) : null,
+                stage.children());
+
+        Stage parent = parentStage(context);
+        if (parent != null) {
+            parent.add(span);
+        } else {
+            finish(span);
+        }
+    }
+
+    /**
+     * Most recent finished traces, newest first
+     */
+    public synchronized List<Span> traces() {
+        return List.copyOf(traces);
+    }
+
+    private void finish(Span trace) {
+        synchronized (this) {
+            traces.addFirst(trace);
+            while (traces.size() > maxTraces) {
+                traces.removeLast();
+            }
+        }
+        if (trace.duration().compareTo(slowThreshold) >= 0) {
+            logger.info("Slow call:\n{}", trace.render());
+        } else if (logger.isDebugEnabled()) {
+            logger.debug("Trace:\n{}", trace.render());
+        }
+    }
+
+    private static Stage parentStage(Observation.ContextView context) {
+        ObservationView parent = context.getParentObservation();
+        while (parent != null) {
+            Observation.ContextView parentContext = parent.getContextView();
+            Stage stage = parentContext.get(Stage.class);
+            if (stage != null) {
+                return stage;
+            }
+            parent = parentContext.getParentObservation();
+        }
+        return null;
+    }
+
+    private static Map<String, String> tags(Observation.ContextView context) {
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (KeyValue keyValue : context.getAllKeyValues()) {
+            tags.put(keyValue.getKey(), keyValue.getValue());
+        }
+        return tags;
+    }
+}
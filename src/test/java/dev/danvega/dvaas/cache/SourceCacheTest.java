@@ -0,0 +1,339 @@
+package dev.danvega.dvaas.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SourceCacheTest {
+
+    private final AtomicReference<List<Integer>> upstream = new AtomicReference<>(IntStream.rangeClosed(1, 10).boxed().toList());
+    private final AtomicInteger loads = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SourceCache<Integer> cache(Duration ttl) {
+        return new SourceCache<>("numbers", ttl, Comparator.reverseOrder(), previous -> {
+            loads.incrementAndGet();
+            List<Integer> items = upstream.get();
+            if (items == null) {
+                throw new IOException("upstream unavailable");
+            }
+            return items;
+        }, meterRegistry, ObservationRegistry.NOOP);
+    }
+
+    @Test
+    void testPagesThroughAllMatchesWithCursors() {
+        SourceCache<Integer> cache = cache(Duration.ofHours(1));
+        List<Integer> seen = new ArrayList<>();
+
+        Page<Integer> page = cache.page("even", n -> n % 2 == 0, 2, null);
+        seen.addAll(page.items());
+        while (page.nextCursor() != null) {
+            page = cache.page("even", n -> n % 2 == 0, 2, page.nextCursor());
+            seen.addAll(page.items());
+        }
+
+        assertThat(seen).containsExactly(10, 8, 6, 4, 2);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void testLastPageHasNoCursorWhenNothingElseMatches() {
+        SourceCache<Integer> cache = cache(Duration.ofHours(1));
+
+        Page<Integer> page = cache.page("large", n -> n > 7, 3, null);
+
+        assertThat(page.items()).containsExactly(10, 9, 8);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void testReversedPagingWalksFromTheEnd() {
+        SourceCache<Integer> cache = cache(Duration.ofHours(1));
+
+        Page<Integer> first = cache.page("small", n -> n < 6, true, 3, null);
+        Page<Integer> second = cache.page("small", n -> n < 6, true, 3, first.nextCursor());
+
+        assertThat(first.items()).containsExactly(1, 2, 3);
+        assertThat(second.items()).containsExactly(4, 5);
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void testCursorKeepsPagingTheSnapshotItWasIssuedFor() {
+        SourceCache<Integer> cache = cache(Duration.ZERO);
+
+        Page<Integer> first = cache.page("all", n -> true, 5, null);
+        upstream.set(List.of(100, 99));
+        assertThat(cache.items()).containsExactly(100, 99);
+
+        Page<Integer> second = cache.page("all", n -> true, 5, first.nextCursor());
+
+        assertThat(second.items()).containsExactly(5, 4, 3, 2, 1);
+    }
+
+    @Test
+    void testCursorExpiresOnceItsSnapshotIsNoLongerRetained() {
+        SourceCache<Integer> cache = cache(Duration.ZERO);
+
+        Page<Integer> first = cache.page("all", n -> true, 5, null);
+        for (int i = 0; i < SourceCache.RETAINED_SNAPSHOTS + 1; i++) {
+            cache.items();
+        }
+
+        assertThatThrownBy(() -> cache.page("all", n -> true, 5, first.nextCursor()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Cursor has expired");
+    }
+
+    @Test
+    void testCursorIsRejectedForAnotherQuery() {
+        SourceCache<Integer> cache = cache(Duration.ofHours(1));
+
+        Page<Integer> first = cache.page("all", n -> true, 5, null);
+
+        assertThatThrownBy(() -> cache.page("even", n -> n % 2 == 0, 5, first.nextCursor()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("does not belong to this query");
+    }
+
+    @Test
+    void testMalformedCursorIsRejected() {
+        SourceCache<Integer> cache = cache(Duration.ofHours(1));
+
+        assertThatThrownBy(() -> cache.page("all", n -> true, 5, "not a cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid cursor");
+    }
+
+    @Test
+    void testLimitBelowOneIsRejected() {
+        SourceCache<Integer> cache = cache(Duration.ofHours(1));
+
+        assertThatThrownBy(() -> cache.page("all", n -> true, 0, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Page size must be at least 1");
+        assertThatThrownBy(() -> cache.pageAsync("all", n -> true, -1, null).block())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void testFailedRefreshKeepsServingThePreviousSnapshot() {
+        SourceCache<Integer> cache = cache(Duration.ZERO);
+        long version = cache.snapshot().version();
+
+        upstream.set(null);
+        Snapshot<Integer> snapshot = cache.snapshot();
+
+        assertThat(snapshot.version()).isEqualTo(version);
+        assertThat(snapshot.items()).hasSize(10);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void testExpiredSnapshotIsRevalidatedButKeptWhenTheSourceFails() {
+        SourceCache<Integer> cache = cache(Duration.ofHours(1));
+        long version = cache.snapshot().version();
+
+        cache.expire();
+        upstream.set(null);
+        assertThat(cache.snapshot().version()).isEqualTo(version);
+        assertThat(loads).hasValue(2);
+
+        upstream.set(List.of(1, 2));
+        assertThat(cache.items()).containsExactly(2, 1);
+        assertThat(cache.items()).containsExactly(2, 1);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void testRefreshNowReloadsBeforeExpiryAndReportsTheOutcome() {
+        SourceCache<Integer> cache = cache(Duration.ofHours(1));
+        assertThat(cache.peek()).isEmpty();
+        long version = cache.snapshot().version();
+
+        upstream.set(List.of(1, 2));
+        assertThat(cache.refreshNow().block()).isTrue();
+        assertThat(cache.peek()).get().extracting(Snapshot::items).isEqualTo(List.of(2, 1));
+
+        upstream.set(null);
+        assertThat(cache.refreshNow().block()).isFalse();
+        assertThat(cache.peek()).get().extracting(Snapshot::version).isNotEqualTo(version);
+        assertThat(cache.items()).containsExactly(2, 1);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void testRecordsHitsMissesStaleReadsAndRefreshes() {
+        SourceCache<Integer> cache = cache(Duration.ZERO);
+        cache.snapshot();
+        upstream.set(null);
+        cache.snapshot();
+
+        SourceCache<Integer> cached = new SourceCache<>("cached", Duration.ofHours(1), null, previous -> List.of(1, 2),
+                meterRegistry, ObservationRegistry.NOOP);
+        cached.snapshot();
+        cached.snapshot();
+
+        assertThat(meterRegistry.get("dvaas.cache.requests").tags("source", "numbers", "result", "miss").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("dvaas.cache.requests").tags("source", "numbers", "result", "stale").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("dvaas.cache.requests").tags("source", "cached", "result", "hit").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("dvaas.cache.refresh").tags("source", "numbers", "outcome", "failure").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("dvaas.cache.items").tag("source", "numbers").gauge().value()).isEqualTo(10);
+    }
+
+    @Test
+    void testFailedFirstLoadReturnsEmptySnapshot() {
+        upstream.set(null);
+        SourceCache<Integer> cache = cache(Duration.ofHours(1));
+
+        assertThat(cache.snapshot().isEmpty()).isTrue();
+        assertThat(cache.page("all", n -> true, 5, null)).isEqualTo(Page.empty());
+    }
+
+    @Test
+    void testConcurrentAsyncReadsShareOneUpstreamLoad() {
+        Sinks.One<List<Integer>> response = Sinks.one();
+        SourceCache<Integer> cache = SourceCache.async("numbers", Duration.ofHours(1), Comparator.reverseOrder(), previous -> {
+            loads.incrementAndGet();
+            return response.asMono();
+        }, meterRegistry, ObservationRegistry.NOOP);
+
+        Mono<List<Integer>> first = cache.itemsAsync().cache();
+        Mono<List<Integer>> second = cache.itemsAsync().cache();
+        first.subscribe();
+        second.subscribe();
+        response.tryEmitValue(List.of(1, 2, 3));
+
+        assertThat(first.block(Duration.ofSeconds(5))).containsExactly(3, 2, 1);
+        assertThat(second.block(Duration.ofSeconds(5))).containsExactly(3, 2, 1);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.items()).containsExactly(3, 2, 1);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("dvaas.cache.requests").tags("source", "numbers", "result", "miss").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("dvaas.cache.requests").tags("source", "numbers", "result", "coalesced").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("dvaas.cache.requests").tags("source", "numbers", "result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testBlockingReadJoinsAnAsyncRefreshInFlight() throws Exception {
+        Sinks.One<List<Integer>> response = Sinks.one();
+        SourceCache<Integer> cache = SourceCache.async("numbers", Duration.ofHours(1), Comparator.reverseOrder(), previous -> {
+            loads.incrementAndGet();
+            return response.asMono();
+        }, meterRegistry, ObservationRegistry.NOOP);
+
+        Mono<List<Integer>> async = cache.itemsAsync().cache();
+        async.subscribe();
+        CompletableFuture<List<Integer>> blocking = new CompletableFuture<>();
+        Thread reader = Thread.ofVirtual().start(() -> blocking.complete(cache.items()));
+        awaitWaiting(reader);
+        response.tryEmitValue(List.of(1, 2, 3));
+
+        assertThat(blocking.get(5, TimeUnit.SECONDS)).containsExactly(3, 2, 1);
+        assertThat(async.block(Duration.ofSeconds(5))).containsExactly(3, 2, 1);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("dvaas.cache.requests").tags("source", "numbers", "result", "coalesced").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testReadWithAnExpiredSnapshotStopsWaitingForAHangingRefresh() throws Exception {
+        Sinks.One<List<Integer>> hanging = Sinks.one();
+        SourceCache<Integer> cache = SourceCache.async("numbers", Duration.ZERO, Comparator.reverseOrder(),
+                previous -> loads.getAndIncrement() == 0 ? Mono.just(List.of(1, 2)) : hanging.asMono(),
+                meterRegistry, ObservationRegistry.NOOP);
+        cache.staleWait(Duration.ofMillis(50));
+        assertThat(cache.items()).containsExactly(2, 1);
+
+        Mono<List<Integer>> refreshing = cache.itemsAsync().cache();
+        refreshing.subscribe();
+
+        assertThat(cache.items()).containsExactly(2, 1);
+        assertThat(cache.itemsAsync().block(Duration.ofSeconds(5))).containsExactly(2, 1);
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.get("dvaas.cache.requests").tags("source", "numbers", "result", "stale").counter().count()).isEqualTo(2);
+
+        hanging.tryEmitValue(List.of(1, 2, 3));
+        assertThat(refreshing.block(Duration.ofSeconds(5))).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    void testAsyncReadJoinsABlockingRefreshInFlight() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SourceCache<Integer> cache = new SourceCache<>("numbers", Duration.ofHours(1), null, previous -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(1, 2);
+        }, meterRegistry, ObservationRegistry.NOOP);
+
+        CompletableFuture<List<Integer>> blocking = CompletableFuture.supplyAsync(cache::items);
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        Mono<List<Integer>> async = cache.itemsAsync().cache();
+        async.subscribe();
+        release.countDown();
+
+        assertThat(async.block(Duration.ofSeconds(5))).containsExactly(1, 2);
+        assertThat(blocking.get(5, TimeUnit.SECONDS)).containsExactly(1, 2);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("dvaas.cache.requests").tags("source", "numbers", "result", "coalesced").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testAsyncPagingSharesCursorsWithBlockingReads() {
+        SourceCache<Integer> cache = SourceCache.async("numbers", Duration.ofHours(1), Comparator.reverseOrder(),
+                previous -> Mono.fromSupplier(upstream::get), meterRegistry, ObservationRegistry.NOOP);
+
+        Page<Integer> first = cache.pageAsync("odd", n -> n % 2 == 1, 3, null).block(Duration.ofSeconds(5));
+        Page<Integer> second = cache.page("odd", n -> n % 2 == 1, 3, first.nextCursor());
+
+        assertThat(first.items()).containsExactly(9, 7, 5);
+        assertThat(second.items()).containsExactly(3, 1);
+        assertThatThrownBy(() -> cache.pageAsync("even", n -> n % 2 == 0, 3, first.nextCursor()).block(Duration.ofSeconds(5)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testFailedAsyncRefreshKeepsServingThePreviousSnapshot() {
+        SourceCache<Integer> cache = SourceCache.async("numbers", Duration.ZERO, Comparator.reverseOrder(), previous -> {
+            List<Integer> items = upstream.get();
+            return items != null ? Mono.just(items) : Mono.error(new IOException("upstream unavailable"));
+        }, meterRegistry, ObservationRegistry.NOOP);
+
+        assertThat(cache.itemsAsync().block(Duration.ofSeconds(5))).hasSize(10);
+        upstream.set(null);
+
+        assertThat(cache.itemsAsync().block(Duration.ofSeconds(5))).hasSize(10);
+        assertThat(meterRegistry.get("dvaas.cache.requests").tags("source", "numbers", "result", "stale").counter().count()).isEqualTo(1);
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package dev.danvega.dvaas.cache;
+
+import dev.danvega.dvaas.config.ToolCacheProperties;
+import io.modelcontextprotocol.server.McpServerFeatures.AsyncToolSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.Tool;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ToolResultCacheTest {
+
+    private final AtomicLong generation = new AtomicLong(1);
+    private final AtomicLong podcastGeneration = new AtomicLong(1);
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    private final CachedToolSource blog = new CachedToolSource() {
+        @Override
+        public String toolPrefix() {
+            return "blog-";
+        }
+
+        @Override
+        public long generation() {
+            return generation.get();
+        }
+
+        @Override
+        public List<SourceCache<?>> caches() {
+            return List.of();
+        }
+    };
+
+    private final CachedToolSource podcast = new CachedToolSource() {
+        @Override
+        public String toolPrefix() {
+            return "podcast-";
+        }
+
+        @Override
+        public long generation() {
+            return podcastGeneration.get();
+        }
+
+        @Override
+        public List<SourceCache<?>> caches() {
+            return List.of();
+        }
+    };
+
+    private ToolResultCache cache(int maxEntries) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("blogService", blog, "podcastService", podcast));
+        return new ToolResultCache(beanFactory.getBeanProvider(CachedToolSource.class),
+                new ToolCacheProperties(true, maxEntries));
+    }
+
+    private SyncToolSpecification tool(String name) {
+        return new SyncToolSpecification(Tool.builder().name(name).build(), (exchange, request) ->
+                CallToolResult.builder().addTextContent("result " + invocations.incrementAndGet()).build());
+    }
+
+    private CallToolResult call(SyncToolSpecification tool, Map<String, Object> arguments) {
+        return tool.callHandler().apply(null, new CallToolRequest(tool.tool().name(), arguments));
+    }
+
+    @Test
+    void testRepeatedCallIsAnsweredFromCache() {
+        SyncToolSpecification tool = cache(10).decorate(tool("blog-get-latest-posts"));
+
+        CallToolResult first = call(tool, Map.of("count", "10"));
+        CallToolResult second = call(tool, Map.of("count", "10"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    void testAsyncCallsShareTheCacheAndRunTheHandlerOnlyOnMiss() {
+        AsyncToolSpecification tool = cache(10).decorate(new AsyncToolSpecification(Tool.builder().name("blog-get-latest-posts").build(),
+                (exchange, request) -> Mono.fromSupplier(() ->
+                        CallToolResult.builder().addTextContent("result " + invocations.incrementAndGet()).build())));
+        CallToolRequest request = new CallToolRequest("blog-get-latest-posts", Map.of("count", "10"));
+
+        CallToolResult first = tool.callHandler().apply(null, request).block();
+        CallToolResult second = tool.callHandler().apply(null, request).block();
+        generation.incrementAndGet();
+        CallToolResult third = tool.callHandler().apply(null, request).block();
+
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first);
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    void testDifferentArgumentsAreCachedSeparately() {
+        SyncToolSpecification tool = cache(10).decorate(tool("blog-get-latest-posts"));
+
+        call(tool, Map.of("count", "10"));
+        call(tool, Map.of("count", "5"));
+
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    void testRefreshedSourceInvalidatesCachedResults() {
+        SyncToolSpecification tool = cache(10).decorate(tool("blog-get-stats"));
+
+        CallToolResult before = call(tool, Map.of());
+        generation.incrementAndGet();
+        CallToolResult after = call(tool, Map.of());
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(invocations).hasValue(2);
+        assertThat(call(tool, Map.of())).isSameAs(after);
+    }
+
+    @Test
+    void testErrorResultsAreNotCached() {
+        ToolResultCache cache = cache(10);
+        SyncToolSpecification tool = cache.decorate(new SyncToolSpecification(Tool.builder().name("blog-get-stats").build(),
+                (exchange, request) -> {
+                    invocations.incrementAndGet();
+                    return CallToolResult.builder().addTextContent("RSS feed error").isError(true).build();
+                }));
+
+        call(tool, Map.of());
+        call(tool, Map.of());
+
+        assertThat(invocations).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testToolsWithoutCachedSourceAreNotCached() {
+        ToolResultCache cache = cache(10);
+        SyncToolSpecification tool = cache.decorate(tool("youtube-get-latest-videos"));
+
+        call(tool, Map.of());
+        call(tool, Map.of());
+
+        assertThat(invocations).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testFullCacheMakesRoomForNewCalls() {
+        ToolResultCache cache = cache(2);
+        SyncToolSpecification tool = cache.decorate(tool("blog-search-posts-by-keyword"));
+
+        call(tool, Map.of("keyword", "spring"));
+        call(tool, Map.of("keyword", "java"));
+        call(tool, Map.of("keyword", "ai"));
+
+        assertThat(cache.size()).isLessThanOrEqualTo(2);
+        call(tool, Map.of("keyword", "ai"));
+        assertThat(invocations).hasValue(3);
+    }
+
+    @Test
+    void testFullCacheEvictsTheLeastRecentlyUsedCall() {
+        ToolResultCache cache = cache(2);
+        SyncToolSpecification tool = cache.decorate(tool("blog-search-posts-by-keyword"));
+
+        CallToolResult spring = call(tool, Map.of("keyword", "spring"));
+        call(tool, Map.of("keyword", "java"));
+        call(tool, Map.of("keyword", "spring"));
+        call(tool, Map.of("keyword", "ai"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(call(tool, Map.of("keyword", "spring"))).isSameAs(spring);
+        assertThat(invocations).hasValue(3);
+        call(tool, Map.of("keyword", "java"));
+        assertThat(invocations).hasValue(4);
+    }
+
+    @Test
+    void testRefreshOfOneSourceKeepsTheOtherSourcesResults() {
+        ToolResultCache cache = cache(10);
+        SyncToolSpecification blogStats = cache.decorate(tool("blog-get-stats"));
+        SyncToolSpecification blogLatest = cache.decorate(tool("blog-get-latest-posts"));
+        SyncToolSpecification podcastStats = cache.decorate(tool("podcast-get-stats"));
+
+        call(blogStats, Map.of());
+        call(blogLatest, Map.of());
+        CallToolResult episodes = call(podcastStats, Map.of());
+        generation.incrementAndGet();
+        call(blogStats, Map.of());
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(call(podcastStats, Map.of())).isSameAs(episodes);
+        assertThat(invocations).hasValue(4);
+    }
+
+    @Test
+    void testNormalizeIgnoresOrderAndUnsetArguments() {
+        Map<String, Object> ordered = new LinkedHashMap<>();
+        ordered.put("keyword", "spring");
+        ordered.put("count", "5");
+
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("count", " 5 ");
+        reordered.put("fields", "");
+        reordered.put("cursor", null);
+        reordered.put("keyword", "spring");
+
+        assertThat(ToolResultCache.normalize(reordered)).isEqualTo(ToolResultCache.normalize(ordered));
+        assertThat(ToolResultCache.normalize(new HashMap<>())).isEmpty();
+        assertThat(ToolResultCache.normalize(null)).isEmpty();
+    }
+}
@@ -0,0 +1,69 @@
+package dev.danvega.dvaas.checkpoint;
+
+import dev.danvega.dvaas.cache.CachedToolSource;
+import dev.danvega.dvaas.cache.SourceCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestoredCacheRevalidatorTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final SourceCache<Integer> numbers = new SourceCache<>("numbers", Duration.ofHours(1), Comparator.naturalOrder(),
+            previous -> List.of(loads.incrementAndGet()), new SimpleMeterRegistry(), ObservationRegistry.NOOP);
+
+    private final CachedToolSource source = new CachedToolSource() {
+        @Override
+        public String toolPrefix() {
+            return "numbers-";
+        }
+
+        @Override
+        public long generation() {
+            return numbers.snapshot().version();
+        }
+
+        @Override
+        public List<SourceCache<?>> caches() {
+            return List.of(numbers);
+        }
+    };
+
+    private final RestoredCacheRevalidator revalidator = new RestoredCacheRevalidator(
+            new StaticListableBeanFactory(Map.of("numbersService", source)).getBeanProvider(CachedToolSource.class));
+
+    @Test
+    void testStartAfterStopReloadsCachesInTheBackground() throws InterruptedException {
+        assertThat(numbers.items()).containsExactly(1);
+
+        revalidator.stop();
+        revalidator.start();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loads.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(numbers.items()).containsExactly(2);
+        assertThat(revalidator.isRunning()).isTrue();
+    }
+
+    @Test
+    void testFirstStartLeavesCachesAlone() {
+        assertThat(numbers.items()).containsExactly(1);
+
+        revalidator.start();
+
+        assertThat(numbers.items()).containsExactly(1);
+        assertThat(loads).hasValue(1);
+    }
+}
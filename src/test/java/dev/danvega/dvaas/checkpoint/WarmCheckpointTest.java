@@ -0,0 +1,60 @@
+package dev.danvega.dvaas.checkpoint;
+
+import dev.danvega.dvaas.cache.CachedToolSource;
+import dev.danvega.dvaas.cache.ToolResultCache;
+import dev.danvega.dvaas.config.CheckpointProperties;
+import dev.danvega.dvaas.upstream.FakeUpstreams;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "dvaas.checkpoint.after-warmup=true",
+        "dvaas.checkpoint.warmup-iterations=2"
+})
+@ActiveProfiles("http")
+class WarmCheckpointTest {
+
+    private static final FakeUpstreams upstreams = FakeUpstreams.start(FakeUpstreams.Settings.defaults());
+
+    @Autowired
+    WarmCheckpoint checkpoint;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        upstreams.properties().forEach((name, value) -> registry.add(name, () -> value));
+    }
+
+    @AfterAll
+    static void stopUpstreams() {
+        upstreams.close();
+    }
+
+    @Test
+    void testWarmupCallsEveryToolWithoutRequiredArgumentsOverMcp() {
+        // The checkpoint itself is skipped on a JVM without CRaC, leaving the server running
+        int calls = checkpoint.warmUp();
+
+        assertThat(calls).isPositive().isEven();
+    }
+
+    @Test
+    void testFailedWarmupCarriesOnWithoutACheckpoint() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        // Without local.server.port the warmup cannot reach the MCP endpoint
+        WarmCheckpoint unreachable = new WarmCheckpoint(CheckpointProperties.defaults(),
+                beanFactory.getBeanProvider(CachedToolSource.class), beanFactory.getBeanProvider(ToolResultCache.class),
+                new MockEnvironment());
+
+        assertThatCode(unreachable::checkpointWhenWarm).doesNotThrowAnyException();
+    }
+}
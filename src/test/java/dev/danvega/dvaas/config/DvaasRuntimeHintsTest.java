@@ -0,0 +1,39 @@
+package dev.danvega.dvaas.config;
+
+import dev.danvega.dvaas.projection.ProjectedList;
+import dev.danvega.dvaas.tools.blog.model.BlogPost;
+import dev.danvega.dvaas.tools.report.model.ContentReport;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DvaasRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    DvaasRuntimeHintsTest() {
+        new DvaasRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void testToolResultRecordsCanBeSerializedAndProjected() throws Exception {
+        assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(BlogPost.class.getMethod("title"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(ContentReport.class.getMethod("csv"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ProjectedList.Serializer.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+    }
+
+    @Test
+    void testGoogleClientDataTypesAndVersionResourceAreRegistered() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of("com.google.api.services.youtube.model.SearchListResponse"))
+                .withMemberCategory(MemberCategory.ACCESS_DECLARED_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of("com.google.api.services.youtube.YouTube$Videos$List"))
+                .withMemberCategory(MemberCategory.ACCESS_DECLARED_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("com/google/api/client/googleapis/google-api-client.properties"))
+                .accepts(hints);
+    }
+}
@@ -0,0 +1,64 @@
+package dev.danvega.dvaas.enrichment;
+
+import dev.danvega.dvaas.config.EnrichmentProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentEnricherTest {
+
+    private final ContentEnricher enricher = new ContentEnricher(EnrichmentProperties.defaults());
+
+    @Test
+    void testEnrichFindsTagsInTaxonomyOrder() {
+        ContentEnricher.Enrichment enrichment = enricher.enrich("Kafka with Spring Boot", "Testing with JUnit and Docker");
+
+        assertThat(enrichment.tags()).containsExactly("spring", "boot", "docker", "testing", "junit", "kafka");
+        assertThat(enrichment.youtubeUrl()).isNull();
+    }
+
+    @Test
+    void testEnrichMatchesOverlappingTerms() {
+        // "nosql" contains "sql", so both terms are reported
+        assertThat(enricher.extractTags("NoSQL vs GraphQL APIs"))
+                .containsExactly("graphql", "api", "sql", "nosql");
+    }
+
+    @Test
+    void testEnrichPrefersWatchLinksOverShortLinks() {
+        String body = "See https://youtu.be/short_1 or https://www.youtube.com/watch?v=Long-Id2&t=10";
+
+        assertThat(enricher.enrich(null, body).youtubeUrl()).isEqualTo("https://www.youtube.com/watch?v=Long-Id2");
+    }
+
+    @Test
+    void testEnrichSkipsPrefixWithoutVideoId() {
+        String body = "<iframe src=\"https://www.youtube.com/embed/\"></iframe> https://www.youtube.com/embed/abc_123";
+
+        assertThat(enricher.enrich(body).youtubeUrl()).isEqualTo("youtube.com/embed/abc_123");
+    }
+
+    @Test
+    void testEnrichUsesConfiguredTaxonomy() {
+        ContentEnricher custom = new ContentEnricher(new EnrichmentProperties(List.of(" Quarkus ", "GraalVM")));
+
+        assertThat(custom.extractTags("Native images with GRAALVM and quarkus")).containsExactly("quarkus", "graalvm");
+    }
+
+    @Test
+    void testTaxonomyIsLowercasedIndependentOfTheDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            // Turkish lowercases "I" to a dotless "ı"
+            ContentEnricher custom = new ContentEnricher(new EnrichmentProperties(List.of("JIRA", "GIT")));
+
+            assertThat(custom.extractTags("jira and git")).containsExactly("jira", "git");
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package dev.danvega.dvaas.http;
+
+import com.sun.net.httpserver.HttpServer;
+import dev.danvega.dvaas.config.HttpClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboundHttpClientTest {
+
+    private HttpServer server;
+    private final ExecutorService serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final CountDownLatch slowResponses = new CountDownLatch(1);
+    private final AtomicInteger flakyStatus = new AtomicInteger(503);
+    private final AtomicInteger flakyRequests = new AtomicInteger();
+    private final AtomicInteger slowRequests = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OutboundHttpClient client;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/gzip", exchange -> {
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            byte[] body = gzip("{\"accept\":\"" + acceptEncoding + "\"}");
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/missing", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.createContext("/slow", exchange -> {
+            slowRequests.incrementAndGet();
+            try {
+                slowResponses.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/stalled", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = exchange.getResponseBody();
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            try {
+                slowResponses.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        server.createContext("/flaky", exchange -> {
+            flakyRequests.incrementAndGet();
+            exchange.sendResponseHeaders(flakyStatus.get(), -1);
+            exchange.close();
+        });
+        server.createContext("/sluggish", exchange -> {
+            try {
+                Thread.sleep(60);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        client = new OutboundHttpClient(HttpClientProperties.defaults(), meterRegistry, ObservationRegistry.NOOP);
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowResponses.countDown();
+        client.close();
+        server.stop(0);
+        serverExecutor.close();
+    }
+
+    @Test
+    void testSendNegotiatesAndDecodesGzip() throws Exception {
+        HttpResponse<InputStream> response = client.send("test", client.newRequest(baseUrl + "/gzip").build());
+
+        try (InputStream body = response.body()) {
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{\"accept\":\"gzip, deflate\"}");
+        }
+    }
+
+    @Test
+    void testSendRecordsPerHostMetrics() throws Exception {
+        client.send("test", client.newRequest(baseUrl + "/gzip").build()).body().close();
+        client.send("test", client.newRequest(baseUrl + "/missing").build()).body().close();
+
+        HostMetrics.Snapshot metrics = client.hostMetrics().get("127.0.0.1");
+        assertThat(metrics.requests()).isEqualTo(2);
+        assertThat(metrics.failures()).isEqualTo(1);
+        assertThat(metrics.compressedResponses()).isEqualTo(1);
+        assertThat(metrics.maxLatency()).isPositive();
+        assertThat(meterRegistry.get("dvaas.upstream.host.requests").tag("host", "127.0.0.1").functionTimer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("dvaas.upstream.host.failures").tag("host", "127.0.0.1").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("dvaas.upstream.host.compressed").tag("host", "127.0.0.1").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testOpensTheJdkClientOnFirstRequest() throws Exception {
+        client.newRequest(baseUrl + "/gzip").build();
+        assertThat(client.isOpen()).isFalse();
+
+        client.send("test", client.newRequest(baseUrl + "/gzip").build()).body().close();
+
+        assertThat(client.isOpen()).isTrue();
+    }
+
+    @Test
+    void testRestartOpensANewClient() throws Exception {
+        client.send("test", client.newRequest(baseUrl + "/gzip").build()).body().close();
+
+        client.stop();
+        assertThat(client.isRunning()).isFalse();
+        assertThat(client.isOpen()).isFalse();
+        client.start();
+
+        assertThat(client.isRunning()).isTrue();
+        assertThat(client.isOpen()).isFalse();
+        try (InputStream body = client.send("test", client.newRequest(baseUrl + "/gzip").build()).body()) {
+            assertThat(body.readAllBytes()).isNotEmpty();
+        }
+        assertThat(client.isOpen()).isTrue();
+    }
+
+    @Test
+    void testStoppedClientRejectsRequestsWithoutReopening() {
+        client.stop();
+
+        assertThatThrownBy(() -> client.send("test", client.newRequest(baseUrl + "/gzip").build()))
+                .isInstanceOf(ClientStoppedException.class);
+        assertThatThrownBy(() -> client.sendAsync("test", client.newRequest(baseUrl + "/gzip").build()).block())
+                .hasCauseInstanceOf(ClientStoppedException.class);
+        assertThat(client.isOpen()).isFalse();
+        assertThat(client.bulkhead("test").active()).isZero();
+    }
+
+    @Test
+    void testStopWaitsForARequestInFlight() throws Exception {
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Integer> inFlight = callers.submit(() -> {
+                HttpResponse<InputStream> response = client.send("slow", client.newRequest(baseUrl + "/slow").build());
+                response.body().close();
+                return response.statusCode();
+            });
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (slowRequests.get() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            Future<?> stopping = callers.submit(() -> client.stop());
+            slowResponses.countDown();
+
+            assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo(200);
+            stopping.get(5, TimeUnit.SECONDS);
+            assertThat(client.isOpen()).isFalse();
+        }
+    }
+
+    @Test
+    void testSendRecordsUpstreamTimersBySourceStatusAndPage() throws Exception {
+        client.send("test", client.newRequest(baseUrl + "/gzip?page=1").build()).body().close();
+        client.send("test", client.newRequest(baseUrl + "/gzip?page=2").build()).body().close();
+        client.send("test", client.newRequest(baseUrl + "/missing").build()).body().close();
+
+        assertThat(meterRegistry.get("dvaas.upstream.requests").tags("source", "test", "status", "200", "page", "first")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("dvaas.upstream.requests").tags("source", "test", "status", "200", "page", "next")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("dvaas.upstream.requests").tags("source", "test", "status", "404")
+                .timer().count()).isEqualTo(1);
+
+        client.send("test", client.newRequest(baseUrl + "/missing").build()).body().close();
+        assertThat(meterRegistry.get("dvaas.upstream.requests").tags("source", "test", "status", "404")
+                .timers()).hasSize(1).first().extracting(timer -> timer.count()).isEqualTo(2L);
+    }
+
+    @Test
+    void testSendAsyncDecodesGzipAndRecordsMetrics() throws Exception {
+        HttpResponse<InputStream> response = client.sendAsync("test", client.newRequest(baseUrl + "/gzip").build())
+                .block(Duration.ofSeconds(5));
+        client.sendAsync("test", client.newRequest(baseUrl + "/missing").build()).block(Duration.ofSeconds(5)).body().close();
+
+        try (InputStream body = response.body()) {
+            assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{\"accept\":\"gzip, deflate\"}");
+        }
+        assertThat(client.hostMetrics().get("127.0.0.1").requests()).isEqualTo(2);
+        assertThat(meterRegistry.get("dvaas.upstream.requests").tags("source", "test", "status", "404")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testSendAsyncHoldsTheBulkheadSlotUntilTheBodyIsClosed() throws Exception {
+        HttpResponse<InputStream> response = client.sendAsync("test", client.newRequest(baseUrl + "/gzip").build())
+                .block(Duration.ofSeconds(5));
+
+        assertThat(client.bulkhead("test").active()).isEqualTo(1);
+        try (InputStream body = response.body()) {
+            assertThat(body.readAllBytes()).isNotEmpty();
+        }
+        assertThat(client.bulkhead("test").active()).isZero();
+    }
+
+    @Test
+    void testBodyThatStallsPastTheReadTimeoutFailsTheRead() throws Exception {
+        OutboundHttpClient deadlined = new OutboundHttpClient(new HttpClientProperties(null, Duration.ofMillis(200), null,
+                null, null, null, null, null, null, null, null), meterRegistry, ObservationRegistry.NOOP);
+        try {
+            HttpResponse<InputStream> response = deadlined.send("stalled", deadlined.newRequest(baseUrl + "/stalled").build());
+            try (InputStream body = response.body()) {
+                assertThatThrownBy(body::readAllBytes).isInstanceOf(HttpTimeoutException.class);
+            }
+            HttpResponse<InputStream> async = deadlined.sendAsync("stalled", deadlined.newRequest(baseUrl + "/stalled").build())
+                    .block(Duration.ofSeconds(5));
+            try (InputStream body = async.body()) {
+                assertThatThrownBy(body::readAllBytes).isInstanceOf(HttpTimeoutException.class);
+            }
+
+            assertThat(deadlined.bulkhead("stalled").active()).isZero();
+        } finally {
+            deadlined.close();
+        }
+    }
+
+    @Test
+    void testSlowSourceOnlyExhaustsItsOwnBulkhead() throws Exception {
+        OutboundHttpClient bulkheaded = new OutboundHttpClient(
+                new HttpClientProperties(null, null, null, 2, null, Duration.ofMillis(100), null, null, null, null, null), meterRegistry, ObservationRegistry.NOOP);
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<HttpResponse<InputStream>>> slow = List.of(
+                    callers.submit(() -> bulkheaded.send("slow", bulkheaded.newRequest(baseUrl + "/slow").build())),
+                    callers.submit(() -> bulkheaded.send("slow", bulkheaded.newRequest(baseUrl + "/slow").build())));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (bulkheaded.bulkhead("slow").active() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            assertThatThrownBy(() -> bulkheaded.send("slow", bulkheaded.newRequest(baseUrl + "/slow").build()))
+                    .isInstanceOf(BulkheadFullException.class);
+            assertThatThrownBy(() -> bulkheaded.sendAsync("slow", bulkheaded.newRequest(baseUrl + "/slow").build()).block())
+                    .hasCauseInstanceOf(BulkheadFullException.class);
+            try (InputStream body = bulkheaded.send("fast", bulkheaded.newRequest(baseUrl + "/gzip").build()).body()) {
+                assertThat(body.readAllBytes()).isNotEmpty();
+            }
+
+            slowResponses.countDown();
+            for (Future<HttpResponse<InputStream>> response : slow) {
+                response.get(5, TimeUnit.SECONDS).body().close();
+            }
+            assertThat(bulkheaded.bulkhead("slow").active()).isZero();
+            assertThat(bulkheaded.bulkhead("fast").active()).isZero();
+            assertThat(meterRegistry.get("dvaas.upstream.bulkhead.rejected").tag("source", "slow").counter().count()).isEqualTo(2);
+        } finally {
+            bulkheaded.close();
+        }
+    }
+
+    @Test
+    void testCircuitBreakerFailsFastWhileOpenAndClosesAfterABackgroundProbe() throws Exception {
+        OutboundHttpClient breaking = new OutboundHttpClient(new HttpClientProperties(null, null, null, null, null, null,
+                4, 4, 0.5, null, Duration.ofMillis(200)), meterRegistry, ObservationRegistry.NOOP);
+        try {
+            for (int i = 0; i < 4; i++) {
+                breaking.send("flaky", breaking.newRequest(baseUrl + "/flaky").build()).body().close();
+            }
+            assertThat(breaking.circuitBreaker("flaky").state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+            assertThatThrownBy(() -> breaking.send("flaky", breaking.newRequest(baseUrl + "/flaky").build()))
+                    .isInstanceOf(CircuitOpenException.class);
+            assertThatThrownBy(() -> breaking.sendAsync("flaky", breaking.newRequest(baseUrl + "/flaky").build()).block())
+                    .hasCauseInstanceOf(CircuitOpenException.class);
+            assertThat(flakyRequests).hasValue(4);
+            assertThat(meterRegistry.get("dvaas.upstream.circuit.rejected").tag("source", "flaky").counter().count()).isEqualTo(2);
+
+            flakyStatus.set(200);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (breaking.circuitBreaker("flaky").state() != CircuitBreaker.State.CLOSED && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertThat(breaking.circuitBreaker("flaky").state()).isEqualTo(CircuitBreaker.State.CLOSED);
+            assertThat(flakyRequests.get()).isGreaterThan(4);
+            try (InputStream body = breaking.send("flaky", breaking.newRequest(baseUrl + "/flaky").build()).body()) {
+                assertThat(body.readAllBytes()).isEmpty();
+            }
+        } finally {
+            breaking.close();
+        }
+    }
+
+    @Test
+    void testHalfOpenTrialRefusedByTheBulkheadGoesToTheNextCaller() throws Exception {
+        OutboundHttpClient breaking = new OutboundHttpClient(new HttpClientProperties(null, null, null, 1, null, Duration.ofMillis(20),
+                4, 4, 0.5, null, Duration.ofMillis(100)), meterRegistry, ObservationRegistry.NOOP);
+        // Only POSTs, so there is no GET to replay and the breaker lets a caller through as its trial
+        HttpRequest post = breaking.newRequest(baseUrl + "/flaky").POST(HttpRequest.BodyPublishers.noBody()).build();
+        try {
+            for (int i = 0; i < 4; i++) {
+                breaking.send("flaky", post).body().close();
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (breaking.circuitBreaker("flaky").state() != CircuitBreaker.State.HALF_OPEN && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertThat(breaking.circuitBreaker("flaky").state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+            try (Bulkhead.Permit held = breaking.bulkhead("flaky").acquire()) {
+                assertThatThrownBy(() -> breaking.send("flaky", post)).isInstanceOf(BulkheadFullException.class);
+                assertThatThrownBy(() -> breaking.sendAsync("flaky", post).block()).hasCauseInstanceOf(BulkheadFullException.class);
+            }
+
+            flakyStatus.set(200);
+            try (InputStream body = breaking.send("flaky", post).body()) {
+                assertThat(body.readAllBytes()).isEmpty();
+            }
+            assertThat(breaking.circuitBreaker("flaky").state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        } finally {
+            breaking.close();
+        }
+    }
+
+    @Test
+    void testCircuitBreakerOpensOnSlowResponsesButNotOnClientErrors() throws Exception {
+        OutboundHttpClient breaking = new OutboundHttpClient(new HttpClientProperties(null, null, null, null, null, null,
+                4, 4, 0.5, Duration.ofMillis(30), Duration.ofMinutes(1)), meterRegistry, ObservationRegistry.NOOP);
+        try {
+            for (int i = 0; i < 4; i++) {
+                breaking.send("missing", breaking.newRequest(baseUrl + "/missing").build()).body().close();
+                breaking.send("sluggish", breaking.newRequest(baseUrl + "/sluggish").build()).body().close();
+            }
+
+            assertThat(breaking.circuitBreaker("missing").state()).isEqualTo(CircuitBreaker.State.CLOSED);
+            assertThat(breaking.circuitBreaker("sluggish").state()).isEqualTo(CircuitBreaker.State.OPEN);
+            assertThat(meterRegistry.get("dvaas.upstream.circuit.state").tag("source", "sluggish").gauge().value()).isEqualTo(1);
+        } finally {
+            breaking.close();
+        }
+    }
+
+    @Test
+    void testFollowingPageDetection() {
+        assertThat(OutboundHttpClient.isFollowingPage(URI.create("https://api.beehiiv.com/v2/posts?limit=50&page=3"))).isTrue();
+        assertThat(OutboundHttpClient.isFollowingPage(URI.create("https://api.transistor.fm/v1/episodes?pagination%5Bpage%5D=2"))).isTrue();
+        assertThat(OutboundHttpClient.isFollowingPage(URI.create("https://api.transistor.fm/v1/episodes?pagination%5Bpage%5D=1"))).isFalse();
+        assertThat(OutboundHttpClient.isFollowingPage(URI.create("https://youtube.googleapis.com/youtube/v3/search?pageToken=CAUQAA"))).isTrue();
+        assertThat(OutboundHttpClient.isFollowingPage(URI.create("https://www.danvega.dev/rss.xml"))).isFalse();
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
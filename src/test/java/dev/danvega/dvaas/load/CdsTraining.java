@@ -0,0 +1,170 @@
+package dev.danvega.dvaas.load;
+
+import dev.danvega.dvaas.load.ServerProcess.Transport;
+import dev.danvega.dvaas.upstream.FakeUpstreams;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.modelcontextprotocol.spec.McpSchema.GetPromptRequest;
+import io.modelcontextprotocol.spec.McpSchema.Prompt;
+import io.modelcontextprotocol.spec.McpSchema.PromptArgument;
+import io.modelcontextprotocol.spec.McpSchema.Tool;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Builds an AppCDS archive for each transport from a training run of the packaged application. The
+ * jar is extracted into the output directory, since CDS only archives classes loaded from plain jars
+ * on an unchanged classpath. Then the server is started once per transport against
+ * {@link FakeUpstreams}, with {@code -XX:ArchiveClassesAtExit}, and every MCP tool and prompt it
+ * lists is called before it is stopped. Tools are called with their required arguments only, so the
+ * training covers the same code paths as the clients' first calls.
+ * <p>
+ * Run by {@code ./mvnw -Pcds package}, which leaves {@code target/cds/dvaas-0.0.1-SNAPSHOT.jar} with
+ * {@code dvaas-stdio.jsa} and {@code dvaas-http.jsa} next to it.
+ * <p>
+ * Options: {@code --jar=target/dvaas-0.0.1-SNAPSHOT.jar} and {@code --output=target/cds}.
+ */
+public final class CdsTraining {
+
+    private CdsTraining() {
+    }
+
+    /**
+     * @param archive the archive written at exit
+     * @param toolCalls tools called, including failed calls
+     * @param prompts prompts fetched
+     * @param unanswered tool and prompt requests that got no response
+     */
+    record Training(Path archive, int toolCalls, int prompts, int unanswered) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path jar = null;
+        Path output = Path.of("target", "cds");
+        for (String arg : args) {
+            if (arg.startsWith("--jar=")) {
+                jar = Path.of(arg.substring("--jar=".length()));
+            } else if (arg.startsWith("--output=")) {
+                output = Path.of(arg.substring("--output=".length()));
+            } else {
+                throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+        if (jar == null) {
+            throw new IllegalArgumentException("--jar is required");
+        }
+
+        Path extracted = extract(jar, output);
+        try (FakeUpstreams upstreams = FakeUpstreams.start(FakeUpstreams.Settings.defaults())) {
+            for (Transport transport : Transport.values()) {
+                Path archive = output.resolve("dvaas-" + transport.profile() + ".jsa");
+                Training training = train(StartupProbe.jarCommand(List.of(), extracted), transport, upstreams.properties(), archive);
+                System.out.printf("Archived %s after %d tool calls and %d prompts, %d unanswered (%d KB)%n", training.archive(),
+                        training.toolCalls(), training.prompts(), training.unanswered(), Files.size(training.archive()) / 1024);
+            }
+        }
+        System.out.printf("Run with: java -XX:SharedArchiveFile=%s -jar %s --spring.profiles.active=stdio%n",
+                output.resolve("dvaas-stdio.jsa"), extracted);
+    }
+
+    /**
+     * Extract the jar with Spring Boot's tools jar mode
+     *
+     * @return the application jar in the output directory
+     */
+    static Path extract(Path jar, Path output) throws Exception {
+        Process extract = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Djarmode=tools", "-jar", jar.toString(), "extract", "--destination", output.toString(), "--force")
+                .inheritIO()
+                .start();
+        if (extract.waitFor() != 0) {
+            throw new IllegalStateException("Extracting " + jar + " failed with exit code " + extract.exitValue());
+        }
+        return output.resolve(jar.getFileName());
+    }
+
+    /**
+     * Start the server with {@code command}, call every tool and prompt once and stop it, dumping the
+     * classes it loaded into {@code archive}
+     */
+    static Training train(List<String> command, Transport transport, Map<String, String> properties, Path archive) throws Exception {
+        Files.deleteIfExists(archive);
+        List<String> training = new ArrayList<>(command);
+        training.add(1, "-XX:ArchiveClassesAtExit=" + archive);
+
+        int toolCalls = 0;
+        int prompts = 0;
+        int unanswered = 0;
+        try (ServerProcess server = ServerProcess.start(StartupProbe.withJvmLogOnStderr(training, transport), transport, properties)) {
+            McpSyncClient client = server.client();
+            for (Tool tool : listed(() -> client.listTools().tools())) {
+                try {
+                    client.callTool(new CallToolRequest(tool.name(), requiredArguments(tool)));
+                } catch (RuntimeException e) {
+                    // The call still ran on the server, which is all the archive needs
+                    unanswered++;
+                }
+                toolCalls++;
+            }
+            for (Prompt prompt : listed(() -> client.listPrompts().prompts())) {
+                try {
+                    client.getPrompt(new GetPromptRequest(prompt.name(), requiredArguments(prompt)));
+                } catch (RuntimeException e) {
+                    unanswered++;
+                }
+                prompts++;
+            }
+        }
+        if (!Files.exists(archive)) {
+            throw new IllegalStateException("The " + transport.profile() + " training run did not write " + archive);
+        }
+        return new Training(archive, toolCalls, prompts, unanswered);
+    }
+
+    /**
+     * A listing, asked for again if its response is lost
+     */
+    private static <T> List<T> listed(Supplier<List<T>> list) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return list.get();
+            } catch (RuntimeException e) {
+                if (attempt == 3) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static Map<String, Object> requiredArguments(Tool tool) {
+        Map<String, Object> arguments = new HashMap<>();
+        if (tool.inputSchema() != null && tool.inputSchema().required() != null) {
+            tool.inputSchema().required().forEach(name -> arguments.put(name, sampleValue(name)));
+        }
+        return arguments;
+    }
+
+    private static Map<String, Object> requiredArguments(Prompt prompt) {
+        Map<String, Object> arguments = new HashMap<>();
+        if (prompt.arguments() != null) {
+            prompt.arguments().stream()
+                    .filter(argument -> Boolean.TRUE.equals(argument.required()))
+                    .map(PromptArgument::name)
+                    .forEach(name -> arguments.put(name, sampleValue(name)));
+        }
+        return arguments;
+    }
+
+    /**
+     * Every required argument is a string: a keyword, a topic, an ID or a date range
+     */
+    private static String sampleValue(String name) {
+        return name.toLowerCase().contains("date") ? "2024" : "spring";
+    }
+}
@@ -0,0 +1,283 @@
+package dev.danvega.dvaas.load;
+
+import dev.danvega.dvaas.mcp.ToolMetrics;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.Implementation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Drives a running dvaas server over streamable HTTP the way concurrent agents would: each of
+ * {@link Scenario#clients()} MCP sessions picks tool calls from the scenario mix, waits for the
+ * result and pauses for the think time before the next one. After the warmup, client-observed
+ * latency and errors are recorded per tool, and server-side allocation is read from the server's
+ * {@code dvaas.tool.allocated} and {@code jvm.gc.memory.allocated} metrics.
+ */
+public class LoadGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private final URI server;
+    private final String endpoint;
+
+    /**
+     * @param server base URL of the server, e.g. {@code http://localhost:8080}
+     * @param endpoint streamable MCP endpoint path, {@code /mcp} by default
+     */
+    public LoadGenerator(URI server, String endpoint) {
+        this.server = server;
+        this.endpoint = endpoint;
+    }
+
+    public LoadGenerator(URI server) {
+        this(server, "/mcp");
+    }
+
+    public LoadReport run(Scenario scenario) throws InterruptedException {
+        List<McpSyncClient> clients = new ArrayList<>(scenario.clients());
+        try {
+            for (int i = 0; i < scenario.clients(); i++) {
+                clients.add(connect(i));
+            }
+
+            Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+            long warmupEnd = System.nanoTime() + scenario.warmup().toNanos();
+            long measureEnd = warmupEnd + scenario.duration().toNanos();
+
+            ServerSample before;
+            Instant startedAt;
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> workers = new ArrayList<>(clients.size());
+                for (int i = 0; i < clients.size(); i++) {
+                    McpSyncClient client = clients.get(i);
+                    SplittableRandom random = new SplittableRandom(i);
+                    workers.add(executor.submit(() -> drive(client, scenario, random, warmupEnd, measureEnd, recorders)));
+                }
+                sleepUntil(warmupEnd);
+                before = sample(scenario);
+                startedAt = Instant.now();
+                for (Future<?> worker : workers) {
+                    try {
+                        worker.get();
+                    } catch (ExecutionException e) {
+                        logger.warn("Load client stopped early", e.getCause());
+                    }
+                }
+            }
+            // Calls on virtual threads reach the allocation metric a little after they end
+            Thread.sleep(ToolMetrics.ALLOCATION_DELAY);
+            ServerSample after = sample(scenario);
+
+            return report(scenario, startedAt, recorders, before, after);
+        } finally {
+            clients.forEach(McpSyncClient::closeGracefully);
+        }
+    }
+
+    private McpSyncClient connect(int index) {
+        HttpClientStreamableHttpTransport transport = HttpClientStreamableHttpTransport.builder(server.toString())
+                .endpoint(endpoint)
+                .build();
+        McpSyncClient client = McpClient.sync(transport)
+                .clientInfo(new Implementation("dvaas-load-" + index, "1.0"))
+                .requestTimeout(Duration.ofSeconds(60))
+                .build();
+        client.initialize();
+        return client;
+    }
+
+    private static void drive(McpSyncClient client, Scenario scenario, SplittableRandom random, long warmupEnd,
+                              long measureEnd, Map<String, Recorder> recorders) {
+        while (System.nanoTime() < measureEnd) {
+            Scenario.Call call = scenario.pick(random);
+            long start = System.nanoTime();
+            boolean error;
+            try {
+                CallToolResult result = client.callTool(new CallToolRequest(call.tool(), call.arguments()));
+                error = Boolean.TRUE.equals(result.isError());
+            } catch (RuntimeException e) {
+                error = true;
+            }
+            long end = System.nanoTime();
+            if (start >= warmupEnd && end <= measureEnd) {
+                recorders.computeIfAbsent(call.tool(), tool -> new Recorder()).record(end - start, error);
+            }
+            if (!scenario.thinkTime().isZero()) {
+                try {
+                    Thread.sleep(scenario.thinkTime());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private LoadReport report(Scenario scenario, Instant startedAt, Map<String, Recorder> recorders,
+                              ServerSample before, ServerSample after) {
+        double seconds = scenario.duration().toNanos() / 1e9;
+        Map<String, LoadReport.Stats> tools = new TreeMap<>();
+        Recorder overall = new Recorder();
+        double allocated = 0;
+        long allocatedCalls = 0;
+        boolean allocationKnown = true;
+
+        for (var entry : recorders.entrySet()) {
+            String tool = entry.getKey();
+            Recorder recorder = entry.getValue();
+            overall.addAll(recorder);
+            Allocation toolBefore = before.tools().getOrDefault(tool, Allocation.NONE);
+            Allocation toolAfter = after.tools().getOrDefault(tool, Allocation.UNKNOWN);
+            double perCall = toolAfter.since(toolBefore);
+            if (perCall >= 0) {
+                allocated += toolAfter.bytes() - toolBefore.bytes();
+                allocatedCalls += toolAfter.calls() - toolBefore.calls();
+            } else {
+                allocationKnown = false;
+            }
+            tools.put(tool, recorder.stats(seconds, perCall));
+        }
+
+        double overallPerCall = allocationKnown && allocatedCalls > 0 ? allocated / allocatedCalls : -1;
+        long serverAllocated = before.jvmAllocated() >= 0 && after.jvmAllocated() >= 0
+                ? after.jvmAllocated() - before.jvmAllocated() : -1;
+        return new LoadReport(scenario.name(), startedAt, scenario.clients(), scenario.duration(),
+                overall.stats(seconds, overallPerCall), tools, serverAllocated);
+    }
+
+    private record Allocation(double bytes, long calls) {
+
+        static final Allocation NONE = new Allocation(0, 0);
+        static final Allocation UNKNOWN = new Allocation(-1, -1);
+
+        /**
+         * Mean bytes per call between two samples, or -1 when unknown
+         */
+        double since(Allocation before) {
+            if (calls < 0 || before.calls() < 0 || calls <= before.calls()) {
+                return -1;
+            }
+            return (bytes - before.bytes()) / (calls - before.calls());
+        }
+    }
+
+    private record ServerSample(Map<String, Allocation> tools, long jvmAllocated) {
+    }
+
+    private ServerSample sample(Scenario scenario) {
+        Map<String, Allocation> tools = new ConcurrentHashMap<>();
+        try (HttpClient http = HttpClient.newHttpClient()) {
+            for (String tool : scenario.mix().stream().map(Scenario.Call::tool).distinct().toList()) {
+                JsonNode metric = metric(http, "dvaas.tool.allocated?tag=" + URLEncoder.encode("tool:" + tool, StandardCharsets.UTF_8));
+                if (metric != null) {
+                    tools.put(tool, new Allocation(measurement(metric, "TOTAL"), (long) measurement(metric, "COUNT")));
+                }
+            }
+            JsonNode jvm = metric(http, "jvm.gc.memory.allocated");
+            return new ServerSample(tools, jvm != null ? (long) measurement(jvm, "COUNT") : -1);
+        }
+    }
+
+    /**
+     * A meter from the actuator metrics endpoint, or null when the server does not have it (yet)
+     */
+    private JsonNode metric(HttpClient http, String nameAndQuery) {
+        try {
+            HttpResponse<String> response = http.send(HttpRequest.newBuilder(server.resolve("/actuator/metrics/" + nameAndQuery))
+                    .timeout(Duration.ofSeconds(10)).build(), HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() == 200 ? JSON.readTree(response.body()) : null;
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }
+    }
+
+    private static double measurement(JsonNode metric, String statistic) {
+        for (JsonNode measurement : metric.path("measurements")) {
+            if (statistic.equals(measurement.path("statistic").asString())) {
+                return measurement.path("value").asDouble();
+            }
+        }
+        return 0;
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            Thread.sleep(Duration.ofNanos(remaining));
+        }
+    }
+
+    /**
+     * Latencies and error count of one tool
+     */
+    private static final class Recorder {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void record(long nanos, boolean error) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+            if (error) {
+                errors++;
+            }
+        }
+
+        synchronized void addAll(Recorder other) {
+            synchronized (other) {
+                for (int i = 0; i < other.size; i++) {
+                    record(other.latencies[i], false);
+                }
+                errors += other.errors;
+            }
+        }
+
+        synchronized LoadReport.Stats stats(double seconds, double allocatedBytesPerCall) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new LoadReport.Stats(size, errors, size / seconds, percentile(sorted, 0.50), percentile(sorted, 0.90),
+                    percentile(sorted, 0.99), size == 0 ? 0 : sorted[size - 1] / 1e6, allocatedBytesPerCall);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package dev.danvega.dvaas.load;
+
+import dev.danvega.dvaas.upstream.FakeUpstreams;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "management.endpoints.web.exposure.include=health,metrics")
+@ActiveProfiles("http")
+class LoadGeneratorTest {
+
+    private static final FakeUpstreams upstreams = FakeUpstreams.start(FakeUpstreams.Settings.defaults());
+
+    @LocalServerPort
+    int port;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        upstreams.properties().forEach((name, value) -> registry.add(name, () -> value));
+    }
+
+    @AfterAll
+    static void stopUpstreams() {
+        upstreams.close();
+    }
+
+    @Test
+    void testReportsThroughputLatencyAndAllocationPerTool() throws Exception {
+        Scenario scenario = new Scenario("smoke", "Two tools, a few clients", 4, Duration.ofMillis(500), Duration.ofSeconds(2),
+                Duration.ZERO, null, List.of(
+                        new Scenario.Call("blog-get-latest-posts", 3, Map.of("count", "5")),
+                        new Scenario.Call("speaking-search-by-topic", 1, Map.of("topic", "spring"))),
+                Map.of());
+
+        LoadReport report = new LoadGenerator(URI.create("http://localhost:" + port)).run(scenario);
+
+        assertThat(report.tools()).containsOnlyKeys("blog-get-latest-posts", "speaking-search-by-topic");
+        assertThat(report.overall().calls()).isPositive();
+        assertThat(report.overall().errors()).isZero();
+        assertThat(report.overall().throughput()).isPositive();
+        assertThat(report.overall().p99Millis()).isGreaterThanOrEqualTo(report.overall().p50Millis());
+        assertThat(report.tools().get("blog-get-latest-posts").allocatedBytesPerCall()).isPositive();
+        assertThat(report.render()).contains("blog-get-latest-posts", "overall");
+    }
+
+    @Test
+    void testUnknownToolsCountAsErrors() throws Exception {
+        Scenario scenario = new Scenario("unknown", null, 1, null, Duration.ofMillis(500), null, null,
+                List.of(new Scenario.Call("no-such-tool", 1, null)), null);
+
+        LoadReport report = new LoadGenerator(URI.create("http://localhost:" + port)).run(scenario);
+
+        assertThat(report.overall().calls()).isPositive();
+        assertThat(report.overall().errorRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    void testSavedScenariosLoadAndReportsRoundTrip(@TempDir Path reports) {
+        for (String name : List.of("mixed-read", "search-heavy", "slow-flaky-upstreams")) {
+            Scenario scenario = Scenario.load(name);
+            assertThat(scenario.name()).isEqualTo(name);
+            assertThat(scenario.mix()).isNotEmpty();
+        }
+
+        LoadReport report = new LoadReport("mixed-read", Instant.parse("2025-06-01T10:00:00Z"), 16,
+                Duration.ofSeconds(30), new LoadReport.Stats(100, 1, 3.3, 1, 2, 3, 4, 2048), Map.of(), 1_000_000);
+        report.write(reports);
+
+        assertThat(LoadReport.latest(reports, "mixed-read")).contains(report);
+        assertThat(LoadReport.latest(reports, "search-heavy")).isEmpty();
+    }
+}
@@ -0,0 +1,123 @@
+package dev.danvega.dvaas.load;
+
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Outcome of one {@link Scenario} run, written as JSON so later runs can be compared against it
+ *
+ * @param scenario scenario name
+ * @param startedAt when measurement started
+ * @param clients concurrent MCP sessions
+ * @param measured measured time, excluding warmup
+ * @param overall all calls together
+ * @param tools per tool name
+ * @param serverAllocatedBytes heap allocated by the whole server JVM while measuring, or -1 when the
+ *        server does not expose {@code jvm.gc.memory.allocated}
+ */
+public record LoadReport(String scenario, Instant startedAt, int clients, Duration measured, Stats overall,
+                         Map<String, Stats> tools, long serverAllocatedBytes) {
+
+    private static final JsonMapper JSON = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    /**
+     * @param calls completed calls
+     * @param errors calls that failed or returned an error result
+     * @param throughput calls per second
+     * @param p50Millis median client-observed latency
+     * @param p90Millis 90th percentile latency
+     * @param p99Millis 99th percentile latency
+     * @param maxMillis slowest call
+     * @param allocatedBytesPerCall bytes the server allocated on the tool call thread per call, or -1
+     *        when the server does not expose {@code dvaas.tool.allocated}
+     */
+    public record Stats(long calls, long errors, double throughput, double p50Millis, double p90Millis,
+                        double p99Millis, double maxMillis, double allocatedBytesPerCall) {
+
+        public double errorRate() {
+            return calls == 0 ? 0 : (double) errors / calls;
+        }
+    }
+
+    public String render() {
+        StringBuilder text = new StringBuilder();
+        text.append("Scenario ").append(scenario).append(": ").append(clients).append(" clients, ")
+                .append(measured.toSeconds()).append("s measured\n");
+        text.append(String.format("%-36s %8s %7s %9s %8s %8s %8s %8s %12s%n",
+                "tool", "calls", "errors", "calls/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "alloc/call"));
+        tools.forEach((tool, stats) -> text.append(row(tool, stats)));
+        text.append(row("overall", overall));
+        if (serverAllocatedBytes >= 0) {
+            text.append(String.format("Server allocation: %.1f MB (%.1f MB/s)%n", serverAllocatedBytes / 1e6,
+                    serverAllocatedBytes / 1e6 / Math.max(1, measured.toMillis() / 1000.0)));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Throughput, p99 and allocation change relative to an earlier run
+     */
+    public String compareTo(LoadReport baseline) {
+        return String.format("Compared with %s: throughput %+.1f%%, p99 %+.1f%%, alloc/call %+.1f%%, errors %.2f%% -> %.2f%%",
+                baseline.startedAt(),
+                change(baseline.overall().throughput(), overall.throughput()),
+                change(baseline.overall().p99Millis(), overall.p99Millis()),
+                change(baseline.overall().allocatedBytesPerCall(), overall.allocatedBytesPerCall()),
+                baseline.overall().errorRate() * 100, overall.errorRate() * 100);
+    }
+
+    /**
+     * Write this report as {@code <scenario>-<timestamp>.json} in the given directory
+     */
+    public Path write(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            Path file = directory.resolve(scenario + "-" + FILE_TIMESTAMP.format(startedAt) + ".json");
+            JSON.writeValue(file.toFile(), this);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The most recent report for a scenario in the given directory
+     */
+    public static Optional<LoadReport> latest(Path directory, String scenario) {
+        if (!Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().matches(Pattern.quote(scenario) + "-\\d{8}-\\d{6}\\.json"))
+                    .max(Comparator.comparing(Path::getFileName))
+                    .map(file -> JSON.readValue(file.toFile(), LoadReport.class));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String row(String name, Stats stats) {
+        return String.format("%-36s %8d %7d %9.1f %8.1f %8.1f %8.1f %8.1f %12s%n", name, stats.calls(), stats.errors(),
+                stats.throughput(), stats.p50Millis(), stats.p90Millis(), stats.p99Millis(), stats.maxMillis(),
+                stats.allocatedBytesPerCall() >= 0 ? String.format("%.1f KB", stats.allocatedBytesPerCall() / 1024) : "n/a");
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+}
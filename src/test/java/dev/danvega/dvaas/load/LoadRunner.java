@@ -0,0 +1,146 @@
+package dev.danvega.dvaas.load;
+
+import dev.danvega.dvaas.Application;
+import dev.danvega.dvaas.upstream.FakeUpstreams;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs saved {@link Scenario scenarios} and prints a {@link LoadReport} for each, compared with the
+ * previous report of the same scenario. Without {@code --target}, every scenario gets fresh
+ * {@link FakeUpstreams} and a dvaas server in a separate JVM pointed at them, so server-side
+ * allocation is not mixed up with the load generator's own.
+ * <p>
+ * {@code ./mvnw test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=dev.danvega.dvaas.load.LoadRunner -Dexec.args="mixed-read"}
+ * <p>
+ * Options: {@code --target=http://host:port} to load an already running server,
+ * {@code --reports=target/load-reports} for the report directory and
+ * {@code --server-jvm-args="-Xmx512m -XX:+UseZGC"} for the forked server.
+ */
+public final class LoadRunner {
+
+    private LoadRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI target = null;
+        Path reports = Path.of("target", "load-reports");
+        List<String> serverJvmArgs = List.of();
+        List<String> scenarios = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--target=")) {
+                target = URI.create(arg.substring("--target=".length()));
+            } else if (arg.startsWith("--reports=")) {
+                reports = Path.of(arg.substring("--reports=".length()));
+            } else if (arg.startsWith("--server-jvm-args=")) {
+                serverJvmArgs = Arrays.stream(arg.substring("--server-jvm-args=".length()).trim().split("\\s+"))
+                        .filter(jvmArg -> !jvmArg.isEmpty())
+                        .toList();
+            } else {
+                scenarios.add(arg);
+            }
+        }
+        if (scenarios.isEmpty()) {
+            scenarios.add("mixed-read");
+        }
+
+        for (String name : scenarios) {
+            Scenario scenario = Scenario.load(name);
+            System.out.println("Running " + scenario.name() + ": " + scenario.description());
+            LoadReport report = target != null
+                    ? new LoadGenerator(target).run(scenario)
+                    : runAgainstFakes(scenario, serverJvmArgs, reports);
+
+            System.out.print(report.render());
+            LoadReport.latest(reports, scenario.name()).ifPresent(baseline -> System.out.println(report.compareTo(baseline)));
+            System.out.println("Report written to " + report.write(reports));
+        }
+    }
+
+    private static LoadReport runAgainstFakes(Scenario scenario, List<String> serverJvmArgs, Path reports) throws Exception {
+        try (FakeUpstreams upstreams = FakeUpstreams.start(scenario.upstream().settings())) {
+            int port = freePort();
+            List<String> command = new ArrayList<>();
+            command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+            command.addAll(serverJvmArgs);
+            command.add("-cp");
+            command.add(classpath());
+            command.add(Application.class.getName());
+            command.add("--spring.profiles.active=http");
+            command.add("--server.port=" + port);
+            command.add("--logging.level.dev.danvega.dvaas=WARN");
+            upstreams.properties().forEach((name, value) -> command.add("--" + name + "=" + value));
+            scenario.properties().forEach((name, value) -> command.add("--" + name + "=" + value));
+
+            reports.toFile().mkdirs();
+            Process server = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(reports.resolve(scenario.name() + "-server.log").toFile())
+                    .start();
+            try {
+                URI base = URI.create("http://localhost:" + port);
+                awaitHealthy(server, base, Duration.ofSeconds(120));
+                return new LoadGenerator(base).run(scenario);
+            } finally {
+                server.destroy();
+                server.waitFor();
+            }
+        }
+    }
+
+    private static void awaitHealthy(Process server, URI base, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try (HttpClient http = HttpClient.newHttpClient()) {
+            while (System.nanoTime() < deadline) {
+                if (!server.isAlive()) {
+                    throw new IllegalStateException("Server exited with code " + server.exitValue() + " before becoming healthy");
+                }
+                try {
+                    HttpResponse<Void> response = http.send(HttpRequest.newBuilder(base.resolve("/actuator/health")).build(),
+                            HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        return;
+                    }
+                } catch (IOException e) {
+                    // Not listening yet
+                }
+                Thread.sleep(250);
+            }
+        }
+        throw new IllegalStateException("Server did not become healthy within " + timeout);
+    }
+
+    /**
+     * Classpath of this runner, which under {@code exec:java} is only known to its class loader
+     */
+    static String classpath() throws URISyntaxException {
+        if (LoadRunner.class.getClassLoader() instanceof URLClassLoader loader && loader.getURLs().length > 0) {
+            List<String> entries = new ArrayList<>();
+            for (URL url : loader.getURLs()) {
+                entries.add(Path.of(url.toURI()).toString());
+            }
+            return String.join(File.pathSeparator, entries);
+        }
+        return System.getProperty("java.class.path");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package dev.danvega.dvaas.load;
+
+import dev.danvega.dvaas.upstream.FakeUpstreams;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * A repeatable load run: how many MCP clients call which tools, how often and for how long, and
+ * what the fake upstreams behind the server look like. Scenarios are stored as JSON under
+ * {@code src/test/resources/load/scenarios} so runs can be repeated and compared.
+ *
+ * @param name scenario name, also used for report file names
+ * @param description what the scenario models
+ * @param clients concurrent MCP sessions, each calling tools in a loop
+ * @param warmup time spent calling tools before measurement starts
+ * @param duration measured time
+ * @param thinkTime pause between calls of one client, as an agent would take between turns
+ * @param upstream fake upstream corpus size, latency and error rate
+ * @param mix weighted tool calls each client picks from
+ * @param properties extra {@code dvaas.*} or Spring properties for a server started by {@link LoadRunner}
+ */
+public record Scenario(String name, String description, int clients, Duration warmup, Duration duration,
+                       Duration thinkTime, Upstream upstream, List<Call> mix, Map<String, String> properties) {
+
+    private static final JsonMapper JSON = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES)
+            .build();
+
+    public Scenario {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Scenario name must not be blank");
+        }
+        if (clients < 1) {
+            throw new IllegalArgumentException("Scenario needs at least one client, got: " + clients);
+        }
+        if (mix == null || mix.isEmpty()) {
+            throw new IllegalArgumentException("Scenario " + name + " has no tool calls");
+        }
+        if (warmup == null) {
+            warmup = Duration.ZERO;
+        }
+        if (duration == null || duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("Scenario duration must be positive, got: " + duration);
+        }
+        if (thinkTime == null) {
+            thinkTime = Duration.ZERO;
+        }
+        if (upstream == null) {
+            upstream = new Upstream(0, null, 0.0);
+        }
+        mix = List.copyOf(mix);
+        properties = properties != null ? Map.copyOf(properties) : Map.of();
+    }
+
+    /**
+     * @param corpusSize items per source, default 1000
+     * @param latency delay of every upstream response, default none
+     * @param errorRate share of upstream requests that fail with 503
+     */
+    public record Upstream(int corpusSize, Duration latency, double errorRate) {
+
+        public Upstream {
+            if (corpusSize <= 0) {
+                corpusSize = 1000;
+            }
+            if (latency == null) {
+                latency = Duration.ZERO;
+            }
+        }
+
+        public FakeUpstreams.Settings settings() {
+            return new FakeUpstreams.Settings(corpusSize, latency, errorRate, FakeUpstreams.Settings.defaults().seed());
+        }
+    }
+
+    /**
+     * @param tool MCP tool name
+     * @param weight relative share of calls, default 1
+     * @param arguments tool arguments
+     */
+    public record Call(String tool, int weight, Map<String, Object> arguments) {
+
+        public Call {
+            if (tool == null || tool.isBlank()) {
+                throw new IllegalArgumentException("Tool name must not be blank");
+            }
+            if (weight <= 0) {
+                weight = 1;
+            }
+            arguments = arguments != null ? Map.copyOf(arguments) : Map.of();
+        }
+    }
+
+    /**
+     * Pick a call from the mix, in proportion to the weights
+     */
+    public Call pick(RandomGenerator random) {
+        int total = mix.stream().mapToInt(Call::weight).sum();
+        int target = random.nextInt(total);
+        for (Call call : mix) {
+            target -= call.weight();
+            if (target < 0) {
+                return call;
+            }
+        }
+        return mix.getLast();
+    }
+
+    /**
+     * Load a saved scenario by name from the classpath, or from a JSON file path
+     */
+    public static Scenario load(String nameOrPath) {
+        Path path = Path.of(nameOrPath);
+        if (nameOrPath.endsWith(".json") && Files.isRegularFile(path)) {
+            try (InputStream in = Files.newInputStream(path)) {
+                return JSON.readValue(in, Scenario.class);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        String resource = "/load/scenarios/" + nameOrPath + ".json";
+        try (InputStream in = Scenario.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("No scenario named " + nameOrPath + " (looked for " + resource + ")");
+            }
+            return JSON.readValue(in, Scenario.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package dev.danvega.dvaas.load;
+
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
+import io.modelcontextprotocol.client.transport.ServerParameters;
+import io.modelcontextprotocol.client.transport.StdioClientTransport;
+import io.modelcontextprotocol.json.McpJsonDefaults;
+import io.modelcontextprotocol.spec.McpSchema.Implementation;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * A dvaas server started in its own process, with an MCP client connected over either transport.
+ * Closing it stops the server and waits for the process to exit, so whatever the JVM writes at exit,
+ * such as a CDS archive or a JFR recording, is complete afterwards.
+ */
+final class ServerProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+    /**
+     * Calls against fake upstreams take milliseconds. The stdio server transport occasionally drops a
+     * response that is sent while the previous one is still being written, so waiting longer only
+     * delays the caller.
+     */
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(15);
+
+    enum Transport {
+
+        STDIO, HTTP;
+
+        String profile() {
+            return name().toLowerCase();
+        }
+
+        static Transport parse(String transport) {
+            return valueOf(transport.trim().toUpperCase());
+        }
+    }
+
+    private final McpSyncClient client;
+    private final ProcessHandle process;
+    private final Duration initialize;
+
+    private ServerProcess(McpSyncClient client, ProcessHandle process, Duration initialize) {
+        this.client = client;
+        this.process = process;
+        this.initialize = initialize;
+    }
+
+    /**
+     * Start the server and wait for its {@code initialize} response
+     *
+     * @param command the server command, e.g. {@code java -cp ... Application}
+     * @param properties extra Spring properties passed as command line arguments
+     */
+    static ServerProcess start(List<String> command, Transport transport, Map<String, String> properties) throws Exception {
+        List<String> args = new ArrayList<>(command.subList(1, command.size()));
+        args.add("--spring.profiles.active=" + transport.profile());
+        properties.forEach((name, value) -> args.add("--" + name + "=" + value));
+        return transport == Transport.STDIO ? startStdio(command.getFirst(), args) : startHttp(command.getFirst(), args);
+    }
+
+    private static ServerProcess startStdio(String executable, List<String> args) {
+        Set<Long> running = ProcessHandle.current().children().map(ProcessHandle::pid).collect(Collectors.toSet());
+        McpSyncClient client = McpClient.sync(new StdioClientTransport(ServerParameters.builder(executable).args(args).build(),
+                        McpJsonDefaults.getMapper()))
+                .clientInfo(new Implementation("dvaas-server-process", "1.0"))
+                .requestTimeout(REQUEST_TIMEOUT)
+                .initializationTimeout(STARTUP_TIMEOUT)
+                .build();
+        long start = System.nanoTime();
+        try {
+            client.initialize();
+        } catch (RuntimeException e) {
+            client.close();
+            throw e;
+        }
+        Duration initialize = Duration.ofNanos(System.nanoTime() - start);
+        // The transport keeps its Process to itself; it is the child this JVM started last
+        ProcessHandle process = ProcessHandle.current().children()
+                .filter(child -> !running.contains(child.pid()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Server process not found"));
+        return new ServerProcess(client, process, initialize);
+    }
+
+    private static ServerProcess startHttp(String executable, List<String> args) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(executable);
+        command.addAll(args);
+        command.add("--server.port=" + port);
+
+        long start = System.nanoTime();
+        Process server = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        long deadline = start + STARTUP_TIMEOUT.toNanos();
+        // The port is bound once the application context has started, MCP endpoint included
+        while (!accepts(port)) {
+            if (!server.isAlive()) {
+                throw new IllegalStateException("Server exited with code " + server.exitValue() + " before listening");
+            }
+            if (System.nanoTime() > deadline) {
+                server.destroyForcibly();
+                throw new IllegalStateException("Server did not listen within " + STARTUP_TIMEOUT);
+            }
+            Thread.sleep(10);
+        }
+        McpSyncClient client = McpClient.sync(HttpClientStreamableHttpTransport.builder("http://localhost:" + port).build())
+                .clientInfo(new Implementation("dvaas-server-process", "1.0"))
+                .requestTimeout(REQUEST_TIMEOUT)
+                .initializationTimeout(STARTUP_TIMEOUT)
+                .build();
+        try {
+            client.initialize();
+        } catch (RuntimeException e) {
+            client.close();
+            server.destroyForcibly();
+            throw e;
+        }
+        return new ServerProcess(client, server.toHandle(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    McpSyncClient client() {
+        return client;
+    }
+
+    /**
+     * Process start until the {@code initialize} response
+     */
+    Duration initialize() {
+        return initialize;
+    }
+
+    /**
+     * The server JVM's performance counters, such as {@code sun.cls.time}, read with {@code jcmd}.
+     * Only numeric counters are returned.
+     */
+    Map<String, Long> perfCounters() throws IOException, InterruptedException {
+        Process jcmd = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "jcmd").toString(),
+                String.valueOf(process.pid()), "PerfCounter.print")
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(jcmd.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        if (jcmd.waitFor() != 0) {
+            throw new IOException("jcmd failed: " + output.strip());
+        }
+        Map<String, Long> counters = new HashMap<>();
+        for (String line : output.lines().toList()) {
+            int separator = line.indexOf('=');
+            if (separator > 0 && line.substring(separator + 1).matches("-?\\d+")) {
+                counters.put(line.substring(0, separator), Long.parseLong(line.substring(separator + 1)));
+            }
+        }
+        return counters;
+    }
+
+    /**
+     * Stop the server and wait for its JVM to exit
+     */
+    @Override
+    public void close() throws InterruptedException, ExecutionException {
+        try {
+            client.closeGracefully();
+        } finally {
+            // SIGTERM, so the JVM still runs its exit hooks
+            process.destroy();
+            try {
+                process.onExit().get(60, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                process.destroyForcibly();
+                throw new IllegalStateException("Server did not exit within 60 seconds", e);
+            }
+        }
+    }
+
+    private static boolean accepts(int port) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("localhost", port), 1000);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package dev.danvega.dvaas.load;
+
+import dev.danvega.dvaas.Application;
+import dev.danvega.dvaas.load.ServerProcess.Transport;
+import dev.danvega.dvaas.upstream.FakeUpstreams;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Measures what an MCP client waits for when it starts dvaas: the time from starting the process to
+ * the {@code initialize} response, and the time of the first tool call after that, which also loads
+ * the tool's upstream data. Every run starts a fresh process against the same {@link FakeUpstreams},
+ * so the JVM, CDS and native builds can be compared on equal terms.
+ * <p>
+ * JVM runs also report a {@link StartupProfile}: class loading from the server's performance
+ * counters, and the creation of each {@code *Service} bean from a JFR recording of Spring's startup
+ * steps. Recording adds its own cost to the startup times, the same for every JVM run.
+ * <p>
+ * {@code ./mvnw test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=dev.danvega.dvaas.load.StartupProbe -Dexec.args="--runs=10"}
+ * <p>
+ * Options: {@code --transport=stdio} or {@code http} (default: both),
+ * {@code --jar=target/cds/dvaas-0.0.1-SNAPSHOT.jar} to run an extracted jar instead of this classpath,
+ * {@code --command=target/dvaas} to run a native image,
+ * {@code --server-jvm-args="-XX:SharedArchiveFile=target/cds/dvaas-stdio.jsa"} for the JVM and
+ * {@code --tool=blog-get-latest-posts}.
+ */
+public final class StartupProbe {
+
+    private static final String STARTUP_EVENT = "org.springframework.core.metrics.jfr.FlightRecorderStartupEvent";
+
+    /**
+     * @param initialize process start until the {@code initialize} response
+     * @param firstToolCall the first {@code tools/call} round trip
+     * @param profile where a JVM spent its startup, or null for a native image
+     */
+    public record Result(Duration initialize, Duration firstToolCall, StartupProfile profile) {
+    }
+
+    /**
+     * @param classLoading time the JVM spent loading classes, up to the first tool response
+     * @param loadedClasses classes loaded by then
+     * @param sharedClasses of those, the classes loaded from a CDS archive
+     * @param serviceBeans creation time of each {@code *Service} bean by name, including the beans
+     * created for it as dependencies
+     */
+    public record StartupProfile(Duration classLoading, long loadedClasses, long sharedClasses,
+                                 Map<String, Duration> serviceBeans) {
+    }
+
+    private StartupProbe() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> command = null;
+        Path jar = null;
+        List<String> serverJvmArgs = List.of();
+        List<Transport> transports = List.of(Transport.STDIO, Transport.HTTP);
+        String tool = "blog-get-latest-posts";
+        int runs = 5;
+        for (String arg : args) {
+            if (arg.startsWith("--command=")) {
+                command = List.of(arg.substring("--command=".length()));
+            } else if (arg.startsWith("--jar=")) {
+                jar = Path.of(arg.substring("--jar=".length()));
+            } else if (arg.startsWith("--server-jvm-args=")) {
+                serverJvmArgs = Arrays.stream(arg.substring("--server-jvm-args=".length()).trim().split("\\s+"))
+                        .filter(jvmArg -> !jvmArg.isEmpty())
+                        .toList();
+            } else if (arg.startsWith("--transport=")) {
+                transports = List.of(Transport.parse(arg.substring("--transport=".length())));
+            } else if (arg.startsWith("--tool=")) {
+                tool = arg.substring("--tool=".length());
+            } else if (arg.startsWith("--runs=")) {
+                runs = Integer.parseInt(arg.substring("--runs=".length()));
+            } else {
+                throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+        boolean profile = command == null;
+        if (command == null) {
+            command = jar != null ? jarCommand(serverJvmArgs, jar) : jvmCommand(serverJvmArgs);
+        }
+
+        try (FakeUpstreams upstreams = FakeUpstreams.start(FakeUpstreams.Settings.defaults())) {
+            for (Transport transport : transports) {
+                List<Result> results = new ArrayList<>();
+                for (int run = 1; run <= runs; run++) {
+                    Result result = measure(command, transport, upstreams.properties(), tool, Map.of(), profile);
+                    System.out.printf("%s run %2d: initialize %5d ms, first %s %5d ms%s%n", transport.profile(), run,
+                            result.initialize().toMillis(), tool, result.firstToolCall().toMillis(),
+                            profile ? String.format(", class loading %5d ms (%d classes, %d shared)",
+                                    result.profile().classLoading().toMillis(), result.profile().loadedClasses(),
+                                    result.profile().sharedClasses()) : "");
+                    results.add(result);
+                }
+                System.out.printf("%s median: initialize %5d ms, first tool call %5d ms%s (%s)%n", transport.profile(),
+                        median(results, Result::initialize).toMillis(), median(results, Result::firstToolCall).toMillis(),
+                        profile ? String.format(", class loading %5d ms",
+                                median(results, result -> result.profile().classLoading()).toMillis()) : "",
+                        String.join(" ", command));
+                if (profile) {
+                    for (String bean : new TreeSet<>(results.getFirst().profile().serviceBeans().keySet())) {
+                        System.out.printf("  %-24s %5d ms%n", bean, median(results,
+                                result -> result.profile().serviceBeans().getOrDefault(bean, Duration.ZERO)).toMillis());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Start the server once and time its startup and first call of {@code tool}
+     *
+     * @param properties extra Spring properties passed as command line arguments
+     * @param profile whether to record a {@link StartupProfile}, which needs {@code command} to be a JVM
+     */
+    public static Result measure(List<String> command, Transport transport, Map<String, String> properties, String tool,
+                                 Map<String, Object> arguments, boolean profile) throws Exception {
+        Path recording = null;
+        List<String> server = command;
+        if (profile) {
+            recording = Files.createTempFile("dvaas-startup", ".jfr");
+            server = new ArrayList<>(command);
+            server.addAll(1, List.of("-XX:StartFlightRecording=filename=" + recording + ",dumponexit=true",
+                    "-Ddvaas.startup.jfr=true"));
+        }
+        try {
+            Duration initialize;
+            Duration firstToolCall;
+            Map<String, Long> counters = Map.of();
+            try (ServerProcess process = ServerProcess.start(withJvmLogOnStderr(server, transport), transport, properties)) {
+                initialize = process.initialize();
+                long start = System.nanoTime();
+                CallToolResult result = process.client().callTool(new CallToolRequest(tool, arguments));
+                firstToolCall = Duration.ofNanos(System.nanoTime() - start);
+                if (Boolean.TRUE.equals(result.isError())) {
+                    throw new IllegalStateException(tool + " failed: " + result.content());
+                }
+                if (profile) {
+                    counters = process.perfCounters();
+                }
+            }
+            if (!profile) {
+                return new Result(initialize, firstToolCall, null);
+            }
+            double nanosPerTick = 1e9 / counters.getOrDefault("sun.os.hrt.frequency", 1_000_000_000L);
+            Duration classLoading = Duration.ofNanos(Math.round(counters.getOrDefault("sun.cls.time", 0L) * nanosPerTick));
+            return new Result(initialize, firstToolCall, new StartupProfile(classLoading,
+                    counters.getOrDefault("java.cls.loadedClasses", 0L), counters.getOrDefault("java.cls.sharedLoadedClasses", 0L),
+                    serviceBeans(recording)));
+        } finally {
+            if (recording != null) {
+                Files.deleteIfExists(recording);
+            }
+        }
+    }
+
+    /**
+     * The unified JVM log goes to stdout by default, where it would corrupt the stdio protocol. JFR
+     * prints its startup message there too unless that tag is turned off on another output.
+     */
+    static List<String> withJvmLogOnStderr(List<String> command, Transport transport) {
+        if (transport != Transport.STDIO || !command.getFirst().endsWith("java")) {
+            return command;
+        }
+        List<String> redirected = new ArrayList<>(command);
+        redirected.addAll(1, List.of("-Xlog:disable", "-Xlog:all=warning:stderr", "-Xlog:jfr+startup=off:stderr"));
+        return redirected;
+    }
+
+    /**
+     * Creation time of each {@code *Service} bean, from the {@code spring.beans.instantiate} steps
+     */
+    private static Map<String, Duration> serviceBeans(Path recording) throws IOException {
+        Map<String, Duration> beans = new TreeMap<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+            if (event.getEventType().getName().equals(STARTUP_EVENT) && "spring.beans.instantiate".equals(event.getString("name"))) {
+                String bean = tag(event.getString("tags"), "beanName");
+                if (bean != null && bean.endsWith("Service")) {
+                    beans.merge(bean, event.getDuration(), Duration::plus);
+                }
+            }
+        }
+        return beans;
+    }
+
+    private static String tag(String tags, String key) {
+        if (tags == null) {
+            return null;
+        }
+        for (String tag : tags.replaceAll("^\\[|]$", "").split(",\\s*")) {
+            if (tag.startsWith(key + "=")) {
+                return tag.substring(key.length() + 1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * This JVM running {@link Application} on the test classpath
+     */
+    static List<String> jvmCommand(List<String> jvmArgs) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(javaExecutable());
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(LoadRunner.classpath());
+        command.add(Application.class.getName());
+        return command;
+    }
+
+    /**
+     * This JVM running a packaged or extracted application jar
+     */
+    static List<String> jarCommand(List<String> jvmArgs, Path jar) {
+        List<String> command = new ArrayList<>();
+        command.add(javaExecutable());
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(jar.toString());
+        return command;
+    }
+
+    private static String javaExecutable() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static <T> Duration median(List<T> results, Function<T, Duration> metric) {
+        List<Duration> sorted = results.stream().map(metric).sorted(Comparator.naturalOrder()).toList();
+        return sorted.get(sorted.size() / 2);
+    }
+}
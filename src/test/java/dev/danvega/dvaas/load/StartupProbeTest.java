@@ -0,0 +1,39 @@
+package dev.danvega.dvaas.load;
+
+import dev.danvega.dvaas.load.ServerProcess.Transport;
+import dev.danvega.dvaas.upstream.FakeUpstreams;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupProbeTest {
+
+    @Test
+    void testMeasuresStdioStartupAndFirstToolCall() throws Exception {
+        try (FakeUpstreams upstreams = FakeUpstreams.start(FakeUpstreams.Settings.defaults().withCorpusSize(50))) {
+            StartupProbe.Result result = StartupProbe.measure(StartupProbe.jvmCommand(List.of("-XX:TieredStopAtLevel=1")),
+                    Transport.STDIO, upstreams.properties(), "speaking-get-stats", Map.of(), false);
+
+            assertThat(result.initialize()).isPositive();
+            assertThat(result.firstToolCall()).isPositive();
+            assertThat(result.profile()).isNull();
+            assertThat(upstreams.requests("speaking")).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testProfilesHttpStartupByServiceBean() throws Exception {
+        try (FakeUpstreams upstreams = FakeUpstreams.start(FakeUpstreams.Settings.defaults().withCorpusSize(50))) {
+            StartupProbe.Result result = StartupProbe.measure(StartupProbe.jvmCommand(List.of("-XX:TieredStopAtLevel=1")),
+                    Transport.HTTP, upstreams.properties(), "blog-get-stats", Map.of(), true);
+
+            assertThat(result.firstToolCall()).isPositive();
+            assertThat(result.profile().classLoading()).isPositive();
+            assertThat(result.profile().loadedClasses()).isGreaterThan(result.profile().sharedClasses());
+            assertThat(result.profile().serviceBeans()).containsKeys("blogService", "podcastService", "speakingService");
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package dev.danvega.dvaas.mcp;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.Tool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ToolMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ToolMetrics metrics = new ToolMetrics(meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        metrics.close();
+    }
+
+    private SyncToolSpecification tool(boolean error) {
+        return metrics.decorate(new SyncToolSpecification(Tool.builder().name("blog-get-stats").build(),
+                (exchange, request) -> CallToolResult.builder().addTextContent("stats").isError(error).build()));
+    }
+
+    private static CallToolRequest request() {
+        return new CallToolRequest("blog-get-stats", Map.of());
+    }
+
+    private long count(String outcome) {
+        return meterRegistry.get("dvaas.tool.calls").tags("tool", "blog-get-stats", "outcome", outcome).timer().count();
+    }
+
+    @Test
+    void testSuccessfulCallsAreTimedAsSuccess() {
+        SyncToolSpecification tool = tool(false);
+
+        tool.callHandler().apply(null, request());
+        tool.callHandler().apply(null, request());
+
+        assertThat(count("success")).isEqualTo(2);
+        assertThat(count("error")).isZero();
+    }
+
+    @Test
+    void testErrorResultsAndExceptionsAreTimedAsError() {
+        tool(true).callHandler().apply(null, request());
+        SyncToolSpecification failing = metrics.decorate(new SyncToolSpecification(
+                Tool.builder().name("blog-get-stats").build(),
+                (exchange, request) -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        assertThatThrownBy(() -> failing.callHandler().apply(null, request())).isInstanceOf(IllegalStateException.class);
+        assertThat(count("error")).isEqualTo(2);
+    }
+
+    @Test
+    void testRecordsBytesAllocatedByEachCall() {
+        SyncToolSpecification allocating = metrics.decorate(new SyncToolSpecification(
+                Tool.builder().name("blog-get-stats").build(),
+                (exchange, request) -> CallToolResult.builder().addTextContent("x".repeat(1 << 20)).build()));
+
+        allocating.callHandler().apply(null, request());
+
+        assertThat(meterRegistry.get("dvaas.tool.allocated").tag("tool", "blog-get-stats").summary().totalAmount())
+                .isGreaterThanOrEqualTo(1 << 20);
+    }
+
+    @Test
+    void testEstimatesBytesAllocatedByCallsOnVirtualThreads() throws Exception {
+        SyncToolSpecification allocating = metrics.decorate(new SyncToolSpecification(
+                Tool.builder().name("blog-get-stats").build(),
+                (exchange, request) -> {
+                    List<byte[]> garbage = new ArrayList<>();
+                    long end = System.nanoTime() + 200_000_000L;
+                    while (System.nanoTime() < end) {
+                        garbage.add(new byte[64 * 1024]);
+                        if (garbage.size() > 16) {
+                            garbage.clear();
+                        }
+                    }
+                    return CallToolResult.builder().addTextContent("stats").build();
+                }));
+
+        Thread.ofVirtual().start(() -> allocating.callHandler().apply(null, request())).join();
+
+        DistributionSummary allocated = meterRegistry.get("dvaas.tool.allocated").tag("tool", "blog-get-stats").summary();
+        long deadline = System.nanoTime() + ToolMetrics.ALLOCATION_DELAY.plusSeconds(5).toNanos();
+        while (allocated.count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(allocated.count()).isEqualTo(1);
+        assertThat(allocated.totalAmount()).isPositive();
+    }
+}
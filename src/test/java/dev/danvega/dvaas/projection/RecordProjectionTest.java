@@ -0,0 +1,74 @@
+package dev.danvega.dvaas.projection;
+
+import dev.danvega.dvaas.tools.newsletter.model.Post;
+import dev.danvega.dvaas.tools.newsletter.model.PostStats;
+import dev.danvega.dvaas.tools.podcast.model.Episode;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.util.json.JsonParser;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecordProjectionTest {
+
+    private static final LocalDateTime PUBLISHED = LocalDateTime.of(2024, 11, 20, 9, 30, 15);
+
+    private final Episode episode = new Episode("ep1", "Spring Boot 4", "<p>A very long description</p>", "show1",
+            "Spring Office Hours", PUBLISHED, "https://cdn.example.com/ep1.mp3", "3600", "published", 2, 14);
+
+    @Test
+    void testBlankFieldsLeaveItemsUntouched() {
+        List<Episode> episodes = List.of(episode);
+
+        assertThat(RecordProjection.of(Episode.class).apply(episodes, null)).isSameAs(episodes);
+        assertThat(RecordProjection.of(Episode.class).apply(episodes, "  ")).isSameAs(episodes);
+    }
+
+    @Test
+    void testWritesOnlySelectedComponentsInDeclarationOrder() {
+        List<Episode> projected = RecordProjection.of(Episode.class).apply(List.of(episode), "publishedAt, title,number");
+
+        assertThat(projected).containsExactly(episode);
+        assertThat(((ProjectedList<Episode>) projected).fields()).containsExactly("title", "publishedAt", "number");
+        assertThat(JsonParser.toJson(projected))
+                .isEqualTo("[{\"title\":\"Spring Boot 4\",\"publishedAt\":\"2024-11-20T09:30:15\",\"number\":14}]");
+    }
+
+    @Test
+    void testMatchesDefaultSerializationOfEachComponent() {
+        String full = JsonParser.toJson(episode);
+        String projected = JsonParser.toJson(RecordProjection.of(Episode.class).apply(List.of(episode), "publishedAt,season"));
+
+        assertThat(full).contains("\"publishedAt\":\"2024-11-20T09:30:15\"", "\"season\":2");
+        assertThat(projected).isEqualTo("[{\"publishedAt\":\"2024-11-20T09:30:15\",\"season\":2}]");
+    }
+
+    @Test
+    void testWritesPrimitivesNullsCollectionsAndNestedRecords() {
+        Post post = new Post("p1", "pub1", "danvega", "Newsletter", List.of("Dan Vega"), "confirmed", PUBLISHED,
+                null, null, null, null, null, null, List.of("spring", "ai"), new PostStats(10, 2, 8, 1));
+
+        assertThat(JsonParser.toJson(RecordProjection.of(Post.class).apply(List.of(post), "thumbnailUrl,title")))
+                .isEqualTo("[{\"title\":\"Newsletter\",\"thumbnailUrl\":null}]");
+        assertThat(JsonParser.toJson(RecordProjection.of(PostStats.class).apply(List.of(post.stats()), "uniqueOpens")))
+                .isEqualTo("[{\"uniqueOpens\":8}]");
+        assertThat(JsonParser.toJson(RecordProjection.of(Post.class).apply(List.of(post), "contentTags,stats")))
+                .isEqualTo("[{\"contentTags\":[\"spring\",\"ai\"],\"stats\":" + JsonParser.toJson(post.stats()) + "}]");
+    }
+
+    @Test
+    void testRejectsUnknownFields() {
+        RecordProjection<Episode> projection = RecordProjection.of(Episode.class);
+
+        assertThatThrownBy(() -> projection.select("title,transcript"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown field 'transcript' for Episode")
+                .hasMessageContaining("id, title, description");
+        assertThatThrownBy(() -> projection.select(" , "))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("No fields selected");
+    }
+}
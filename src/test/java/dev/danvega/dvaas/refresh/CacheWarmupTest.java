@@ -0,0 +1,118 @@
+package dev.danvega.dvaas.refresh;
+
+import dev.danvega.dvaas.cache.CachedToolSource;
+import dev.danvega.dvaas.cache.SourceCache;
+import dev.danvega.dvaas.config.WarmupProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.health.contributor.Status;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheWarmupTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger failures = new AtomicInteger();
+    /** Both loads must be running at once to finish */
+    private final CountDownLatch concurrentLoads = new CountDownLatch(2);
+
+    private final SourceCache<Integer> fast = cache("fast", previous -> {
+        concurrentLoads.countDown();
+        return concurrentLoads.await(5, TimeUnit.SECONDS) ? List.of(1) : List.of();
+    });
+    private final SourceCache<Integer> flaky = cache("flaky", previous -> {
+        concurrentLoads.countDown();
+        if (failures.getAndDecrement() > 0) {
+            throw new IOException("Upstream unavailable");
+        }
+        return List.of(2);
+    });
+
+    @Test
+    void testLoadsEveryCacheConcurrently() {
+        CacheWarmup warmup = warmup(new WarmupProperties(true, Duration.ofSeconds(10), Duration.ofMillis(10), null));
+
+        warmup.warmUp().block(Duration.ofSeconds(10));
+
+        assertThat(fast.isLoaded()).isTrue();
+        assertThat(flaky.isLoaded()).isTrue();
+        assertThat(warmup.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void testReportsDownUntilCriticalCachesAreLoaded() {
+        failures.set(2);
+        CacheWarmup warmup = warmup(new WarmupProperties(true, Duration.ofSeconds(10), Duration.ofMillis(10), List.of("flaky")));
+        assertThat(warmup.health().getStatus()).isEqualTo(Status.DOWN);
+        assertThat(warmup.health().getDetails()).containsExactly(Map.entry("flaky", "cold"));
+
+        warmup.warmUp().block(Duration.ofSeconds(10));
+
+        assertThat(failures.get()).isNegative();
+        assertThat(flaky.isLoaded()).isTrue();
+        assertThat(warmup.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(warmup.health().getDetails()).containsExactly(Map.entry("flaky", "loaded"));
+    }
+
+    @Test
+    void testDeadlineEndsTheRoundWhileLoadsContinue() {
+        SourceCache<Integer> hanging = cache("hanging", previous -> {
+            Thread.sleep(500);
+            return List.of(3);
+        });
+        CacheWarmup warmup = warmup(new WarmupProperties(true, Duration.ofMillis(50), Duration.ofMillis(10), List.of("fast")),
+                List.of(fast, flaky, hanging));
+
+        long start = System.nanoTime();
+        warmup.warmUp().block(Duration.ofSeconds(10));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(500));
+        assertThat(hanging.isLoaded()).isFalse();
+        assertThat(hanging.itemsAsync().block(Duration.ofSeconds(5))).containsExactly(3);
+    }
+
+    @Test
+    void testUpWhenDisabled() {
+        assertThat(warmup(WarmupProperties.defaults()).health().getStatus()).isEqualTo(Status.UP);
+        assertThat(fast.isLoaded()).isFalse();
+    }
+
+    private CacheWarmup warmup(WarmupProperties properties) {
+        return warmup(properties, List.of(fast, flaky));
+    }
+
+    private CacheWarmup warmup(WarmupProperties properties, List<SourceCache<?>> caches) {
+        CachedToolSource source = new CachedToolSource() {
+            @Override
+            public String toolPrefix() {
+                return "numbers-";
+            }
+
+            @Override
+            public long generation() {
+                return 0;
+            }
+
+            @Override
+            public List<SourceCache<?>> caches() {
+                return caches;
+            }
+        };
+        return new CacheWarmup(properties,
+                new StaticListableBeanFactory(Map.of("numbersService", source)).getBeanProvider(CachedToolSource.class));
+    }
+
+    private SourceCache<Integer> cache(String name, SourceCache.Loader<Integer> loader) {
+        return new SourceCache<>(name, Duration.ofHours(1), null, loader, meterRegistry, ObservationRegistry.NOOP);
+    }
+}
@@ -0,0 +1,135 @@
+package dev.danvega.dvaas.refresh;
+
+import dev.danvega.dvaas.cache.CachedToolSource;
+import dev.danvega.dvaas.cache.SourceCache;
+import dev.danvega.dvaas.config.RefreshProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshSchedulerTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicBoolean upstreamDown = new AtomicBoolean();
+    private final SourceCache<Integer> numbers = new SourceCache<>("numbers", Duration.ofMillis(400), null, previous -> {
+        if (upstreamDown.get()) {
+            throw new IOException("Upstream unavailable");
+        }
+        return List.of(loads.incrementAndGet());
+    }, new SimpleMeterRegistry(), ObservationRegistry.NOOP);
+    private final AtomicInteger unusedLoads = new AtomicInteger();
+    private final SourceCache<Integer> unused = new SourceCache<>("unused", Duration.ofMillis(100), null,
+            previous -> List.of(unusedLoads.incrementAndGet()), new SimpleMeterRegistry(), ObservationRegistry.NOOP);
+
+    private final RefreshScheduler scheduler = scheduler(new RefreshProperties(true, 0.5, 0.0, Duration.ofMillis(20),
+            Duration.ofMillis(40)));
+
+    @AfterEach
+    void stopScheduler() {
+        scheduler.stop();
+    }
+
+    @Test
+    void testRefreshesLoadedCachesBeforeTheyExpire() throws InterruptedException {
+        assertThat(numbers.items()).containsExactly(1);
+
+        scheduler.start();
+        await(() -> loads.get() >= 3);
+
+        RefreshScheduler.SourceStatus status = scheduler.status().getFirst();
+        assertThat(status.source()).isEqualTo("numbers");
+        assertThat(status.cacheDuration()).isEqualTo(Duration.ofMillis(400));
+        assertThat(status.nextRefresh()).isAfter(status.lastRefreshed());
+        assertThat(status.consecutiveFailures()).isZero();
+    }
+
+    @Test
+    void testLeavesCachesThatWereNeverReadAlone() throws InterruptedException {
+        scheduler.start();
+        Thread.sleep(300);
+
+        assertThat(unusedLoads).hasValue(0);
+        assertThat(scheduler.status()).filteredOn(status -> status.source().equals("unused"))
+                .singleElement()
+                .satisfies(status -> assertThat(status.lastRefreshed()).isNull());
+    }
+
+    @Test
+    void testBacksOffAfterFailuresAndRecovers() throws InterruptedException {
+        numbers.items();
+        upstreamDown.set(true);
+
+        scheduler.start();
+        await(() -> scheduler.status().getFirst().consecutiveFailures() >= 3);
+        assertThat(numbers.items()).containsExactly(1);
+
+        upstreamDown.set(false);
+        await(() -> scheduler.status().getFirst().consecutiveFailures() == 0);
+        assertThat(loads.get()).isGreaterThan(1);
+    }
+
+    @Test
+    void testBackoffDoublesUpToTheMaximum() {
+        RefreshScheduler defaults = scheduler(RefreshProperties.defaults());
+
+        assertThat(defaults.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(defaults.backoff(2)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(defaults.backoff(5)).isEqualTo(Duration.ofMinutes(8));
+        assertThat(defaults.backoff(6)).isEqualTo(Duration.ofMinutes(10));
+        assertThat(defaults.backoff(100)).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @Test
+    void testStopCancelsPendingRefreshes() throws InterruptedException {
+        numbers.items();
+        scheduler.start();
+
+        scheduler.stop();
+        Thread.sleep(300);
+
+        assertThat(loads).hasValue(1);
+        assertThat(scheduler.status()).allSatisfy(status -> assertThat(status.nextRefresh()).isNull());
+    }
+
+    private RefreshScheduler scheduler(RefreshProperties properties) {
+        CachedToolSource source = new CachedToolSource() {
+            @Override
+            public String toolPrefix() {
+                return "numbers-";
+            }
+
+            @Override
+            public long generation() {
+                return numbers.snapshot().version();
+            }
+
+            @Override
+            public List<SourceCache<?>> caches() {
+                return List.of(numbers, unused);
+            }
+        };
+        return new RefreshScheduler(properties,
+                new StaticListableBeanFactory(Map.of("numbersService", source)).getBeanProvider(CachedToolSource.class));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
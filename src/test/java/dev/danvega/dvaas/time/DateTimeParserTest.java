@@ -0,0 +1,70 @@
+package dev.danvega.dvaas.time;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DateTimeParserTest {
+
+    private final DateTimeParser utc = new DateTimeParser("test", ZoneOffset.UTC);
+
+    @Test
+    void testParseEpochSecondsAndMillis() {
+        assertThat(utc.parse("1733047200")).isEqualTo(LocalDateTime.of(2024, 12, 1, 10, 0));
+        assertThat(utc.parse("1733047200500")).isEqualTo(LocalDateTime.of(2024, 12, 1, 10, 0, 0, 500_000_000));
+    }
+
+    @Test
+    void testParseIsoVariants() {
+        assertThat(utc.parse("2024-11-20")).isEqualTo(LocalDateTime.of(2024, 11, 20, 0, 0));
+        assertThat(utc.parse("2024-11-20T09:30")).isEqualTo(LocalDateTime.of(2024, 11, 20, 9, 30));
+        assertThat(utc.parse("2024-11-20 09:30:15")).isEqualTo(LocalDateTime.of(2024, 11, 20, 9, 30, 15));
+        assertThat(utc.parse("2024-11-20T09:30:15.123456Z")).isEqualTo(LocalDateTime.of(2024, 11, 20, 9, 30, 15, 123_456_000));
+        assertThat(utc.parse("2024-11-20T09:30:15+02:00")).isEqualTo(LocalDateTime.of(2024, 11, 20, 7, 30, 15));
+        assertThat(utc.parse("2024-11-20T09:30:15-0500")).isEqualTo(LocalDateTime.of(2024, 11, 20, 14, 30, 15));
+        assertThat(utc.parse("2024-11-20T09:30:15+01:00[Europe/Oslo]")).isEqualTo(LocalDateTime.of(2024, 11, 20, 8, 30, 15));
+    }
+
+    @Test
+    void testParseSlashDates() {
+        assertThat(utc.parse("11/20/2024")).isEqualTo(LocalDateTime.of(2024, 11, 20, 0, 0));
+        assertThat(utc.parse("20/11/2024")).isEqualTo(LocalDateTime.of(2024, 11, 20, 0, 0));
+        assertThat(utc.parse("3/4/2024")).isEqualTo(LocalDateTime.of(2024, 3, 4, 0, 0));
+    }
+
+    @Test
+    void testParseRfc1123() {
+        assertThat(utc.parse("Mon, 02 Dec 2024 10:00:00 GMT")).isEqualTo(LocalDateTime.of(2024, 12, 2, 10, 0));
+        assertThat(utc.parse("Fri, 1 Nov 2024 08:30:00 +0100")).isEqualTo(LocalDateTime.of(2024, 11, 1, 7, 30));
+        assertThat(utc.parse("1 Nov 2024 08:30 EST")).isEqualTo(LocalDateTime.of(2024, 11, 1, 13, 30));
+    }
+
+    @Test
+    void testConvertsInstantsToParserZone() {
+        DateTimeParser oslo = new DateTimeParser("test", ZoneId.of("Europe/Oslo"));
+
+        assertThat(oslo.parse("2024-06-01T10:00:00Z")).isEqualTo(LocalDateTime.of(2024, 6, 1, 12, 0));
+        assertThat(oslo.parse("2024-06-01T10:00:00")).isEqualTo(LocalDateTime.of(2024, 6, 1, 10, 0));
+    }
+
+    @Test
+    void testSwitchesShapeAfterRememberedShapeFails() {
+        assertThat(utc.parse("2024-11-20T09:30:00Z")).isNotNull();
+        assertThat(utc.parse("1733047200")).isEqualTo(LocalDateTime.of(2024, 12, 1, 10, 0));
+        assertThat(utc.parse("2024-11-20T09:30:00Z")).isEqualTo(LocalDateTime.of(2024, 11, 20, 9, 30));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "   ", "not a date", "2024-13-01", "2024-02-30", "2024-11-20T25:00:00",
+            "2024-11-20T10:00:00+99:00", "2024-11-20T10:00:00 garbage", "31/31/2024", "Mon, 02 Foo 2024 10:00:00 GMT",
+            "Mon, 02 Dec 2024 10:00:00 XYZ", "12345678901234567890", "-1"})
+    void testReturnsNullForUnparseableInput(String value) {
+        assertThat(utc.parse(value)).isNull();
+    }
+}
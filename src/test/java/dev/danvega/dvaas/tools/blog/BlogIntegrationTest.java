@@ -59,9 +59,9 @@ class BlogIntegrationTest {
         assertNotNull(tools);
 
         // Verify the tools can be invoked (they should return collections/objects)
-        assertNotNull(tools.getLatestPosts("1"));
+        assertNotNull(tools.getLatestPosts("1", null, null));
         assertNotNull(tools.getBlogStats());
-        assertNotNull(tools.searchPostsByKeyword("spring", "1"));
-        assertNotNull(tools.getPostsByDateRange("2024", "1"));
+        assertNotNull(tools.searchPostsByKeyword("spring", "1", null, null));
+        assertNotNull(tools.getPostsByDateRange("2024", "1", null, null));
     }
 }
\ No newline at end of file
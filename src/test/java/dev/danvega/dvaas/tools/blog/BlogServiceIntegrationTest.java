@@ -1,8 +1,14 @@
 package dev.danvega.dvaas.tools.blog;
 
 import dev.danvega.dvaas.config.BlogProperties;
+import dev.danvega.dvaas.config.EnrichmentProperties;
+import dev.danvega.dvaas.config.HttpClientProperties;
+import dev.danvega.dvaas.enrichment.ContentEnricher;
+import dev.danvega.dvaas.http.OutboundHttpClient;
 import dev.danvega.dvaas.tools.blog.model.BlogPost;
 import dev.danvega.dvaas.tools.blog.model.BlogStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
@@ -38,8 +44,10 @@ class BlogServiceIntegrationTest {
     private final BlogService blogService;
 
     public BlogServiceIntegrationTest() {
-        BlogProperties blogProperties = new BlogProperties("https://www.danvega.dev/rss.xml", Duration.ofMinutes(30));
-        this.blogService = new BlogService(blogProperties);
+        BlogProperties blogProperties = new BlogProperties("https://www.danvega.dev/rss.xml", Duration.ofMinutes(30), null);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        this.blogService = new BlogService(blogProperties, new OutboundHttpClient(HttpClientProperties.defaults(), meterRegistry, ObservationRegistry.NOOP),
+                new ContentEnricher(EnrichmentProperties.defaults()), meterRegistry, ObservationRegistry.NOOP);
     }
 
     @Test
@@ -195,18 +203,18 @@ class BlogServiceIntegrationTest {
         if (!posts.isEmpty()) {
             // Look for posts that should have identifiable tags
             long postsWithTags = posts.stream()
-                .filter(post -> !post.extractPotentialTags().isEmpty())
+                .filter(post -> !post.tags().isEmpty())
                 .count();
 
             assertTrue(postsWithTags > 0, "Should find some posts with identifiable tech tags");
 
             // Print some examples for verification
             posts.stream()
-                .filter(post -> !post.extractPotentialTags().isEmpty())
+                .filter(post -> !post.tags().isEmpty())
                 .limit(5)
                 .forEach(post -> {
                     System.out.println("Post: " + post.title());
-                    System.out.println("Tags: " + post.extractPotentialTags());
+                    System.out.println("Tags: " + post.tags());
                     System.out.println();
                 });
         }
@@ -1,18 +1,30 @@
 package dev.danvega.dvaas.tools.blog;
 
+import com.sun.net.httpserver.HttpServer;
+import dev.danvega.dvaas.cache.SourceCache;
 import dev.danvega.dvaas.config.BlogProperties;
+import dev.danvega.dvaas.config.EnrichmentProperties;
+import dev.danvega.dvaas.config.HttpClientProperties;
+import dev.danvega.dvaas.enrichment.ContentEnricher;
+import dev.danvega.dvaas.http.OutboundHttpClient;
 import dev.danvega.dvaas.tools.blog.model.BlogPost;
 import dev.danvega.dvaas.tools.blog.model.BlogStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -27,8 +39,10 @@ class BlogServiceTest {
 
     @BeforeEach
     void setUp() {
-        blogProperties = new BlogProperties("https://example.com/test-rss.xml", Duration.ofMinutes(30));
-        blogService = new BlogService(blogProperties);
+        blogProperties = new BlogProperties("https://example.com/test-rss.xml", Duration.ofMinutes(30), null);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        blogService = new BlogService(blogProperties, new OutboundHttpClient(HttpClientProperties.defaults(), meterRegistry, ObservationRegistry.NOOP),
+                new ContentEnricher(EnrichmentProperties.defaults()), meterRegistry, ObservationRegistry.NOOP);
     }
 
     @Test
@@ -36,6 +50,42 @@ class BlogServiceTest {
         assertNotNull(blogService);
     }
 
+    @Test
+    void refresh_BetweenFullParses_ShouldOnlyAddNewPostsAndThenPickUpEditsAndRemovals() throws IOException {
+        AtomicReference<String> feed = new AtomicReference<>(feed(item("post-2", "GraphQL"), item("post-1", "Records")));
+        withFeedServer(feed, 2, service -> {
+            assertEquals(List.of("post-2", "post-1"), guids(service.getAllPosts()));
+
+            // post-2 retitled, post-1 removed and post-3 published
+            feed.set(feed(item("post-3", "Virtual Threads"), item("post-2", "GraphQL with Spring Boot")));
+            service.caches().getFirst().expire();
+            List<BlogPost> incremental = service.getAllPosts();
+            assertEquals(List.of("post-3", "post-2", "post-1"), guids(incremental));
+            assertEquals("GraphQL", incremental.get(1).title());
+
+            service.caches().getFirst().expire();
+            List<BlogPost> full = service.getAllPosts();
+            assertEquals(List.of("post-3", "post-2"), guids(full));
+            assertEquals("GraphQL with Spring Boot", full.get(1).title());
+        });
+    }
+
+    @Test
+    void refresh_WhenTheCachedHeadLeftTheFeed_ShouldParseTheWholeFeed() throws IOException {
+        AtomicReference<String> feed = new AtomicReference<>(feed(item("post-2", "GraphQL"), item("post-1", "Records")));
+        withFeedServer(feed, 100, service -> {
+            assertEquals(List.of("post-2", "post-1"), guids(service.getAllPosts()));
+
+            // post-2 removed, post-1 edited
+            feed.set(feed(item("post-3", "Virtual Threads"), item("post-1", "Java Records")));
+            service.caches().getFirst().expire();
+            List<BlogPost> posts = service.getAllPosts();
+
+            assertEquals(List.of("post-3", "post-1"), guids(posts));
+            assertEquals("Java Records", posts.get(1).title());
+        });
+    }
+
     @Test
     void getLatestPosts_WithLimit_ShouldRespectMaxResults() {
         // This would require more sophisticated mocking of the RSS parsing
@@ -70,8 +120,7 @@ class BlogServiceTest {
     @Test
     void getBlogStats_WithNoPosts_ShouldReturnEmptyStats() {
         // Clear any cached posts to ensure we get empty stats
-        ReflectionTestUtils.setField(blogService, "cache", new ConcurrentHashMap<>());
-        ReflectionTestUtils.setField(blogService, "lastCacheTime", null);
+        ((SourceCache<?>) ReflectionTestUtils.getField(blogService, "postCache")).clear();
 
         BlogStats stats = blogService.getBlogStats();
         assertNotNull(stats);
@@ -114,19 +163,59 @@ class BlogServiceTest {
     }
 
     @Test
-    void blogPost_ExtractPotentialTags_ShouldFindCommonTechTerms() {
-        BlogPost post = new BlogPost(
-            "Spring Boot Java Tutorial", "/blog/spring-boot", "guid1",
-            "Learn about Spring Boot and Java development with AI",
-            LocalDateTime.now(), "author", List.of(), null
-        );
+    void getBlogStats_MostCommonTag_ShouldCountTheConfiguredTaxonomy() throws IOException {
+        AtomicReference<String> feed = new AtomicReference<>(feed(item("post-3", "HTMX with Spring Boot"),
+                item("post-2", "HTMX forms"), item("post-1", "Java Records")));
+        ContentEnricher enricher = new ContentEnricher(new EnrichmentProperties(List.of("HTMX", "spring")));
+        withFeedServer(feed, 1, enricher, service -> {
+            assertEquals(List.of("htmx", "spring"), service.getAllPosts().getFirst().tags());
+            assertEquals("htmx", service.getBlogStats().mostCommonTag());
+        });
+    }
+
+    private interface FeedTest {
+        void run(BlogService service) throws IOException;
+    }
+
+    private static void withFeedServer(AtomicReference<String> feed, int fullParseEvery, FeedTest test) throws IOException {
+        withFeedServer(feed, fullParseEvery, new ContentEnricher(EnrichmentProperties.defaults()), test);
+    }
+
+    private static void withFeedServer(AtomicReference<String> feed, int fullParseEvery, ContentEnricher enricher,
+                                       FeedTest test) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/rss.xml", exchange -> {
+            byte[] body = feed.get().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OutboundHttpClient httpClient = new OutboundHttpClient(HttpClientProperties.defaults(), meterRegistry, ObservationRegistry.NOOP);
+        try {
+            BlogProperties properties = new BlogProperties("http://127.0.0.1:" + server.getAddress().getPort() + "/rss.xml",
+                    Duration.ofMinutes(30), fullParseEvery);
+            test.run(new BlogService(properties, httpClient, enricher, meterRegistry, ObservationRegistry.NOOP));
+        } finally {
+            httpClient.close();
+            server.stop(0);
+        }
+    }
+
+    private static String feed(String... items) {
+        return "<rss version=\"2.0\"><channel><title>Dan Vega</title>" + String.join("", items) + "</channel></rss>";
+    }
+
+    private static String item(String guid, String title) {
+        int day = Integer.parseInt(guid.substring(guid.indexOf('-') + 1));
+        return "<item><title>" + title + "</title><link>https://www.danvega.dev/blog/" + guid + "</link><guid>" + guid
+                + "</guid><pubDate>0" + day + " Nov 2024 10:00:00 GMT</pubDate></item>";
+    }
 
-        List<String> tags = post.extractPotentialTags();
-        assertNotNull(tags);
-        assertTrue(tags.contains("spring"));
-        assertTrue(tags.contains("java"));
-        assertTrue(tags.contains("boot"));
-        assertTrue(tags.contains("ai"));
+    private static List<String> guids(List<BlogPost> posts) {
+        return posts.stream().map(BlogPost::guid).toList();
     }
 
     /**
@@ -1,5 +1,6 @@
 package dev.danvega.dvaas.tools.blog;
 
+import dev.danvega.dvaas.cache.Page;
 import dev.danvega.dvaas.tools.blog.model.BlogPost;
 import dev.danvega.dvaas.tools.blog.model.BlogStats;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.util.json.JsonParser;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -49,10 +52,10 @@ class BlogToolsTest {
             )
         );
 
-        when(blogService.getLatestPosts(10)).thenReturn(mockPosts);
+        when(blogService.getLatestPosts(10, null)).thenReturn(new Page<>(mockPosts, null));
 
         // Act
-        List<BlogPost> result = blogTools.getLatestPosts(null);
+        List<BlogPost> result = blogTools.getLatestPosts(null, null, null).items();
 
         // Assert
         assertNotNull(result);
@@ -61,49 +64,84 @@ class BlogToolsTest {
         assertEquals("AI with Spring Boot", result.get(1).title());
         assertEquals("/blog/spring-boot-32", result.get(0).link());
         assertEquals("https://youtube.com/watch?v=abc123", result.get(1).youtubeVideoUrl());
-        verify(blogService).getLatestPosts(10);
+        verify(blogService).getLatestPosts(10, null);
     }
 
     @Test
     void getLatestPosts_WithCustomCount_ShouldRespectCount() {
         // Arrange
-        when(blogService.getLatestPosts(5)).thenReturn(List.of());
+        when(blogService.getLatestPosts(5, null)).thenReturn(new Page<>(List.of(), null));
 
         // Act
-        List<BlogPost> result = blogTools.getLatestPosts("5");
+        List<BlogPost> result = blogTools.getLatestPosts("5", null, null).items();
 
         // Assert
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(blogService).getLatestPosts(5);
+        verify(blogService).getLatestPosts(5, null);
     }
 
     @Test
     void getLatestPosts_WithInvalidCount_ShouldUseDefault() {
         // Arrange
-        when(blogService.getLatestPosts(10)).thenReturn(List.of());
+        when(blogService.getLatestPosts(10, null)).thenReturn(new Page<>(List.of(), null));
 
         // Act
-        List<BlogPost> result = blogTools.getLatestPosts("invalid");
+        List<BlogPost> result = blogTools.getLatestPosts("invalid", null, null).items();
 
         // Assert
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(blogService).getLatestPosts(10);
+        verify(blogService).getLatestPosts(10, null);
     }
 
     @Test
     void getLatestPosts_WhenServiceThrowsException_ShouldPropagateException() {
         // Arrange
-        when(blogService.getLatestPosts(anyInt())).thenThrow(new RuntimeException("RSS feed error"));
+        when(blogService.getLatestPosts(anyInt(), isNull())).thenThrow(new RuntimeException("RSS feed error"));
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            blogTools.getLatestPosts(null);
+            blogTools.getLatestPosts(null, null, null);
         });
         assertEquals("RSS feed error", exception.getMessage());
     }
 
+    @Test
+    void getLatestPosts_WithFields_ShouldSerializeOnlyRequestedFields() {
+        // Arrange
+        List<BlogPost> mockPosts = List.of(
+            new BlogPost(
+                "Spring Boot 3.2 Features", "/blog/spring-boot-32", "guid1",
+                "Exploring the new features in Spring Boot 3.2",
+                LocalDateTime.of(2024, 1, 15, 10, 0),
+                "Dan Vega", List.of("spring", "boot"), null
+            )
+        );
+
+        when(blogService.getLatestPosts(10, null)).thenReturn(new Page<>(mockPosts, null));
+
+        // Act
+        List<BlogPost> result = blogTools.getLatestPosts(null, null, "title, publishedAt").items();
+
+        // Assert
+        assertEquals("Spring Boot 3.2 Features", result.get(0).title());
+        assertEquals("[{\"title\":\"Spring Boot 3.2 Features\",\"publishedAt\":\"2024-01-15T10:00:00\"}]",
+                JsonParser.toJson(result));
+    }
+
+    @Test
+    void getLatestPosts_WithUnknownField_ShouldThrowException() {
+        // Arrange
+        when(blogService.getLatestPosts(10, null)).thenReturn(new Page<>(List.of(), null));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            blogTools.getLatestPosts(null, null, "title,views");
+        });
+        assertTrue(exception.getMessage().contains("Unknown field 'views'"));
+    }
+
     @Test
     void searchPostsByKeyword_WithValidKeyword_ShouldReturnListOfPosts() {
         // Arrange
@@ -116,23 +154,23 @@ class BlogToolsTest {
             )
         );
 
-        when(blogService.searchPostsByKeyword("spring", 10)).thenReturn(mockPosts);
+        when(blogService.searchPostsByKeyword("spring", 10, null)).thenReturn(new Page<>(mockPosts, null));
 
         // Act
-        List<BlogPost> result = blogTools.searchPostsByKeyword("spring", null);
+        List<BlogPost> result = blogTools.searchPostsByKeyword("spring", null, null, null).items();
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("Spring Security Tutorial", result.get(0).title());
-        verify(blogService).searchPostsByKeyword("spring", 10);
+        verify(blogService).searchPostsByKeyword("spring", 10, null);
     }
 
     @Test
     void searchPostsByKeyword_WithNullKeyword_ShouldThrowException() {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            blogTools.searchPostsByKeyword(null, null);
+            blogTools.searchPostsByKeyword(null, null, null, null);
         });
         assertEquals("Keyword parameter is required.", exception.getMessage());
         verifyNoInteractions(blogService);
@@ -142,24 +180,41 @@ class BlogToolsTest {
     void searchPostsByKeyword_WithEmptyKeyword_ShouldThrowException() {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            blogTools.searchPostsByKeyword("", null);
+            blogTools.searchPostsByKeyword("", null, null, null);
         });
         assertEquals("Keyword parameter is required.", exception.getMessage());
         verifyNoInteractions(blogService);
     }
 
+    @Test
+    void searchPostsByKeywordAsync_WithEmptyKeyword_ShouldSignalErrorOnSubscribe() {
+        Mono<Page<BlogPost>> result = blogTools.searchPostsByKeywordAsync("", null, null, null);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, result::block);
+        assertEquals("Keyword parameter is required.", exception.getMessage());
+        verifyNoInteractions(blogService);
+    }
+
+    @Test
+    void getPostsByDateRangeAsync_WithInvalidRange_ShouldSignalErrorOnSubscribe() {
+        Mono<Page<BlogPost>> result = blogTools.getPostsByDateRangeAsync("last week", null, null, null);
+
+        assertThrows(IllegalArgumentException.class, result::block);
+        verifyNoInteractions(blogService);
+    }
+
     @Test
     void searchPostsByKeyword_WithNoResults_ShouldReturnEmptyList() {
         // Arrange
-        when(blogService.searchPostsByKeyword("nonexistent", 10)).thenReturn(List.of());
+        when(blogService.searchPostsByKeyword("nonexistent", 10, null)).thenReturn(new Page<>(List.of(), null));
 
         // Act
-        List<BlogPost> result = blogTools.searchPostsByKeyword("nonexistent", null);
+        List<BlogPost> result = blogTools.searchPostsByKeyword("nonexistent", null, null, null).items();
 
         // Assert
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(blogService).searchPostsByKeyword("nonexistent", 10);
+        verify(blogService).searchPostsByKeyword("nonexistent", 10, null);
     }
 
     @Test
@@ -174,37 +229,37 @@ class BlogToolsTest {
             )
         );
 
-        when(blogService.getPostsByYear(2024, 10)).thenReturn(mockPosts);
+        when(blogService.getPostsByYear(2024, 10, null)).thenReturn(new Page<>(mockPosts, null));
 
         // Act
-        List<BlogPost> result = blogTools.getPostsByDateRange("2024", null);
+        List<BlogPost> result = blogTools.getPostsByDateRange("2024", null, null, null).items();
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("2024 Predictions", result.get(0).title());
-        verify(blogService).getPostsByYear(2024, 10);
+        verify(blogService).getPostsByYear(2024, 10, null);
     }
 
     @Test
     void getPostsByDateRange_WithDateRange_ShouldParseAndSearch() {
         // Arrange
-        when(blogService.getPostsByDateRange(any(), any(), eq(10))).thenReturn(List.of());
+        when(blogService.getPostsByDateRange(any(), any(), eq(10), isNull())).thenReturn(new Page<>(List.of(), null));
 
         // Act
-        List<BlogPost> result = blogTools.getPostsByDateRange("2023-01-01 to 2023-12-31", null);
+        List<BlogPost> result = blogTools.getPostsByDateRange("2023-01-01 to 2023-12-31", null, null, null).items();
 
         // Assert
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(blogService).getPostsByDateRange(any(), any(), eq(10));
+        verify(blogService).getPostsByDateRange(any(), any(), eq(10), isNull());
     }
 
     @Test
     void getPostsByDateRange_WithInvalidFormat_ShouldThrowException() {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            blogTools.getPostsByDateRange("invalid-format", null);
+            blogTools.getPostsByDateRange("invalid-format", null, null, null);
         });
         assertTrue(exception.getMessage().contains("Invalid date range format"));
     }
@@ -213,7 +268,7 @@ class BlogToolsTest {
     void getPostsByDateRange_WithNullDateRange_ShouldThrowException() {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            blogTools.getPostsByDateRange(null, null);
+            blogTools.getPostsByDateRange(null, null, null, null);
         });
         assertTrue(exception.getMessage().contains("Date range parameter is required"));
     }
@@ -280,30 +335,30 @@ class BlogToolsTest {
     @Test
     void parseCount_WithValidNumbers_ShouldReturnParsedValue() {
         // Test via getLatestPosts which uses parseCount internally
-        when(blogService.getLatestPosts(25)).thenReturn(List.of());
+        when(blogService.getLatestPosts(25, null)).thenReturn(new Page<>(List.of(), null));
 
-        blogTools.getLatestPosts("25");
+        blogTools.getLatestPosts("25", null, null);
 
-        verify(blogService).getLatestPosts(25);
+        verify(blogService).getLatestPosts(25, null);
     }
 
     @Test
     void parseCount_WithExceedsMax_ShouldCapAtMaxValue() {
         // Test via getLatestPosts which caps at 50
-        when(blogService.getLatestPosts(50)).thenReturn(List.of());
+        when(blogService.getLatestPosts(50, null)).thenReturn(new Page<>(List.of(), null));
 
-        blogTools.getLatestPosts("100");
+        blogTools.getLatestPosts("100", null, null);
 
-        verify(blogService).getLatestPosts(50);
+        verify(blogService).getLatestPosts(50, null);
     }
 
     @Test
     void parseCount_WithNegativeValue_ShouldUseMinimum() {
         // Test via getLatestPosts which has minimum of 1
-        when(blogService.getLatestPosts(1)).thenReturn(List.of());
+        when(blogService.getLatestPosts(1, null)).thenReturn(new Page<>(List.of(), null));
 
-        blogTools.getLatestPosts("-5");
+        blogTools.getLatestPosts("-5", null, null);
 
-        verify(blogService).getLatestPosts(1);
+        verify(blogService).getLatestPosts(1, null);
     }
 }
\ No newline at end of file
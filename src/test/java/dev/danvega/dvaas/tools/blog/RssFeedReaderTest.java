@@ -0,0 +1,129 @@
+package dev.danvega.dvaas.tools.blog;
+
+import dev.danvega.dvaas.config.EnrichmentProperties;
+import dev.danvega.dvaas.enrichment.ContentEnricher;
+import dev.danvega.dvaas.tools.blog.model.BlogPost;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RssFeedReaderTest {
+
+    private static final String RSS = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <rss version="2.0" xmlns:content="http://purl.org/rss/1.0/modules/content/" xmlns:dc="http://purl.org/dc/elements/1.1/">
+              <channel>
+                <title>Dan Vega</title>
+                <item>
+                  <title>Spring AI MCP Servers</title>
+                  <link>https://www.danvega.dev/blog/spring-ai-mcp</link>
+                  <guid isPermaLink="false">post-3</guid>
+                  <description><![CDATA[Build an MCP server with Spring AI https://youtu.be/abc123]]></description>
+                  <content:encoded><![CDATA[<p>Full body that should be skipped</p>]]></content:encoded>
+                  <dc:creator>Dan Vega</dc:creator>
+                  <pubDate>Mon, 02 Dec 2024 10:00:00 GMT</pubDate>
+                </item>
+                <item>
+                  <title>GraphQL with Spring Boot</title>
+                  <link>https://www.danvega.dev/blog/graphql</link>
+                  <guid>post-2</guid>
+                  <description>Java GraphQL</description>
+                  <pubDate>Fri, 1 Nov 2024 08:30:00 +0000</pubDate>
+                </item>
+                <item>
+                  <title>Older post</title>
+                  <link>https://www.danvega.dev/blog/older</link>
+                  <guid>post-1</guid>
+                </item>
+              </channel>
+            </rss>
+            """;
+
+    private final RssFeedReader reader = new RssFeedReader(new ContentEnricher(EnrichmentProperties.defaults()));
+
+    @Test
+    void testReadRssItems() throws IOException {
+        RssFeedReader.Result result = reader.read(stream(RSS));
+
+        assertThat(result.reachedKnownEntry()).isFalse();
+        assertThat(result.posts()).extracting(BlogPost::guid).containsExactly("post-3", "post-2", "post-1");
+
+        BlogPost post = result.posts().get(0);
+        assertThat(post.title()).isEqualTo("Spring AI MCP Servers");
+        assertThat(post.link()).isEqualTo("https://www.danvega.dev/blog/spring-ai-mcp");
+        assertThat(post.description()).startsWith("Build an MCP server").doesNotContain("Full body");
+        assertThat(post.author()).isEqualTo("Dan Vega");
+        assertThat(post.youtubeVideoUrl()).isEqualTo("https://youtu.be/abc123");
+        assertThat(post.tags()).contains("spring", "ai");
+        assertThat(post.publishedAt()).isEqualTo(ZonedDateTime.of(2024, 12, 2, 10, 0, 0, 0, ZoneId.of("GMT"))
+                .withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime());
+        assertThat(result.posts().get(2).description()).isEmpty();
+    }
+
+    @Test
+    void testReadStopsAtKnownHead() throws IOException {
+        RssFeedReader.Result result = reader.read(stream(RSS), "post-2", Set.of("post-2", "post-1"));
+
+        assertThat(result.reachedKnownEntry()).isTrue();
+        assertThat(result.posts()).extracting(BlogPost::guid).containsExactly("post-3");
+    }
+
+    @Test
+    void testReadPastKnownHeadWhenAKnownEntryComesFirst() throws IOException {
+        RssFeedReader.Result result = reader.read(stream(RSS), "post-2", Set.of("post-3", "post-2"));
+
+        assertThat(result.reachedKnownEntry()).isFalse();
+        assertThat(result.posts()).extracting(BlogPost::guid).containsExactly("post-3", "post-2", "post-1");
+    }
+
+    @Test
+    void testReadAtomEntries() throws IOException {
+        String atom = """
+                <feed xmlns="http://www.w3.org/2005/Atom">
+                  <title>Dan Vega</title>
+                  <entry>
+                    <title type="html">Virtual Threads</title>
+                    <link rel="alternate" href="https://www.danvega.dev/blog/virtual-threads"/>
+                    <link rel="edit" href="https://www.danvega.dev/edit/1"/>
+                    <id>urn:uuid:1</id>
+                    <author><name>Dan Vega</name><email>dan@example.com</email></author>
+                    <summary>Java 21 virtual threads</summary>
+                    <updated>2024-10-05T12:00:00Z</updated>
+                  </entry>
+                </feed>
+                """;
+
+        RssFeedReader.Result result = reader.read(stream(atom));
+
+        assertThat(result.posts()).hasSize(1);
+        BlogPost post = result.posts().get(0);
+        assertThat(post.link()).isEqualTo("https://www.danvega.dev/blog/virtual-threads");
+        assertThat(post.guid()).isEqualTo("urn:uuid:1");
+        assertThat(post.author()).isEqualTo("Dan Vega");
+        assertThat(post.description()).isEqualTo("Java 21 virtual threads");
+        assertThat(post.publishedAt().getYear()).isEqualTo(2024);
+    }
+
+    @Test
+    void testReadRejectsDoctype() {
+        String xxe = """
+                <?xml version="1.0"?>
+                <!DOCTYPE rss [<!ENTITY xxe SYSTEM "file:///etc/passwd">]>
+                <rss><channel><item><title>&xxe;</title></item></channel></rss>
+                """;
+
+        assertThatThrownBy(() -> reader.read(stream(xxe))).isInstanceOf(IOException.class);
+    }
+
+    private ByteArrayInputStream stream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+}
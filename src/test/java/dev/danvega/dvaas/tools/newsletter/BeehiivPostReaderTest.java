@@ -0,0 +1,86 @@
+package dev.danvega.dvaas.tools.newsletter;
+
+import dev.danvega.dvaas.tools.newsletter.model.Post;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BeehiivPostReaderTest {
+
+    private final BeehiivPostReader reader = new BeehiivPostReader();
+
+    @Test
+    void testReadBindsPostFieldsAndSkipsUnusedOnes() throws IOException {
+        String json = """
+                {
+                  "data": [
+                    {
+                      "id": "post_1",
+                      "title": "Spring Boot 3.5 Release",
+                      "subtitle": "ignored",
+                      "authors": ["Dan Vega"],
+                      "status": "confirmed",
+                      "publish_date": 1733047200,
+                      "displayed_date": null,
+                      "web_url": "https://danvega.dev/newsletter/spring-boot-35",
+                      "thumbnail_url": "https://example.com/thumb1.jpg",
+                      "platform": "both",
+                      "audience": "free",
+                      "content_tags": ["spring", "java"],
+                      "content": { "free_web_content": "%s", "free_email_content": "ignored" },
+                      "stats": { "opens": 1000, "clicks": 50, "unique_opens": 800, "unique_clicks": 40, "email": { "recipients": 10 } }
+                    }
+                  ],
+                  "limit": 50,
+                  "page": 1
+                }
+                """.formatted("x".repeat(250));
+
+        List<Post> posts = reader.read(stream(json), "pub_123", "danvega");
+
+        assertThat(posts).hasSize(1);
+        Post post = posts.get(0);
+        assertThat(post.id()).isEqualTo("post_1");
+        assertThat(post.publicationId()).isEqualTo("pub_123");
+        assertThat(post.publicationName()).isEqualTo("danvega");
+        assertThat(post.authors()).containsExactly("Dan Vega");
+        assertThat(post.publishDate()).isEqualTo(LocalDateTime.of(2024, 12, 1, 10, 0));
+        assertThat(post.displayedDate()).isNull();
+        assertThat(post.contentTags()).containsExactly("spring", "java");
+        assertThat(post.contentPreview()).hasSize(203).endsWith("...");
+        assertThat(post.stats().uniqueOpens()).isEqualTo(800L);
+        assertThat(post.stats().uniqueClicks()).isEqualTo(40L);
+    }
+
+    @Test
+    void testReadPageKeepsPaginationFields() throws IOException {
+        String json = """
+                {"data": [{"id": "post_51", "title": "Older"}], "limit": 50, "page": 2, "total_results": 120, "total_pages": 3}
+                """;
+
+        BeehiivPostReader.PostPage page = reader.readPage(stream(json), "pub_123", "danvega");
+
+        assertThat(page.posts()).extracting(Post::id).containsExactly("post_51");
+        assertThat(page.page()).isEqualTo(2);
+        assertThat(page.totalPages()).isEqualTo(3);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(reader.readPage(stream("{\"data\": [], \"page\": 3, \"total_pages\": 3}"), "pub_123", "danvega").hasMore()).isFalse();
+    }
+
+    @Test
+    void testReadWithoutDataFieldReturnsEmptyList() throws IOException {
+        List<Post> posts = reader.read(stream("{\"errors\":[{\"message\":\"nope\"}]}"), "pub_123", "danvega");
+
+        assertThat(posts).isEmpty();
+    }
+
+    private ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,8 +1,12 @@
 package dev.danvega.dvaas.tools.newsletter;
 
+import dev.danvega.dvaas.config.HttpClientProperties;
 import dev.danvega.dvaas.config.NewsletterProperties;
+import dev.danvega.dvaas.http.OutboundHttpClient;
 import dev.danvega.dvaas.tools.newsletter.model.Post;
 import dev.danvega.dvaas.tools.newsletter.model.PublicationStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
@@ -46,7 +50,9 @@ class BeehiivApiIntegrationTest {
         );
 
         // Create service with real properties
-        newsletterService = new NewsletterService(newsletterProperties);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        newsletterService = new NewsletterService(newsletterProperties, new OutboundHttpClient(HttpClientProperties.defaults(), meterRegistry, ObservationRegistry.NOOP),
+                meterRegistry, ObservationRegistry.NOOP);
     }
 
     @Test
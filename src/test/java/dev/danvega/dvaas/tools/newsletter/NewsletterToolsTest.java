@@ -1,5 +1,6 @@
 package dev.danvega.dvaas.tools.newsletter;
 
+import dev.danvega.dvaas.cache.Page;
 import dev.danvega.dvaas.tools.newsletter.model.Post;
 import dev.danvega.dvaas.tools.newsletter.model.PostStats;
 import dev.danvega.dvaas.tools.newsletter.model.PublicationStats;
@@ -15,6 +16,7 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
 /**
@@ -70,10 +72,10 @@ class NewsletterToolsTest {
                 )
         );
 
-        when(newsletterService.getLatestPosts("all", 10)).thenReturn(mockPosts);
+        when(newsletterService.getLatestPosts("all", 10, null)).thenReturn(new Page<>(mockPosts, null));
 
         // When
-        List<Post> result = newsletterTools.getLatestPosts(null, null);
+        List<Post> result = newsletterTools.getLatestPosts(null, null, null, null).items();
 
         // Then
         assertNotNull(result);
@@ -105,10 +107,10 @@ class NewsletterToolsTest {
                 )
         );
 
-        when(newsletterService.getLatestPosts("danvega", 10)).thenReturn(mockPosts);
+        when(newsletterService.getLatestPosts("danvega", 10, null)).thenReturn(new Page<>(mockPosts, null));
 
         // When
-        List<Post> result = newsletterTools.getLatestPosts("danvega", null);
+        List<Post> result = newsletterTools.getLatestPosts("danvega", null, null, null).items();
 
         // Then
         assertNotNull(result);
@@ -128,10 +130,10 @@ class NewsletterToolsTest {
                         LocalDateTime.now(), "https://example.com/3")
         );
 
-        when(newsletterService.getLatestPosts("all", 3)).thenReturn(mockPosts);
+        when(newsletterService.getLatestPosts("all", 3, null)).thenReturn(new Page<>(mockPosts, null));
 
         // When
-        List<Post> result = newsletterTools.getLatestPosts(null, "3");
+        List<Post> result = newsletterTools.getLatestPosts(null, "3", null, null).items();
 
         // Then
         assertNotNull(result);
@@ -141,10 +143,10 @@ class NewsletterToolsTest {
     @Test
     void testGetLatestPostsEmpty() {
         // Given - no posts
-        when(newsletterService.getLatestPosts(anyString(), anyInt())).thenReturn(List.of());
+        when(newsletterService.getLatestPosts(anyString(), anyInt(), isNull())).thenReturn(new Page<>(List.of(), null));
 
         // When
-        List<Post> result = newsletterTools.getLatestPosts("all", "10");
+        List<Post> result = newsletterTools.getLatestPosts("all", "10", null, null).items();
 
         // Then
         assertNotNull(result);
@@ -174,10 +176,10 @@ class NewsletterToolsTest {
                 )
         );
 
-        when(newsletterService.searchPostsByKeyword("all", "spring", 10)).thenReturn(mockPosts);
+        when(newsletterService.searchPostsByKeyword("all", "spring", 10, null)).thenReturn(new Page<>(mockPosts, null));
 
         // When
-        List<Post> result = newsletterTools.searchPostsByKeyword("spring", null, null);
+        List<Post> result = newsletterTools.searchPostsByKeyword("spring", null, null, null, null).items();
 
         // Then
         assertNotNull(result);
@@ -193,10 +195,10 @@ class NewsletterToolsTest {
                         LocalDateTime.now(), "https://example.com/1")
         );
 
-        when(newsletterService.searchPostsByKeyword("bytesizedai", "ai", 10)).thenReturn(mockPosts);
+        when(newsletterService.searchPostsByKeyword("bytesizedai", "ai", 10, null)).thenReturn(new Page<>(mockPosts, null));
 
         // When
-        List<Post> result = newsletterTools.searchPostsByKeyword("ai", "bytesizedai", null);
+        List<Post> result = newsletterTools.searchPostsByKeyword("ai", "bytesizedai", null, null, null).items();
 
         // Then
         assertNotNull(result);
@@ -207,10 +209,10 @@ class NewsletterToolsTest {
     @Test
     void testSearchPostsByKeywordNoResults() {
         // Given - no results
-        when(newsletterService.searchPostsByKeyword(anyString(), anyString(), anyInt())).thenReturn(List.of());
+        when(newsletterService.searchPostsByKeyword(anyString(), anyString(), anyInt(), isNull())).thenReturn(new Page<>(List.of(), null));
 
         // When
-        List<Post> result = newsletterTools.searchPostsByKeyword("nonexistent", null, null);
+        List<Post> result = newsletterTools.searchPostsByKeyword("nonexistent", null, null, null, null).items();
 
         // Then
         assertNotNull(result);
@@ -221,7 +223,7 @@ class NewsletterToolsTest {
     void testSearchPostsByKeywordWithNullKeyword() {
         // When & Then - should throw exception
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            newsletterTools.searchPostsByKeyword(null, null, null);
+            newsletterTools.searchPostsByKeyword(null, null, null, null, null);
         });
         assertEquals("Keyword parameter is required.", exception.getMessage());
     }
@@ -230,7 +232,7 @@ class NewsletterToolsTest {
     void testSearchPostsByKeywordWithEmptyKeyword() {
         // When & Then - should throw exception
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            newsletterTools.searchPostsByKeyword("", null, null);
+            newsletterTools.searchPostsByKeyword("", null, null, null, null);
         });
         assertEquals("Keyword parameter is required.", exception.getMessage());
     }
@@ -243,10 +245,10 @@ class NewsletterToolsTest {
                         LocalDateTime.now(), "https://example.com/1")
         );
 
-        when(newsletterService.getPostsByStatus("all", "confirmed", 10)).thenReturn(mockPosts);
+        when(newsletterService.getPostsByStatus("all", "confirmed", 10, null)).thenReturn(new Page<>(mockPosts, null));
 
         // When
-        List<Post> result = newsletterTools.getPostsByStatus(null, null, null);
+        List<Post> result = newsletterTools.getPostsByStatus(null, null, null, null, null).items();
 
         // Then
         assertNotNull(result);
@@ -262,10 +264,10 @@ class NewsletterToolsTest {
                         null, null)
         );
 
-        when(newsletterService.getPostsByStatus("all", "draft", 10)).thenReturn(mockPosts);
+        when(newsletterService.getPostsByStatus("all", "draft", 10, null)).thenReturn(new Page<>(mockPosts, null));
 
         // When
-        List<Post> result = newsletterTools.getPostsByStatus("draft", null, null);
+        List<Post> result = newsletterTools.getPostsByStatus("draft", null, null, null, null).items();
 
         // Then
         assertNotNull(result);
@@ -281,10 +283,10 @@ class NewsletterToolsTest {
                         LocalDateTime.now().minusYears(1), "https://example.com/1")
         );
 
-        when(newsletterService.getPostsByStatus("all", "archived", 10)).thenReturn(mockPosts);
+        when(newsletterService.getPostsByStatus("all", "archived", 10, null)).thenReturn(new Page<>(mockPosts, null));
 
         // When
-        List<Post> result = newsletterTools.getPostsByStatus("archived", null, null);
+        List<Post> result = newsletterTools.getPostsByStatus("archived", null, null, null, null).items();
 
         // Then
         assertNotNull(result);
@@ -300,10 +302,10 @@ class NewsletterToolsTest {
                         LocalDateTime.now(), "https://example.com/1")
         );
 
-        when(newsletterService.getPostsByStatus("bytesizedai", "confirmed", 10)).thenReturn(mockPosts);
+        when(newsletterService.getPostsByStatus("bytesizedai", "confirmed", 10, null)).thenReturn(new Page<>(mockPosts, null));
 
         // When
-        List<Post> result = newsletterTools.getPostsByStatus("confirmed", "bytesizedai", null);
+        List<Post> result = newsletterTools.getPostsByStatus("confirmed", "bytesizedai", null, null, null).items();
 
         // Then
         assertNotNull(result);
@@ -368,10 +370,10 @@ class NewsletterToolsTest {
     @Test
     void testParseCountWithValidNumber() {
         // Given
-        when(newsletterService.getLatestPosts("all", 25)).thenReturn(List.of());
+        when(newsletterService.getLatestPosts("all", 25, null)).thenReturn(new Page<>(List.of(), null));
 
         // When
-        List<Post> result = newsletterTools.getLatestPosts(null, "25");
+        List<Post> result = newsletterTools.getLatestPosts(null, "25", null, null).items();
 
         // Then - parseCount should use 25
         assertNotNull(result);
@@ -380,10 +382,10 @@ class NewsletterToolsTest {
     @Test
     void testParseCountWithInvalidNumber() {
         // Given
-        when(newsletterService.getLatestPosts("all", 10)).thenReturn(List.of());
+        when(newsletterService.getLatestPosts("all", 10, null)).thenReturn(new Page<>(List.of(), null));
 
         // When
-        List<Post> result = newsletterTools.getLatestPosts(null, "invalid");
+        List<Post> result = newsletterTools.getLatestPosts(null, "invalid", null, null).items();
 
         // Then - parseCount should use default of 10
         assertNotNull(result);
@@ -392,10 +394,10 @@ class NewsletterToolsTest {
     @Test
     void testParseCountExceedsMaximum() {
         // Given
-        when(newsletterService.getLatestPosts("all", 50)).thenReturn(List.of());
+        when(newsletterService.getLatestPosts("all", 50, null)).thenReturn(new Page<>(List.of(), null));
 
         // When
-        List<Post> result = newsletterTools.getLatestPosts(null, "100");
+        List<Post> result = newsletterTools.getLatestPosts(null, "100", null, null).items();
 
         // Then - parseCount should cap at 50
         assertNotNull(result);
@@ -1,9 +1,14 @@
 package dev.danvega.dvaas.tools.podcast;
 
+import dev.danvega.dvaas.cache.SourceCache;
+import dev.danvega.dvaas.config.HttpClientProperties;
 import dev.danvega.dvaas.config.PodcastProperties;
+import dev.danvega.dvaas.http.OutboundHttpClient;
 import dev.danvega.dvaas.tools.podcast.model.Episode;
 import dev.danvega.dvaas.tools.podcast.model.PodcastStats;
 import dev.danvega.dvaas.tools.podcast.model.Show;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,7 +18,6 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -30,12 +34,15 @@ class PodcastServiceTest {
     void setUp() {
         podcastProperties = new PodcastProperties(
                 "test-api-key-1234567890",
+                null,
                 "test-app",
                 Duration.ofMinutes(30),
                 "spring-office-hours-id",
                 "fundamentals-id"
         );
-        podcastService = new PodcastService(podcastProperties);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        podcastService = new PodcastService(podcastProperties, new OutboundHttpClient(HttpClientProperties.defaults(), meterRegistry, ObservationRegistry.NOOP),
+                meterRegistry, ObservationRegistry.NOOP);
     }
 
     @Test
@@ -46,7 +53,7 @@ class PodcastServiceTest {
     @Test
     void resolveShowIdentifier_WithSpringOfficeHours_ShouldResolveToConfiguredId() {
         // Clear cache to ensure we're testing name resolution from config only
-        ReflectionTestUtils.setField(podcastService, "cache", new ConcurrentHashMap<>());
+        ((SourceCache<?>) ReflectionTestUtils.getField(podcastService, "showCache")).clear();
 
         String result = podcastService.resolveShowIdentifier("Spring Office Hours");
         assertEquals("spring-office-hours-id", result);
@@ -61,7 +68,7 @@ class PodcastServiceTest {
     @Test
     void resolveShowIdentifier_WithFundamentals_ShouldResolveToConfiguredId() {
         // Clear cache to ensure we're testing name resolution from config only
-        ReflectionTestUtils.setField(podcastService, "cache", new ConcurrentHashMap<>());
+        ((SourceCache<?>) ReflectionTestUtils.getField(podcastService, "showCache")).clear();
 
         String result = podcastService.resolveShowIdentifier("Fundamentals of Software Engineering");
         assertEquals("fundamentals-id", result);
@@ -83,7 +90,7 @@ class PodcastServiceTest {
     @Test
     void resolveShowIdentifier_WithUnknownName_ShouldReturnAsIs() {
         // Clear cache to ensure we're testing name resolution
-        ReflectionTestUtils.setField(podcastService, "cache", new ConcurrentHashMap<>());
+        ((SourceCache<?>) ReflectionTestUtils.getField(podcastService, "showCache")).clear();
 
         String result = podcastService.resolveShowIdentifier("unknown-show");
         assertEquals("unknown-show", result);
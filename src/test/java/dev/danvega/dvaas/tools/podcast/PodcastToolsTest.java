@@ -1,5 +1,6 @@
 package dev.danvega.dvaas.tools.podcast;
 
+import dev.danvega.dvaas.cache.Page;
 import dev.danvega.dvaas.tools.podcast.model.Episode;
 import dev.danvega.dvaas.tools.podcast.model.PodcastStats;
 import dev.danvega.dvaas.tools.podcast.model.Show;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -45,7 +47,7 @@ class PodcastToolsTest {
         when(podcastService.getAllShows()).thenReturn(mockShows);
 
         // Act
-        List<Show> result = podcastTools.getShows();
+        List<Show> result = podcastTools.getShows(null);
 
         // Assert
         assertNotNull(result);
@@ -67,31 +69,31 @@ class PodcastToolsTest {
                     "https://example.com/audio2.mp3", "2700 seconds", "published", null, 50)
         );
 
-        when(podcastService.getLatestEpisodes(10, null)).thenReturn(mockEpisodes);
+        when(podcastService.getLatestEpisodes(10, null, null)).thenReturn(new Page<>(mockEpisodes, null));
 
         // Act
-        List<Episode> result = podcastTools.getLatestEpisodes(null, null);
+        List<Episode> result = podcastTools.getLatestEpisodes(null, null, null, null).items();
 
         // Assert
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals("Episode 100", result.get(0).title());
         assertEquals("Episode 50", result.get(1).title());
-        verify(podcastService).getLatestEpisodes(10, null);
+        verify(podcastService).getLatestEpisodes(10, null, null);
     }
 
     @Test
     void getLatestEpisodes_WithCustomCount_ShouldRespectCount() {
         // Arrange
-        when(podcastService.getLatestEpisodes(5, null)).thenReturn(List.of());
+        when(podcastService.getLatestEpisodes(5, null, null)).thenReturn(new Page<>(List.of(), null));
 
         // Act
-        List<Episode> result = podcastTools.getLatestEpisodes("5", null);
+        List<Episode> result = podcastTools.getLatestEpisodes("5", null, null, null).items();
 
         // Assert
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(podcastService).getLatestEpisodes(5, null);
+        verify(podcastService).getLatestEpisodes(5, null, null);
     }
 
     @Test
@@ -102,30 +104,30 @@ class PodcastToolsTest {
                     LocalDateTime.now(), null, null, "published", null, 100)
         );
 
-        when(podcastService.getLatestEpisodes(10, "Spring Office Hours")).thenReturn(mockEpisodes);
+        when(podcastService.getLatestEpisodes(10, "Spring Office Hours", null)).thenReturn(new Page<>(mockEpisodes, null));
 
         // Act
-        List<Episode> result = podcastTools.getLatestEpisodes(null, "Spring Office Hours");
+        List<Episode> result = podcastTools.getLatestEpisodes(null, "Spring Office Hours", null, null).items();
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("Spring Office Hours", result.get(0).showTitle());
-        verify(podcastService).getLatestEpisodes(10, "Spring Office Hours");
+        verify(podcastService).getLatestEpisodes(10, "Spring Office Hours", null);
     }
 
     @Test
     void getLatestEpisodes_WithInvalidCount_ShouldUseDefault() {
         // Arrange
-        when(podcastService.getLatestEpisodes(10, null)).thenReturn(List.of());
+        when(podcastService.getLatestEpisodes(10, null, null)).thenReturn(new Page<>(List.of(), null));
 
         // Act
-        List<Episode> result = podcastTools.getLatestEpisodes("invalid", null);
+        List<Episode> result = podcastTools.getLatestEpisodes("invalid", null, null, null).items();
 
         // Assert
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(podcastService).getLatestEpisodes(10, null);
+        verify(podcastService).getLatestEpisodes(10, null, null);
     }
 
     @Test
@@ -138,23 +140,23 @@ class PodcastToolsTest {
                     null, null, "published", null, 95)
         );
 
-        when(podcastService.searchEpisodes("spring", 10, null)).thenReturn(mockEpisodes);
+        when(podcastService.searchEpisodes("spring", 10, null, null)).thenReturn(new Page<>(mockEpisodes, null));
 
         // Act
-        List<Episode> result = podcastTools.searchEpisodes("spring", null, null);
+        List<Episode> result = podcastTools.searchEpisodes("spring", null, null, null, null).items();
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("Spring Security Deep Dive", result.get(0).title());
-        verify(podcastService).searchEpisodes("spring", 10, null);
+        verify(podcastService).searchEpisodes("spring", 10, null, null);
     }
 
     @Test
     void searchEpisodes_WithNullKeyword_ShouldThrowException() {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            podcastTools.searchEpisodes(null, null, null);
+            podcastTools.searchEpisodes(null, null, null, null, null);
         });
         assertEquals("Keyword parameter is required.", exception.getMessage());
         verifyNoInteractions(podcastService);
@@ -164,12 +166,21 @@ class PodcastToolsTest {
     void searchEpisodes_WithEmptyKeyword_ShouldThrowException() {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            podcastTools.searchEpisodes("", null, null);
+            podcastTools.searchEpisodes("", null, null, null, null);
         });
         assertEquals("Keyword parameter is required.", exception.getMessage());
         verifyNoInteractions(podcastService);
     }
 
+    @Test
+    void getEpisodeDetailsAsync_WithEmptyId_ShouldSignalErrorOnSubscribe() {
+        Mono<Episode> result = podcastTools.getEpisodeDetailsAsync(" ");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, result::block);
+        assertEquals("Episode ID parameter is required.", exception.getMessage());
+        verifyNoInteractions(podcastService);
+    }
+
     @Test
     void searchEpisodes_WithShowFilter_ShouldPassShowToService() {
         // Arrange
@@ -179,30 +190,30 @@ class PodcastToolsTest {
                     LocalDateTime.now(), null, null, "published", null, 10)
         );
 
-        when(podcastService.searchEpisodes("java", 10, "Fundamentals")).thenReturn(mockEpisodes);
+        when(podcastService.searchEpisodes("java", 10, "Fundamentals", null)).thenReturn(new Page<>(mockEpisodes, null));
 
         // Act
-        List<Episode> result = podcastTools.searchEpisodes("java", null, "Fundamentals");
+        List<Episode> result = podcastTools.searchEpisodes("java", null, "Fundamentals", null, null).items();
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("Java Fundamentals", result.get(0).title());
-        verify(podcastService).searchEpisodes("java", 10, "Fundamentals");
+        verify(podcastService).searchEpisodes("java", 10, "Fundamentals", null);
     }
 
     @Test
     void searchEpisodes_WithNoResults_ShouldReturnEmptyList() {
         // Arrange
-        when(podcastService.searchEpisodes("nonexistent", 10, null)).thenReturn(List.of());
+        when(podcastService.searchEpisodes("nonexistent", 10, null, null)).thenReturn(new Page<>(List.of(), null));
 
         // Act
-        List<Episode> result = podcastTools.searchEpisodes("nonexistent", null, null);
+        List<Episode> result = podcastTools.searchEpisodes("nonexistent", null, null, null, null).items();
 
         // Assert
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(podcastService).searchEpisodes("nonexistent", 10, null);
+        verify(podcastService).searchEpisodes("nonexistent", 10, null, null);
     }
 
     @Test
@@ -320,30 +331,30 @@ class PodcastToolsTest {
     @Test
     void parseCount_WithValidNumbers_ShouldReturnParsedValue() {
         // Test via getLatestEpisodes which uses parseCount internally
-        when(podcastService.getLatestEpisodes(25, null)).thenReturn(List.of());
+        when(podcastService.getLatestEpisodes(25, null, null)).thenReturn(new Page<>(List.of(), null));
 
-        podcastTools.getLatestEpisodes("25", null);
+        podcastTools.getLatestEpisodes("25", null, null, null);
 
-        verify(podcastService).getLatestEpisodes(25, null);
+        verify(podcastService).getLatestEpisodes(25, null, null);
     }
 
     @Test
     void parseCount_WithExceedsMax_ShouldCapAtMaxValue() {
         // Test via getLatestEpisodes which caps at 50
-        when(podcastService.getLatestEpisodes(50, null)).thenReturn(List.of());
+        when(podcastService.getLatestEpisodes(50, null, null)).thenReturn(new Page<>(List.of(), null));
 
-        podcastTools.getLatestEpisodes("100", null);
+        podcastTools.getLatestEpisodes("100", null, null, null);
 
-        verify(podcastService).getLatestEpisodes(50, null);
+        verify(podcastService).getLatestEpisodes(50, null, null);
     }
 
     @Test
     void parseCount_WithNegativeValue_ShouldUseMinimum() {
         // Test via getLatestEpisodes which has minimum of 1
-        when(podcastService.getLatestEpisodes(1, null)).thenReturn(List.of());
+        when(podcastService.getLatestEpisodes(1, null, null)).thenReturn(new Page<>(List.of(), null));
 
-        podcastTools.getLatestEpisodes("-5", null);
+        podcastTools.getLatestEpisodes("-5", null, null, null);
 
-        verify(podcastService).getLatestEpisodes(1, null);
+        verify(podcastService).getLatestEpisodes(1, null, null);
     }
 }
@@ -0,0 +1,90 @@
+package dev.danvega.dvaas.tools.podcast;
+
+import dev.danvega.dvaas.tools.podcast.model.Episode;
+import dev.danvega.dvaas.tools.podcast.model.Show;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TransistorJsonApiReader
+ */
+class TransistorJsonApiReaderTest {
+
+    private final TransistorJsonApiReader reader = new TransistorJsonApiReader();
+
+    @Test
+    void readEpisodes_ShouldBindAttributesRelationshipAndMeta() throws IOException {
+        String json = """
+                {
+                  "data": [
+                    {
+                      "id": "101",
+                      "type": "episode",
+                      "attributes": {
+                        "title": "Spring Boot 3.5",
+                        "summary": "What's new",
+                        "status": "published",
+                        "media_url": "https://media.transistor.fm/101.mp3",
+                        "duration": 3600,
+                        "season": 2,
+                        "number": null,
+                        "published_at": "2024-12-01T10:00:00Z",
+                        "transcripts": ["ignored"]
+                      },
+                      "relationships": {
+                        "transcripts": { "data": [] },
+                        "show": { "data": { "id": "41020", "type": "show" } }
+                      }
+                    }
+                  ],
+                  "meta": { "currentPage": 1, "totalPages": 3, "totalCount": 120 }
+                }
+                """;
+
+        TransistorJsonApiReader.Page<Episode> page = reader.readEpisodes(stream(json), Map.of("41020", "Spring Office Hours"));
+
+        assertEquals(1, page.items().size());
+        assertTrue(page.hasMore());
+        Episode episode = page.items().get(0);
+        assertEquals("101", episode.id());
+        assertEquals("What's new", episode.description());
+        assertEquals("41020", episode.showId());
+        assertEquals("Spring Office Hours", episode.showTitle());
+        assertEquals("3600 seconds", episode.duration());
+        assertEquals(2, episode.season());
+        assertNull(episode.number());
+        assertNotNull(episode.publishedAt());
+    }
+
+    @Test
+    void readShows_ShouldHandleSingleResourceDocument() throws IOException {
+        String json = """
+                {
+                  "data": {
+                    "id": "41020",
+                    "type": "show",
+                    "attributes": { "title": "Spring Office Hours", "website": "https://www.springofficehours.io", "status": "published" }
+                  }
+                }
+                """;
+
+        TransistorJsonApiReader.Page<Show> page = reader.readShows(stream(json));
+
+        assertEquals(1, page.items().size());
+        assertFalse(page.hasMore());
+        Show show = page.items().get(0);
+        assertEquals("Spring Office Hours", show.title());
+        assertEquals("https://www.springofficehours.io", show.websiteUrl());
+        assertTrue(show.isActive());
+    }
+
+    private ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
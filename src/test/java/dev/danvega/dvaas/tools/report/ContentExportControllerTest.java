@@ -0,0 +1,77 @@
+package dev.danvega.dvaas.tools.report;
+
+import dev.danvega.dvaas.upstream.FakeUpstreams;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("http")
+class ContentExportControllerTest {
+
+    private static final FakeUpstreams upstreams = FakeUpstreams.start(FakeUpstreams.Settings.defaults().withCorpusSize(500));
+
+    @LocalServerPort
+    int port;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        upstreams.properties().forEach((name, value) -> registry.add(name, () -> value));
+    }
+
+    @AfterAll
+    static void stopUpstreams() {
+        upstreams.close();
+    }
+
+    private HttpResponse<String> get(String pathAndQuery) throws Exception {
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + pathAndQuery)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+        }
+    }
+
+    @Test
+    void testCsvExportStreamsTheWholeCatalog() throws Exception {
+        HttpResponse<String> response = get("/export/content?contentTypes=blog,podcast,speaking");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("content-type")).hasValueSatisfying(type -> assertThat(type).startsWith("text/csv"));
+        assertThat(response.headers().firstValue("content-length")).isEmpty();
+        List<String> lines = response.body().lines().toList();
+        assertThat(lines.getFirst()).isEqualTo(ContentReportService.HEADER);
+        assertThat(lines).noneMatch(line -> line.startsWith("#"));
+        assertThat(lines.stream().filter(line -> line.contains(",blog,"))).hasSize(500);
+        assertThat(lines.stream().filter(line -> line.contains(",speaking,"))).hasSize(500);
+    }
+
+    @Test
+    void testJsonLinesExportFiltersByDateAndSource() throws Exception {
+        HttpResponse<String> all = get("/export/content?format=jsonl&contentTypes=blog");
+        HttpResponse<String> recent = get("/export/content?format=jsonl&contentTypes=blog&startDate=2024-01-01&endDate=2024-12-31");
+
+        assertThat(all.headers().firstValue("content-type")).hasValueSatisfying(type -> assertThat(type).startsWith("application/x-ndjson"));
+        assertThat(recent.body().lines())
+                .isNotEmpty()
+                .hasSizeLessThan((int) all.body().lines().count())
+                .allMatch(line -> line.contains("\"contentType\":\"blog\"") && line.contains("\"date\":\"2024-"));
+    }
+
+    @Test
+    void testInvalidArgumentsAreRejected() throws Exception {
+        assertThat(get("/export/content?format=xlsx").statusCode()).isEqualTo(400);
+        assertThat(get("/export/content?startDate=last-week").statusCode()).isEqualTo(400);
+    }
+}
@@ -0,0 +1,126 @@
+package dev.danvega.dvaas.tools.report;
+
+import dev.danvega.dvaas.tools.report.model.ReportEntry;
+import dev.danvega.dvaas.tools.report.model.ReportPeriod;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentExporterTest {
+
+    private static ContentReportSource source(Set<String> types, Stream<ReportEntry> entries) {
+        return new ContentReportSource() {
+            @Override
+            public Set<String> reportContentTypes() {
+                return types;
+            }
+
+            @Override
+            public List<ReportEntry> reportEntries(ReportPeriod period) {
+                throw new UnsupportedOperationException("exports must stream");
+            }
+
+            @Override
+            public Stream<ReportEntry> exportEntries(ReportPeriod period) {
+                return entries.filter(entry -> period.contains(entry.date().atStartOfDay()));
+            }
+        };
+    }
+
+    private static ContentExporter exporter(ContentReportSource... sources) {
+        Map<String, Object> beans = new LinkedHashMap<>();
+        for (ContentReportSource source : sources) {
+            beans.put("source" + beans.size(), source);
+        }
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(beans);
+        return new ContentExporter(beanFactory.getBeanProvider(ContentReportSource.class), JsonMapper.builder().build());
+    }
+
+    private final ContentReportSource blog = source(Set.of("blog"), Stream.of(
+            ReportEntry.of("Spring Boot Tips, Tricks and \"Gotchas\"", "blog", LocalDate.of(2024, 11, 15), "https://www.danvega.dev/blog/tips"),
+            ReportEntry.of("Virtual Threads", "blog", LocalDate.of(2021, 3, 1), "https://www.danvega.dev/blog/virtual-threads")));
+
+    @Test
+    void testCsvExportListsRowsAndWarnings() throws Exception {
+        ContentReportSource failing = source(Set.of("podcast"), Stream.generate(() -> {
+            throw new IllegalStateException("Transistor is down");
+        }));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exporter(blog, failing)
+                .export(ReportPeriod.parseOpenEnded(null, null, null, "blog, podcast, newsletter"), ContentExporter.Format.CSV, out);
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(out.toString()).isEqualTo("""
+                # newsletter skipped: no source configured
+                NAME,CONTENT TYPE,EXPORT INDICATOR,DATE,CONTENT LINK,EYEBALLS LIVE,EYEBALLS POST
+                "Spring Boot Tips, Tricks and ""Gotchas\"\"",blog,export for reporting,11/15/2024,https://www.danvega.dev/blog/tips,0,0
+                Virtual Threads,blog,export for reporting,3/1/2021,https://www.danvega.dev/blog/virtual-threads,0,0
+                # podcast skipped: Transistor is down
+                """);
+    }
+
+    @Test
+    void testJsonLinesExportHasOneObjectPerRow() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exporter(blog).export(ReportPeriod.parseOpenEnded(null, "2024-01-01", null, "blog"),
+                ContentExporter.Format.JSONL, out);
+
+        assertThat(out.toString().lines().toList()).containsExactly(
+                "{\"name\":\"Spring Boot Tips, Tricks and \\\"Gotchas\\\"\",\"contentType\":\"blog\",\"date\":\"2024-11-15\","
+                        + "\"link\":\"https://www.danvega.dev/blog/tips\",\"eyeballsLive\":0,\"eyeballsPost\":0}");
+    }
+
+    @Test
+    void testRowsAreWrittenWhileTheSourceIsStillBeingRead() throws Exception {
+        AtomicLong written = new AtomicLong();
+        OutputStream counting = new OutputStream() {
+            @Override
+            public void write(int b) {
+                written.incrementAndGet();
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                written.addAndGet(len);
+            }
+        };
+        AtomicLong writtenHalfway = new AtomicLong();
+        Stream<ReportEntry> archive = LongStream.range(0, 200_000)
+                .peek(i -> {
+                    if (i == 100_000) {
+                        writtenHalfway.set(written.get());
+                    }
+                })
+                .mapToObj(i -> ReportEntry.of("Post " + i, "blog", LocalDate.of(2020, 1, 1).plusDays(i % 2000), "https://example.com/" + i));
+
+        long rows = exporter(source(Set.of("blog"), archive))
+                .export(ReportPeriod.parseOpenEnded(null, null, null, "all"), ContentExporter.Format.CSV, counting);
+
+        assertThat(rows).isEqualTo(200_000);
+        assertThat(writtenHalfway.get()).isGreaterThan(written.get() / 3);
+    }
+
+    @Test
+    void testOpenEndedPeriods() {
+        assertThat(ReportPeriod.parseOpenEnded(null, null, null, null).label()).isEqualTo("all time");
+        assertThat(ReportPeriod.parseOpenEnded("2023", null, null, null).to()).isEqualTo(LocalDate.of(2023, 12, 31));
+        assertThat(ReportPeriod.parseOpenEnded("2023", null, "2024-06-30", null).label()).isEqualTo("until 2024-06-30");
+        assertThatThrownBy(() -> ContentExporter.Format.parse("xlsx")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,175 @@
+package dev.danvega.dvaas.tools.report;
+
+import dev.danvega.dvaas.tools.report.model.ContentReport;
+import dev.danvega.dvaas.tools.report.model.ReportEntry;
+import dev.danvega.dvaas.tools.report.model.ReportPeriod;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentReportServiceTest {
+
+    private static ContentReportSource source(Set<String> types, ReportEntry... entries) {
+        return new ContentReportSource() {
+            @Override
+            public Set<String> reportContentTypes() {
+                return types;
+            }
+
+            @Override
+            public List<ReportEntry> reportEntries(ReportPeriod period) {
+                return List.of(entries);
+            }
+        };
+    }
+
+    private static ContentReportService service(Map<String, ContentReportSource> sources) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(new LinkedHashMap<>(sources));
+        return new ContentReportService(beanFactory.getBeanProvider(ContentReportSource.class), ObservationRegistry.NOOP);
+    }
+
+    private final ContentReportSource blog = source(Set.of("blog"),
+            ReportEntry.of("Spring Boot Tips, Tricks and \"Gotchas\"", "blog", LocalDate.of(2024, 11, 15), "https://www.danvega.dev/blog/tips"),
+            ReportEntry.of("Spring Boot Tips, Tricks and \"Gotchas\"", "blog", LocalDate.of(2024, 11, 15), "https://www.danvega.dev/blog/tips"));
+    private final ContentReportSource youtube = source(Set.of("video", "live stream"),
+            new ReportEntry("Spring Data - Query by Example", "video", LocalDate.of(2024, 11, 8), "https://youtu.be/NGVWHdGNbiI", 0, 5000),
+            new ReportEntry("Live: Spring Office Hours", "live stream", LocalDate.of(2024, 11, 2), "https://youtu.be/live", 0, 800));
+
+    @Test
+    void testReportIsChronologicalEscapedAndDeduplicated() {
+        ContentReport report = service(Map.of("blogService", blog, "youTubeService", youtube))
+                .generate(ReportPeriod.parse(null, "2024-11-01", "2024-11-30", "blog, video, live stream"));
+
+        assertThat(report.period()).isEqualTo("2024-11-01 to 2024-11-30");
+        assertThat(report.totalItems()).isEqualTo(3);
+        assertThat(report.itemsByType()).containsExactlyInAnyOrderEntriesOf(Map.of("blog", 1, "video", 1, "live stream", 1));
+        assertThat(report.warnings()).isEmpty();
+        assertThat(report.csv()).isEqualTo("""
+                NAME,CONTENT TYPE,EXPORT INDICATOR,DATE,CONTENT LINK,EYEBALLS LIVE,EYEBALLS POST
+                Live: Spring Office Hours,live stream,export for reporting,11/2/2024,https://youtu.be/live,0,800
+                Spring Data - Query by Example,video,export for reporting,11/8/2024,https://youtu.be/NGVWHdGNbiI,0,5000
+                "Spring Boot Tips, Tricks and ""Gotchas\"\"",blog,export for reporting,11/15/2024,https://www.danvega.dev/blog/tips,0,0
+                """);
+    }
+
+    @Test
+    void testOnlyRequestedContentTypesAreReadAndListed() {
+        ContentReportSource failing = new ContentReportSource() {
+            @Override
+            public Set<String> reportContentTypes() {
+                return Set.of("newsletter");
+            }
+
+            @Override
+            public List<ReportEntry> reportEntries(ReportPeriod period) {
+                throw new IllegalStateException("should not be read");
+            }
+        };
+
+        ContentReport report = service(Map.of("youTubeService", youtube, "newsletterService", failing))
+                .generate(ReportPeriod.parse("2024", null, null, "video"));
+
+        assertThat(report.itemsByType()).containsOnlyKeys("video");
+        assertThat(report.csv()).doesNotContain("live stream");
+    }
+
+    @Test
+    void testFailingAndMissingSourcesBecomeWarningsAboveTheCsv() {
+        ContentReportSource podcast = new ContentReportSource() {
+            @Override
+            public Set<String> reportContentTypes() {
+                return Set.of("podcast");
+            }
+
+            @Override
+            public List<ReportEntry> reportEntries(ReportPeriod period) {
+                throw new UncheckedIOException(new IOException("Transistor unavailable"));
+            }
+        };
+
+        ContentReport report = service(Map.of("blogService", blog, "podcastService", podcast))
+                .generate(ReportPeriod.parse("2024", null, null, "blog,podcast,newsletter"));
+
+        assertThat(report.totalItems()).isEqualTo(1);
+        assertThat(report.warnings()).containsExactlyInAnyOrder("newsletter skipped: no source configured",
+                "podcast skipped: java.io.IOException: Transistor unavailable");
+        assertThat(report.csv()).startsWith("# ").contains("\n" + ContentReportService.HEADER + "\n");
+    }
+
+    @Test
+    void testSourcesAreReadConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        ContentReportSource first = waitingSource("blog", bothStarted);
+        ContentReportSource second = waitingSource("speaking", bothStarted);
+
+        ContentReport report = service(Map.of("blogService", first, "speakingService", second))
+                .generate(ReportPeriod.parse("2024", null, null, "blog,speaking"));
+
+        assertThat(report.warnings()).isEmpty();
+        assertThat(report.totalItems()).isEqualTo(2);
+    }
+
+    @Test
+    void testAsyncReportMatchesTheBlockingOne() {
+        ContentReportService service = service(Map.of("blogService", blog, "youTubeService", youtube));
+        ReportPeriod period = ReportPeriod.parse("2024", null, null, null);
+
+        assertThat(service.generateAsync(period).block(Duration.ofSeconds(5))).isEqualTo(service.generate(period));
+    }
+
+    @Test
+    void testPeriodArguments() {
+        ReportPeriod year = ReportPeriod.parse("2023", null, null, "all");
+        assertThat(year.from()).isEqualTo(LocalDate.of(2023, 1, 1));
+        assertThat(year.to()).isEqualTo(LocalDate.of(2023, 12, 31));
+        assertThat(year.contentTypes()).containsExactlyInAnyOrderElementsOf(ReportPeriod.CONTENT_TYPES);
+
+        assertThat(ReportPeriod.parse(null, null, null, null).label()).isEqualTo(String.valueOf(LocalDate.now().getYear()));
+        assertThat(ReportPeriod.parse("2023", "2024-02-01", "2024-02-29", "Blog").contentTypes()).containsExactly("blog");
+
+        assertThatThrownBy(() -> ReportPeriod.parse(null, null, null, "tweets")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("tweets");
+        assertThatThrownBy(() -> ReportPeriod.parse(null, "2024-03-01", "2024-02-01", null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ReportPeriod.parse(null, "03/01/2024", "2024-04-01", null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * A source that only answers once another one has started too, which never happens when
+     * sources are read one after the other
+     */
+    private static ContentReportSource waitingSource(String type, CountDownLatch bothStarted) {
+        return new ContentReportSource() {
+            @Override
+            public Set<String> reportContentTypes() {
+                return Set.of(type);
+            }
+
+            @Override
+            public List<ReportEntry> reportEntries(ReportPeriod period) {
+                bothStarted.countDown();
+                try {
+                    if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("sources were not read concurrently");
+                    }
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return List.of(ReportEntry.of(type + " item", type, LocalDate.of(2024, 6, 1), null));
+            }
+        };
+    }
+}
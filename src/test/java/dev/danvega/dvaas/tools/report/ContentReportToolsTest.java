@@ -0,0 +1,47 @@
+package dev.danvega.dvaas.tools.report;
+
+import dev.danvega.dvaas.tools.report.model.ContentReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ContentReportTools MCP class
+ */
+@ExtendWith(MockitoExtension.class)
+class ContentReportToolsTest {
+
+    @Mock
+    private ContentReportService contentReportService;
+
+    private ContentReportTools contentReportTools;
+
+    @BeforeEach
+    void setUp() {
+        contentReportTools = new ContentReportTools(contentReportService);
+    }
+
+    @Test
+    void generateReport_WithInvalidYear_ShouldThrowException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> contentReportTools.generateReport("last year", null, null, null));
+
+        assertEquals("Invalid year 'last year'. Use a four-digit year like '2024'.", exception.getMessage());
+        verifyNoInteractions(contentReportService);
+    }
+
+    @Test
+    void generateReportAsync_WithInvalidYear_ShouldSignalErrorOnSubscribe() {
+        Mono<ContentReport> result = contentReportTools.generateReportAsync("last year", null, null, null);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, result::block);
+        assertEquals("Invalid year 'last year'. Use a four-digit year like '2024'.", exception.getMessage());
+        verifyNoInteractions(contentReportService);
+    }
+}
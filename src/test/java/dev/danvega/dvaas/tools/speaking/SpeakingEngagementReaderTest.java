@@ -0,0 +1,46 @@
+package dev.danvega.dvaas.tools.speaking;
+
+import dev.danvega.dvaas.tools.speaking.model.SpeakingEngagement;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpeakingEngagementReaderTest {
+
+    private final SpeakingEngagementReader reader = new SpeakingEngagementReader();
+
+    @Test
+    void testReadBindsEngagementFields() throws IOException {
+        String json = """
+                [
+                  {
+                    "title": "AI-Powered Applications with Spring AI",
+                    "url": "https://javazone.com/session2",
+                    "name": "JavaZone",
+                    "startDate": "2024-11-20",
+                    "endDate": null,
+                    "location": "Oslo, Norway",
+                    "description": "Building intelligent applications",
+                    "tags": ["ignored"]
+                  },
+                  null
+                ]
+                """;
+
+        List<SpeakingEngagement> engagements = reader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(engagements).hasSize(1);
+        SpeakingEngagement engagement = engagements.get(0);
+        assertThat(engagement.title()).isEqualTo("AI-Powered Applications with Spring AI");
+        assertThat(engagement.name()).isEqualTo("JavaZone");
+        assertThat(engagement.startDate()).isEqualTo(LocalDateTime.of(2024, 11, 20, 0, 0));
+        assertThat(engagement.endDate()).isNull();
+        assertThat(engagement.location()).isEqualTo("Oslo, Norway");
+    }
+}
@@ -1,7 +1,7 @@
 package dev.danvega.dvaas.tools.speaking;
 
+import dev.danvega.dvaas.cache.Page;
 import dev.danvega.dvaas.tools.speaking.model.SpeakingEngagement;
-import dev.danvega.dvaas.tools.speaking.model.SpeakingSearchResult;
 import dev.danvega.dvaas.tools.speaking.model.SpeakingStats;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +16,7 @@ import java.util.Map;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
 /**
@@ -55,10 +56,10 @@ class SpeakingToolsTest {
             )
         );
 
-        when(speakingService.getLatestEngagements(10)).thenReturn(mockEngagements);
+        when(speakingService.getLatestEngagements(10, null)).thenReturn(new Page<>(mockEngagements, null));
 
         // When
-        List<SpeakingEngagement> result = speakingTools.getLatestEngagements(null);
+        List<SpeakingEngagement> result = speakingTools.getLatestEngagements(null, null, null).items();
 
         // Then
         assertNotNull(result);
@@ -82,10 +83,10 @@ class SpeakingToolsTest {
                 "Location 3", "Description 3")
         );
 
-        when(speakingService.getLatestEngagements(3)).thenReturn(mockEngagements);
+        when(speakingService.getLatestEngagements(3, null)).thenReturn(new Page<>(mockEngagements, null));
 
         // When
-        List<SpeakingEngagement> result = speakingTools.getLatestEngagements("3");
+        List<SpeakingEngagement> result = speakingTools.getLatestEngagements("3", null, null).items();
 
         // Then
         assertNotNull(result);
@@ -96,10 +97,10 @@ class SpeakingToolsTest {
     @Test
     void testGetLatestEngagementsEmpty() {
         // Given - no engagements
-        when(speakingService.getLatestEngagements(anyInt())).thenReturn(List.of());
+        when(speakingService.getLatestEngagements(anyInt(), isNull())).thenReturn(new Page<>(List.of(), null));
 
         // When
-        List<SpeakingEngagement> result = speakingTools.getLatestEngagements("10");
+        List<SpeakingEngagement> result = speakingTools.getLatestEngagements("10", null, null).items();
 
         // Then
         assertNotNull(result);
@@ -121,10 +122,10 @@ class SpeakingToolsTest {
             )
         );
 
-        when(speakingService.getUpcomingEngagements(5)).thenReturn(mockEngagements);
+        when(speakingService.getUpcomingEngagements(5, null)).thenReturn(new Page<>(mockEngagements, null));
 
         // When
-        List<SpeakingEngagement> result = speakingTools.getUpcomingEvents("5");
+        List<SpeakingEngagement> result = speakingTools.getUpcomingEvents("5", null, null).items();
 
         // Then
         assertNotNull(result);
@@ -136,10 +137,10 @@ class SpeakingToolsTest {
     @Test
     void testGetUpcomingEventsEmpty() {
         // Given - no upcoming engagements
-        when(speakingService.getUpcomingEngagements(anyInt())).thenReturn(List.of());
+        when(speakingService.getUpcomingEngagements(anyInt(), isNull())).thenReturn(new Page<>(List.of(), null));
 
         // When
-        List<SpeakingEngagement> result = speakingTools.getUpcomingEvents("10");
+        List<SpeakingEngagement> result = speakingTools.getUpcomingEvents("10", null, null).items();
 
         // Then
         assertNotNull(result);
@@ -170,11 +171,10 @@ class SpeakingToolsTest {
             )
         );
 
-        SpeakingSearchResult searchResult = SpeakingSearchResult.forKeyword(mockEngagements, "spring");
-        when(speakingService.searchEngagementsByKeyword("spring", 10)).thenReturn(searchResult);
+        when(speakingService.searchEngagements("spring", 10, null)).thenReturn(new Page<>(mockEngagements, null));
 
         // When
-        List<SpeakingEngagement> result = speakingTools.searchByTopic("spring", null);
+        List<SpeakingEngagement> result = speakingTools.searchByTopic("spring", null, null, null).items();
 
         // Then
         assertNotNull(result);
@@ -185,11 +185,10 @@ class SpeakingToolsTest {
     @Test
     void testSearchByTopicNoResults() {
         // Given - no results
-        SpeakingSearchResult emptyResult = SpeakingSearchResult.forKeyword(List.of(), "nonexistent");
-        when(speakingService.searchEngagementsByKeyword(anyString(), anyInt())).thenReturn(emptyResult);
+        when(speakingService.searchEngagements(anyString(), anyInt(), isNull())).thenReturn(Page.empty());
 
         // When
-        List<SpeakingEngagement> result = speakingTools.searchByTopic("nonexistent", null);
+        List<SpeakingEngagement> result = speakingTools.searchByTopic("nonexistent", null, null, null).items();
 
         // Then
         assertNotNull(result);
@@ -200,7 +199,7 @@ class SpeakingToolsTest {
     void testSearchByTopicWithNullTopic() {
         // When & Then - should throw exception
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            speakingTools.searchByTopic(null, null);
+            speakingTools.searchByTopic(null, null, null, null);
         });
         assertEquals("Topic parameter is required.", exception.getMessage());
     }
@@ -209,7 +208,7 @@ class SpeakingToolsTest {
     void testSearchByTopicWithEmptyTopic() {
         // When & Then - should throw exception
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            speakingTools.searchByTopic("", null);
+            speakingTools.searchByTopic("", null, null, null);
         });
         assertEquals("Topic parameter is required.", exception.getMessage());
     }
@@ -262,10 +261,10 @@ class SpeakingToolsTest {
     @Test
     void testParseCountWithValidNumber() {
         // Given
-        when(speakingService.getLatestEngagements(25)).thenReturn(List.of());
+        when(speakingService.getLatestEngagements(25, null)).thenReturn(new Page<>(List.of(), null));
 
         // When
-        List<SpeakingEngagement> result = speakingTools.getLatestEngagements("25");
+        List<SpeakingEngagement> result = speakingTools.getLatestEngagements("25", null, null).items();
 
         // Then - parseCount should use 25
         assertNotNull(result);
@@ -274,10 +273,10 @@ class SpeakingToolsTest {
     @Test
     void testParseCountWithInvalidNumber() {
         // Given
-        when(speakingService.getLatestEngagements(10)).thenReturn(List.of());
+        when(speakingService.getLatestEngagements(10, null)).thenReturn(new Page<>(List.of(), null));
 
         // When
-        List<SpeakingEngagement> result = speakingTools.getLatestEngagements("invalid");
+        List<SpeakingEngagement> result = speakingTools.getLatestEngagements("invalid", null, null).items();
 
         // Then - parseCount should use default of 10
         assertNotNull(result);
@@ -286,10 +285,10 @@ class SpeakingToolsTest {
     @Test
     void testParseCountExceedsMaximum() {
         // Given
-        when(speakingService.getLatestEngagements(50)).thenReturn(List.of());
+        when(speakingService.getLatestEngagements(50, null)).thenReturn(new Page<>(List.of(), null));
 
         // When
-        List<SpeakingEngagement> result = speakingTools.getLatestEngagements("100");
+        List<SpeakingEngagement> result = speakingTools.getLatestEngagements("100", null, null).items();
 
         // Then - parseCount should cap at 50
         assertNotNull(result);
@@ -54,7 +54,7 @@ class YouTubeServiceIntegrationTest {
     @Test
     void testGetLatestVideos() {
         // Test getting latest videos from the channel
-        List<Video> videos = youTubeService.getLatestVideos(3);
+        List<Video> videos = youTubeService.getLatestVideos(3, null).items();
 
         // Verify we got real videos back
         assertNotNull(videos, "Videos list should not be null");
@@ -81,7 +81,7 @@ class YouTubeServiceIntegrationTest {
     @Test
     void testSearchVideosByTopic() {
         // Test searching for videos about "spring"
-        List<Video> result = youTubeService.searchVideosByTopic("spring", 3);
+        List<Video> result = youTubeService.searchVideosByTopic("spring", 3, null).items();
 
         // Verify we got search results
         assertNotNull(result, "Search result should not be null");
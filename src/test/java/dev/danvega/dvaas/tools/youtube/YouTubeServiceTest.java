@@ -1,5 +1,6 @@
 package dev.danvega.dvaas.tools.youtube;
 
+import dev.danvega.dvaas.cache.Page;
 import dev.danvega.dvaas.tools.youtube.model.ChannelStats;
 import dev.danvega.dvaas.tools.youtube.model.Video;
 import org.junit.jupiter.api.Test;
@@ -66,10 +67,10 @@ class YouTubeServiceTest {
                           LocalDateTime.now().minusDays(3), 2300L)
         );
 
-        when(youTubeService.getLatestVideos(5)).thenReturn(mockVideos);
+        when(youTubeService.getLatestVideos(5, null)).thenReturn(new Page<>(mockVideos, null));
 
         // When
-        List<Video> result = youTubeService.getLatestVideos(5);
+        List<Video> result = youTubeService.getLatestVideos(5, null).items();
 
         // Then
         assertNotNull(result);
@@ -117,10 +118,10 @@ class YouTubeServiceTest {
                           LocalDateTime.now().minusWeeks(2), 3500L)
         );
 
-        when(youTubeService.searchVideosByTopic("spring", 10)).thenReturn(mockVideos);
+        when(youTubeService.searchVideosByTopic("spring", 10, null)).thenReturn(new Page<>(mockVideos, null));
 
         // When
-        List<Video> result = youTubeService.searchVideosByTopic("spring", 10);
+        List<Video> result = youTubeService.searchVideosByTopic("spring", 10, null).items();
 
         // Then
         assertNotNull(result);
@@ -134,10 +135,10 @@ class YouTubeServiceTest {
     @Test
     void testGetLatestVideosEmptyResult() {
         // Given - empty result
-        when(youTubeService.getLatestVideos(10)).thenReturn(List.of());
+        when(youTubeService.getLatestVideos(10, null)).thenReturn(Page.empty());
 
         // When
-        List<Video> result = youTubeService.getLatestVideos(10);
+        List<Video> result = youTubeService.getLatestVideos(10, null).items();
 
         // Then
         assertNotNull(result);
@@ -147,10 +148,10 @@ class YouTubeServiceTest {
     @Test
     void testSearchVideosNoResults() {
         // Given - no search results
-        when(youTubeService.searchVideosByTopic("nonexistent", 10)).thenReturn(List.of());
+        when(youTubeService.searchVideosByTopic("nonexistent", 10, null)).thenReturn(Page.empty());
 
         // When
-        List<Video> result = youTubeService.searchVideosByTopic("nonexistent", 10);
+        List<Video> result = youTubeService.searchVideosByTopic("nonexistent", 10, null).items();
 
         // Then
         assertNotNull(result);
@@ -1,5 +1,6 @@
 package dev.danvega.dvaas.tools.youtube;
 
+import dev.danvega.dvaas.cache.Page;
 import dev.danvega.dvaas.tools.youtube.model.ChannelStats;
 import dev.danvega.dvaas.tools.youtube.model.Video;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,7 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
 /**
@@ -41,16 +43,16 @@ class YouTubeToolsTest {
                           LocalDateTime.now().minusDays(2), 1800L)
         );
 
-        when(youTubeService.getLatestVideos(10)).thenReturn(mockVideos);
+        when(youTubeService.getLatestVideos(10, null)).thenReturn(new Page<>(mockVideos, null));
 
         // When
-        List<Video> result = youTubeTools.getLatestVideos(null);
+        Page<Video> result = youTubeTools.getLatestVideos(null, null, null);
 
         // Then
         assertNotNull(result);
-        assertEquals(2, result.size());
-        assertEquals("Spring Boot 3.2 Released", result.get(0).title());
-        assertEquals("Java 21 Virtual Threads", result.get(1).title());
+        assertEquals(2, result.items().size());
+        assertEquals("Spring Boot 3.2 Released", result.items().get(0).title());
+        assertEquals("Java 21 Virtual Threads", result.items().get(1).title());
     }
 
     @Test
@@ -65,28 +67,28 @@ class YouTubeToolsTest {
                           LocalDateTime.now().minusDays(3), 3000L)
         );
 
-        when(youTubeService.getLatestVideos(3)).thenReturn(mockVideos);
+        when(youTubeService.getLatestVideos(3, null)).thenReturn(new Page<>(mockVideos, null));
 
         // When
-        List<Video> result = youTubeTools.getLatestVideos("3");
+        Page<Video> result = youTubeTools.getLatestVideos("3", null, null);
 
         // Then
         assertNotNull(result);
-        assertEquals(3, result.size());
-        assertEquals("Video 1", result.get(0).title());
+        assertEquals(3, result.items().size());
+        assertEquals("Video 1", result.items().get(0).title());
     }
 
     @Test
     void testGetLatestVideosEmpty() {
         // Given - no videos
-        when(youTubeService.getLatestVideos(anyInt())).thenReturn(List.of());
+        when(youTubeService.getLatestVideos(anyInt(), isNull())).thenReturn(Page.empty());
 
         // When
-        List<Video> result = youTubeTools.getLatestVideos("5");
+        Page<Video> result = youTubeTools.getLatestVideos("5", null, null);
 
         // Then
         assertNotNull(result);
-        assertTrue(result.isEmpty());
+        assertTrue(result.items().isEmpty());
     }
 
     @Test
@@ -106,7 +108,7 @@ class YouTubeToolsTest {
         when(youTubeService.getTopVideos(5, "recent")).thenReturn(mockVideos);
 
         // When
-        List<Video> result = youTubeTools.getTopVideos("5", "recent");
+        List<Video> result = youTubeTools.getTopVideos("5", "recent", null);
 
         // Then
         assertNotNull(result);
@@ -127,35 +129,36 @@ class YouTubeToolsTest {
                           LocalDateTime.now().minusWeeks(2), 3500L)
         );
 
-        when(youTubeService.searchVideosByTopic("spring", 10)).thenReturn(mockVideos);
+        when(youTubeService.searchVideosByTopic("spring", 10, null)).thenReturn(new Page<>(mockVideos, "CAoQAA"));
 
         // When
-        List<Video> result = youTubeTools.searchVideosByTopic("spring", null);
+        Page<Video> result = youTubeTools.searchVideosByTopic("spring", null, null, null);
 
         // Then
         assertNotNull(result);
-        assertEquals(2, result.size());
-        assertEquals("Spring Security Tutorial", result.get(0).title());
+        assertEquals(2, result.items().size());
+        assertEquals("Spring Security Tutorial", result.items().get(0).title());
+        assertEquals("CAoQAA", result.nextCursor());
     }
 
     @Test
     void testSearchVideosByTopicNoResults() {
         // Given - no results
-        when(youTubeService.searchVideosByTopic(anyString(), anyInt())).thenReturn(List.of());
+        when(youTubeService.searchVideosByTopic(anyString(), anyInt(), isNull())).thenReturn(Page.empty());
 
         // When
-        List<Video> result = youTubeTools.searchVideosByTopic("nonexistent", null);
+        Page<Video> result = youTubeTools.searchVideosByTopic("nonexistent", null, null, null);
 
         // Then
         assertNotNull(result);
-        assertTrue(result.isEmpty());
+        assertTrue(result.items().isEmpty());
     }
 
     @Test
     void testSearchVideosByTopicWithNullTopic() {
         // When & Then - should throw exception
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            youTubeTools.searchVideosByTopic(null, null);
+            youTubeTools.searchVideosByTopic(null, null, null, null);
         });
         assertEquals("Topic parameter is required.", exception.getMessage());
     }
@@ -164,7 +167,7 @@ class YouTubeToolsTest {
     void testSearchVideosByTopicWithEmptyTopic() {
         // When & Then - should throw exception
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            youTubeTools.searchVideosByTopic("", null);
+            youTubeTools.searchVideosByTopic("", null, null, null);
         });
         assertEquals("Topic parameter is required.", exception.getMessage());
     }
@@ -199,10 +202,10 @@ class YouTubeToolsTest {
     @Test
     void testParseCountWithValidNumber() {
         // Given
-        when(youTubeService.getLatestVideos(25)).thenReturn(List.of());
+        when(youTubeService.getLatestVideos(25, null)).thenReturn(Page.empty());
 
         // When
-        List<Video> result = youTubeTools.getLatestVideos("25");
+        Page<Video> result = youTubeTools.getLatestVideos("25", null, null);
 
         // Then - parseCount should use 25
         assertNotNull(result);
@@ -211,10 +214,10 @@ class YouTubeToolsTest {
     @Test
     void testParseCountWithInvalidNumber() {
         // Given
-        when(youTubeService.getLatestVideos(10)).thenReturn(List.of());
+        when(youTubeService.getLatestVideos(10, null)).thenReturn(Page.empty());
 
         // When
-        List<Video> result = youTubeTools.getLatestVideos("invalid");
+        Page<Video> result = youTubeTools.getLatestVideos("invalid", null, null);
 
         // Then - parseCount should use default of 10
         assertNotNull(result);
@@ -223,10 +226,10 @@ class YouTubeToolsTest {
     @Test
     void testParseCountExceedsMaximum() {
         // Given
-        when(youTubeService.getLatestVideos(50)).thenReturn(List.of());
+        when(youTubeService.getLatestVideos(50, null)).thenReturn(Page.empty());
 
         // When
-        List<Video> result = youTubeTools.getLatestVideos("100");
+        Page<Video> result = youTubeTools.getLatestVideos("100", null, null);
 
         // Then - parseCount should cap at 50
         assertNotNull(result);
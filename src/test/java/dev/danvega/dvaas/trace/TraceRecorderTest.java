@@ -0,0 +1,87 @@
+package dev.danvega.dvaas.trace;
+
+import dev.danvega.dvaas.cache.SourceCache;
+import dev.danvega.dvaas.config.TracingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TraceRecorderTest {
+
+    private final TraceRecorder recorder = new TraceRecorder(new TracingProperties(true, Duration.ofHours(1), 2));
+    private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+    TraceRecorderTest() {
+        observationRegistry.observationConfig().observationHandler(recorder);
+    }
+
+    private Span callTool(SourceCache<Integer> cache) {
+        Observation.createNotStarted("dvaas.tool", observationRegistry)
+                .lowCardinalityKeyValue("tool", "numbers-get-all")
+                .observe(cache::items);
+        return recorder.traces().getFirst();
+    }
+
+    private SourceCache<Integer> cache() {
+        return new SourceCache<>("numbers", Duration.ofHours(1), Comparator.reverseOrder(), previous -> {
+            Observation.createNotStarted("dvaas.upstream", observationRegistry)
+                    .lowCardinalityKeyValue("source", "numbers")
+                    .observe(() -> { });
+            return List.of(1, 2, 3);
+        }, new SimpleMeterRegistry(), observationRegistry);
+    }
+
+    @Test
+    void testToolCallBreaksDownIntoCacheAndUpstreamStages() {
+        Span trace = callTool(cache());
+
+        assertThat(trace.name()).isEqualTo("dvaas.tool");
+        assertThat(trace.tags()).containsEntry("tool", "numbers-get-all");
+
+        Span lookup = trace.children().getFirst();
+        assertThat(lookup.name()).isEqualTo("dvaas.cache.lookup");
+        assertThat(lookup.tags()).containsEntry("source", "numbers").containsEntry("result", "miss");
+        assertThat(lookup.children()).extracting(Span::name).containsExactly("dvaas.cache.load", "dvaas.cache.sort");
+        assertThat(lookup.children().getFirst().children()).extracting(Span::name).containsExactly("dvaas.upstream");
+        assertThat(trace.render()).contains("dvaas.cache.load", "  dvaas.upstream");
+    }
+
+    @Test
+    void testCacheHitHasNoRefreshStages() {
+        SourceCache<Integer> cache = cache();
+        callTool(cache);
+
+        Span lookup = callTool(cache).children().getFirst();
+
+        assertThat(lookup.tags()).containsEntry("result", "hit");
+        assertThat(lookup.children()).isEmpty();
+    }
+
+    @Test
+    void testKeepsOnlyTheMostRecentTraces() {
+        SourceCache<Integer> cache = cache();
+        for (int i = 0; i < 3; i++) {
+            callTool(cache);
+        }
+
+        assertThat(recorder.traces()).hasSize(2);
+    }
+
+    @Test
+    void testSelfTimeExcludesChildren() {
+        Span child = new Span("dvaas.upstream", Map.of(), Instant.now(), Duration.ofMillis(30), null, List.of());
+        Span parent = new Span("dvaas.cache.load", Map.of(), Instant.now(), Duration.ofMillis(50), null,
+                List.of(child));
+
+        assertThat(parent.selfTime()).isEqualTo(Duration.ofMillis(20));
+    }
+}
@@ -0,0 +1,389 @@
+package dev.danvega.dvaas.upstream;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Offline stand-ins for every upstream source on one loopback JDK {@link HttpServer}: the RSS feed,
+ * the speaking API, the Beehiiv posts list, Transistor shows and episodes with JSON:API pagination,
+ * and the YouTube channels, playlistItems, videos and search routes. Responses come from
+ * {@link SyntheticCorpus} with {@link Settings#corpusSize()} items per source, honour the same
+ * paging parameters and API key checks as the real services, and can be slowed down or made to
+ * fail at a configurable rate. {@link #properties()} holds the {@code dvaas.*} overrides that point
+ * the application at the server.
+ * <p>
+ * Run standalone with
+ * {@code ./mvnw test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=dev.danvega.dvaas.upstream.FakeUpstreams -Dexec.args="--corpus=1000 --latency=50ms --error-rate=0.01"}
+ */
+public final class FakeUpstreams implements AutoCloseable {
+
+    public static final String NEWSLETTER_API_KEY = "fake-beehiiv-api-key";
+    public static final String PODCAST_API_KEY = "fake-transistor-api-key";
+    public static final String YOUTUBE_API_KEY = "fake-youtube-api-key";
+    public static final String YOUTUBE_CHANNEL_ID = "UCfakeChannel00000000000";
+    public static final Map<String, String> PUBLICATIONS = Map.of("danvega", "pub_danvega", "bytesizedai", "pub_bytesizedai");
+    public static final List<String> SHOW_IDS = List.of("41020", "69333");
+
+    /**
+     * @param corpusSize items per source (per publication for Beehiiv)
+     * @param latency delay added before every response
+     * @param errorRate share of requests answered with 503, between 0 and 1
+     * @param seed seed of the error sampling, so failure sequences are reproducible
+     */
+    public record Settings(int corpusSize, Duration latency, double errorRate, long seed) {
+
+        public Settings {
+            if (corpusSize < 0) {
+                throw new IllegalArgumentException("Corpus size must not be negative, got: " + corpusSize);
+            }
+            if (latency == null || latency.isNegative()) {
+                throw new IllegalArgumentException("Latency must not be negative, got: " + latency);
+            }
+            if (errorRate < 0 || errorRate > 1) {
+                throw new IllegalArgumentException("Error rate must be between 0 and 1, got: " + errorRate);
+            }
+        }
+
+        public static Settings defaults() {
+            return new Settings(200, Duration.ZERO, 0.0, 42);
+        }
+
+        public Settings withCorpusSize(int corpusSize) {
+            return new Settings(corpusSize, latency, errorRate, seed);
+        }
+
+        public Settings withLatency(Duration latency) {
+            return new Settings(corpusSize, latency, errorRate, seed);
+        }
+
+        public Settings withErrorRate(double errorRate) {
+            return new Settings(corpusSize, latency, errorRate, seed);
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final int corpusSize;
+    private final byte[] rssFeed;
+    private final byte[] speakingEngagements;
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private final Random errors;
+    private volatile Duration latency;
+    private volatile double errorRate;
+
+    private FakeUpstreams(HttpServer server, ExecutorService executor, Settings settings) {
+        this.server = server;
+        this.executor = executor;
+        this.corpusSize = settings.corpusSize();
+        this.rssFeed = SyntheticCorpus.rssFeed(corpusSize);
+        this.speakingEngagements = SyntheticCorpus.speakingEngagements(corpusSize);
+        this.errors = new Random(settings.seed());
+        this.latency = settings.latency();
+        this.errorRate = settings.errorRate();
+    }
+
+    public static FakeUpstreams start(Settings settings) {
+        return start(settings, 0);
+    }
+
+    /**
+     * @param port port to listen on, or 0 for any free port
+     */
+    public static FakeUpstreams start(Settings settings, int port) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+            server.setExecutor(executor);
+            FakeUpstreams upstreams = new FakeUpstreams(server, executor, settings);
+            server.createContext("/", upstreams::handle);
+            server.start();
+            return upstreams;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Change the delay added before every response
+     */
+    public void latency(Duration latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * Change the share of requests answered with 503
+     */
+    public void errorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Application properties that point every source at this server
+     */
+    public Map<String, String> properties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("dvaas.blog.rss-url", baseUrl() + "/rss.xml");
+        properties.put("dvaas.speaking.api-url", baseUrl() + "/api/speaking");
+        properties.put("dvaas.newsletter.api-key", NEWSLETTER_API_KEY);
+        properties.put("dvaas.newsletter.base-url", baseUrl() + "/beehiiv/v2");
+        PUBLICATIONS.forEach((name, id) -> properties.put("dvaas.newsletter.publications." + name, id));
+        properties.put("dvaas.podcast.api-key", PODCAST_API_KEY);
+        properties.put("dvaas.podcast.base-url", baseUrl() + "/transistor/v1");
+        properties.put("dvaas.podcast.spring-office-hours-show-id", SHOW_IDS.get(0));
+        properties.put("dvaas.podcast.fundamentals-show-id", SHOW_IDS.get(1));
+        properties.put("dvaas.youtube.api-key", YOUTUBE_API_KEY);
+        properties.put("dvaas.youtube.channel-id", YOUTUBE_CHANNEL_ID);
+        properties.put("dvaas.youtube.root-url", baseUrl() + "/");
+        return properties;
+    }
+
+    /**
+     * Requests received on a route such as {@code "beehiiv/posts"} or {@code "youtube/search"},
+     * including failed ones
+     */
+    public int requests(String route) {
+        AtomicInteger count = requests.get(route);
+        return count != null ? count.get() : 0;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            Map<String, List<String>> query = query(exchange.getRequestURI().getRawQuery());
+            Route route = route(path);
+            if (route == null) {
+                respond(exchange, 404, "application/json", error("No route for " + path));
+                return;
+            }
+            requests.computeIfAbsent(route.name(), name -> new AtomicInteger()).incrementAndGet();
+
+            Duration delay = latency;
+            if (!delay.isZero()) {
+                Thread.sleep(delay);
+            }
+            if (!route.authorized(exchange, query)) {
+                respond(exchange, 401, "application/json", error("Missing or invalid API key"));
+                return;
+            }
+            if (shouldFail()) {
+                respond(exchange, 503, "application/json", error("Injected failure"));
+                return;
+            }
+            respond(exchange, 200, route.contentType(), route.body(path, query));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean shouldFail() {
+        double rate = errorRate;
+        if (rate <= 0) {
+            return false;
+        }
+        synchronized (errors) {
+            return errors.nextDouble() < rate;
+        }
+    }
+
+    private interface Body {
+        byte[] render(String path, Map<String, List<String>> query);
+    }
+
+    private interface Authorization {
+        boolean check(HttpExchange exchange, Map<String, List<String>> query);
+    }
+
+    private record Route(String name, String contentType, Authorization authorization, Body renderer) {
+
+        boolean authorized(HttpExchange exchange, Map<String, List<String>> query) {
+            return authorization == null || authorization.check(exchange, query);
+        }
+
+        byte[] body(String path, Map<String, List<String>> query) {
+            return renderer.render(path, query);
+        }
+    }
+
+    private Route route(String path) {
+        if (path.equals("/rss.xml")) {
+            return new Route("rss", "application/rss+xml", null, (p, q) -> rssFeed);
+        }
+        if (path.equals("/api/speaking")) {
+            return new Route("speaking", "application/json", null, (p, q) -> speakingEngagements);
+        }
+        if (path.startsWith("/beehiiv/v2/publications/") && path.endsWith("/posts")) {
+            return new Route("beehiiv/posts", "application/json",
+                    (exchange, q) -> ("Bearer " + NEWSLETTER_API_KEY).equals(exchange.getRequestHeaders().getFirst("Authorization")),
+                    (p, q) -> SyntheticCorpus.beehiivPosts(segment(p, 4), intParam(q, "page", 1), intParam(q, "limit", 10),
+                            corpusSize));
+        }
+        if (path.startsWith("/transistor/v1/")) {
+            Authorization apiKey = (exchange, q) -> PODCAST_API_KEY.equals(exchange.getRequestHeaders().getFirst("x-api-key"));
+            if (path.equals("/transistor/v1/shows")) {
+                return new Route("transistor/shows", "application/json", apiKey, (p, q) -> SyntheticCorpus.transistorShows(SHOW_IDS));
+            }
+            if (path.startsWith("/transistor/v1/shows/")) {
+                return new Route("transistor/show", "application/json", apiKey,
+                        (p, q) -> SyntheticCorpus.transistorShow(SHOW_IDS, segment(p, 4)));
+            }
+            if (path.equals("/transistor/v1/episodes")) {
+                return new Route("transistor/episodes", "application/json", apiKey,
+                        (p, q) -> SyntheticCorpus.transistorEpisodes(SHOW_IDS, intParam(q, "pagination[page]", 1),
+                                intParam(q, "pagination[per]", 10), corpusSize));
+            }
+            if (path.startsWith("/transistor/v1/episodes/")) {
+                return new Route("transistor/episode", "application/json", apiKey,
+                        (p, q) -> SyntheticCorpus.transistorEpisode(SHOW_IDS, Integer.parseInt(segment(p, 4))));
+            }
+            return null;
+        }
+        if (path.startsWith("/youtube/v3/")) {
+            Authorization apiKey = (exchange, q) -> List.of(YOUTUBE_API_KEY).equals(q.get("key"));
+            return switch (path) {
+                case "/youtube/v3/channels" -> new Route("youtube/channels", "application/json", apiKey,
+                        (p, q) -> SyntheticCorpus.youtubeChannel(YOUTUBE_CHANNEL_ID, corpusSize));
+                case "/youtube/v3/playlistItems" -> new Route("youtube/playlistItems", "application/json", apiKey,
+                        (p, q) -> SyntheticCorpus.youtubePlaylistItems(intParam(q, "pageToken", 0),
+                                intParam(q, "maxResults", 5), corpusSize));
+                case "/youtube/v3/videos" -> new Route("youtube/videos", "application/json", apiKey,
+                        (p, q) -> SyntheticCorpus.youtubeVideos(listParam(q, "id")));
+                case "/youtube/v3/search" -> new Route("youtube/search", "application/json", apiKey,
+                        (p, q) -> SyntheticCorpus.youtubeSearch(first(q, "q"), intParam(q, "maxResults", 5), corpusSize));
+                default -> null;
+            };
+        }
+        return null;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.contains("gzip") && body.length > 1024) {
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(status, 0);
+            try (OutputStream out = new GZIPOutputStream(exchange.getResponseBody(), 8192)) {
+                out.write(body);
+            }
+            return;
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] error(String message) {
+        return ("{\"error\":\"" + message.replace("\"", "'") + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String segment(String path, int index) {
+        String[] segments = path.split("/");
+        return index < segments.length ? segments[index] : "";
+    }
+
+    private static Map<String, List<String>> query(String rawQuery) {
+        Map<String, List<String>> parameters = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int separator = parameter.indexOf('=');
+            String name = URLDecoder.decode(separator < 0 ? parameter : parameter.substring(0, separator), StandardCharsets.UTF_8);
+            String value = separator < 0 ? "" : URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8);
+            parameters.computeIfAbsent(name, n -> new ArrayList<>()).add(value);
+        }
+        return parameters;
+    }
+
+    private static String first(Map<String, List<String>> query, String name) {
+        List<String> values = query.get(name);
+        return values == null || values.isEmpty() ? null : values.getFirst();
+    }
+
+    /**
+     * All values of a parameter, whether repeated or comma-separated
+     */
+    private static List<String> listParam(Map<String, List<String>> query, String name) {
+        List<String> values = new ArrayList<>();
+        for (String value : query.getOrDefault(name, List.of())) {
+            for (String part : value.split(",")) {
+                if (!part.isBlank()) {
+                    values.add(part.trim());
+                }
+            }
+        }
+        return values;
+    }
+
+    private static int intParam(Map<String, List<String>> query, String name, int defaultValue) {
+        String value = first(query, name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Start the servers until interrupted and print the properties that point dvaas at them.
+     * Options: {@code --corpus=200 --latency=0ms --error-rate=0 --port=0 --seed=42}
+     */
+    public static void main(String[] args) throws InterruptedException {
+        Settings settings = Settings.defaults();
+        int port = 0;
+        for (String arg : args) {
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            String value = option.length > 1 ? option[1] : "";
+            switch (option[0]) {
+                case "corpus" -> settings = settings.withCorpusSize(Integer.parseInt(value));
+                case "latency" -> settings = settings.withLatency(value.endsWith("ms")
+                        ? Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)))
+                        : Duration.parse("PT" + value.toUpperCase()));
+                case "error-rate" -> settings = settings.withErrorRate(Double.parseDouble(value));
+                case "seed" -> settings = new Settings(settings.corpusSize(), settings.latency(), settings.errorRate(),
+                        Long.parseLong(value));
+                case "port" -> port = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        FakeUpstreams upstreams = start(settings, port);
+        System.out.println("Fake upstreams listening on " + upstreams.baseUrl() + " with " + settings);
+        System.out.println("Start dvaas with:");
+        upstreams.properties().forEach((name, value) -> System.out.println("  --" + name + "=" + value));
+        Runtime.getRuntime().addShutdownHook(new Thread(upstreams::close));
+        Thread.currentThread().join();
+    }
+}
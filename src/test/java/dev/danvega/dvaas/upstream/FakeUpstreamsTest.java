@@ -0,0 +1,152 @@
+package dev.danvega.dvaas.upstream;
+
+import dev.danvega.dvaas.config.BlogProperties;
+import dev.danvega.dvaas.config.EnrichmentProperties;
+import dev.danvega.dvaas.config.HttpClientProperties;
+import dev.danvega.dvaas.config.NewsletterProperties;
+import dev.danvega.dvaas.config.PodcastProperties;
+import dev.danvega.dvaas.config.SpeakingProperties;
+import dev.danvega.dvaas.enrichment.ContentEnricher;
+import dev.danvega.dvaas.http.CircuitBreaker;
+import dev.danvega.dvaas.http.OutboundHttpClient;
+import dev.danvega.dvaas.tools.blog.BlogService;
+import dev.danvega.dvaas.tools.newsletter.NewsletterService;
+import dev.danvega.dvaas.tools.podcast.PodcastService;
+import dev.danvega.dvaas.tools.report.ContentReportService;
+import dev.danvega.dvaas.tools.report.ContentReportSource;
+import dev.danvega.dvaas.tools.report.model.ContentReport;
+import dev.danvega.dvaas.tools.report.model.ReportPeriod;
+import dev.danvega.dvaas.tools.speaking.SpeakingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FakeUpstreamsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OutboundHttpClient httpClient =
+            new OutboundHttpClient(HttpClientProperties.defaults(), meterRegistry, ObservationRegistry.NOOP);
+    private FakeUpstreams upstreams;
+
+    @AfterEach
+    void tearDown() {
+        if (upstreams != null) {
+            upstreams.close();
+        }
+    }
+
+    private <T> T bind(String prefix, Class<T> type) {
+        return new Binder(new MapConfigurationPropertySource(upstreams.properties())).bindOrCreate(prefix, type);
+    }
+
+    private String get(String pathAndQuery) throws Exception {
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(upstreams.baseUrl() + pathAndQuery)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() + " " + response.body();
+        }
+    }
+
+    @Test
+    void testServicesLoadTheWholeCorpusFromTheFakes() {
+        upstreams = FakeUpstreams.start(FakeUpstreams.Settings.defaults().withCorpusSize(120));
+
+        BlogService blogService = new BlogService(bind("dvaas.blog", BlogProperties.class), httpClient,
+                new ContentEnricher(EnrichmentProperties.defaults()), meterRegistry, ObservationRegistry.NOOP);
+        SpeakingService speakingService = new SpeakingService(bind("dvaas.speaking", SpeakingProperties.class), httpClient,
+                meterRegistry, ObservationRegistry.NOOP);
+        NewsletterService newsletterService = new NewsletterService(bind("dvaas.newsletter", NewsletterProperties.class),
+                httpClient, meterRegistry, ObservationRegistry.NOOP);
+        PodcastService podcastService = new PodcastService(bind("dvaas.podcast", PodcastProperties.class), httpClient,
+                meterRegistry, ObservationRegistry.NOOP);
+
+        assertThat(blogService.getBlogStats().totalPosts()).isEqualTo(120);
+        assertThat(speakingService.getSpeakingStats().totalEngagements()).isEqualTo(120);
+        assertThat(newsletterService.getPublicationStats("danvega").totalPosts()).isEqualTo(120);
+        assertThat(podcastService.getPodcastStats().totalEpisodes()).isEqualTo(120);
+        assertThat(upstreams.requests("transistor/episodes")).isEqualTo(3);
+        assertThat(upstreams.requests("beehiiv/posts")).isEqualTo(6);
+    }
+
+    @Test
+    void testContentReportCoversEverySourceInOneCall() {
+        upstreams = FakeUpstreams.start(FakeUpstreams.Settings.defaults().withCorpusSize(40));
+        StaticListableBeanFactory sources = new StaticListableBeanFactory();
+        sources.addBean("blogService", new BlogService(bind("dvaas.blog", BlogProperties.class), httpClient,
+                new ContentEnricher(EnrichmentProperties.defaults()), meterRegistry, ObservationRegistry.NOOP));
+        sources.addBean("speakingService", new SpeakingService(bind("dvaas.speaking", SpeakingProperties.class), httpClient,
+                meterRegistry, ObservationRegistry.NOOP));
+        sources.addBean("newsletterService", new NewsletterService(bind("dvaas.newsletter", NewsletterProperties.class),
+                httpClient, meterRegistry, ObservationRegistry.NOOP));
+        sources.addBean("podcastService", new PodcastService(bind("dvaas.podcast", PodcastProperties.class), httpClient,
+                meterRegistry, ObservationRegistry.NOOP));
+        ContentReportService reports = new ContentReportService(sources.getBeanProvider(ContentReportSource.class),
+                ObservationRegistry.NOOP);
+
+        ContentReport report = reports.generate(ReportPeriod.parse(null, "1990-01-01", "2099-12-31", "all"));
+
+        assertThat(report.itemsByType()).containsOnlyKeys("blog", "speaking", "newsletter", "podcast");
+        assertThat(report.warnings()).containsExactly("video skipped: no source configured", "live stream skipped: no source configured");
+        assertThat(report.csv().lines().filter(line -> !line.startsWith("#")).count()).isEqualTo(report.totalItems() + 1);
+        assertThat(reports.generateAsync(ReportPeriod.parse(null, "1990-01-01", "2099-12-31", "all")).block()).isEqualTo(report);
+    }
+
+    @Test
+    void testInjectedFailuresLeaveServicesEmptyUntilTheFakesRecover() {
+        upstreams = FakeUpstreams.start(FakeUpstreams.Settings.defaults().withCorpusSize(20).withErrorRate(1.0));
+        BlogService blogService = new BlogService(bind("dvaas.blog", BlogProperties.class), httpClient,
+                new ContentEnricher(EnrichmentProperties.defaults()), meterRegistry, ObservationRegistry.NOOP);
+
+        assertThat(blogService.getAllPosts()).isEmpty();
+
+        upstreams.errorRate(0.0);
+        assertThat(blogService.getAllPosts()).hasSize(20);
+        assertThat(upstreams.requests("rss")).isEqualTo(2);
+    }
+
+    @Test
+    void testOpenCircuitServesTheLastGoodSnapshotWithoutCallingTheUpstream() {
+        upstreams = FakeUpstreams.start(FakeUpstreams.Settings.defaults().withCorpusSize(20));
+        BlogService blogService = new BlogService(bind("dvaas.blog", BlogProperties.class), httpClient,
+                new ContentEnricher(EnrichmentProperties.defaults()), meterRegistry, ObservationRegistry.NOOP);
+        assertThat(blogService.getAllPosts()).hasSize(20);
+
+        upstreams.errorRate(1.0);
+        for (int read = 0; read < 10; read++) {
+            blogService.caches().getFirst().expire();
+            assertThat(blogService.getAllPosts()).hasSize(20);
+        }
+
+        assertThat(httpClient.circuitBreaker("blog").state()).isEqualTo(CircuitBreaker.State.OPEN);
+        // The first load, then failures until the window held enough of them
+        assertThat(upstreams.requests("rss")).isEqualTo(HttpClientProperties.defaults().circuitMinimumCalls());
+    }
+
+    @Test
+    void testYouTubeRoutesPageThroughTheUploadsPlaylist() throws Exception {
+        upstreams = FakeUpstreams.start(FakeUpstreams.Settings.defaults().withCorpusSize(7));
+        String key = "&key=" + FakeUpstreams.YOUTUBE_API_KEY;
+
+        assertThat(get("/youtube/v3/channels?part=contentDetails&id=" + FakeUpstreams.YOUTUBE_CHANNEL_ID + key))
+                .startsWith("200").contains(SyntheticCorpus.uploadsPlaylistId(FakeUpstreams.YOUTUBE_CHANNEL_ID));
+        assertThat(get("/youtube/v3/playlistItems?part=snippet&maxResults=5" + key))
+                .startsWith("200").contains("\"nextPageToken\"");
+        assertThat(get("/youtube/v3/playlistItems?part=snippet&maxResults=5&pageToken=5" + key))
+                .startsWith("200").doesNotContain("\"nextPageToken\"");
+        assertThat(get("/youtube/v3/videos?part=statistics&id=vid00000001,vid00000002" + key))
+                .startsWith("200").contains("vid00000001", "vid00000002");
+        assertThat(get("/youtube/v3/search?part=snippet&q=spring&maxResults=3" + key)).startsWith("200");
+        assertThat(get("/youtube/v3/search?part=snippet&q=spring")).startsWith("401");
+    }
+}
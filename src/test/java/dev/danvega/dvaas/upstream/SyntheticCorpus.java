@@ -0,0 +1,318 @@
+package dev.danvega.dvaas.upstream;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Deterministic upstream payloads of any size, shaped like the responses of each real source. Items
+ * are spread one per day back from a fixed date, so date-range queries select a stable fraction of
+ * the corpus, and titles cycle through {@link #TOPICS}, so every topic except {@link #RARE_TOPIC}
+ * matches a fixed share of items. {@link #RARE_TOPIC} appears in a single item, forcing searches to
+ * scan the whole corpus.
+ */
+public final class SyntheticCorpus {
+
+    public static final List<String> TOPICS = List.of("Spring Boot", "Spring AI", "Java", "GraphQL", "Docker",
+            "Kubernetes", "Testing", "Security", "Observability", "Virtual Threads");
+    public static final String RARE_TOPIC = "Project Leyden";
+
+    private static final LocalDateTime NEWEST = LocalDateTime.of(2025, 6, 1, 10, 0);
+    private static final String SUMMARY = "Walk through configuration, tooling and deployment with working examples. ";
+
+    private SyntheticCorpus() {
+    }
+
+    /**
+     * RSS 2.0 feed with {@code items} entries, newest first
+     */
+    public static byte[] rssFeed(int items) {
+        StringBuilder xml = new StringBuilder(items * 600)
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?><rss version=\"2.0\"><channel>")
+                .append("<title>Dan Vega</title><link>https://www.danvega.dev</link>");
+        for (int i = 0; i < items; i++) {
+            String link = "https://www.danvega.dev/blog/post-" + i;
+            xml.append("<item><title>").append(title(i)).append("</title>")
+                    .append("<link>").append(link).append("</link>")
+                    .append("<guid>").append(link).append("</guid>")
+                    .append("<description>").append(description(i)).append("</description>")
+                    .append("<pubDate>").append(DateTimeFormatter.RFC_1123_DATE_TIME.format(date(i).atOffset(ZoneOffset.UTC)))
+                    .append("</pubDate><author>Dan Vega</author></item>");
+        }
+        return bytes(xml.append("</channel></rss>"));
+    }
+
+    /**
+     * Beehiiv posts list response with all {@code items} posts of {@code publicationId} on one page
+     */
+    public static byte[] beehiivPosts(int items, String publicationId) {
+        return beehiivPosts(publicationId, 1, items, items);
+    }
+
+    /**
+     * One page of a Beehiiv posts list response over a publication of {@code total} posts
+     */
+    public static byte[] beehiivPosts(String publicationId, int page, int limit, int total) {
+        int from = Math.min((page - 1) * limit, total);
+        int to = Math.min(from + limit, total);
+        StringBuilder json = new StringBuilder((to - from) * 700 + 100).append("{\"data\":[");
+        for (int i = from; i < to; i++) {
+            long epochSecond = date(i).toEpochSecond(ZoneOffset.UTC);
+            if (i > from) json.append(',');
+            json.append("{\"id\":\"post_").append(publicationId).append('_').append(i).append('"')
+                    .append(",\"title\":\"").append(title(i)).append('"')
+                    .append(",\"authors\":[\"Dan Vega\"]")
+                    .append(",\"status\":\"").append(i % 20 == 0 ? "draft" : "confirmed").append('"')
+                    .append(",\"publish_date\":").append(epochSecond)
+                    .append(",\"displayed_date\":").append(epochSecond)
+                    .append(",\"web_url\":\"https://www.danvega.dev/newsletter/").append(i).append('"')
+                    .append(",\"platform\":\"both\",\"audience\":\"free\"")
+                    .append(",\"content_tags\":[\"spring\",\"java\"]")
+                    .append(",\"content\":{\"free_web_content\":\"<p>").append(description(i)).append("</p>\"}")
+                    .append(",\"stats\":{\"opens\":").append(1000 + i % 500).append(",\"clicks\":").append(50 + i % 50)
+                    .append(",\"unique_opens\":").append(800 + i % 400).append(",\"unique_clicks\":").append(40 + i % 40)
+                    .append("}}");
+        }
+        json.append("],\"limit\":").append(limit).append(",\"page\":").append(page)
+                .append(",\"total_results\":").append(total)
+                .append(",\"total_pages\":").append(totalPages(total, limit)).append('}');
+        return bytes(json);
+    }
+
+    /**
+     * Transistor JSON:API shows response with the given show IDs
+     */
+    public static byte[] transistorShows(List<String> showIds) {
+        StringBuilder json = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < showIds.size(); i++) {
+            if (i > 0) json.append(',');
+            appendShow(json, showIds.get(i), i);
+        }
+        json.append("],\"meta\":{\"currentPage\":1,\"totalPages\":1,\"totalCount\":").append(showIds.size()).append("}}");
+        return bytes(json);
+    }
+
+    /**
+     * Transistor JSON:API single show response
+     */
+    public static byte[] transistorShow(List<String> showIds, String showId) {
+        StringBuilder json = new StringBuilder("{\"data\":");
+        appendShow(json, showId, Math.max(0, showIds.indexOf(showId)));
+        return bytes(json.append('}'));
+    }
+
+    /**
+     * Transistor JSON:API episodes response with all {@code items} episodes on one page
+     */
+    public static byte[] transistorEpisodes(int items, List<String> showIds) {
+        return transistorEpisodes(showIds, 1, items, items);
+    }
+
+    /**
+     * One page of a Transistor JSON:API episodes response over {@code total} episodes spread
+     * across the shows
+     */
+    public static byte[] transistorEpisodes(List<String> showIds, int page, int per, int total) {
+        int from = Math.min((page - 1) * per, total);
+        int to = Math.min(from + per, total);
+        StringBuilder json = new StringBuilder((to - from) * 600 + 100).append("{\"data\":[");
+        for (int i = from; i < to; i++) {
+            if (i > from) json.append(',');
+            appendEpisode(json, showIds, i);
+        }
+        json.append("],\"meta\":{\"currentPage\":").append(page)
+                .append(",\"totalPages\":").append(totalPages(total, per))
+                .append(",\"totalCount\":").append(total).append("}}");
+        return bytes(json);
+    }
+
+    /**
+     * Transistor JSON:API single episode response
+     */
+    public static byte[] transistorEpisode(List<String> showIds, int index) {
+        StringBuilder json = new StringBuilder("{\"data\":");
+        appendEpisode(json, showIds, index);
+        return bytes(json.append('}'));
+    }
+
+    /**
+     * Speaking API response: a JSON array of {@code items} engagements, newest first
+     */
+    public static byte[] speakingEngagements(int items) {
+        StringBuilder json = new StringBuilder(items * 400).append('[');
+        for (int i = 0; i < items; i++) {
+            String day = date(i).toLocalDate().toString();
+            if (i > 0) json.append(',');
+            json.append("{\"title\":\"").append(title(i)).append('"')
+                    .append(",\"url\":\"https://conf.example.com/").append(i).append('"')
+                    .append(",\"name\":\"Example Conference ").append(i % 12).append('"')
+                    .append(",\"startDate\":\"").append(day).append('"')
+                    .append(",\"endDate\":\"").append(day).append('"')
+                    .append(",\"location\":\"Cleveland, OH\"")
+                    .append(",\"description\":\"").append(description(i)).append('"')
+                    .append('}');
+        }
+        return bytes(json.append(']'));
+    }
+
+    /**
+     * YouTube channels list response for a channel whose uploads playlist holds {@code videos} videos
+     */
+    public static byte[] youtubeChannel(String channelId, int videos) {
+        StringBuilder json = new StringBuilder("{\"kind\":\"youtube#channelListResponse\",\"items\":[{")
+                .append("\"id\":\"").append(channelId).append('"')
+                .append(",\"snippet\":{\"title\":\"Dan Vega\",\"description\":\"Java and Spring tutorials\"")
+                .append(",\"publishedAt\":\"2010-01-01T10:00:00Z\"}")
+                .append(",\"statistics\":{\"subscriberCount\":\"100000\",\"viewCount\":\"").append(videos * 5000L)
+                .append("\",\"videoCount\":\"").append(videos).append("\",\"hiddenSubscriberCount\":false}")
+                .append(",\"contentDetails\":{\"relatedPlaylists\":{\"uploads\":\"").append(uploadsPlaylistId(channelId))
+                .append("\"}}}]}");
+        return bytes(json);
+    }
+
+    /**
+     * Uploads playlist of a channel, as YouTube derives it from the channel ID
+     */
+    public static String uploadsPlaylistId(String channelId) {
+        return "UU" + channelId.substring(2);
+    }
+
+    /**
+     * One page of a YouTube playlist items response; the page token is the offset of its first item
+     */
+    public static byte[] youtubePlaylistItems(int offset, int maxResults, int total) {
+        int from = Math.min(offset, total);
+        int to = Math.min(from + maxResults, total);
+        StringBuilder json = new StringBuilder((to - from) * 300 + 100)
+                .append("{\"kind\":\"youtube#playlistItemListResponse\",\"items\":[");
+        for (int i = from; i < to; i++) {
+            if (i > from) json.append(',');
+            json.append("{\"id\":\"item_").append(i).append("\",\"snippet\":{")
+                    .append("\"title\":\"").append(title(i)).append('"')
+                    .append(",\"publishedAt\":\"").append(date(i)).append(":00Z\"")
+                    .append(",\"resourceId\":{\"kind\":\"youtube#video\",\"videoId\":\"").append(videoId(i)).append("\"}}")
+                    .append(",\"contentDetails\":{\"videoId\":\"").append(videoId(i)).append("\"}}");
+        }
+        json.append("],\"pageInfo\":{\"totalResults\":").append(total).append(",\"resultsPerPage\":").append(maxResults).append('}');
+        if (to < total) {
+            json.append(",\"nextPageToken\":\"").append(to).append('"');
+        }
+        return bytes(json.append('}'));
+    }
+
+    /**
+     * YouTube videos list response with statistics for the requested video IDs
+     */
+    public static byte[] youtubeVideos(List<String> videoIds) {
+        StringBuilder json = new StringBuilder("{\"kind\":\"youtube#videoListResponse\",\"items\":[");
+        for (int n = 0; n < videoIds.size(); n++) {
+            int i = videoIndex(videoIds.get(n));
+            if (n > 0) json.append(',');
+            json.append("{\"id\":\"").append(videoIds.get(n)).append('"')
+                    .append(",\"statistics\":{\"viewCount\":\"").append(1000 + (i * 7919L) % 100_000)
+                    .append("\",\"likeCount\":\"").append(50 + i % 500)
+                    .append("\",\"commentCount\":\"").append(i % 100).append("\"}")
+                    .append(",\"contentDetails\":{\"duration\":\"PT").append(5 + i % 55).append("M\"}}");
+        }
+        return bytes(json.append("]}"));
+    }
+
+    /**
+     * YouTube search response: the first {@code maxResults} videos whose title contains the query
+     */
+    public static byte[] youtubeSearch(String query, int maxResults, int total) {
+        String needle = query == null ? "" : query.toLowerCase(Locale.ROOT);
+        StringBuilder json = new StringBuilder("{\"kind\":\"youtube#searchListResponse\",\"items\":[");
+        int found = 0;
+        for (int i = 0; i < total && found < maxResults; i++) {
+            String title = title(i);
+            if (!title.toLowerCase(Locale.ROOT).contains(needle)) {
+                continue;
+            }
+            if (found++ > 0) json.append(',');
+            json.append("{\"id\":{\"kind\":\"youtube#video\",\"videoId\":\"").append(videoId(i)).append("\"}")
+                    .append(",\"snippet\":{\"title\":\"").append(title).append('"')
+                    .append(",\"publishedAt\":\"").append(date(i)).append(":00Z\"}}");
+        }
+        return bytes(json.append("]}"));
+    }
+
+    /**
+     * Date strings in the formats the sources send (epoch seconds, ISO instants with and without
+     * fractions, RFC 1123 and space-separated local date-times), shuffled with a fixed seed
+     */
+    public static List<String> dates(int items) {
+        List<String> dates = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            LocalDateTime date = date(i);
+            dates.add(switch (i % 5) {
+                case 0 -> String.valueOf(date.toEpochSecond(ZoneOffset.UTC));
+                case 1 -> date + ":00.000000Z";
+                case 2 -> date + ":00Z";
+                case 3 -> DateTimeFormatter.RFC_1123_DATE_TIME.format(date.atOffset(ZoneOffset.UTC));
+                default -> date.toString().replace('T', ' ') + ":00";
+            });
+        }
+        Collections.shuffle(dates, new Random(42));
+        return dates;
+    }
+
+    private static void appendShow(StringBuilder json, String showId, int i) {
+        json.append("{\"id\":\"").append(showId).append("\",\"type\":\"show\",\"attributes\":{")
+                .append("\"title\":\"Show ").append(i).append('"')
+                .append(",\"description\":\"A podcast about ").append(TOPICS.get(i % TOPICS.size())).append('"')
+                .append(",\"author\":\"Dan Vega\",\"status\":\"published\"")
+                .append(",\"created_at\":\"2020-01-01T10:00:00.000Z\"}}");
+    }
+
+    private static void appendEpisode(StringBuilder json, List<String> showIds, int i) {
+        json.append("{\"id\":\"").append(i).append("\",\"type\":\"episode\",\"attributes\":{")
+                .append("\"title\":\"").append(title(i)).append('"')
+                .append(",\"summary\":\"").append(description(i)).append('"')
+                .append(",\"status\":\"published\"")
+                .append(",\"media_url\":\"https://media.transistor.fm/").append(i).append(".mp3\"")
+                .append(",\"duration\":3600,\"season\":1,\"number\":").append(i)
+                .append(",\"published_at\":\"").append(date(i)).append(":00.000Z\"")
+                .append("},\"relationships\":{\"show\":{\"data\":{\"id\":\"").append(showIds.get(i % showIds.size()))
+                .append("\",\"type\":\"show\"}}}}");
+    }
+
+    private static String videoId(int i) {
+        return String.format("vid%08d", i);
+    }
+
+    private static int videoIndex(String videoId) {
+        try {
+            return Integer.parseInt(videoId.substring(3));
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private static int totalPages(int total, int perPage) {
+        return Math.max(1, (total + perPage - 1) / perPage);
+    }
+
+    private static LocalDateTime date(int i) {
+        return NEWEST.minusDays(i);
+    }
+
+    private static String title(int i) {
+        String topic = i == 7 ? RARE_TOPIC : TOPICS.get(i % TOPICS.size());
+        return "Getting started with " + topic + " part " + i;
+    }
+
+    private static String description(int i) {
+        return TOPICS.get((i + 3) % TOPICS.size()) + " notes. " + SUMMARY;
+    }
+
+    private static byte[] bytes(StringBuilder text) {
+        return text.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,154 @@
+package dev.danvega.dvaas.upstream;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpRequestFactory;
+import com.google.api.client.json.GenericJson;
+import com.google.api.client.json.JsonObjectParser;
+import com.google.api.client.json.gson.GsonFactory;
+import dev.danvega.dvaas.config.BlogProperties;
+import dev.danvega.dvaas.config.EnrichmentProperties;
+import dev.danvega.dvaas.config.HttpClientProperties;
+import dev.danvega.dvaas.enrichment.ContentEnricher;
+import dev.danvega.dvaas.http.OutboundHttpClient;
+import dev.danvega.dvaas.tools.blog.BlogService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the blocking upstream paths on many virtual threads at once, recording
+ * {@code jdk.VirtualThreadPinned} with JFR. A path that parks while pinned holds on to its carrier
+ * thread, and a few slow requests on such a path would starve every other source of carriers.
+ */
+class VirtualThreadPinningTest {
+
+    private static final int CALLERS = 32;
+    private static final String CALLER_PREFIX = "pinning-probe-";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FakeUpstreams upstreams;
+    private OutboundHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() {
+        upstreams = FakeUpstreams.start(FakeUpstreams.Settings.defaults().withCorpusSize(200).withLatency(Duration.ofMillis(20)));
+        httpClient = new OutboundHttpClient(HttpClientProperties.defaults(), meterRegistry, ObservationRegistry.NOOP);
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpClient.close();
+        upstreams.close();
+    }
+
+    @Test
+    void testRssFeedPathDoesNotPinCarrierThreads() throws Exception {
+        BlogProperties properties = new Binder(new MapConfigurationPropertySource(upstreams.properties()))
+                .bindOrCreate("dvaas.blog", BlogProperties.class);
+
+        List<RecordedEvent> pinned = pinnedWhile(() -> new BlogService(properties, httpClient,
+                new ContentEnricher(EnrichmentProperties.defaults()), meterRegistry, ObservationRegistry.NOOP).getAllPosts().size());
+
+        assertThat(pinned).as(describe(pinned)).isEmpty();
+    }
+
+    @Test
+    void testGoogleClientPathDoesNotPinCarrierThreads() throws Exception {
+        HttpRequestFactory requests = httpClient.googleTransport("youtube")
+                .createRequestFactory(request -> request.setParser(new JsonObjectParser(GsonFactory.getDefaultInstance())));
+        GenericUrl search = new GenericUrl(upstreams.baseUrl() + "/youtube/v3/search?part=snippet&type=video&q=spring&maxResults=25&key="
+                + FakeUpstreams.YOUTUBE_API_KEY);
+
+        List<RecordedEvent> pinned = pinnedWhile(() -> requests.buildGetRequest(search).execute().parseAs(GenericJson.class).size());
+
+        assertThat(pinned).as(describe(pinned)).isEmpty();
+    }
+
+    @Test
+    void testDetectsParkingInsideAClassInitializer() throws Exception {
+        // A monitor no longer pins since JDK 24, but a class initializer still does
+        List<RecordedEvent> pinned = pinnedWhile(() -> SlowInitializer.READY);
+
+        assertThat(pinned).isNotEmpty();
+    }
+
+    /**
+     * Parks while its class is being initialized by the first caller that touches it
+     */
+    private static final class SlowInitializer {
+
+        static final int READY;
+
+        static {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            READY = 1;
+        }
+    }
+
+    /**
+     * Pinned events of {@link #CALLERS} virtual threads that each call the workload once
+     */
+    private List<RecordedEvent> pinnedWhile(Callable<Integer> workload) throws Exception {
+        Path file = Files.createTempFile("pinning", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+                recording.start();
+                try (ExecutorService callers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(CALLER_PREFIX, 0).factory())) {
+                    List<Future<Integer>> results = new ArrayList<>(CALLERS);
+                    for (int i = 0; i < CALLERS; i++) {
+                        results.add(callers.submit(workload));
+                    }
+                    for (Future<Integer> result : results) {
+                        assertThat(result.get(60, TimeUnit.SECONDS)).isPositive();
+                    }
+                }
+                recording.stop();
+                recording.dump(file);
+            }
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getThread() != null && event.getThread().getJavaName() != null
+                            && event.getThread().getJavaName().startsWith(CALLER_PREFIX))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static String describe(List<RecordedEvent> pinned) {
+        return pinned.stream()
+                .map(event -> event.getThread().getJavaName() + " pinned for " + event.getDuration().toMillis() + " ms at\n"
+                        + (event.getStackTrace() == null ? "  (no stack trace)" : event.getStackTrace().getFrames().stream()
+                        .limit(12)
+                        .map(RecordedFrame::getMethod)
+                        .map(method -> "  " + method.getType().getName() + "." + method.getName())
+                        .collect(Collectors.joining("\n"))))
+                .collect(Collectors.joining("\n"));
+    }
+}